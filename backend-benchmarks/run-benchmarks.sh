@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# JMH-Benchmarks für Mapper, Validierung, JSON-Serialisierung und Arbeitsspeicher-Indizes.
+#
+# Baut das Backend (Klassen-Jar mit Classifier "plain" ins lokale Maven-Repository), danach dieses
+# Modul, und führt die Benchmarks mit dem GC-Profiler aus (Allokationen pro Aufruf: gc.alloc.rate.norm).
+# Die Ergebnisse werden als JSON unter results/ abgelegt, standardmässig benannt nach dem Commit,
+# sodass sich zwei Stände direkt vergleichen lassen.
+#
+# Aufruf (aus dem Verzeichnis backend-benchmarks):
+#   ./run-benchmarks.sh                                  # alle Benchmarks
+#   ./run-benchmarks.sh EventMapper -p size=1000         # Auswahl (Regex) und weitere JMH-Optionen
+#   SKIP_BUILD=1 RESULT=results/vorher.json ./run-benchmarks.sh
+#
+# Umgebungsvariablen:
+#   SKIP_BUILD  1 = vorhandenes target/benchmarks.jar verwenden
+#   RESULT      Ergebnisdatei (Standard results/<commit>.json)
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    (cd ../backend && sh ./mvnw -B -q -DskipTests install)
+    sh ./mvnw -B -q package
+fi
+
+mkdir -p results
+RESULT="${RESULT:-results/$(git rev-parse --short HEAD 2> /dev/null || date +%Y%m%d-%H%M%S).json}"
+
+java -jar target/benchmarks.jar -prof gc -rf json -rff "${RESULT}" "$@"
+
+echo "Ergebnisse: ${RESULT}"
@@ -0,0 +1,84 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.springframework.data.domain.Limit;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <h2>
+ *     Testdaten der Benchmarks
+ * </h2>
+ * <p>
+ *     Erzeugt reproduzierbare Events (fester Seed) mit einer ähnlichen Verteilung wie der EONET-Bestand:
+ *     alle Kategorien, rund ein Drittel offen, Datum innerhalb der letzten drei Jahre und Titel aus
+ *     einem begrenzten Vorrat, sodass sich Titel wie in echten Daten wiederholen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42;
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+    private static final String[] REGIONS = {
+            "California", "Alaska", "Indonesia", "Chile", "Iceland", "Kamchatka", "Queensland", "Sicily",
+            "Bangladesh", "Sahara", "Gulf of Mexico", "Hokkaido", "Patagonia", "Siberia", "Luzon", "Andes"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Erzeugt Events mit fortlaufenden IDs ab 1.
+     *
+     * @param count Anzahl Events
+     * @return veränderbare Liste, aufsteigend nach ID
+     */
+    public static List<Event> events(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDate today = LocalDate.now();
+        List<Event> events = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            EventCategory category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            String title = category.name() + " " + REGIONS[random.nextInt(REGIONS.length)] + " " + random.nextInt(500);
+            Event event = new Event(id, title, today.minusDays(random.nextInt(3 * 365)), category,
+                    random.nextDouble(-180, 180), random.nextDouble(-90, 90),
+                    random.nextInt(3) == 0 ? EventStatus.open : EventStatus.closed);
+            event.setSource("EONET");
+            event.setExternalId("EONET_" + id);
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Liefert ein Repository, das nur das blockweise Laden über
+     * {@link EventRepository#findByIdGreaterThanOrderByIdAsc(Long, Limit)} aus der übergebenen Liste
+     * bedient; damit lassen sich die Arbeitsspeicher-Indizes ohne Datenbank aufbauen.
+     *
+     * @param events Events aus {@link #events(int)} (fortlaufende IDs ab 1)
+     * @return Repository für {@code reload()} bzw. {@code rebuild()}
+     */
+    public static EventRepository repository(List<Event> events) {
+        return (EventRepository) Proxy.newProxyInstance(EventRepository.class.getClassLoader(),
+                new Class<?>[] {EventRepository.class}, (proxy, method, args) -> {
+                    if (!method.getName().equals("findByIdGreaterThanOrderByIdAsc")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    // IDs sind fortlaufend ab 1: das Event mit ID afterId + 1 steht an Position afterId
+                    int from = (int) Math.min((Long) args[0], events.size());
+                    int to = Math.min(from + ((Limit) args[1]).max(), events.size());
+                    return events.subList(from, to);
+                });
+    }
+}
@@ -0,0 +1,104 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.service.ColumnarEventStore;
+import com.wiss.backend.service.EventDuplicateDetector;
+import com.wiss.backend.service.OpenEventCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     EventIndexBenchmark
+ * </h2>
+ * <p>
+ *     Misst die Abfragen der Arbeitsspeicher-Indizes, die Datenbankabfragen ersetzen:
+ *     Filter und Zählung im {@link ColumnarEventStore}, offene Events einer Kategorie im
+ *     {@link OpenEventCache} und die Duplikatsuche im {@link EventDuplicateDetector}. Die Indizes werden
+ *     wie beim Start aufgebaut (Spaltenabbild aus dem Repository, die übrigen aus dem Spaltenabbild).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventIndexBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+
+    private ColumnarEventStore columnarStore;
+    private OpenEventCache openEvents;
+    private EventDuplicateDetector duplicateDetector;
+    private LocalDate monthStart;
+    private LocalDate monthEnd;
+    private Event duplicate;
+
+    @Setup
+    public void setUp() {
+        List<Event> events = BenchmarkData.events(size);
+        EventRepository repository = BenchmarkData.repository(events);
+        columnarStore = new ColumnarEventStore(repository, true);
+        columnarStore.reload();
+        openEvents = new OpenEventCache(repository);
+        openEvents.reloadFrom(columnarStore);
+        duplicateDetector = new EventDuplicateDetector(repository, EventDuplicateDetector.Policy.MERGE, 0.1, 3);
+        duplicateDetector.rebuildFrom(columnarStore);
+
+        monthEnd = LocalDate.now().minusDays(100);
+        monthStart = monthEnd.minusDays(30);
+        // Neues Event (ohne ID) an derselben Stelle wie ein bestehendes: Treffer im Duplikat-Index
+        Event original = events.get(events.size() / 2);
+        duplicate = new Event(original.getTitle(), original.getDate().plusDays(1), original.getCategory(),
+                original.getLongitude(), original.getLatitude(), original.getStatus());
+    }
+
+    @Benchmark
+    public List<EventDTO> columnarFindCategoryInMonth() {
+        return columnarStore.find(EventCategory.wildfires, null, monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public long columnarCountCategoryAndStatus() {
+        return columnarStore.count(EventCategory.wildfires, EventStatus.open, null, null);
+    }
+
+    @Benchmark
+    public long columnarCountInMonth() {
+        return columnarStore.count(null, null, monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public List<EventDTO> openEventsByCategory() {
+        return openEvents.getOpenEvents(EventCategory.wildfires);
+    }
+
+    @Benchmark
+    public Optional<Long> duplicateLookup() {
+        return duplicateDetector.findDuplicate(duplicate);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.mapper.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     EventMapperBenchmark
+ * </h2>
+ * <p>
+ *     Misst {@link EventMapper#toDTOList(List)} und {@link EventMapper#toFormDTOList(List)} für
+ *     Listengrössen von einer Seite bis zum vollständigen Bestand ({@code GET /api/events},
+ *     {@code GET /api/events/all}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Event> events;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.events(size);
+    }
+
+    @Benchmark
+    public List<EventDTO> toDTOList() {
+        return EventMapper.toDTOList(events);
+    }
+
+    @Benchmark
+    public List<EventFormDTO> toFormDTOList() {
+        return EventMapper.toFormDTOList(events);
+    }
+}
@@ -0,0 +1,63 @@
+package com.wiss.backend.benchmark;
+
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.service.EventService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     EventValidationBenchmark
+ * </h2>
+ * <p>
+ *     Misst die Validierungskette {@link EventService#validateEventData}, die bei jedem Erstellen,
+ *     Ändern und Import eines Events durchlaufen wird: einmal für gültige Daten und einmal für einen
+ *     ungültigen Breitengrad, bei dem die Kette mit einer Exception (samt Stacktrace) abbricht.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventValidationBenchmark {
+
+    private final String title = "Wildfire California 42";
+    private final LocalDate date = LocalDate.now().minusDays(3);
+    private final EventCategory category = EventCategory.wildfires;
+    private final Double longitude = -120.5;
+    private final Double latitude = 37.25;
+    private final Double invalidLatitude = 137.25;
+    private final EventStatus status = EventStatus.open;
+
+    @Benchmark
+    public void validEvent() {
+        EventService.validateEventData(title, date, category, longitude, latitude, status);
+    }
+
+    @Benchmark
+    public RuntimeException invalidLatitude() {
+        try {
+            EventService.validateEventData(title, date, category, longitude, invalidLatitude, status);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
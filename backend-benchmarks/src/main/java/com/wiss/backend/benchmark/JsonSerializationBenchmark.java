@@ -0,0 +1,80 @@
+package com.wiss.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wiss.backend.dto.ErrorResponseDTO;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.mapper.EventMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     JsonSerializationBenchmark
+ * </h2>
+ * <p>
+ *     Misst die JSON-Serialisierung der Antworten: Listen von {@link EventDTO} (Listenendpunkte) und
+ *     eine einzelne {@link ErrorResponseDTO} (jede Fehlerantwort). Der {@link ObjectMapper} wird wie
+ *     in Spring Boot über den {@link Jackson2ObjectMapperBuilder} mit Datumswerten als ISO-Text erzeugt;
+ *     der {@link ObjectWriter} pro Typ entspricht dem, was der Message-Converter zwischenspeichert.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private ObjectWriter eventListWriter;
+    private ObjectWriter errorWriter;
+    private List<EventDTO> events;
+    private ErrorResponseDTO error;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        eventListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EventDTO.class));
+        errorWriter = objectMapper.writerFor(ErrorResponseDTO.class);
+        events = EventMapper.toDTOList(BenchmarkData.events(size));
+        error = new ErrorResponseDTO("EVENT_NOT_FOUND", "Event mit ID 4711 wurde nicht gefunden.", 404,
+                LocalDateTime.now(), "/api/events/4711");
+    }
+
+    @Benchmark
+    public byte[] eventList() throws JsonProcessingException {
+        return eventListWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return errorWriter.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * <h2>
+ *     JMH-Benchmarks des Backends
+ * </h2>
+ *
+ * <p>
+ *     Microbenchmarks für die Pfade, die bei jeder Anfrage durchlaufen werden, ohne Datenbank und ohne
+ *     Spring-Kontext. Ausgeführt werden sie mit {@code run-benchmarks.sh}, das die Ergebnisse samt
+ *     Allokationen ({@code -prof gc}) als JSON ablegt.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Klassen:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.backend.benchmark.EventMapperBenchmark} – Umwandlung von Entitäten in DTOs für verschiedene Listengrössen.</li>
+ *     <li>{@link com.wiss.backend.benchmark.JsonSerializationBenchmark} – JSON-Serialisierung von Event-Listen und Fehlerantworten.</li>
+ *     <li>{@link com.wiss.backend.benchmark.EventIndexBenchmark} – Abfragen des Spaltenabbilds, des Abbilds offener Events und des Duplikat-Index.</li>
+ *     <li>{@link com.wiss.backend.benchmark.BenchmarkData} – Reproduzierbare Testdaten und ein Repository zum Aufbau der Indizes ohne Datenbank.</li>
+ *     <li>{@link com.wiss.backend.benchmark.EventValidationBenchmark} – Validierungskette des {@code EventService}.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.backend.benchmark;
@@ -0,0 +1,13 @@
+package com.wiss.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveBackendApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveBackendApplication.class, args);
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.wiss.reactive.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.CorsRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * <h2>
+ *     WebConfig
+ * </h2>
+ * <p>
+ *     CORS-Richtlinien der reaktiven Lese-API. Wie im Backend sind Anfragen vom Frontend unter
+ *     <code>http://localhost:5173</code> erlaubt, hier jedoch nur lesend.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+public class WebConfig implements WebFluxConfigurer {
+
+    /**
+     * Konfiguriert die CORS-Mappings für die REST-API.
+     * <ul>
+     *     <li>Erlaubt Anfragen von <code>http://localhost:5173</code>.</li>
+     *     <li>Unterstützt HTTP-Methoden: GET, OPTIONS.</li>
+     *     <li>Erlaubt alle Header.</li>
+     *     <li>Erlaubt keine Cookies (allowCredentials = false).</li>
+     * </ul>
+     *
+     * @param registry Die CORS-Registry, in die die Regeln eingetragen werden.
+     */
+    @Override
+    public void addCorsMappings(CorsRegistry registry) {
+        registry.addMapping("/api/events/**")
+                .allowedOrigins("http://localhost:5173")
+                .allowedMethods("GET", "OPTIONS")
+                .allowedHeaders("*")
+                .allowCredentials(false)
+                .maxAge(3600);
+    }
+}
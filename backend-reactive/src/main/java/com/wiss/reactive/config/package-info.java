@@ -0,0 +1,17 @@
+/**
+ * <h2>
+ *     Konfiguration der reaktiven Lese-API
+ * </h2>
+ *
+ * <h3>
+ *     Enthaltene Klassen:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.config.WebConfig} – CORS-Regeln für das Frontend.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.config;
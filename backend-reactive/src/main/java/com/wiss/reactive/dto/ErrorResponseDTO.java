@@ -0,0 +1,54 @@
+package com.wiss.reactive.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h2>
+ *     ErrorResponseDTO
+ * </h2>
+ * <p>
+ *     Standardisierte Fehlerantwort im selben Format wie {@code com.wiss.backend.dto.ErrorResponseDTO}
+ *     (Fehlertyp, Nachricht, Statuscode, Zeitstempel und Pfad).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.reactive.router.EventRouter
+ */
+public class ErrorResponseDTO {
+
+    private final String error;
+    private final String message;
+    private final int code;
+    private final LocalDateTime timestamp;
+    private final String path;
+
+    /**
+     * Konstruktor zur Initialisierung aller Felder.
+     *
+     * @param error Kurzcode für den Fehlertyp.
+     * @param message Benutzerfreundliche Fehlermeldung.
+     * @param code HTTP-Statuscode.
+     * @param timestamp Zeitpunkt des Fehlers.
+     * @param path API-Pfad der fehlerhaften Anfrage.
+     */
+    public ErrorResponseDTO(String error, String message, int code, LocalDateTime timestamp, String path) {
+        this.error = error;
+        this.message = message;
+        this.code = code;
+        this.timestamp = timestamp;
+        this.path = path;
+    }
+
+    // Getter
+    public String getError() { return error; }
+
+    public String getMessage() { return message; }
+
+    public int getCode() { return code; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+
+    public String getPath() { return path; }
+}
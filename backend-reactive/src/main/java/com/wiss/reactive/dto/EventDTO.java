@@ -0,0 +1,84 @@
+package com.wiss.reactive.dto;
+
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+
+import java.time.LocalDate;
+
+/**
+ * <h2>
+ *     EventDTO
+ * </h2>
+ * <p>
+ *     Lesemodell eines Naturereignisses. Felder und JSON-Darstellung entsprechen
+ *     {@code com.wiss.backend.dto.EventDTO}, sodass Clients beide APIs gleich lesen können.
+ *     Die Lese-API schreibt nicht und braucht daher weder Setter noch Validierung.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.reactive.repository.EventReadRepository
+ */
+public class EventDTO {
+
+    private final Long id;
+    private final String title;
+    private final LocalDate date;
+    private final EventCategory category;
+    private final Double longitude;
+    private final Double latitude;
+    private final EventStatus status;
+    private final Long duplicateOf;
+    private final String source;
+    private final String externalId;
+
+    /**
+     * Konstruktor zur Initialisierung aller Felder.
+     *
+     * @param id          ID des Events
+     * @param title       Titel
+     * @param date        Datum
+     * @param category    Kategorie
+     * @param longitude   Längengrad
+     * @param latitude    Breitengrad
+     * @param status      Status
+     * @param duplicateOf ID des Originals, falls das Event als Duplikat markiert ist
+     * @param source      Herkunft (z. B. {@code EONET}) oder {@code null}
+     * @param externalId  ID in der Herkunft oder {@code null}
+     */
+    public EventDTO(Long id, String title, LocalDate date, EventCategory category, Double longitude, Double latitude,
+                    EventStatus status, Long duplicateOf, String source, String externalId) {
+        this.id = id;
+        this.title = title;
+        this.date = date;
+        this.category = category;
+        this.longitude = longitude;
+        this.latitude = latitude;
+        this.status = status;
+        this.duplicateOf = duplicateOf;
+        this.source = source;
+        this.externalId = externalId;
+    }
+
+    // Getter
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+
+    public LocalDate getDate() { return date; }
+
+    public EventCategory getCategory() { return category; }
+
+    public Double getLongitude() { return longitude; }
+
+    public Double getLatitude() { return latitude; }
+
+    public EventStatus getStatus() { return status; }
+
+    public Long getDuplicateOf() { return duplicateOf; }
+
+    public String getSource() { return source; }
+
+    public String getExternalId() { return externalId; }
+}
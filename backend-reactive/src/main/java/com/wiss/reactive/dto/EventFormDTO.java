@@ -0,0 +1,61 @@
+package com.wiss.reactive.dto;
+
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+
+import java.time.LocalDate;
+
+/**
+ * <h2>
+ *     EventFormDTO
+ * </h2>
+ * <p>
+ *     Formulardaten eines Events ohne Herkunft und Duplikat-Verweis. Felder und JSON-Darstellung
+ *     entsprechen {@code com.wiss.backend.dto.EventFormDTO} ({@code GET /api/events/all} und
+ *     {@code GET /api/events/{id}/edit}).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class EventFormDTO {
+
+    private final Long id;
+    private final String title;
+    private final LocalDate date;
+    private final EventCategory category;
+    private final Double longitude;
+    private final Double latitude;
+    private final EventStatus status;
+
+    /**
+     * Übernimmt die Formularfelder eines Events.
+     *
+     * @param event vollständiges Event
+     */
+    public EventFormDTO(EventDTO event) {
+        this.id = event.getId();
+        this.title = event.getTitle();
+        this.date = event.getDate();
+        this.category = event.getCategory();
+        this.longitude = event.getLongitude();
+        this.latitude = event.getLatitude();
+        this.status = event.getStatus();
+    }
+
+    // Getter
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+
+    public LocalDate getDate() { return date; }
+
+    public EventCategory getCategory() { return category; }
+
+    public Double getLongitude() { return longitude; }
+
+    public Double getLatitude() { return latitude; }
+
+    public EventStatus getStatus() { return status; }
+}
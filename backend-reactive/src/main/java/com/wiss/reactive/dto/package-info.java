@@ -0,0 +1,24 @@
+/**
+ * <h2>
+ *     Lesemodelle der reaktiven API
+ * </h2>
+ *
+ * <p>
+ *     Die JSON-Darstellung entspricht den gleichnamigen DTOs des Backends ({@code com.wiss.backend.dto}).
+ *     Alle Klassen sind unveränderlich, da die Lese-API nicht schreibt.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Komponenten:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.dto.EventDTO} – Vollständiges Event inkl. Herkunft und Duplikat-Verweis.</li>
+ *     <li>{@link com.wiss.reactive.dto.EventFormDTO} – Formulardaten eines Events.</li>
+ *     <li>{@link com.wiss.reactive.dto.ErrorResponseDTO} – Strukturierte Fehlerantwort.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.dto;
@@ -0,0 +1,44 @@
+package com.wiss.reactive.exception;
+
+/**
+ * <h2>
+ *     Exception für nicht gefundene Events
+ * </h2>
+ * <p>
+ *     Wird vom {@link com.wiss.reactive.service.ReactiveEventService} als Fehlersignal ausgelöst,
+ *     wenn ein Event mit der angefragten ID nicht existiert.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den {@link com.wiss.reactive.router.EventHandler} in HTTP 404 Not Found umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public class EventNotFoundException extends RuntimeException {
+
+    /**
+     * Die ID des nicht gefundenen Events.
+     */
+    private final Long eventId;
+
+    /**
+     * Erstellt eine neue EventNotFoundException.
+     *
+     * @param eventId Die ID des Events, dass nicht gefunden werden konnte.
+     */
+    public EventNotFoundException(Long eventId) {
+        super("Event mit ID " + eventId + " wurde nicht gefunden");
+        this.eventId = eventId;
+    }
+
+    /**
+     * @return Die ID des Events, dass nicht gefunden werden konnte.
+     */
+    public Long getEventId() {
+        return eventId;
+    }
+}
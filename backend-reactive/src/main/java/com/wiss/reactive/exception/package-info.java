@@ -0,0 +1,22 @@
+/**
+ * <h2>
+ *     Exceptions der reaktiven Lese-API
+ * </h2>
+ *
+ * <p>
+ *     Fehler werden als Fehlersignal im {@code Mono}/{@code Flux} weitergegeben und vom
+ *     {@link com.wiss.reactive.router.EventHandler} in eine strukturierte Fehlerantwort umgewandelt.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Klassen:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.exception.EventNotFoundException} – Event mit der angefragten ID existiert nicht (404).</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.exception;
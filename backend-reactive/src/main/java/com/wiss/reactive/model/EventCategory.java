@@ -0,0 +1,30 @@
+package com.wiss.reactive.model;
+
+/**
+ * <h2>
+ *     Enum zur Kategorisierung von Naturereignissen
+ * </h2>
+ *
+ * <p>
+ *     Spiegel von {@code com.wiss.backend.model.EventCategory}: Die Werte entsprechen den Texten
+ *     in der Spalte {@code events.category} und müssen mit dem Backend übereinstimmen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum EventCategory {
+    wildfires,
+    severeStorms,
+    volcanoes,
+    seaLakeIce,
+    earthquakes,
+    floods,
+    landslides,
+    snow,
+    drought,
+    dustHaze,
+    manmade,
+    waterColor
+}
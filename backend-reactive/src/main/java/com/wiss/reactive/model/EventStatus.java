@@ -0,0 +1,20 @@
+package com.wiss.reactive.model;
+
+/**
+ * <h2>
+ *     Enum zur Statusangabe eines Naturereignisses
+ * </h2>
+ *
+ * <p>
+ *     Spiegel von {@code com.wiss.backend.model.EventStatus}: Die Werte entsprechen den Texten
+ *     in der Spalte {@code events.status} und müssen mit dem Backend übereinstimmen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+public enum EventStatus {
+    open,
+    closed
+}
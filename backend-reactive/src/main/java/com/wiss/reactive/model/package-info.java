@@ -0,0 +1,23 @@
+/**
+ * <h2>
+ *     Enums der reaktiven Lese-API
+ * </h2>
+ *
+ * <p>
+ *     Spiegel der gleichnamigen Enums aus dem Backend ({@code com.wiss.backend.model}). Die Lese-API
+ *     wird unabhängig vom Backend gebaut und betrieben und teilt mit ihm nur die Tabelle {@code events}.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Komponenten:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.model.EventCategory} – Kategorien der Naturereignisse.</li>
+ *     <li>{@link com.wiss.reactive.model.EventStatus} – Status offen oder abgeschlossen.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.model;
@@ -0,0 +1,157 @@
+package com.wiss.reactive.repository;
+
+import com.wiss.reactive.dto.EventDTO;
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * <h2>
+ *     Reaktives Repository über die Tabelle {@code events}
+ * </h2>
+ * <p>
+ *     Liest dieselbe Tabelle wie das Backend über R2DBC, ohne je einen Thread zu blockieren.
+ *     Die Tabelle gehört dem Backend (Schema und Migrationen per Flyway); dieses Repository liest nur.
+ * </p>
+ *
+ * <h3>
+ *     Backpressure:
+ * </h3>
+ * <p>
+ *     Ergebnislisten werden nie gesammelt, sondern Zeile für Zeile als {@link Flux} weitergegeben.
+ *     Mit {@code events.reactive.fetch-size} holt der Treiber die Zeilen über einen Cursor in Blöcken
+ *     und fordert den nächsten Block erst an, wenn der Client die bisherigen gelesen hat. Ein langsamer
+ *     Client bremst so die Datenbankabfrage, statt Speicher zu füllen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.reactive.service.ReactiveEventService
+ */
+@Repository
+public class EventReadRepository {
+
+    private static final String SELECT = "SELECT id, title, date, category, longitude, latitude, status, "
+            + "duplicate_of, source, external_id FROM events";
+
+    private final DatabaseClient client;
+    private final int fetchSize;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param client    R2DBC-Client
+     * @param fetchSize Zeilen pro Cursor-Abruf
+     */
+    public EventReadRepository(DatabaseClient client,
+                               @Value("${events.reactive.fetch-size:500}") int fetchSize) {
+        this.client = client;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Liefert alle Events, die den gesetzten Filtern entsprechen, aufsteigend nach ID.
+     *
+     * @param category Kategorie oder {@code null}
+     * @param status   Status oder {@code null}
+     * @param start    Startdatum (inklusive) oder {@code null}
+     * @param end      Enddatum (inklusive) oder {@code null}
+     * @return passende Events
+     */
+    public Flux<EventDTO> find(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String sql = SELECT + where(params, category, status, start, end) + " ORDER BY id";
+        return bind(client.sql(sql), params)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(EventReadRepository::toDTO)
+                .all();
+    }
+
+    /**
+     * Liefert ein Event anhand seiner ID.
+     *
+     * @param id ID des Events
+     * @return Event oder leer, wenn es nicht existiert
+     */
+    public Mono<EventDTO> findById(long id) {
+        return client.sql(SELECT + " WHERE id = :id")
+                .bind("id", id)
+                .map(EventReadRepository::toDTO)
+                .one();
+    }
+
+    /**
+     * Zählt die Events, die den gesetzten Filtern entsprechen.
+     *
+     * @param category Kategorie oder {@code null}
+     * @param status   Status oder {@code null}
+     * @param start    Startdatum (inklusive) oder {@code null}
+     * @param end      Enddatum (inklusive) oder {@code null}
+     * @return Anzahl passender Events
+     */
+    public Mono<Long> count(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        String sql = "SELECT count(*) FROM events" + where(params, category, status, start, end);
+        return bind(client.sql(sql), params)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Baut die WHERE-Klausel aus den gesetzten Filtern; die Werte werden als Parameter gebunden.
+     */
+    private static String where(Map<String, Object> params, EventCategory category, EventStatus status,
+                                LocalDate start, LocalDate end) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        if (category != null) {
+            where.add("category = :category");
+            params.put("category", category.name());
+        }
+        if (status != null) {
+            where.add("status = :status");
+            params.put("status", status.name());
+        }
+        if (start != null) {
+            where.add("date >= :start");
+            params.put("start", start);
+        }
+        if (end != null) {
+            where.add("date <= :end");
+            params.put("end", end);
+        }
+        return where.toString();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, Map<String, Object> params) {
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec;
+    }
+
+    private static EventDTO toDTO(Readable row) {
+        return new EventDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("date", LocalDate.class),
+                EventCategory.valueOf(row.get("category", String.class)),
+                row.get("longitude", Double.class),
+                row.get("latitude", Double.class),
+                EventStatus.valueOf(row.get("status", String.class)),
+                row.get("duplicate_of", Long.class),
+                row.get("source", String.class),
+                row.get("external_id", String.class)
+        );
+    }
+}
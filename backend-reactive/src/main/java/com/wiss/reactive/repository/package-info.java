@@ -0,0 +1,21 @@
+/**
+ * <h2>
+ *     Reaktiver Datenzugriff
+ * </h2>
+ *
+ * <p>
+ *     Liest die Tabelle {@code events} des Backends über R2DBC (nicht blockierend, mit Backpressure).
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Komponenten:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.repository.EventReadRepository} – Abfragen und Zählungen über die Tabelle {@code events}.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.repository;
@@ -0,0 +1,245 @@
+package com.wiss.reactive.router;
+
+import com.wiss.reactive.dto.ErrorResponseDTO;
+import com.wiss.reactive.dto.EventDTO;
+import com.wiss.reactive.dto.EventFormDTO;
+import com.wiss.reactive.exception.EventNotFoundException;
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+import com.wiss.reactive.service.ReactiveEventService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * <h2>
+ *     EventHandler
+ * </h2>
+ * <p>
+ *     Handler-Funktionen der reaktiven Lese-API. Pfade, Parameter und JSON-Darstellung entsprechen
+ *     den lesenden Endpunkten des Backend-{@code EventController}, sodass das Frontend beide
+ *     Dienste gleich ansprechen kann.
+ * </p>
+ *
+ * <h3>
+ *     Streaming:
+ * </h3>
+ * <p>
+ *     Listen werden als {@link Flux} an den Encoder übergeben und nie gesammelt. Standardmässig wird
+ *     ein JSON-Array Element für Element geschrieben; mit {@code Accept: application/x-ndjson} ein
+ *     Event pro Zeile. Der Encoder fordert neue Elemente erst an, wenn die bisherigen an die Verbindung
+ *     übergeben wurden (Backpressure bis zum Datenbank-Cursor).
+ * </p>
+ *
+ * <h3>
+ *     Fehler:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventNotFoundException} → 404 {@code EVENT_NOT_FOUND}</li>
+ *     <li>Ungültige ID, Kategorie, Status oder Datum → 400 {@code TYPE_MISMATCH}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventRouter
+ */
+@Component
+public class EventHandler {
+
+    private final ReactiveEventService eventService;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventService reaktiver Service für Event-Abfragen
+     */
+    public EventHandler(ReactiveEventService eventService) {
+        this.eventService = eventService;
+    }
+
+    /**
+     * {@code GET /api/events}
+     */
+    public Mono<ServerResponse> getAllEvents(ServerRequest request) {
+        return stream(request, eventService.getAllEventsAsDTO(), EventDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/{id}}
+     */
+    public Mono<ServerResponse> getEventById(ServerRequest request) {
+        Long id = pathVariable(request, "id", Long::valueOf, Long.class);
+        return eventService.getEventByIdAsDTO(id).flatMap(event -> ServerResponse.ok().bodyValue(event));
+    }
+
+    /**
+     * {@code GET /api/events/categories/{category}}
+     */
+    public Mono<ServerResponse> getEventsByCategory(ServerRequest request) {
+        EventCategory category = pathVariable(request, "category", EventCategory::valueOf, EventCategory.class);
+        return stream(request, eventService.getEventsByCategoryAsDTO(category), EventDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/status/{status}}
+     */
+    public Mono<ServerResponse> getEventsByStatus(ServerRequest request) {
+        EventStatus status = pathVariable(request, "status", EventStatus::valueOf, EventStatus.class);
+        return stream(request, eventService.getEventsByStatusAsDTO(status), EventDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/date/{date}}
+     */
+    public Mono<ServerResponse> getEventsByDate(ServerRequest request) {
+        LocalDate date = pathVariable(request, "date", LocalDate::parse, LocalDate.class);
+        return stream(request, eventService.getEventsByDateAsDTO(date), EventDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/count}
+     */
+    public Mono<ServerResponse> getEventCount(ServerRequest request) {
+        return ServerResponse.ok().body(eventService.getTotalEventsCount(), Long.class);
+    }
+
+    /**
+     * {@code GET /api/events/filter?category=&status=&start=&end=}
+     * <p>
+     *     Wählt die Abfrage wie der Backend-Controller: Ein Zeitraum gilt nur, wenn Start und Ende
+     *     gesetzt sind; Kategorie oder Status allein liefern alle Events.
+     * </p>
+     */
+    public Mono<ServerResponse> getEventsByFilter(ServerRequest request) {
+        EventCategory category = queryParam(request, "category", EventCategory::valueOf, EventCategory.class);
+        EventStatus status = queryParam(request, "status", EventStatus::valueOf, EventStatus.class);
+        LocalDate start = queryParam(request, "start", LocalDate::parse, LocalDate.class);
+        LocalDate end = queryParam(request, "end", LocalDate::parse, LocalDate.class);
+
+        Flux<EventDTO> events;
+        if (category != null && status != null && start != null && end != null) {
+            events = eventService.getEventsByCategoryAndStatusAndDateBetween(category, status, start, end);
+        } else if (category != null && start != null && end != null) {
+            events = eventService.getEventsByCategoryAndDateBetween(category, start, end);
+        } else if (category != null && status != null) {
+            events = eventService.getEventsByCategoryAndStatus(category, status);
+        } else if (status != null && start != null && end != null) {
+            events = eventService.getEventsByStatusAndDateBetween(status, start, end);
+        } else if (start != null && end != null) {
+            events = eventService.getEventsByDateBetween(start, end);
+        } else {
+            events = eventService.getAllEventsAsDTO();
+        }
+        return stream(request, events, EventDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/stats/categories/{category}}
+     */
+    public Mono<ServerResponse> getEventCountByCategory(ServerRequest request) {
+        EventCategory category = pathVariable(request, "category", EventCategory::valueOf, EventCategory.class);
+        return ServerResponse.ok().body(eventService.getTotalEventsByCategory(category), Long.class);
+    }
+
+    /**
+     * {@code GET /api/events/stats/status/{status}}
+     */
+    public Mono<ServerResponse> getEventCountByStatus(ServerRequest request) {
+        EventStatus status = pathVariable(request, "status", EventStatus::valueOf, EventStatus.class);
+        return ServerResponse.ok().body(eventService.getTotalEventsByStatus(status), Long.class);
+    }
+
+    /**
+     * {@code GET /api/events/stats/date/{start}/{end}}
+     */
+    public Mono<ServerResponse> getEventCountByDateBetween(ServerRequest request) {
+        LocalDate start = pathVariable(request, "start", LocalDate::parse, LocalDate.class);
+        LocalDate end = pathVariable(request, "end", LocalDate::parse, LocalDate.class);
+        return ServerResponse.ok().body(eventService.getTotalEventsByDateBetween(start, end), Long.class);
+    }
+
+    /**
+     * {@code GET /api/events/all}
+     */
+    public Mono<ServerResponse> getAllFormEvents(ServerRequest request) {
+        return stream(request, eventService.getAllEventsAsFormDTO(), EventFormDTO.class);
+    }
+
+    /**
+     * {@code GET /api/events/{id}/edit}
+     */
+    public Mono<ServerResponse> getEventByIdForEdit(ServerRequest request) {
+        Long id = pathVariable(request, "id", Long::valueOf, Long.class);
+        return eventService.getEventByIdAsFormDTO(id).flatMap(event -> ServerResponse.ok().bodyValue(event));
+    }
+
+    /**
+     * Filter für alle Routen: wandelt Fehler in eine {@link ErrorResponseDTO} um, auch wenn sie beim
+     * Umwandeln der Parameter synchron geworfen werden.
+     * <ul>
+     *     <li>{@link EventNotFoundException} → 404 (Not Found)</li>
+     *     <li>{@link IllegalArgumentException} (ungültiger Parameter) → 400 (Bad Request)</li>
+     * </ul>
+     *
+     * @param request Die zugehörige Anfrage.
+     * @param next    Die Handler-Funktion der Route.
+     * @return Antwort der Route oder strukturierte Fehlerantwort.
+     */
+    public Mono<ServerResponse> handleErrors(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        return Mono.defer(() -> next.handle(request))
+                .onErrorResume(EventNotFoundException.class,
+                        ex -> buildError("EVENT_NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND, request))
+                .onErrorResume(IllegalArgumentException.class,
+                        ex -> buildError("TYPE_MISMATCH", ex.getMessage(), HttpStatus.BAD_REQUEST, request));
+    }
+
+    /**
+     * Schreibt die Elemente als JSON-Array oder, bei {@code Accept: application/x-ndjson}, als NDJSON.
+     */
+    private static <T> Mono<ServerResponse> stream(ServerRequest request, Flux<T> body, Class<T> type) {
+        MediaType contentType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON
+                : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(contentType).body(body, type);
+    }
+
+    private static <T> T pathVariable(ServerRequest request, String name, Function<String, T> parser, Class<T> type) {
+        return parse(name, request.pathVariable(name), parser, type);
+    }
+
+    private static <T> T queryParam(ServerRequest request, String name, Function<String, T> parser, Class<T> type) {
+        return request.queryParam(name)
+                .filter(value -> !value.isBlank())
+                .map(value -> parse(name, value, parser, type))
+                .orElse(null);
+    }
+
+    /**
+     * Wandelt einen Parameter um; Meldung wie beim {@code TYPE_MISMATCH} des Backends.
+     *
+     * @throws IllegalArgumentException Wenn der Wert nicht umgewandelt werden kann
+     */
+    private static <T> T parse(String name, String value, Function<String, T> parser, Class<T> type) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(String.format("Ungültiger Wert für '%s': '%s'. Erwartet: %s.",
+                    name, value, type.getSimpleName()), e);
+        }
+    }
+
+    private static Mono<ServerResponse> buildError(String error, String message, HttpStatus status, ServerRequest request) {
+        ErrorResponseDTO body = new ErrorResponseDTO(error, message, status.value(), LocalDateTime.now(), request.path());
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+}
@@ -0,0 +1,53 @@
+package com.wiss.reactive.router;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+/**
+ * <h2>
+ *     EventRouter
+ * </h2>
+ * <p>
+ *     Funktionale Routen der reaktiven Lese-API unter {@code /api/events}. Es gibt nur GET-Routen;
+ *     Erstellen, Ändern und Löschen bleiben beim blockierenden Backend.
+ * </p>
+ * <p>
+ *     Feste Pfade wie {@code /count} oder {@code /filter} stehen vor {@code /{id}}, da die Routen in
+ *     der angegebenen Reihenfolge geprüft werden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventHandler
+ */
+@Configuration
+public class EventRouter {
+
+    /**
+     * @param handler Handler-Funktionen für Events
+     * @return Routen unter {@code /api/events}
+     */
+    @Bean
+    public RouterFunction<ServerResponse> eventRoutes(EventHandler handler) {
+        return RouterFunctions.route()
+                .path("/api/events", builder -> builder
+                        .GET("", handler::getAllEvents)
+                        .GET("/count", handler::getEventCount)
+                        .GET("/filter", handler::getEventsByFilter)
+                        .GET("/all", handler::getAllFormEvents)
+                        .GET("/categories/{category}", handler::getEventsByCategory)
+                        .GET("/status/{status}", handler::getEventsByStatus)
+                        .GET("/date/{date}", handler::getEventsByDate)
+                        .GET("/stats/categories/{category}", handler::getEventCountByCategory)
+                        .GET("/stats/status/{status}", handler::getEventCountByStatus)
+                        .GET("/stats/date/{start}/{end}", handler::getEventCountByDateBetween)
+                        .GET("/{id}/edit", handler::getEventByIdForEdit)
+                        .GET("/{id}", handler::getEventById))
+                .filter(handler::handleErrors)
+                .build();
+    }
+}
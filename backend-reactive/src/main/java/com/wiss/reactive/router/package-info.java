@@ -0,0 +1,23 @@
+/**
+ * <h2>
+ *     Funktionale Routen
+ * </h2>
+ *
+ * <p>
+ *     Lesende Endpunkte unter {@code /api/events} mit denselben Pfaden wie der Backend-{@code EventController}.
+ *     Listen werden gestreamt (JSON-Array oder NDJSON).
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Klassen:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.router.EventRouter} – Routen und Fehlerbehandlung.</li>
+ *     <li>{@link com.wiss.reactive.router.EventHandler} – Handler-Funktionen und Fehlerantworten.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.router;
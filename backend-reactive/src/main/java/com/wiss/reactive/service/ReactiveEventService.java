@@ -0,0 +1,193 @@
+package com.wiss.reactive.service;
+
+import com.wiss.reactive.dto.EventDTO;
+import com.wiss.reactive.dto.EventFormDTO;
+import com.wiss.reactive.exception.EventNotFoundException;
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+import com.wiss.reactive.repository.EventReadRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * <h2>
+ *     ReactiveEventService
+ * </h2>
+ * <p>
+ *     Reaktives Gegenstück zu den Abfragemethoden von {@code com.wiss.backend.service.EventService}.
+ *     Namen und Ergebnisse entsprechen dem Backend, geliefert werden jedoch {@link Flux} und
+ *     {@link Mono} statt Listen. Schreibende Methoden gibt es hier nicht; Änderungen laufen weiterhin
+ *     über den blockierenden {@code EventController}.
+ * </p>
+ *
+ * <h3>
+ *     Verantwortlichkeiten:
+ * </h3>
+ * <ul>
+ *     <li>Abfragen nach Kategorie, Status und Datum sowie deren Kombinationen</li>
+ *     <li>Zählungen für die Statistik-Endpunkte</li>
+ *     <li>Formulardaten ({@link EventFormDTO}) für Liste und Bearbeiten</li>
+ *     <li>Fehlersignal {@link EventNotFoundException}, wenn eine ID nicht existiert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventReadRepository
+ */
+@Service
+public class ReactiveEventService {
+
+    private final EventReadRepository repository;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param repository reaktives Repository über die Tabelle {@code events}
+     */
+    public ReactiveEventService(EventReadRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * @return alle Events, aufsteigend nach ID
+     */
+    public Flux<EventDTO> getAllEventsAsDTO() {
+        return repository.find(null, null, null, null);
+    }
+
+    /**
+     * Liefert ein Event anhand seiner ID.
+     *
+     * @param id ID des Events
+     * @return Event oder Fehlersignal {@link EventNotFoundException}
+     */
+    public Mono<EventDTO> getEventByIdAsDTO(Long id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException(id)));
+    }
+
+    /**
+     * @param category Kategorie
+     * @return alle Events dieser Kategorie
+     */
+    public Flux<EventDTO> getEventsByCategoryAsDTO(EventCategory category) {
+        return repository.find(category, null, null, null);
+    }
+
+    /**
+     * @param status Status
+     * @return alle Events mit diesem Status
+     */
+    public Flux<EventDTO> getEventsByStatusAsDTO(EventStatus status) {
+        return repository.find(null, status, null, null);
+    }
+
+    /**
+     * @param date Datum
+     * @return alle Events an diesem Datum
+     */
+    public Flux<EventDTO> getEventsByDateAsDTO(LocalDate date) {
+        return repository.find(null, null, date, date);
+    }
+
+    /**
+     * @return Formulardaten aller Events
+     */
+    public Flux<EventFormDTO> getAllEventsAsFormDTO() {
+        return getAllEventsAsDTO().map(EventFormDTO::new);
+    }
+
+    /**
+     * @param id ID des Events
+     * @return Formulardaten des Events oder Fehlersignal {@link EventNotFoundException}
+     */
+    public Mono<EventFormDTO> getEventByIdAsFormDTO(Long id) {
+        return getEventByIdAsDTO(id).map(EventFormDTO::new);
+    }
+
+    /**
+     * @return Anzahl aller Events
+     */
+    public Mono<Long> getTotalEventsCount() {
+        return repository.count(null, null, null, null);
+    }
+
+    /**
+     * @param category Kategorie
+     * @param status   Status
+     * @return alle Events mit dieser Kategorie und diesem Status
+     */
+    public Flux<EventDTO> getEventsByCategoryAndStatus(EventCategory category, EventStatus status) {
+        return repository.find(category, status, null, null);
+    }
+
+    /**
+     * @param start Startdatum (inklusive)
+     * @param end   Enddatum (inklusive)
+     * @return alle Events im Zeitraum
+     */
+    public Flux<EventDTO> getEventsByDateBetween(LocalDate start, LocalDate end) {
+        return repository.find(null, null, start, end);
+    }
+
+    /**
+     * @param category Kategorie
+     * @param start    Startdatum (inklusive)
+     * @param end      Enddatum (inklusive)
+     * @return alle Events dieser Kategorie im Zeitraum
+     */
+    public Flux<EventDTO> getEventsByCategoryAndDateBetween(EventCategory category, LocalDate start, LocalDate end) {
+        return repository.find(category, null, start, end);
+    }
+
+    /**
+     * @param status Status
+     * @param start  Startdatum (inklusive)
+     * @param end    Enddatum (inklusive)
+     * @return alle Events mit diesem Status im Zeitraum
+     */
+    public Flux<EventDTO> getEventsByStatusAndDateBetween(EventStatus status, LocalDate start, LocalDate end) {
+        return repository.find(null, status, start, end);
+    }
+
+    /**
+     * @param category Kategorie
+     * @param status   Status
+     * @param start    Startdatum (inklusive)
+     * @param end      Enddatum (inklusive)
+     * @return alle Events mit dieser Kategorie und diesem Status im Zeitraum
+     */
+    public Flux<EventDTO> getEventsByCategoryAndStatusAndDateBetween(EventCategory category, EventStatus status,
+                                                                     LocalDate start, LocalDate end) {
+        return repository.find(category, status, start, end);
+    }
+
+    /**
+     * @param category Kategorie
+     * @return Anzahl Events dieser Kategorie
+     */
+    public Mono<Long> getTotalEventsByCategory(EventCategory category) {
+        return repository.count(category, null, null, null);
+    }
+
+    /**
+     * @param status Status
+     * @return Anzahl Events mit diesem Status
+     */
+    public Mono<Long> getTotalEventsByStatus(EventStatus status) {
+        return repository.count(null, status, null, null);
+    }
+
+    /**
+     * @param start Startdatum (inklusive)
+     * @param end   Enddatum (inklusive)
+     * @return Anzahl Events im Zeitraum
+     */
+    public Mono<Long> getTotalEventsByDateBetween(LocalDate start, LocalDate end) {
+        return repository.count(null, null, start, end);
+    }
+}
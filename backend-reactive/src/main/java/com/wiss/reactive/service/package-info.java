@@ -0,0 +1,22 @@
+/**
+ * <h2>
+ *     Reaktive Geschäftslogik
+ * </h2>
+ *
+ * <p>
+ *     Spiegelt die Abfragemethoden des Backend-{@code EventService} mit {@code Flux}/{@code Mono}
+ *     als Rückgabetyp. Schreibende Operationen bleiben im Backend.
+ * </p>
+ *
+ * <h3>
+ *     Enthaltene Klassen:
+ * </h3>
+ * <ul>
+ *     <li>{@link com.wiss.reactive.service.ReactiveEventService} – Abfragen, Zählungen und Formulardaten.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+package com.wiss.reactive.service;
@@ -0,0 +1,188 @@
+package com.wiss.reactive.router;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.wiss.reactive.dto.EventDTO;
+import com.wiss.reactive.dto.EventFormDTO;
+import com.wiss.reactive.exception.EventNotFoundException;
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+import com.wiss.reactive.service.ReactiveEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Tests für {@link EventRouter} und {@link EventHandler}
+ * </h2>
+ * <p>
+ *     Die Routen werden mit {@link WebTestClient#bindToRouterFunction} ohne Server geprüft;
+ *     der {@link ReactiveEventService} ist ein Mock.
+ * </p>
+ *
+ * <h3>
+ *     Testkontext:
+ * </h3>
+ * <ul>
+ *     <li>JSON-Array und NDJSON je nach {@code Accept}-Header</li>
+ *     <li>Reihenfolge der Routen (feste Pfade vor {@code /{id}})</li>
+ *     <li>Auswahl der Filterabfrage wie im Backend-Controller</li>
+ *     <li>Fehlerantworten 404 und 400</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventRouter
+ * @see EventHandler
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventRouterTest {
+
+    @Mock
+    private ReactiveEventService eventService;
+
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = WebTestClient
+                .bindToRouterFunction(new EventRouter().eventRoutes(new EventHandler(eventService)))
+                // Datumsformat wie mit der Jackson-Konfiguration von Spring Boot
+                .handlerStrategies(HandlerStrategies.builder()
+                        .codecs(codecs -> codecs.defaultCodecs()
+                                .jackson2JsonEncoder(new Jackson2JsonEncoder(Jackson2ObjectMapperBuilder.json()
+                                        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build())))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Testet {@code GET /api/events} als JSON-Array.
+     */
+    @Test
+    void whenGetAllEvents_thenReturnJsonArray() {
+        when(eventService.getAllEventsAsDTO()).thenReturn(Flux.just(event(1L, "Waldbrand Kalifornien"), event(2L, "Flut Bern")));
+
+        client.get().uri("/api/events").accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].title").isEqualTo("Waldbrand Kalifornien")
+                .jsonPath("$[1].date").isEqualTo("2025-07-01");
+    }
+
+    /**
+     * Testet {@code GET /api/events/all} mit {@code Accept: application/x-ndjson}: ein Event pro Zeile.
+     */
+    @Test
+    void whenGetAllFormEventsAsNdjson_thenReturnOneEventPerLine() {
+        when(eventService.getAllEventsAsFormDTO()).thenReturn(Flux.just(event(1L, "A"), event(2L, "B"))
+                .map(EventFormDTO::new));
+
+        String body = client.get().uri("/api/events/all").accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .returnResult().getResponseBody();
+
+        assertEquals(2, body.lines().count());
+        assertTrue(body.startsWith("{\"id\":1,\"title\":\"A\""));
+    }
+
+    /**
+     * Testet, ob {@code /count} nicht als ID interpretiert wird.
+     */
+    @Test
+    void whenGetCount_thenCountRouteMatchesBeforeId() {
+        when(eventService.getTotalEventsCount()).thenReturn(Mono.just(42L));
+
+        client.get().uri("/api/events/count")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(Long.class).isEqualTo(42L);
+    }
+
+    /**
+     * Testet {@code /filter}: Zeitraum gilt nur mit Start und Ende, Kategorie allein liefert alle Events.
+     */
+    @Test
+    void whenFilterWithCategoryAndRange_thenUseCategoryAndDateQuery() {
+        LocalDate start = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 15);
+        when(eventService.getEventsByCategoryAndDateBetween(EventCategory.wildfires, start, end))
+                .thenReturn(Flux.just(event(1L, "A")));
+        when(eventService.getAllEventsAsDTO()).thenReturn(Flux.empty());
+
+        client.get().uri("/api/events/filter?category=wildfires&start=2025-07-01&end=2025-07-15")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(1);
+        client.get().uri("/api/events/filter?category=wildfires")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(0);
+
+        verify(eventService).getEventsByCategoryAndDateBetween(EventCategory.wildfires, start, end);
+        verify(eventService).getAllEventsAsDTO();
+    }
+
+    /**
+     * Testet {@code GET /api/events/{id}} für eine unbekannte ID.
+     */
+    @Test
+    void whenEventDoesNotExist_thenReturnNotFound() {
+        when(eventService.getEventByIdAsDTO(99L)).thenReturn(Mono.error(new EventNotFoundException(99L)));
+
+        client.get().uri("/api/events/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("EVENT_NOT_FOUND")
+                .jsonPath("$.code").isEqualTo(404)
+                .jsonPath("$.path").isEqualTo("/api/events/99");
+    }
+
+    /**
+     * Testet ungültige Pfadparameter: unbekannter Status und nicht numerische ID.
+     */
+    @Test
+    void whenPathVariableIsInvalid_thenReturnBadRequest() {
+        client.get().uri("/api/events/status/burning")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("TYPE_MISMATCH")
+                .jsonPath("$.message").isEqualTo("Ungültiger Wert für 'status': 'burning'. Erwartet: EventStatus.");
+        client.get().uri("/api/events/abc/edit")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(eventService);
+    }
+
+    private static EventDTO event(Long id, String title) {
+        return new EventDTO(id, title, LocalDate.of(2025, 7, 1), EventCategory.wildfires,
+                -120.5, 38.2, EventStatus.open, null, null, null);
+    }
+}
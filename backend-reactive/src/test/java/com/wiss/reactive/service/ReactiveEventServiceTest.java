@@ -0,0 +1,114 @@
+package com.wiss.reactive.service;
+
+import com.wiss.reactive.dto.EventDTO;
+import com.wiss.reactive.exception.EventNotFoundException;
+import com.wiss.reactive.model.EventCategory;
+import com.wiss.reactive.model.EventStatus;
+import com.wiss.reactive.repository.EventReadRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link ReactiveEventService}
+ * </h2>
+ * <p>
+ *     Prüft die Abbildung der Backend-Abfragemethoden auf das {@link EventReadRepository} sowie das
+ *     Fehlersignal für unbekannte IDs. Die Ergebnisse werden mit {@link StepVerifier} geprüft.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link ReactiveEventService#getEventByIdAsDTO(Long)}</li>
+ *     <li>{@link ReactiveEventService#getEventByIdAsFormDTO(Long)}</li>
+ *     <li>{@link ReactiveEventService#getEventsByDateAsDTO(LocalDate)}</li>
+ *     <li>{@link ReactiveEventService#getEventsByStatusAndDateBetween(EventStatus, LocalDate, LocalDate)}</li>
+ *     <li>{@link ReactiveEventService#getTotalEventsByCategory(EventCategory)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see ReactiveEventService
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReactiveEventServiceTest {
+
+    @Mock
+    private EventReadRepository repository;
+
+    @InjectMocks
+    private ReactiveEventService eventService;
+
+    /**
+     * Testet, ob eine unbekannte ID als {@link EventNotFoundException} signalisiert wird.
+     */
+    @Test
+    void whenEventDoesNotExist_thenSignalEventNotFound() {
+        when(repository.findById(7L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(eventService.getEventByIdAsDTO(7L))
+                .expectErrorMatches(error -> error instanceof EventNotFoundException notFound
+                        && notFound.getEventId() == 7L)
+                .verify();
+    }
+
+    /**
+     * Testet, ob die Formulardaten aus dem vollständigen Event übernommen werden.
+     */
+    @Test
+    void whenEventExists_thenReturnFormData() {
+        when(repository.findById(1L)).thenReturn(Mono.just(event(1L)));
+
+        StepVerifier.create(eventService.getEventByIdAsFormDTO(1L))
+                .expectNextMatches(form -> form.getId() == 1L && form.getStatus() == EventStatus.open)
+                .verifyComplete();
+    }
+
+    /**
+     * Testet, ob Datums- und Kombinationsabfragen die passenden Filter setzen.
+     */
+    @Test
+    void whenQueryByDateOrStatusAndRange_thenPassFiltersToRepository() {
+        LocalDate day = LocalDate.of(2025, 7, 1);
+        LocalDate end = LocalDate.of(2025, 7, 31);
+        when(repository.find(null, null, day, day)).thenReturn(Flux.just(event(1L)));
+        when(repository.find(null, EventStatus.open, day, end)).thenReturn(Flux.just(event(1L), event(2L)));
+
+        StepVerifier.create(eventService.getEventsByDateAsDTO(day))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(eventService.getEventsByStatusAndDateBetween(EventStatus.open, day, end))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
+    /**
+     * Testet die Zählung nach Kategorie.
+     */
+    @Test
+    void whenCountByCategory_thenReturnRepositoryCount() {
+        when(repository.count(EventCategory.floods, null, null, null)).thenReturn(Mono.just(3L));
+
+        StepVerifier.create(eventService.getTotalEventsByCategory(EventCategory.floods))
+                .expectNext(3L)
+                .verifyComplete();
+    }
+
+    private static EventDTO event(Long id) {
+        return new EventDTO(id, "Event " + id, LocalDate.of(2025, 7, 1), EventCategory.wildfires,
+                8.5, 47.4, EventStatus.open, null, null, null);
+    }
+}
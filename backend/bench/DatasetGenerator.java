@@ -0,0 +1,243 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Erzeugt einen synthetischen, reproduzierbaren Datenbestand im CSV-Format des Imports, ausführbar ohne
+ * Build: {@code java bench/DatasetGenerator.java [optionen]}.
+ * <p>
+ * Die Events häufen sich um die Orte aus {@code src/main/resources/data.sql} (normalverteilt mit
+ * {@code --hotspot-radius} Grad Standardabweichung, jede Kategorie um ihre eigenen Orte); der Rest ist
+ * gleichmässig über die Erde verteilt. Das Alter wird mit {@code --date-skew} zur Gegenwart hin
+ * verdichtet: Alter = Zeitraum * U^skew mit U gleichverteilt, 1 = gleichmässig, 3 = etwa die Hälfte der
+ * Events im jüngsten Achtel des Zeitraums.
+ * <p>
+ * Mit {@code --post URL} wird die Datei nicht geschrieben, sondern direkt an {@code POST /api/events/import}
+ * gestreamt (PostgreSQL: {@code COPY ... FROM STDIN}, H2: JPA-Batching); sonst geht sie nach
+ * {@code --output} bzw. auf die Standardausgabe.
+ * <p>
+ * Optionen: {@code --rows N} (Standard 10000), {@code --random-seed N} (Standard 42),
+ * {@code --categories} (Gewichte, Standard {@value #DEFAULT_CATEGORIES}), {@code --hotspot-share P}
+ * (Anteil um Hotspots, Standard 0.8), {@code --hotspot-radius G} (Standard 1.5), {@code --open-ratio P}
+ * (Standard 0.1), {@code --years N} (Zeitraum bis heute, Standard 10), {@code --date-skew S} (Standard 3),
+ * {@code --output DATEI}, {@code --post URL}.
+ */
+public class DatasetGenerator {
+
+    private static final String DEFAULT_CATEGORIES = "wildfires=40,severeStorms=18,volcanoes=8,seaLakeIce=7,floods=7,"
+            + "earthquakes=5,landslides=4,snow=3,drought=2,dustHaze=2,manmade=2,waterColor=2";
+
+    /**
+     * Kategorie, Breite, Länge und Titel der Beispiel-Events aus data.sql.
+     */
+    private record Hotspot(String category, double latitude, double longitude, String title) {
+    }
+
+    private static final List<Hotspot> HOTSPOTS = List.of(
+            new Hotspot("drought", -33.92, 18.42, "Severe Water Shortage in Cape Town"),
+            new Hotspot("drought", 34.02, -6.84, "Prolonged Drought in Morocco"),
+            new Hotspot("drought", 36.77, -119.42, "Drought in California"),
+            new Hotspot("drought", 40.41, -3.7, "Prolonged Drought in Spain"),
+            new Hotspot("dustHaze", 23.41, 13.18, "Dust Cloud over Sahara Expanding"),
+            new Hotspot("dustHaze", 24.71, 46.72, "Dust Storm in Riyadh"),
+            new Hotspot("dustHaze", 28.61, 77.1, "Haze Conditions in Delhi"),
+            new Hotspot("dustHaze", 39.91, 116.4, "Haze over Beijing"),
+            new Hotspot("earthquakes", -33.45, -70.66, "Quake in Santiago Region"),
+            new Hotspot("earthquakes", 27.72, 85.32, "Aftershocks in Nepal Region"),
+            new Hotspot("earthquakes", 35.68, 139.69, "Earthquake near Tokyo"),
+            new Hotspot("earthquakes", 41.01, 28.98, "Series of Quakes near Istanbul"),
+            new Hotspot("floods", -6.21, 106.85, "Floods in Jakarta"),
+            new Hotspot("floods", 10.85, 76.27, "Flash Flood in Kerala"),
+            new Hotspot("floods", 23.81, 90.41, "Ongoing Floods in Bangladesh"),
+            new Hotspot("floods", 50.08, 14.42, "River Overflow in Czech Republic"),
+            new Hotspot("landslides", -22.91, -43.17, "Mudslide in Rio"),
+            new Hotspot("landslides", 28.39, 84.12, "Landslide in Nepal Hills"),
+            new Hotspot("landslides", 4.61, -74.08, "Landslide Warning in Colombia"),
+            new Hotspot("landslides", 46.95, 8.22, "Soil Instability in Swiss Alps"),
+            new Hotspot("manmade", 27.0, -90.0, "Oil Spill in Gulf of Mexico"),
+            new Hotspot("manmade", 31.23, 121.47, "Chemical Leak in Shanghai"),
+            new Hotspot("manmade", 41.88, -87.62, "Train Derailment near Chicago"),
+            new Hotspot("manmade", 51.92, 4.48, "Industrial Fire in Rotterdam"),
+            new Hotspot("seaLakeIce", 43.04, -87.62, "Melting Observed on Lake Michigan"),
+            new Hotspot("seaLakeIce", 53.25, 108.25, "Ice Breakup on Lake Baikal"),
+            new Hotspot("seaLakeIce", 74.0, -66.0, "Sea Ice Shift in Baffin Bay"),
+            new Hotspot("seaLakeIce", 82.5, 0.0, "Arctic Sea Ice Retreat"),
+            new Hotspot("severeStorms", 28.48, -81.52, "Storm System Approaching Florida"),
+            new Hotspot("severeStorms", 30.27, -97.74, "Storm Front in Texas"),
+            new Hotspot("severeStorms", 48.13, 11.58, "Thunderstorm in Bavaria"),
+            new Hotspot("severeStorms", 54.5, 2.5, "Strong Winds over North Sea"),
+            new Hotspot("snow", -42.91, -71.31, "Unexpected Snowfall in Patagonia"),
+            new Hotspot("snow", 45.42, -75.69, "Snowstorm in Canada"),
+            new Hotspot("snow", 47.37, 8.54, "Heavy Snowfall in Zurich"),
+            new Hotspot("snow", 57.48, -4.42, "Late Snow in the Scottish Highlands"),
+            new Hotspot("volcanoes", 19.02, -98.62, "Alert Level Raised at Popocatepetl"),
+            new Hotspot("volcanoes", 19.41, -155.29, "Activity at Kilauea"),
+            new Hotspot("volcanoes", 35.36, 138.73, "Increased Activity at Mount Fuji"),
+            new Hotspot("volcanoes", 37.75, 15.0, "Eruption of Mount Etna"),
+            new Hotspot("waterColor", -1.0, 33.0, "Water Discoloration in Lake Victoria"),
+            new Hotspot("waterColor", 46.52, 6.63, "Discoloration in Lake Geneva"),
+            new Hotspot("waterColor", 58.0, 19.0, "Algae Bloom in Baltic Sea"),
+            new Hotspot("waterColor", 60.17, 24.94, "Algae Bloom in Gulf of Finland"),
+            new Hotspot("wildfires", -27.47, 152.99, "Forest Fire in Queensland"),
+            new Hotspot("wildfires", 34.05, -118.25, "Wildfire near Los Angeles"),
+            new Hotspot("wildfires", 37.8651, -119.5383, "Wildfire near Yosemite National Park"),
+            new Hotspot("wildfires", 43.7, 6.13, "Forest Fire in Southern France"),
+            new Hotspot("wildfires", 49.28, -122.84, "Ongoing Wildfire in British Columbia")
+    );
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.parseLong(option(args, "--rows", "10000"));
+        SplittableRandom random = new SplittableRandom(Long.parseLong(option(args, "--random-seed", "42")));
+        Map<String, Integer> categories = weights(option(args, "--categories", DEFAULT_CATEGORIES));
+        double hotspotShare = Double.parseDouble(option(args, "--hotspot-share", "0.8"));
+        double hotspotRadius = Double.parseDouble(option(args, "--hotspot-radius", "1.5"));
+        double openRatio = Double.parseDouble(option(args, "--open-ratio", "0.1"));
+        int days = Integer.parseInt(option(args, "--years", "10")) * 365;
+        double dateSkew = Double.parseDouble(option(args, "--date-skew", "3"));
+        String output = option(args, "--output", null);
+        String post = option(args, "--post", null);
+
+        String[] names = categories.keySet().toArray(String[]::new);
+        int[] cumulative = new int[names.length];
+        int sum = 0;
+        for (int i = 0; i < names.length; i++) {
+            sum += categories.get(names[i]);
+            cumulative[i] = sum;
+        }
+        Map<String, List<Hotspot>> hotspots = new LinkedHashMap<>();
+        for (Hotspot hotspot : HOTSPOTS) {
+            hotspots.computeIfAbsent(hotspot.category(), key -> new ArrayList<>()).add(hotspot);
+        }
+        LocalDate today = LocalDate.now();
+        int total = sum;
+
+        Generator generator = out -> {
+            out.write("title,date,category,longitude,latitude,status\n");
+            StringBuilder line = new StringBuilder(128);
+            for (long i = 0; i < rows; i++) {
+                int value = random.nextInt(total);
+                int index = 0;
+                while (value >= cumulative[index]) {
+                    index++;
+                }
+                String category = names[index];
+                List<Hotspot> candidates = hotspots.getOrDefault(category, HOTSPOTS);
+                String title;
+                double latitude;
+                double longitude;
+                if (random.nextDouble() < hotspotShare) {
+                    Hotspot hotspot = candidates.get(random.nextInt(candidates.size()));
+                    title = hotspot.title();
+                    latitude = clamp(hotspot.latitude() + random.nextGaussian() * hotspotRadius, -90.0, 90.0);
+                    longitude = wrap(hotspot.longitude() + random.nextGaussian() * hotspotRadius);
+                } else {
+                    title = "Synthetic " + category;
+                    // Gleichverteilt auf der Kugeloberfläche, nicht im Gradnetz
+                    latitude = Math.toDegrees(Math.asin(random.nextDouble(-1.0, 1.0)));
+                    longitude = random.nextDouble(-180.0, 180.0);
+                }
+                long age = (long) (days * Math.pow(random.nextDouble(), dateSkew));
+                line.setLength(0);
+                line.append('"').append(title).append(' ').append(i).append("\",")
+                        .append(today.minusDays(age)).append(',')
+                        .append(category).append(',')
+                        .append(String.format(Locale.ROOT, "%.4f,%.4f", longitude, latitude)).append(',')
+                        .append(random.nextDouble() < openRatio ? "open" : "closed").append('\n');
+                out.write(line.toString());
+            }
+        };
+
+        long start = System.nanoTime();
+        if (post != null) {
+            System.err.println(post(URI.create(post.replaceAll("/$", "")), generator));
+        } else if (output != null) {
+            try (Writer out = Files.newBufferedWriter(Path.of(output), StandardCharsets.UTF_8)) {
+                generator.write(out);
+            }
+        } else {
+            Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+            generator.write(out);
+            out.flush();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.err.printf(Locale.ROOT, "%d Events in %.1f s (%.0f/s)%n", rows, seconds, rows / seconds);
+    }
+
+    @FunctionalInterface
+    private interface Generator {
+        void write(Writer out) throws IOException;
+    }
+
+    /**
+     * Streamt die CSV-Datei an {@code POST /api/events/import}, ohne sie zwischenzuspeichern, und
+     * liefert die Antwort (Zähler und Fehlerbericht).
+     */
+    private static String post(URI base, Generator generator) throws Exception {
+        PipedInputStream body = new PipedInputStream(1 << 20);
+        OutputStream pipe = new PipedOutputStream(body);
+        CompletableFuture<Void> writing = CompletableFuture.runAsync(() -> {
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(pipe, StandardCharsets.UTF_8), 1 << 16)) {
+                generator.write(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(base.resolve("/api/events/import"))
+                        .header("Content-Type", "text/csv")
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        writing.join();
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    private static double wrap(double longitude) {
+        return ((longitude + 540.0) % 360.0) - 180.0;
+    }
+
+    private static Map<String, Integer> weights(String spec) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            weights.put(pair[0], Integer.parseInt(pair[1]));
+        }
+        return weights;
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 0; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,350 @@
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lasttest mit offener Last gegen die laufende Anwendung, ausführbar ohne Build:
+ * {@code java -cp HdrHistogram.jar bench/HttpLoadTest.java <url> [optionen]} (siehe bench/http-load-test.sh).
+ * <p>
+ * Legt zuerst einen synthetischen Datenbestand an (reproduzierbar über {@code --random-seed}) und sendet
+ * danach Anfragen mit fester Rate, unabhängig davon, wie schnell die Anwendung antwortet. Der Sendezeitpunkt
+ * jeder Anfrage ist im Voraus geplant ({@code start + i / rate}); gemessen wird ab diesem geplanten
+ * Zeitpunkt und nicht ab dem tatsächlichen Senden. Staut sich die Anwendung, fliesst die Wartezeit
+ * damit in die Latenz ein, statt dass der Lastgenerator einfach weniger sendet (Coordinated Omission).
+ * Zusätzlich wird die reine Bedienzeit (tatsächliches Senden bis Antwort) erfasst.
+ * <p>
+ * Pro Endpunkt entsteht ein HDR-Histogramm; die Perzentilverteilungen (Millisekunden) werden als
+ * {@code <endpunkt>.hgrm} bzw. {@code <endpunkt>-service.hgrm} im Ausgabeverzeichnis abgelegt und lassen
+ * sich mit dem HdrHistogram-Plotter vergleichen.
+ * <p>
+ * Optionen: {@code --events N} (Events anlegen, bis mindestens N vorhanden sind, Standard 20000),
+ * {@code --rate R} (Anfragen pro Sekunde über alle Endpunkte, Standard 200), {@code --duration S}
+ * (Messdauer in Sekunden, Standard 60), {@code --warmup S} (Aufwärmphase ohne Messung, Standard 15),
+ * {@code --mix} (Gewichte, Standard {@value #DEFAULT_MIX}), {@code --max-in-flight N} (gleichzeitig
+ * offene Anfragen, Standard 1000), {@code --random-seed N} (Standard 42), {@code --output DIR}
+ * (Standard target/load-test).
+ */
+public class HttpLoadTest {
+
+    private static final String DEFAULT_MIX = "filter=30,all=2,by-id=40,stats=15,create=8,update=5";
+
+    private static final String[] CATEGORIES = {"wildfires", "severeStorms", "volcanoes", "seaLakeIce", "earthquakes",
+            "floods", "landslides", "snow", "drought", "dustHaze", "manmade"};
+
+    /** Anfragen, die mehr als 10 ms nach ihrem geplanten Zeitpunkt abgeschickt wurden, gelten als verspätet. */
+    private static final long LATE_NANOS = Duration.ofMillis(10).toNanos();
+
+    /** Zeitraum, über den sich die Daten der Events verteilen. */
+    private static final int DAYS = 5 * 365;
+
+    private enum Endpoint {
+        FILTER("filter"), ALL("all"), BY_ID("by-id"), STATS("stats"), CREATE("create"), UPDATE("update");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        static Endpoint of(String label) {
+            return Arrays.stream(values()).filter(endpoint -> endpoint.label.equals(label)).findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unbekannter Endpunkt im Mix: " + label));
+        }
+    }
+
+    /**
+     * Antwort- und Bedienzeiten (Mikrosekunden) sowie Fehler eines Endpunkts.
+     */
+    private static final class Recorder {
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long intended, long sent, boolean failed) {
+            long done = System.nanoTime();
+            responseTime.recordValue((done - intended) / 1_000);
+            serviceTime.recordValue((done - sent) / 1_000);
+            if (failed) {
+                errors.increment();
+            }
+        }
+    }
+
+    private record Phase(Map<Endpoint, Recorder> recorders, long late, double seconds) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Aufruf: java -cp HdrHistogram.jar HttpLoadTest.java <url> [--events N] [--rate R] "
+                    + "[--duration S] [--warmup S] [--mix " + DEFAULT_MIX + "] [--max-in-flight N] "
+                    + "[--random-seed N] [--output DIR]");
+            System.exit(2);
+        }
+        URI base = URI.create(args[0].replaceAll("/$", ""));
+        int events = option(args, "--events", 20_000);
+        int rate = option(args, "--rate", 200);
+        int duration = option(args, "--duration", 60);
+        int warmup = option(args, "--warmup", 15);
+        int maxInFlight = option(args, "--max-in-flight", 1000);
+        SplittableRandom random = new SplittableRandom(option(args, "--random-seed", 42));
+        int[] weights = mix(option(args, "--mix", DEFAULT_MIX));
+        Path output = Path.of(option(args, "--output", "target/load-test"));
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long[] ids = seed(http, base, events, random);
+
+        if (warmup > 0) {
+            System.err.printf("Aufwärmen: %d s mit %d Anfragen/s%n", warmup, rate);
+            run(http, base, ids, weights, random, rate, warmup, maxInFlight, "warmup");
+        }
+        System.err.printf("Messung: %d s mit %d Anfragen/s%n", duration, rate);
+        Phase phase = run(http, base, ids, weights, random, rate, duration, maxInFlight, "run");
+        report(phase, rate, output);
+    }
+
+    /**
+     * Sendet {@code rate * seconds} Anfragen zu festen, im Voraus geplanten Zeitpunkten. Jede Anfrage
+     * läuft in einem eigenen virtuellen Thread; der Taktgeber wartet nie auf Antworten. Auch das Warten
+     * auf einen freien Platz ({@code maxInFlight}) zählt zur gemessenen Antwortzeit.
+     */
+    private static Phase run(HttpClient http, URI base, long[] ids, int[] weights, SplittableRandom random,
+                             int rate, int seconds, int maxInFlight, String tag) {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder());
+        }
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long total = (long) rate * seconds;
+        long late = 0;
+        long start = System.nanoTime();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * 1_000_000_000L / rate;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                } else if (-wait > LATE_NANOS) {
+                    late++;
+                }
+                Endpoint endpoint = pick(weights, random);
+                HttpRequest request = request(endpoint, base, ids, random, tag + "-" + i);
+                Recorder recorder = recorders.get(endpoint);
+                threads.submit(() -> execute(http, request, intended, recorder, inFlight));
+            }
+        }
+        return new Phase(recorders, late, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static void execute(HttpClient http, HttpRequest request, long intended, Recorder recorder, Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+            recorder.record(intended, sent, response.statusCode() >= 300);
+        } catch (IOException e) {
+            recorder.record(intended, sent, true);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Baut die nächste Anfrage eines Endpunkts mit zufälligen, aber gültigen Parametern.
+     */
+    private static HttpRequest request(Endpoint endpoint, URI base, long[] ids, SplittableRandom random, String tag) {
+        HttpRequest.Builder builder = switch (endpoint) {
+            case FILTER -> HttpRequest.newBuilder(base.resolve("/api/events/filter?" + filter(random))).GET();
+            case ALL -> HttpRequest.newBuilder(base.resolve("/api/events/all")).GET();
+            case BY_ID -> HttpRequest.newBuilder(base.resolve("/api/events/" + ids[random.nextInt(ids.length)])).GET();
+            case STATS -> HttpRequest.newBuilder(base.resolve(stats(random))).GET();
+            case CREATE -> HttpRequest.newBuilder(base.resolve("/api/events/create"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(event(random, "Lasttest-Neu " + tag)));
+            case UPDATE -> HttpRequest.newBuilder(base.resolve("/api/events/" + ids[random.nextInt(ids.length)] + "/update"))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(event(random, "Lasttest-Update " + tag)));
+        };
+        return builder.timeout(Duration.ofSeconds(60)).build();
+    }
+
+    /**
+     * Kombinationen wie im Frontend: Kategorie und/oder Status, meist mit einem Monat als Zeitraum.
+     */
+    private static String filter(SplittableRandom random) {
+        String category = "category=" + CATEGORIES[random.nextInt(CATEGORIES.length)];
+        String status = "status=" + (random.nextInt(4) == 0 ? "open" : "closed");
+        LocalDate end = LocalDate.now().minusDays(random.nextInt(DAYS));
+        String dates = "start=" + end.minusDays(30) + "&end=" + end;
+        return switch (random.nextInt(5)) {
+            case 0 -> category + "&" + status;
+            case 1 -> category + "&" + dates;
+            case 2 -> status + "&" + dates;
+            case 3 -> category + "&" + status + "&" + dates;
+            default -> dates;
+        };
+    }
+
+    private static String stats(SplittableRandom random) {
+        return switch (random.nextInt(3)) {
+            case 0 -> "/api/events/stats/categories/" + CATEGORIES[random.nextInt(CATEGORIES.length)];
+            case 1 -> "/api/events/stats/status/" + (random.nextBoolean() ? "open" : "closed");
+            default -> {
+                LocalDate end = LocalDate.now().minusDays(random.nextInt(DAYS));
+                yield "/api/events/stats/date/" + end.minusDays(90) + "/" + end;
+            }
+        };
+    }
+
+    private static String event(SplittableRandom random, String title) {
+        return String.format(Locale.ROOT, "{\"title\":\"%s\",\"date\":\"%s\",\"category\":\"%s\","
+                        + "\"longitude\":%.4f,\"latitude\":%.4f,\"status\":\"%s\"}",
+                title, LocalDate.now().minusDays(random.nextInt(DAYS)), CATEGORIES[random.nextInt(CATEGORIES.length)],
+                random.nextDouble(-180.0, 180.0), random.nextDouble(-90.0, 90.0),
+                random.nextInt(4) == 0 ? "open" : "closed");
+    }
+
+    /**
+     * Legt Events über {@code POST /api/events/bulk} an, bis mindestens {@code target} vorhanden sind,
+     * und liefert die IDs aller Events.
+     */
+    private static long[] seed(HttpClient http, URI base, int target, SplittableRandom random) throws Exception {
+        long count = Long.parseLong(send(http, HttpRequest.newBuilder(base.resolve("/api/events/count")).GET()).trim());
+        for (long next = count; next < target; next += 1000) {
+            StringBuilder body = new StringBuilder("[");
+            for (long i = next; i < Math.min(target, next + 1000); i++) {
+                if (i > next) {
+                    body.append(',');
+                }
+                body.append(event(random, "Lasttest-Event " + i));
+            }
+            send(http, HttpRequest.newBuilder(base.resolve("/api/events/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString())));
+        }
+        String all = send(http, HttpRequest.newBuilder(base.resolve("/api/events")).GET());
+        long[] ids = Arrays.stream(all.split("\"id\":")).skip(1)
+                .mapToLong(part -> Long.parseLong(part.substring(0, part.indexOf(','))))
+                .toArray();
+        System.err.printf("Datenbestand: %d Events%n", ids.length);
+        return ids;
+    }
+
+    private static void report(Phase phase, int rate, Path output) throws IOException {
+        Files.createDirectories(output);
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        System.out.printf(Locale.ROOT, "%-8s %9s %7s %8s %9s %9s %9s %9s %9s %12s%n", "endpunkt", "anfragen", "fehler",
+                "rate/s", "p50", "p90", "p99", "p99.9", "max", "bedienung99");
+        for (Map.Entry<Endpoint, Recorder> entry : phase.recorders().entrySet()) {
+            Recorder recorder = entry.getValue();
+            line(entry.getKey().label, recorder.responseTime, recorder.serviceTime, recorder.errors.sum(), phase.seconds());
+            write(output.resolve(entry.getKey().label + ".hgrm"), recorder.responseTime);
+            write(output.resolve(entry.getKey().label + "-service.hgrm"), recorder.serviceTime);
+            total.add(recorder.responseTime);
+            errors += recorder.errors.sum();
+        }
+        line("gesamt", total, null, errors, phase.seconds());
+        write(output.resolve("gesamt.hgrm"), total);
+        System.out.println("Zeiten in ms ab geplantem Sendezeitpunkt; bedienung99 = p99 ab tatsächlichem Senden");
+        if (phase.late() > (long) rate * phase.seconds() / 100) {
+            System.out.printf("Warnung: %d Anfragen mehr als 10 ms zu spät abgeschickt, der Lastgenerator kam nicht nach%n",
+                    phase.late());
+        }
+        System.out.println("Histogramme: " + output.toAbsolutePath());
+    }
+
+    private static void line(String name, Histogram responseTime, Histogram serviceTime, long errors, double seconds) {
+        System.out.printf(Locale.ROOT, "%-8s %9d %7d %8.1f %9.2f %9.2f %9.2f %9.2f %9.2f %12s%n", name,
+                responseTime.getTotalCount(), errors, responseTime.getTotalCount() / seconds,
+                millis(responseTime, 50.0), millis(responseTime, 90.0), millis(responseTime, 99.0),
+                millis(responseTime, 99.9), responseTime.getMaxValue() / 1000.0,
+                serviceTime == null ? "" : String.format(Locale.ROOT, "%.2f", millis(serviceTime, 99.0)));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    /**
+     * Liest Gewichte wie {@code filter=30,by-id=40} und liefert sie kumuliert in der Reihenfolge der Endpunkte.
+     */
+    private static int[] mix(String spec) {
+        int[] weights = new int[Endpoint.values().length];
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            weights[Endpoint.of(pair[0]).ordinal()] = Integer.parseInt(pair[1]);
+        }
+        Arrays.parallelPrefix(weights, Integer::sum);
+        if (weights[weights.length - 1] <= 0) {
+            throw new IllegalArgumentException("Mix ohne Gewichte: " + spec);
+        }
+        return weights;
+    }
+
+    private static Endpoint pick(int[] cumulativeWeights, SplittableRandom random) {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (value >= cumulativeWeights[index]) {
+            index++;
+        }
+        return Endpoint.values()[index];
+    }
+
+    private static String send(HttpClient http, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static int option(String[] args, String name, int defaultValue) {
+        return Integer.parseInt(option(args, name, String.valueOf(defaultValue)));
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 1; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
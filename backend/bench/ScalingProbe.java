@@ -0,0 +1,191 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Misst alle Listen- und Zählendpunkte bei der aktuellen Datenmenge, ausführbar ohne Build:
+ * {@code java bench/ScalingProbe.java <url> --mode NAME [--requests N] [--pid PID]}.
+ * <p>
+ * Jeder Endpunkt wird nach einem Aufwärmaufruf {@code --requests}-mal nacheinander abgefragt (ein Client,
+ * keine Last); ausgegeben werden p50, p90 und Maximum der Antwortzeit sowie die Grösse der Antwort. Mit
+ * {@code --pid} wird vorher per {@code jcmd <pid> GC.run} eine volle GC ausgelöst und der danach belegte
+ * Heap gemeldet. Mit ausgeschaltetem Spaltenabbild ({@code events.columnar.enabled=false}) führt jeder
+ * Endpunkt die im Namen genannte Abfrage von {@code EventRepository} aus.
+ * <p>
+ * Die Ergebnisse werden als CSV-Zeilen ({@code mode,rows,endpoint,p50_ms,p90_ms,max_ms,response_kb,heap_mb})
+ * auf die Standardausgabe geschrieben. {@code java bench/ScalingProbe.java --summary <csv>} fasst eine
+ * solche Datei zu einer Tabelle pro Endpunkt und Datenmenge zusammen, samt Wachstumsfaktor zwischen der
+ * kleinsten und der grössten Datenmenge.
+ */
+public class ScalingProbe {
+
+    private static final Pattern HEAP_VALUE = Pattern.compile("\"value\"\\s*:\\s*([0-9.E+]+)");
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Aufruf: java ScalingProbe.java <url> --mode NAME [--requests N] [--pid PID] [--header]\n"
+                    + "        java ScalingProbe.java --summary <csv>");
+            System.exit(2);
+        }
+        if (args[0].equals("--summary")) {
+            summary(Path.of(args[1]));
+            return;
+        }
+        URI base = URI.create(args[0].replaceAll("/$", ""));
+        String mode = option(args, "--mode", "default");
+        int requests = Integer.parseInt(option(args, "--requests", "10"));
+        String pid = option(args, "--pid", null);
+        if (Arrays.asList(args).contains("--header")) {
+            System.out.println("mode,rows,endpoint,p50_ms,p90_ms,max_ms,response_kb,heap_mb");
+        }
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long rows = Long.parseLong(get(http, base.resolve("/api/events/count")).trim());
+        double heapMb = pid == null ? Double.NaN : heapAfterGc(http, base, pid);
+
+        for (Map.Entry<String, String> endpoint : endpoints(http, base).entrySet()) {
+            URI uri = base.resolve(endpoint.getValue());
+            long bytes = get(http, uri).length();
+            long[] nanos = new long[requests];
+            for (int i = 0; i < requests; i++) {
+                long start = System.nanoTime();
+                get(http, uri);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            System.out.printf(Locale.ROOT, "%s,%d,%s,%.2f,%.2f,%.2f,%.1f,%.1f%n", mode, rows, endpoint.getKey(),
+                    percentile(nanos, 0.50), percentile(nanos, 0.90), nanos[nanos.length - 1] / 1e6,
+                    bytes / 1024.0, heapMb);
+        }
+    }
+
+    /**
+     * Endpunkte, benannt nach der Abfrage von {@code EventRepository}, die sie ohne Spaltenabbild ausführen.
+     * Zeiträume liegen relativ zu heute, damit sie zu den Daten von DatasetGenerator passen.
+     */
+    private static Map<String, String> endpoints(HttpClient http, URI base) throws Exception {
+        LocalDate today = LocalDate.now();
+        String month = "start=" + today.minusDays(30) + "&end=" + today;
+        String byCategory = "/api/events/categories/volcanoes";
+        String first = get(http, base.resolve(byCategory));
+        int idStart = first.indexOf("\"id\":");
+        String id = idStart < 0 ? "1" : first.substring(idStart + 5, first.indexOf(',', idStart));
+
+        Map<String, String> endpoints = new LinkedHashMap<>();
+        endpoints.put("findAll", "/api/events");
+        endpoints.put("findAll-form", "/api/events/all");
+        endpoints.put("findById", "/api/events/" + id);
+        endpoints.put("findByCategory", byCategory);
+        endpoints.put("findByStatus-closed", "/api/events/status/closed");
+        endpoints.put("findByStatus-open", "/api/events/status/open");
+        endpoints.put("findByDate", "/api/events/date/" + today.minusDays(7));
+        endpoints.put("findByCategoryAndStatus", "/api/events/filter?category=volcanoes&status=open");
+        endpoints.put("findByDateBetween", "/api/events/filter?" + month);
+        endpoints.put("findByCategoryAndDateBetween", "/api/events/filter?category=floods&" + month);
+        endpoints.put("findByStatusAndDateBetween", "/api/events/filter?status=open&" + month);
+        endpoints.put("findByCategoryAndStatusAndDateBetween", "/api/events/filter?category=wildfires&status=open&" + month);
+        endpoints.put("count", "/api/events/count");
+        endpoints.put("countByCategory", "/api/events/stats/categories/wildfires");
+        endpoints.put("countByStatus", "/api/events/stats/status/open");
+        endpoints.put("countByDateBetween", "/api/events/stats/date/" + today.minusYears(1) + "/" + today);
+        return endpoints;
+    }
+
+    /**
+     * Löst eine volle GC aus und liest danach den belegten Heap über Actuator.
+     */
+    private static double heapAfterGc(HttpClient http, URI base, String pid) throws Exception {
+        Process gc = new ProcessBuilder("jcmd", pid, "GC.run").redirectErrorStream(true).start();
+        gc.getInputStream().readAllBytes();
+        gc.waitFor();
+        String metric = get(http, base.resolve("/actuator/metrics/jvm.memory.used?tag=area:heap"));
+        Matcher matcher = HEAP_VALUE.matcher(metric);
+        return matcher.find() ? Double.parseDouble(matcher.group(1)) / (1 << 20) : Double.NaN;
+    }
+
+    /**
+     * Gibt p50 pro Endpunkt und Datenmenge aus, je Modus eine Tabelle, dazu den belegten Heap.
+     */
+    private static void summary(Path csv) throws IOException {
+        List<String[]> lines = new ArrayList<>();
+        for (String line : Files.readAllLines(csv)) {
+            if (!line.isBlank() && !line.startsWith("mode,")) {
+                lines.add(line.split(","));
+            }
+        }
+        for (String mode : new TreeSet<>(lines.stream().map(line -> line[0]).toList())) {
+            List<String[]> ofMode = lines.stream().filter(line -> line[0].equals(mode)).toList();
+            List<Long> sizes = new TreeSet<>(ofMode.stream().map(line -> Long.parseLong(line[1])).toList()).stream().toList();
+            System.out.printf("%nModus %s: p50 in ms (Antwort in kB)%n", mode);
+            System.out.printf("%-40s", "endpunkt");
+            sizes.forEach(size -> System.out.printf("%22s", size + " Events"));
+            System.out.printf("%10s%n", "faktor");
+            for (String endpoint : ofMode.stream().map(line -> line[2]).distinct().toList()) {
+                System.out.printf("%-40s", endpoint);
+                double firstP50 = Double.NaN;
+                double lastP50 = Double.NaN;
+                for (long size : sizes) {
+                    String[] line = ofMode.stream()
+                            .filter(candidate -> candidate[2].equals(endpoint) && Long.parseLong(candidate[1]) == size)
+                            .findFirst().orElse(null);
+                    if (line == null) {
+                        System.out.printf("%22s", "-");
+                        continue;
+                    }
+                    double p50 = Double.parseDouble(line[3]);
+                    firstP50 = Double.isNaN(firstP50) ? p50 : firstP50;
+                    lastP50 = p50;
+                    System.out.printf(Locale.ROOT, "%22s", String.format(Locale.ROOT, "%.2f (%.0f)", p50, Double.parseDouble(line[6])));
+                }
+                System.out.printf(Locale.ROOT, "%10.1f%n", lastP50 / firstP50);
+            }
+            System.out.printf("%-40s", "heap nach GC (MB)");
+            for (long size : sizes) {
+                String heap = ofMode.stream().filter(line -> Long.parseLong(line[1]) == size)
+                        .map(line -> line[7]).findFirst().orElse("-");
+                System.out.printf("%22s", heap);
+            }
+            System.out.println();
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private static String get(HttpClient http, URI uri) throws Exception {
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(uri).timeout(Duration.ofMinutes(10)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(uri + ": " + response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static String option(String[] args, String name, String defaultValue) {
+        for (int i = 1; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return args[i + 1];
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -0,0 +1,218 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lasttest mit langsamen Clients, ausführbar ohne Build: {@code java bench/SlowClientLoadTest.java <url> [optionen]}.
+ * <p>
+ * Langsame Clients laden wiederholt die vollständige Liste {@code GET /api/events} mit kleinem
+ * Empfangspuffer und lesen nur wenige Kilobyte pro Sekunde. Jede solche Antwort belegt beim
+ * Thread-pro-Anfrage-Modell einen Tomcat-Thread, bis sie vollständig gelesen ist. Gleichzeitig messen
+ * schnelle Clients (geschlossene Schleife) Durchsatz und Latenz von {@code GET /api/events/{id}}
+ * (Datenbank) und {@code GET /api/events/count} (Arbeitsspeicher).
+ * <p>
+ * Optionen: {@code --seed N} (Events anlegen, bis mindestens N vorhanden sind, Standard 20000),
+ * {@code --slow N} (langsame Clients, Standard 300), {@code --clients N} (schnelle Clients, Standard 50),
+ * {@code --duration S} (Messdauer in Sekunden, Standard 30), {@code --read-rate B} (Bytes pro Sekunde
+ * und langsamem Client, Standard 16384).
+ */
+public class SlowClientLoadTest {
+
+    private static final String[] CATEGORIES = {"wildfires", "floods", "volcanoes", "severeStorms", "drought"};
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Aufruf: java SlowClientLoadTest.java <url> [--seed N] [--slow N] [--clients N] "
+                    + "[--duration S] [--read-rate B]");
+            System.exit(2);
+        }
+        URI base = URI.create(args[0].replaceAll("/$", ""));
+        int seed = option(args, "--seed", 20_000);
+        int slow = option(args, "--slow", 300);
+        int clients = option(args, "--clients", 50);
+        int duration = option(args, "--duration", 30);
+        int readRate = option(args, "--read-rate", 16_384);
+
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long[] ids = seed(http, base, seed);
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(duration).toNanos();
+        AtomicLong slowBytes = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < slow; i++) {
+                threads.submit(() -> slowClient(base, readRate, deadline, slowBytes));
+            }
+            // Langsame Clients zuerst die Worker belegen lassen
+            Thread.sleep(2_000);
+            long start = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                long[] samples = new long[1 << 17];
+                latencies.add(samples);
+                threads.submit(() -> fastClient(http, base, ids, deadline, samples, errors));
+            }
+            threads.shutdown();
+            while (!threads.isTerminated()) {
+                Thread.sleep(100);
+            }
+            report(latencies, errors.get(), slowBytes.get(), (System.nanoTime() - start) / 1e9, slow, clients);
+        }
+    }
+
+    /**
+     * Legt Events über {@code POST /api/events/bulk} an, bis mindestens {@code target} vorhanden sind,
+     * und liefert deren IDs.
+     */
+    private static long[] seed(HttpClient http, URI base, int target) throws Exception {
+        long count = Long.parseLong(send(http, HttpRequest.newBuilder(base.resolve("/api/events/count")).GET()).trim());
+        LocalDate day = LocalDate.of(2000, 1, 1);
+        for (long next = count; next < target; next += 1000) {
+            StringBuilder body = new StringBuilder("[");
+            for (long i = next; i < Math.min(target, next + 1000); i++) {
+                if (i > next) {
+                    body.append(',');
+                }
+                body.append(String.format(Locale.ROOT, "{\"title\":\"Lasttest-Event %d\",\"date\":\"%s\",\"category\":\"%s\","
+                                + "\"longitude\":%.4f,\"latitude\":%.4f,\"status\":\"%s\"}",
+                        i, day.plusDays(i % 9000), CATEGORIES[(int) (i % CATEGORIES.length)],
+                        -179.0 + (i * 0.37) % 358, -89.0 + (i * 0.53) % 178, i % 4 == 0 ? "open" : "closed"));
+            }
+            send(http, HttpRequest.newBuilder(base.resolve("/api/events/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString())));
+        }
+        String all = send(http, HttpRequest.newBuilder(base.resolve("/api/events")).GET());
+        long[] ids = Arrays.stream(all.split("\"id\":")).skip(1)
+                .mapToLong(part -> Long.parseLong(part.substring(0, part.indexOf(','))))
+                .toArray();
+        System.err.printf("Datenbestand: %d Events, Antwort GET /api/events: %d kB%n", ids.length, all.length() / 1024);
+        return ids;
+    }
+
+    /**
+     * Lädt die vollständige Liste wiederholt und liest sie gedrosselt.
+     */
+    private static void slowClient(URI base, int readRate, long deadline, AtomicLong bytes) {
+        byte[] buffer = new byte[1024];
+        long pauseNanos = Duration.ofSeconds(1).toNanos() * buffer.length / readRate;
+        byte[] request = ("GET /api/events HTTP/1.1\r\nHost: " + base.getHost() + "\r\nConnection: close\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        while (System.nanoTime() < deadline) {
+            try (Socket socket = new Socket()) {
+                socket.setReceiveBufferSize(4096);
+                socket.connect(new InetSocketAddress(base.getHost(), base.getPort()));
+                OutputStream out = socket.getOutputStream();
+                out.write(request);
+                out.flush();
+                InputStream in = socket.getInputStream();
+                int read;
+                while (System.nanoTime() < deadline && (read = in.read(buffer)) > 0) {
+                    bytes.addAndGet(read);
+                    Thread.sleep(Duration.ofNanos(pauseNanos));
+                }
+            } catch (IOException e) {
+                sleepQuietly();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sendet abwechselnd Einzelabfragen (Datenbank) und Zählabfragen (Arbeitsspeicher) und
+     * speichert die Latenz jeder erfolgreichen Anfrage in Mikrosekunden.
+     */
+    private static void fastClient(HttpClient http, URI base, long[] ids, long deadline, long[] samples, AtomicLong errors) {
+        int n = 0;
+        while (System.nanoTime() < deadline && n < samples.length - 1) {
+            URI uri = n % 2 == 0
+                    ? base.resolve("/api/events/" + ids[ThreadLocalRandom.current().nextInt(ids.length)])
+                    : base.resolve("/api/events/count");
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    samples[++n] = (System.nanoTime() - start) / 1_000;
+                } else {
+                    errors.incrementAndGet();
+                }
+            } catch (IOException e) {
+                errors.incrementAndGet();
+            } catch (InterruptedException e) {
+                break;
+            }
+        }
+        samples[0] = n;
+    }
+
+    private static void report(List<long[]> latencies, long errors, long slowBytes, double seconds, int slow, int clients) {
+        long total = latencies.stream().mapToLong(samples -> samples[0]).sum();
+        long[] all = new long[(int) total];
+        int offset = 0;
+        for (long[] samples : latencies) {
+            System.arraycopy(samples, 1, all, offset, (int) samples[0]);
+            offset += (int) samples[0];
+        }
+        Arrays.sort(all);
+        System.out.printf(Locale.ROOT, "slow=%d clients=%d dauer=%.1fs anfragen=%d fehler=%d durchsatz=%.0f/s "
+                        + "p50=%.1fms p99=%.1fms max=%.1fms langsam-gelesen=%dMB%n",
+                slow, clients, seconds, total, errors, total / seconds,
+                percentile(all, 0.50), percentile(all, 0.99), all.length == 0 ? 0.0 : all[all.length - 1] / 1000.0,
+                slowBytes >> 20);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1000.0;
+    }
+
+    private static String send(HttpClient http, HttpRequest.Builder request) throws Exception {
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(response.statusCode() + " " + response.body());
+        }
+        return response.body();
+    }
+
+    private static int option(String[] args, String name, int defaultValue) {
+        for (int i = 1; i < args.length - 1; i++) {
+            if (args[i].equals(name)) {
+                return Integer.parseInt(args[i + 1]);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static void sleepQuietly() {
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
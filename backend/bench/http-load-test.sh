@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# Lasttest mit offener Last über alle wichtigen Endpunkte (Filter, /all, Einzelabfrage, Statistiken,
+# Erstellen, Ändern). Startet die Anwendung, legt einen synthetischen Datenbestand an und sendet Anfragen
+# mit fester Rate; die Latenz zählt ab dem geplanten Sendezeitpunkt (siehe HttpLoadTest.java).
+# Ausgegeben werden Perzentile pro Endpunkt, die HDR-Histogramme landen unter target/load-test/.
+#
+# Aufruf (aus dem Verzeichnis backend):
+#   bench/http-load-test.sh
+#   SKIP_BUILD=1 RATE=500 DURATION=120 EVENTS=100000 bench/http-load-test.sh
+#   PROFILE=default bench/http-load-test.sh --mix filter=50,by-id=50   # lokales PostgreSQL, eigener Mix
+#
+# Umgebungsvariablen:
+#   PROFILE     Spring-Profil (Standard h2; "default" verwendet die Datenbank aus application.properties,
+#               der Datenbestand bleibt dort erhalten und wird nur bis EVENTS ergänzt)
+#   EVENTS      Anzahl Events im Datenbestand (Standard 20000)
+#   RATE        Anfragen pro Sekunde über alle Endpunkte (Standard 200)
+#   DURATION    Messdauer in Sekunden (Standard 60)
+#   WARMUP      Aufwärmphase in Sekunden (Standard 15)
+#   OUTPUT      Verzeichnis für die Histogramme (Standard target/load-test/<commit>)
+#   PORT        Port der Anwendung (Standard 8089)
+#   SKIP_BUILD  1 = vorhandenes Jar aus target/ verwenden
+# Weitere Argumente gehen unverändert an HttpLoadTest.java (z. B. --mix, --max-in-flight, --random-seed).
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8089}"
+JAR="target/backend-0.0.1-SNAPSHOT.jar"
+BASE="http://localhost:${PORT}"
+OUTPUT="${OUTPUT:-target/load-test/$(git rev-parse --short HEAD 2> /dev/null || date +%Y%m%d-%H%M%S)}"
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    sh ./mvnw -B -q -DskipTests package
+fi
+
+# HdrHistogram kommt bereits über Micrometer ins Projekt; nur den Pfad zum Jar ermitteln
+if [[ ! -s target/hdrhistogram.classpath ]]; then
+    sh ./mvnw -B -q dependency:build-classpath -Dmdep.includeArtifactIds=HdrHistogram \
+        -Dmdep.outputFile=target/hdrhistogram.classpath
+fi
+
+if curl -s -o /dev/null "${BASE}"; then
+    echo "Port ${PORT} ist bereits belegt" >&2
+    exit 1
+fi
+
+java -jar "${JAR}" --spring.profiles.active="${PROFILE:-h2}" --server.port="${PORT}" > target/http-load-test.log 2>&1 &
+pid=$!
+trap 'kill "${pid}" 2> /dev/null || true; wait "${pid}" 2> /dev/null || true' EXIT
+until curl -sf -o /dev/null "${BASE}/actuator/health/readiness"; do
+    if ! kill -0 "${pid}" 2> /dev/null; then
+        echo "Start fehlgeschlagen, siehe target/http-load-test.log" >&2
+        exit 1
+    fi
+    sleep 0.5
+done
+
+java -cp "$(cat target/hdrhistogram.classpath)" bench/HttpLoadTest.java "${BASE}" --events "${EVENTS:-20000}" \
+    --rate "${RATE:-200}" --duration "${DURATION:-60}" --warmup "${WARMUP:-15}" --output "${OUTPUT}" "$@"
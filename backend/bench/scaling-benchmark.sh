@@ -0,0 +1,87 @@
+#!/usr/bin/env bash
+# Skalierungsmatrix: misst alle Listen- und Zählendpunkte bei wachsender Datenmenge, einmal mit dem
+# Spaltenabbild im Arbeitsspeicher (columnar) und einmal mit direkten Datenbankabfragen (database,
+# events.columnar.enabled=false; jeder Endpunkt führt dann die gleichnamige Abfrage von EventRepository aus).
+# Die Datenmenge wird pro Stufe mit bench/DatasetGenerator.java über POST /api/events/import aufgefüllt.
+# Ergebnis: CSV unter target/scaling/ und eine Tabelle mit p50, Antwortgrösse, Heap nach GC und dem
+# Wachstumsfaktor zwischen kleinster und grösster Stufe (siehe ScalingProbe.java).
+#
+# Aufruf (aus dem Verzeichnis backend):
+#   bench/scaling-benchmark.sh
+#   SCALES="10000 1000000 10000000" PROFILE=default JAVA_OPTS=-Xmx8g bench/scaling-benchmark.sh
+#   SKIP_BUILD=1 MODES=columnar bench/scaling-benchmark.sh --date-skew 1 --open-ratio 0.3
+#
+# Umgebungsvariablen:
+#   SCALES      Datenmengen aufsteigend (Standard "10000 100000 1000000")
+#   MODES       columnar und/oder database (Standard beide)
+#   PROFILE     Spring-Profil (Standard h2; mit H2 liegt auch die Datenbank im Heap, für grosse Stufen und
+#               den Speicherbedarf der Anwendung allein "default" mit PostgreSQL verwenden. Dort bleiben die
+#               Daten erhalten; eine Stufe unter dem vorhandenen Bestand misst den vorhandenen Bestand)
+#   REQUESTS    Abfragen pro Endpunkt und Stufe (Standard 10)
+#   JAVA_OPTS   JVM-Optionen der Anwendung (Standard -Xmx4g)
+#   PORT        Port der Anwendung (Standard 8089)
+#   SKIP_BUILD  1 = vorhandenes Jar aus target/ verwenden
+# Weitere Argumente gehen unverändert an DatasetGenerator.java (z. B. --categories, --hotspot-share).
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8089}"
+JAR="target/backend-0.0.1-SNAPSHOT.jar"
+BASE="http://localhost:${PORT}"
+SCALES="${SCALES:-10000 100000 1000000}"
+RESULT="target/scaling/$(git rev-parse --short HEAD 2> /dev/null || date +%Y%m%d-%H%M%S).csv"
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    sh ./mvnw -B -q -DskipTests package
+fi
+
+if curl -s -o /dev/null "${BASE}"; then
+    echo "Port ${PORT} ist bereits belegt" >&2
+    exit 1
+fi
+
+mkdir -p target/scaling
+echo "mode,rows,endpoint,p50_ms,p90_ms,max_ms,response_kb,heap_mb" > "${RESULT}"
+
+run_mode() {
+    local mode="$1"
+    shift
+    # shellcheck disable=SC2086
+    java ${JAVA_OPTS:--Xmx4g} -jar "${JAR}" --spring.profiles.active="${PROFILE:-h2}" --server.port="${PORT}" \
+        --events.sql.statistics.enabled=false "$@" > "target/scaling/${mode}.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "${BASE}/actuator/health/readiness"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "Start fehlgeschlagen, siehe target/scaling/${mode}.log" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+    for scale in ${SCALES}; do
+        local count missing
+        count="$(curl -sf "${BASE}/api/events/count")"
+        missing=$((scale - count))
+        if (( missing > 0 )); then
+            echo "${mode}: ${missing} Events laden (Stufe ${scale})" >&2
+            java bench/DatasetGenerator.java --rows "${missing}" --random-seed "${scale}" --post "${BASE}" \
+                "${GENERATOR_ARGS[@]}" > /dev/null
+        fi
+        java bench/ScalingProbe.java "${BASE}" --mode "${mode}" --requests "${REQUESTS:-10}" --pid "${pid}" | tee -a "${RESULT}"
+    done
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+}
+
+GENERATOR_ARGS=("$@")
+for mode in ${MODES:-columnar database}; do
+    case "${mode}" in
+        columnar) run_mode columnar --events.columnar.enabled=true ;;
+        database) run_mode database --events.columnar.enabled=false ;;
+        *) echo "Unbekannter Modus: ${mode}" >&2; exit 1 ;;
+    esac
+done
+
+java bench/ScalingProbe.java --summary "${RESULT}"
+echo "Ergebnisse: ${RESULT}"
@@ -0,0 +1,59 @@
+#!/usr/bin/env bash
+# Lasttest mit langsamen Clients: Thread pro Anfrage (Tomcat-Pool, 200 Threads) gegen virtuelle Threads
+# mit Datenbank-Bulkhead. Beide Varianten laufen mit dem Profil "h2" und demselben Datenbestand;
+# ausgegeben werden Durchsatz sowie p50/p99 der schnellen Anfragen (siehe SlowClientLoadTest.java).
+#
+# Aufruf (aus dem Verzeichnis backend):
+#   bench/slow-client-benchmark.sh
+#   SKIP_BUILD=1 SLOW=500 CLIENTS=50 DURATION=60 bench/slow-client-benchmark.sh
+#
+# Umgebungsvariablen:
+#   SLOW        langsame Clients (Standard 300, mehr als die 200 Tomcat-Threads)
+#   CLIENTS     schnelle Clients (Standard 50)
+#   DURATION    Messdauer in Sekunden (Standard 30)
+#   SEED        Anzahl Events im Datenbestand (Standard 20000)
+#   CARRIERS    maximale Trägerthreads der virtuellen Threads (Standard 2048, siehe unten)
+#   PORT        Port der Anwendung (Standard 8089)
+#   SKIP_BUILD  1 = vorhandenes Jar aus target/ verwenden
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PORT="${PORT:-8089}"
+JAR="target/backend-0.0.1-SNAPSHOT.jar"
+BASE="http://localhost:${PORT}"
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    sh ./mvnw -B -q -DskipTests package
+fi
+
+if curl -s -o /dev/null "${BASE}"; then
+    echo "Port ${PORT} ist bereits belegt" >&2
+    exit 1
+fi
+
+run_mode() {
+    local name="$1" jvm_opts="$2"
+    shift 2
+    # shellcheck disable=SC2086
+    java ${jvm_opts} -jar "${JAR}" --spring.profiles.active=h2 --server.port="${PORT}" "$@" > "target/bench-${name}.log" 2>&1 &
+    local pid=$!
+    until curl -sf -o /dev/null "${BASE}/actuator/health/readiness"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "Start fehlgeschlagen, siehe target/bench-${name}.log" >&2
+            exit 1
+        fi
+        sleep 0.5
+    done
+    printf '%-9s ' "${name}"
+    java bench/SlowClientLoadTest.java "${BASE}" --seed "${SEED:-20000}" --slow "${SLOW:-300}" \
+        --clients "${CLIENTS:-50}" --duration "${DURATION:-30}"
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+}
+
+run_mode "platform" "" --spring.threads.virtual.enabled=false --events.db.bulkhead.enabled=false
+# JDK 21: Tomcat wartet beim blockierenden Schreiben mit Object.wait und belegt dabei einen Trägerthread;
+# die JVM ergänzt Träger nur bis jdk.virtualThreadScheduler.maxPoolSize (Standard 256). Ab JDK 24 (JEP 491) entfällt das.
+run_mode "virtual" "-Djdk.virtualThreadScheduler.maxPoolSize=${CARRIERS:-2048}" --spring.threads.virtual.enabled=true --events.db.bulkhead.enabled=true
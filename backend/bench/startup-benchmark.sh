@@ -0,0 +1,97 @@
+#!/usr/bin/env bash
+# Startzeit-Benchmark: JVM-Jar gegen natives Programm (GraalVM Native Image).
+#
+# Gemessen wird die Zeit vom Prozessstart bis zur ersten erfolgreichen Antwort von
+# GET /api/events/count sowie der belegte Arbeitsspeicher (VmRSS aus /proc) direkt danach.
+# Beide Varianten laufen mit dem Profil "h2" (In-Memory-Datenbank, kein EONET-Abruf),
+# damit keine PostgreSQL-Instanz die Messung verfälscht.
+#
+# Aufruf (aus dem Verzeichnis backend):
+#   bench/startup-benchmark.sh            # baut Jar (und natives Programm, falls native-image vorhanden)
+#   RUNS=10 SKIP_BUILD=1 bench/startup-benchmark.sh
+#
+# Umgebungsvariablen:
+#   RUNS        Anzahl Starts pro Variante (Standard 5), ausgewertet wird der Median
+#   PORT        Port der Anwendung (Standard 8089)
+#   SKIP_BUILD  1 = vorhandene Artefakte aus target/ verwenden
+#   JAVA_OPTS   zusätzliche JVM-Optionen für die Jar-Variante
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-8089}"
+JAR="target/backend-0.0.1-SNAPSHOT.jar"
+NATIVE="target/eonet-backend"
+URL="http://localhost:${PORT}/api/events/count"
+APP_ARGS=(--spring.profiles.active=h2 --server.port="${PORT}")
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    if command -v native-image > /dev/null; then
+        sh ./mvnw -B -q -Pnative -DskipTests package native:compile
+    else
+        echo "native-image nicht gefunden: es wird nur das Jar gebaut (mit AOT-Klassen)." >&2
+        sh ./mvnw -B -q -Pnative -DskipTests package
+    fi
+fi
+
+if curl -s -o /dev/null "${URL}"; then
+    echo "Port ${PORT} ist bereits belegt" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Startet einen Prozess, wartet auf die erste Antwort und gibt "<millisekunden> <rss-kb>" aus.
+measure() {
+    local start pid elapsed rss
+    start=$(now_ms)
+    "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "${URL}"; do
+        if ! kill -0 "${pid}" 2> /dev/null; then
+            echo "Prozess wurde vor der ersten Antwort beendet: $*" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/^VmRSS:/ { print $2 }' "/proc/${pid}/status")
+    kill "${pid}"
+    wait "${pid}" 2> /dev/null || true
+    echo "${elapsed} ${rss}"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    local name="$1"
+    shift
+    local times=() rss=() result
+    for ((i = 1; i <= RUNS; i++)); do
+        result=$(measure "$@")
+        times+=("${result% *}")
+        rss+=("${result#* }")
+        echo "  ${name} Lauf ${i}: ${result% *} ms, ${result#* } kB RSS" >&2
+    done
+    printf '%-12s %10s ms %10s MB\n' "${name}" \
+        "$(printf '%s\n' "${times[@]}" | median)" \
+        "$(( $(printf '%s\n' "${rss[@]}" | median) / 1024 ))"
+}
+
+echo "Median aus ${RUNS} Starts bis zur ersten Antwort:"
+printf '%-12s %13s %13s\n' "Variante" "Startzeit" "RSS"
+# shellcheck disable=SC2086
+run_mode "jvm" java ${JAVA_OPTS:-} -jar "${JAR}" "${APP_ARGS[@]}"
+# shellcheck disable=SC2086
+run_mode "jvm-aot" java ${JAVA_OPTS:-} -Dspring.aot.enabled=true -jar "${JAR}" "${APP_ARGS[@]}"
+if [[ -x "${NATIVE}" ]]; then
+    run_mode "native" "${NATIVE}" "${APP_ARGS[@]}"
+else
+    echo "native       übersprungen (${NATIVE} fehlt, GraalVM erforderlich)"
+fi
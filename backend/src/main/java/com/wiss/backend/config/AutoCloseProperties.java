@@ -0,0 +1,61 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.model.EventCategory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * <h2>
+ *     AutoCloseProperties
+ * </h2>
+ * <p>
+ *     Einstellungen für das automatische Abschliessen veralteter Events
+ *     ({@link com.wiss.backend.service.EventAutoCloseJob}), gelesen aus {@code events.auto-close.*}.
+ * </p>
+ *
+ * <h3>
+ *     Beispiel:
+ * </h3>
+ * <pre>
+ * events.auto-close.enabled=true
+ * events.auto-close.max-age-days.floods=30
+ * events.auto-close.max-age-days.volcanoes=180
+ * </pre>
+ * <p>
+ *     Kategorien ohne Eintrag in {@code max-age-days} werden nie automatisch abgeschlossen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "events.auto-close")
+public class AutoCloseProperties {
+
+    /**
+     * Ob der geplante Durchlauf aktiv ist.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximale Anzahl Events pro {@code UPDATE} und Transaktion.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Maximales Alter offener Events in Tagen, pro Kategorie.
+     */
+    private Map<EventCategory, Integer> maxAgeDays = new EnumMap<>(EventCategory.class);
+
+    // Getter & Setter
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Map<EventCategory, Integer> getMaxAgeDays() { return maxAgeDays; }
+    public void setMaxAgeDays(Map<EventCategory, Integer> maxAgeDays) { this.maxAgeDays = maxAgeDays; }
+}
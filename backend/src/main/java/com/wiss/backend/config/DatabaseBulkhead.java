@@ -0,0 +1,244 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.exception.DatabaseBusyException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <h2>
+ *     DatabaseBulkhead
+ * </h2>
+ * <p>
+ *     Begrenzt die gleichzeitigen Datenbankzugriffe mit einem fairen {@link Semaphore}, dessen Grösse
+ *     dem Hikari-Pool entspricht. Mit virtuellen Threads ({@code spring.threads.virtual.enabled}) gibt es
+ *     keine Obergrenze an gleichzeitigen Anfragen mehr; ohne Bulkhead würden sich alle im Pool stauen.
+ *     So warten sie günstig in einer FIFO-Schlange, nach {@code events.db.bulkhead.max-wait} wird mit
+ *     {@link DatabaseBusyException} (HTTP 503) abgebrochen.
+ * </p>
+ * <p>
+ *     Die Genehmigung wird beim Holen einer Verbindung genommen und beim Schliessen zurückgegeben.
+ *     Damit gilt sie für jeden Zugriff über die Repositories, auch wenn die Verbindung bereits zu
+ *     Beginn einer {@code @Transactional}-Methode geholt wird. Anfragen, die aus den
+ *     Arbeitsspeicher-Indizes beantwortet werden, belegen keine Genehmigung.
+ * </p>
+ *
+ * <h3>
+ *     Metriken ({@code /actuator/metrics}):
+ * </h3>
+ * <ul>
+ *     <li>{@code db.bulkhead.permits} / {@code db.bulkhead.available} – Grösse und freie Genehmigungen</li>
+ *     <li>{@code db.bulkhead.queued} – wartende Threads</li>
+ *     <li>{@code db.bulkhead.wait} – Wartezeit bis zur Genehmigung</li>
+ *     <li>{@code db.bulkhead.rejected} – nach Ablauf der Wartezeit abgewiesene Zugriffe</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Component
+public class DatabaseBulkhead implements BeanPostProcessor, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBulkhead.class);
+
+    /**
+     * Standardgrösse des Hikari-Pools ({@code spring.datasource.hikari.maximum-pool-size} nicht gesetzt).
+     */
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final boolean enabled;
+    private final int configuredPermits;
+    private final Duration maxWait;
+
+    private volatile Semaphore semaphore;
+    private volatile int permits;
+    private volatile Timer waitTimer;
+    private volatile Counter rejectedCounter;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param enabled           ob der Bulkhead aktiv ist
+     * @param configuredPermits Anzahl Genehmigungen; {@code 0} übernimmt die Grösse des Hikari-Pools
+     * @param maxWait           maximale Wartezeit auf eine Genehmigung
+     */
+    public DatabaseBulkhead(@Value("${events.db.bulkhead.enabled:true}") boolean enabled,
+                            @Value("${events.db.bulkhead.permits:0}") int configuredPermits,
+                            @Value("${events.db.bulkhead.max-wait:PT5S}") Duration maxWait) {
+        this.enabled = enabled;
+        this.configuredPermits = configuredPermits;
+        this.maxWait = maxWait;
+    }
+
+    /**
+     * Umhüllt die {@link DataSource} der Anwendung, sodass jede Verbindung eine Genehmigung belegt.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource
+                || semaphore != null) {
+            return bean;
+        }
+        permits = configuredPermits > 0 ? configuredPermits : poolSize(dataSource);
+        semaphore = new Semaphore(permits, true);
+        log.info("Datenbank-Bulkhead aktiv: {} Genehmigungen, maximale Wartezeit {} ms", permits, maxWait.toMillis());
+        return new BulkheadDataSource(dataSource);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (semaphore == null) {
+            return;
+        }
+        Gauge.builder("db.bulkhead.permits", this, bulkhead -> bulkhead.permits)
+                .description("Grösse des Datenbank-Bulkheads")
+                .register(registry);
+        Gauge.builder("db.bulkhead.available", this, bulkhead -> bulkhead.semaphore.availablePermits())
+                .description("Freie Genehmigungen des Datenbank-Bulkheads")
+                .register(registry);
+        Gauge.builder("db.bulkhead.queued", this, bulkhead -> bulkhead.semaphore.getQueueLength())
+                .description("Threads, die auf eine Datenbankverbindung warten")
+                .register(registry);
+        waitTimer = Timer.builder("db.bulkhead.wait")
+                .description("Wartezeit auf eine Genehmigung des Datenbank-Bulkheads")
+                .publishPercentileHistogram()
+                .register(registry);
+        rejectedCounter = Counter.builder("db.bulkhead.rejected")
+                .description("Nach Ablauf der Wartezeit abgewiesene Datenbankzugriffe")
+                .register(registry);
+    }
+
+    /**
+     * Wartet auf eine Genehmigung.
+     *
+     * @throws DatabaseBusyException Wenn innerhalb der Wartezeit keine Genehmigung frei wird
+     * @throws SQLException          Wenn der wartende Thread unterbrochen wird
+     */
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Warten auf eine Datenbankverbindung wurde unterbrochen", e);
+        }
+        Timer timer = waitTimer;
+        if (timer != null) {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            Counter counter = rejectedCounter;
+            if (counter != null) {
+                counter.increment();
+            }
+            throw new DatabaseBusyException(maxWait);
+        }
+    }
+
+    /**
+     * Ermittelt die Grösse des Hikari-Pools.
+     *
+     * @param dataSource ursprüngliche DataSource
+     * @return maximale Anzahl Verbindungen
+     */
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                // Vor dem Start des Pools steht ein nicht gesetzter Wert noch auf -1
+                int size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                return size > 0 ? size : DEFAULT_POOL_SIZE;
+            }
+        } catch (SQLException e) {
+            log.warn("Grösse des Verbindungspools nicht ermittelbar: {}", e.getMessage());
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+
+    /**
+     * DataSource, die vor jeder Verbindung eine Genehmigung nimmt und sie beim Schliessen
+     * der Verbindung zurückgibt.
+     */
+    private final class BulkheadDataSource extends DelegatingDataSource {
+
+        private BulkheadDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return guard(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return guard(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                semaphore.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Gibt die Genehmigung beim ersten {@code close()} der Verbindung zurück.
+         *
+         * @param connection Verbindung aus dem Pool
+         * @return Proxy der Verbindung
+         */
+        private Connection guard(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            case "close":
+                                if (released.compareAndSet(false, true)) {
+                                    try {
+                                        connection.close();
+                                    } finally {
+                                        semaphore.release();
+                                    }
+                                }
+                                return null;
+                            default:
+                                try {
+                                    return method.invoke(connection, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getTargetException();
+                                }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.model.EventCategory;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2>
+ *     EonetIngestProperties
+ * </h2>
+ * <p>
+ *     Einstellungen für den Import aus dem NASA-EONET-Feed
+ *     ({@link com.wiss.backend.service.EonetIngestService}), gelesen aus {@code eonet.ingest.*}.
+ * </p>
+ *
+ * <h3>
+ *     Beispiel:
+ * </h3>
+ * <pre>
+ * eonet.ingest.enabled=true
+ * eonet.ingest.base-url=https://eonet.gsfc.nasa.gov/api/v3
+ * eonet.ingest.categories=wildfires,severeStorms,volcanoes
+ * </pre>
+ * <p>
+ *     Mit einer {@code file:}-URL als {@code base-url} wird pro Kategorie die Datei
+ *     {@code <kategorie>.json} gelesen, z. B. für Tests oder einen Offline-Import.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@ConfigurationProperties(prefix = "eonet.ingest")
+public class EonetIngestProperties {
+
+    /**
+     * Ob der geplante Abruf aktiv ist.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Basis-URL der EONET-API (Version 3), ohne abschliessenden Schrägstrich.
+     */
+    private String baseUrl = "https://eonet.gsfc.nasa.gov/api/v3";
+
+    /**
+     * EONET-Kategorien, die abgerufen werden (je Kategorie ein paralleler Abruf).
+     */
+    private List<String> categories = Arrays.stream(EventCategory.values()).map(Enum::name).toList();
+
+    /**
+     * Zeitraum in Tagen, der beim ersten Abruf einer Kategorie (ohne Fortschrittsmarke) geladen wird.
+     */
+    private int initialDays = 30;
+
+    /**
+     * Tage, um die ein Abruf vor die letzte Fortschrittsmarke zurückgreift, damit nachträglich
+     * ergänzte Events nicht verloren gehen. Doppelt gelesene Events ändern dank Upsert nichts.
+     */
+    private int overlapDays = 1;
+
+    /**
+     * Maximale Anzahl gelesener, noch nicht geschriebener Events (Gegendruck auf die Abrufe).
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Anzahl Events pro Schreibvorgang.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Timeout für den Verbindungsaufbau.
+     */
+    private Duration connectTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Timeout für eine Anfrage bis zum Beginn der Antwort.
+     */
+    private Duration requestTimeout = Duration.ofSeconds(60);
+
+    // Getter & Setter
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getBaseUrl() { return baseUrl; }
+    public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+    public List<String> getCategories() { return categories; }
+    public void setCategories(List<String> categories) { this.categories = categories; }
+
+    public int getInitialDays() { return initialDays; }
+    public void setInitialDays(int initialDays) { this.initialDays = initialDays; }
+
+    public int getOverlapDays() { return overlapDays; }
+    public void setOverlapDays(int overlapDays) { this.overlapDays = overlapDays; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public Duration getConnectTimeout() { return connectTimeout; }
+    public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+    public Duration getRequestTimeout() { return requestTimeout; }
+    public void setRequestTimeout(Duration requestTimeout) { this.requestTimeout = requestTimeout; }
+}
@@ -0,0 +1,89 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.dto.BatchOperationDTO;
+import com.wiss.backend.dto.BatchOperationResultDTO;
+import com.wiss.backend.dto.BatchResultDTO;
+import com.wiss.backend.dto.ErrorResponseDTO;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.EventTrackDTO;
+import com.wiss.backend.dto.ImportResultDTO;
+import com.wiss.backend.dto.SqlStatementDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.BatchOperationType;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * <h2>
+ *     NativeHintsConfig
+ * </h2>
+ * <p>
+ *     Hinweise für Spring AOT und GraalVM Native Image (Maven-Profil {@code native}). Im nativen
+ *     Programm ist Reflection nur für Klassen möglich, die beim Build bekannt sind. Jackson liest und
+ *     schreibt die DTOs, die Entität und die Enums aber über Reflection (Getter, Setter, Konstruktoren,
+ *     {@code valueOf} der Enums); diese Typen werden daher für das Binding registriert.
+ * </p>
+ * <p>
+ *     Die Flyway-Migrationen unter {@code db/migration} werden als Ressourcen eingebunden, da Flyway
+ *     sie zur Laufzeit über den Klassenpfad sucht, und die JDBC-Proxies des {@link DatabaseBulkhead}
+ *     und der {@link SqlStatistics} werden vorab registriert. Auf der JVM haben die Hinweise keine Wirkung.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@RegisterReflectionForBinding({
+        Event.class,
+        EventDTO.class,
+        EventFormDTO.class,
+        ErrorResponseDTO.class,
+        BatchOperationDTO.class,
+        BatchOperationResultDTO.class,
+        BatchResultDTO.class,
+        EventTrackDTO.class,
+        ImportResultDTO.class,
+        SqlStatementDTO.class,
+        TrackPointDTO.class,
+        UpsertResultDTO.class,
+        EventCategory.class,
+        EventStatus.class,
+        BatchOperationType.class
+})
+@ImportRuntimeHints(NativeHintsConfig.ResourceHints.class)
+public class NativeHintsConfig {
+
+    /**
+     * Registriert die Ressourcen, die nur über den Klassenpfad gefunden werden, und die JDK-Proxies.
+     */
+    static class ResourceHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.resources().registerPattern("db/migration/*.sql");
+            // Verbindungs-Proxy des DatabaseBulkhead
+            hints.proxies().registerJdkProxy(Connection.class);
+            // JDBC-Proxies der SqlStatistics (datasource-proxy)
+            for (Class<?> type : new Class<?>[] {Connection.class, Statement.class, PreparedStatement.class,
+                    CallableStatement.class, ResultSet.class}) {
+                hints.proxies().registerJdkProxy(ProxyJdbcObject.class, type);
+            }
+        }
+    }
+}
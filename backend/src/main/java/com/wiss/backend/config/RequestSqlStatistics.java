@@ -0,0 +1,105 @@
+package com.wiss.backend.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>
+ *     SQL-Statistik einer einzelnen Anfrage
+ * </h2>
+ * <p>
+ *     Wird von {@link SqlStatistics#start()} für den Thread der Anfrage angelegt und während der
+ *     Anfrage vom Datenbank-Proxy und vom Hibernate-Interceptor fortgeschrieben. Da nur der Thread
+ *     der Anfrage schreibt, sind die Zähler einfache Felder.
+ * </p>
+ *
+ * <h3>
+ *     Erfasst werden:
+ * </h3>
+ * <ul>
+ *     <li>ausgeführte Anweisungen (ein JDBC-Batch zählt als eine Anweisung)</li>
+ *     <li>gelesene Zeilen ({@code ResultSet.next()})</li>
+ *     <li>von Hibernate geladene Entitäten</li>
+ *     <li>Datenbankzeit (Summe der Ausführungszeiten)</li>
+ *     <li>Wiederholungen pro normalisierter Anweisung, um N+1-Muster zu erkennen</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see SqlStatistics
+ * @see SqlStatisticsFilter
+ */
+public class RequestSqlStatistics {
+
+    /**
+     * Name des Request-Attributs, unter dem {@link SqlStatisticsFilter} die Statistik ablegt
+     * (z. B. für die Budgets in den Performance-Tests).
+     */
+    public static final String ATTRIBUTE = RequestSqlStatistics.class.getName();
+
+    private int statements;
+    private long rows;
+    private long entities;
+    private long dbNanos;
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    void recordStatement(String normalizedSql, long nanos) {
+        statements++;
+        dbNanos += nanos;
+        executions.merge(normalizedSql, 1, Integer::sum);
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void recordEntity() {
+        entities++;
+    }
+
+    /**
+     * @return Anzahl ausgeführter Anweisungen
+     */
+    public int getStatements() { return statements; }
+
+    /**
+     * @return Anzahl gelesener Zeilen
+     */
+    public long getRows() { return rows; }
+
+    /**
+     * @return Anzahl von Hibernate geladener Entitäten
+     */
+    public long getEntities() { return entities; }
+
+    /**
+     * @return Summe der Ausführungszeiten in Millisekunden
+     */
+    public long getDbTimeMillis() { return TimeUnit.NANOSECONDS.toMillis(dbNanos); }
+
+    /**
+     * @param normalizedSql normalisierte Anweisung
+     * @return wie oft die Anweisung in dieser Anfrage ausgeführt wurde
+     */
+    public int getExecutions(String normalizedSql) { return executions.getOrDefault(normalizedSql, 0); }
+
+    /**
+     * @return alle in dieser Anfrage ausgeführten normalisierten Anweisungen
+     */
+    public Set<String> getExecutedStatements() { return Collections.unmodifiableSet(executions.keySet()); }
+
+    /**
+     * Liefert die am häufigsten wiederholte Anweisung, z. B. die Nachladeabfrage eines N+1-Musters.
+     *
+     * @return Anweisung und Anzahl Ausführungen oder {@code null}, wenn keine Anweisung ausgeführt wurde
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return executions.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,29 @@
+package com.wiss.backend.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * <h2>
+ *     SchedulingConfig
+ * </h2>
+ * <p>
+ *     Aktiviert die Ausführung von {@code @Scheduled}-Methoden, z. B. für Hintergrundjobs
+ *     wie den {@link com.wiss.backend.service.EventDuplicateCollapseJob}, den
+ *     {@link com.wiss.backend.service.EventAutoCloseJob}, den
+ *     {@link com.wiss.backend.service.EventPartitionMaintenanceJob}, den
+ *     {@link com.wiss.backend.service.EventSnapshotService} oder den
+ *     {@link com.wiss.backend.service.EonetIngestService}.
+ *     Ob ein Job tatsächlich arbeitet, wird jeweils über eigene Properties gesteuert.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({AutoCloseProperties.class, EonetIngestProperties.class})
+public class SchedulingConfig {
+}
@@ -0,0 +1,493 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.dto.SqlStatementDTO;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.proxy.jdk.JdkJdbcProxyFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * <h2>
+ *     SqlStatistics
+ * </h2>
+ * <p>
+ *     Erfasst die SQL-Anweisungen der Anwendung, ohne jede Anweisung auf die Konsole zu schreiben
+ *     (ersetzt {@code spring.jpa.show-sql}). Die {@link DataSource} wird mit einem
+ *     {@link ProxyDataSource} umhüllt; jede Ausführung wird gemessen und unter ihrer normalisierten
+ *     Form (Literale und Parameterlisten durch {@code ?} ersetzt) zusammengefasst.
+ * </p>
+ *
+ * <h3>
+ *     Erfasst werden:
+ * </h3>
+ * <ul>
+ *     <li>pro Anfrage ({@link RequestSqlStatistics}, geöffnet von {@link SqlStatisticsFilter}):
+ *         Anweisungen, gelesene Zeilen, geladene Entitäten (Hibernate-{@link Interceptor}) und
+ *         Datenbankzeit. Zeilen werden nur innerhalb einer Anfrage gezählt; Hintergrundjobs
+ *         erhalten das unveränderte {@link ResultSet}.</li>
+ *     <li>rollierend über {@code events.sql.top.window}: Ausführungen, Gesamt- und Höchstzeit pro
+ *         normalisierter Anweisung samt SQL und Parametern der langsamsten Ausführung. Daraus
+ *         liefert {@link #getTopStatements()} die teuersten Anweisungen, {@link #explain(String)}
+ *         erzeugt den Ausführungsplan auf Abruf.</li>
+ *     <li>Anweisungen über {@code events.sql.slow-statement} werden einzeln als WARN geloggt.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see SqlStatisticsFilter
+ * @see SqlStatisticsEndpoint
+ */
+@Component
+public class SqlStatistics implements BeanPostProcessor, HibernatePropertiesCustomizer {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatistics.class);
+
+    /**
+     * Höchstzahl gemerkter normalisierter Anweisungen (Cache und Zeitfenster); schützt vor
+     * unbegrenztem Wachstum, falls Werte als Literale statt als Parameter gesendet werden.
+     */
+    private static final int MAX_TRACKED_STATEMENTS = 1000;
+
+    private static final String START_NANOS = SqlStatistics.class.getName() + ".start";
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EXPLAINABLE = Pattern.compile("^(select|with|insert|update|delete)\\b.*",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final Duration slowStatement;
+    private final int topSize;
+    private final long windowNanos;
+
+    private final Map<String, String> normalized = new ConcurrentHashMap<>();
+    private volatile Map<String, StatementStats> currentWindow = new ConcurrentHashMap<>();
+    private volatile Map<String, StatementStats> previousWindow = Map.of();
+    private volatile long windowStart = System.nanoTime();
+    private volatile DataSource target;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param enabled       ob die Erfassung aktiv ist
+     * @param slowStatement Ausführungszeit, ab der eine Anweisung einzeln geloggt wird
+     * @param topSize       Anzahl Anweisungen in {@link #getTopStatements()}
+     * @param window        Länge eines Zeitfensters der Rangliste; die Rangliste umfasst das laufende
+     *                      und das vorherige Fenster
+     */
+    public SqlStatistics(@Value("${events.sql.statistics.enabled:true}") boolean enabled,
+                         @Value("${events.sql.slow-statement:PT0.2S}") Duration slowStatement,
+                         @Value("${events.sql.top.size:20}") int topSize,
+                         @Value("${events.sql.top.window:PT1H}") Duration window) {
+        this.enabled = enabled;
+        this.slowStatement = slowStatement;
+        this.topSize = topSize;
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Umhüllt die {@link DataSource} der Anwendung mit dem messenden Proxy.
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource
+                || target != null) {
+            return bean;
+        }
+        target = dataSource;
+        log.info("SQL-Statistik aktiv: langsame Anweisungen ab {} ms, Rangliste der {} teuersten Anweisungen",
+                slowStatement.toMillis(), topSize);
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new TimingListener())
+                .jdbcProxyFactory(new RequestScopedProxyFactory())
+                .proxyResultSet(ROW_COUNTING)
+                .build();
+    }
+
+    /**
+     * Registriert den {@link Interceptor}, der geladene Entitäten der laufenden Anfrage zählt.
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (enabled) {
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new EntityCountingInterceptor());
+        }
+    }
+
+    /**
+     * Öffnet die Erfassung für den aktuellen Thread.
+     *
+     * @return Statistik der Anfrage oder {@code null}, wenn die Erfassung deaktiviert ist
+     */
+    public RequestSqlStatistics start() {
+        if (!enabled) {
+            return null;
+        }
+        RequestSqlStatistics statistics = new RequestSqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * Schliesst die Erfassung für den aktuellen Thread.
+     */
+    public void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Liefert die teuersten Anweisungen des laufenden und des vorherigen Zeitfensters,
+     * absteigend nach Gesamtzeit.
+     *
+     * @return höchstens {@code events.sql.top.size} Anweisungen (ohne Ausführungsplan)
+     */
+    public List<SqlStatementDTO> getTopStatements() {
+        return merged().values().stream()
+                .sorted(Comparator.comparingLong(StatementStats::totalNanos).reversed())
+                .limit(topSize)
+                .map(StatementStats::toDTO)
+                .toList();
+    }
+
+    /**
+     * Liefert eine Anweisung der Rangliste mit ihrem Ausführungsplan. Der Plan wird mit SQL und
+     * Parametern der langsamsten Ausführung über {@code EXPLAIN} (ohne {@code ANALYZE}) ermittelt,
+     * die Anweisung selbst also nicht ausgeführt.
+     *
+     * @param id ID aus {@link #getTopStatements()}
+     * @return Anweisung mit Plan oder leer, wenn die ID nicht (mehr) bekannt ist
+     */
+    public Optional<SqlStatementDTO> explain(String id) {
+        StatementStats stats = merged().values().stream()
+                .filter(candidate -> candidate.id.equals(id))
+                .findFirst()
+                .orElse(null);
+        if (stats == null) {
+            return Optional.empty();
+        }
+        SqlStatementDTO dto = stats.toDTO();
+        dto.setPlan(plan(stats));
+        return Optional.of(dto);
+    }
+
+    /**
+     * Verwirft die Rangliste.
+     */
+    public void reset() {
+        synchronized (this) {
+            currentWindow = new ConcurrentHashMap<>();
+            previousWindow = Map.of();
+            windowStart = System.nanoTime();
+        }
+    }
+
+    /**
+     * Bringt eine Anweisung in ihre normalisierte Form: Zeichenketten- und Zahlenliterale werden zu
+     * {@code ?}, Parameterlisten wie {@code (?, ?, ?)} zu {@code (?...)} und Leerraum wird
+     * zusammengefasst. Anweisungen, die sich nur in Werten oder der Länge einer {@code IN}-Liste
+     * unterscheiden, werden so gemeinsam gezählt.
+     *
+     * @param sql SQL wie an den Treiber übergeben
+     * @return normalisierte Anweisung
+     */
+    static String normalize(String sql) {
+        String result = STRING_LITERAL.matcher(sql).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = PARAMETER_LIST.matcher(result).replaceAll("(?...)");
+        return WHITESPACE.matcher(result).replaceAll(" ").trim();
+    }
+
+    /**
+     * Kürzt eine Anweisung für Logs auf höchstens 200 Zeichen.
+     */
+    static String abbreviate(String sql) {
+        return sql.length() <= 200 ? sql : sql.substring(0, 200) + "...";
+    }
+
+    private String normalizeCached(String sql) {
+        String result = normalized.get(sql);
+        if (result == null) {
+            if (normalized.size() >= MAX_TRACKED_STATEMENTS) {
+                normalized.clear();
+            }
+            result = normalize(sql);
+            normalized.put(sql, result);
+        }
+        return result;
+    }
+
+    /**
+     * Verbucht eine Ausführung in der Anfrage, der Rangliste und gegebenenfalls im WARN-Log.
+     */
+    private void record(String sql, List<Object> parameters, long nanos) {
+        String normalizedSql = normalizeCached(sql);
+        RequestSqlStatistics request = CURRENT.get();
+        if (request != null) {
+            request.recordStatement(normalizedSql, nanos);
+        }
+        Map<String, StatementStats> window = window();
+        StatementStats stats = window.get(normalizedSql);
+        if (stats == null) {
+            if (window.size() >= MAX_TRACKED_STATEMENTS) {
+                return;
+            }
+            stats = window.computeIfAbsent(normalizedSql, StatementStats::new);
+        }
+        stats.record(sql, parameters, nanos);
+        if (nanos >= slowStatement.toNanos()) {
+            log.warn("Langsame SQL-Anweisung: durationMs={} sql=\"{}\"",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), abbreviate(normalizedSql));
+        }
+    }
+
+    /**
+     * Liefert das laufende Zeitfenster und beginnt nach Ablauf ein neues.
+     */
+    private Map<String, StatementStats> window() {
+        if (System.nanoTime() - windowStart > windowNanos) {
+            synchronized (this) {
+                if (System.nanoTime() - windowStart > windowNanos) {
+                    previousWindow = currentWindow;
+                    currentWindow = new ConcurrentHashMap<>();
+                    windowStart = System.nanoTime();
+                }
+            }
+        }
+        return currentWindow;
+    }
+
+    /**
+     * Fasst laufendes und vorheriges Zeitfenster pro Anweisung zusammen.
+     */
+    private Map<String, StatementStats> merged() {
+        Map<String, StatementStats> result = new HashMap<>();
+        for (Map<String, StatementStats> window : List.of(previousWindow, currentWindow)) {
+            window.forEach((sql, stats) -> result.merge(sql, stats.copy(), StatementStats::combine));
+        }
+        return result;
+    }
+
+    /**
+     * Ermittelt den Ausführungsplan auf der ursprünglichen DataSource, damit {@code EXPLAIN} selbst
+     * nicht in der Statistik erscheint.
+     */
+    private String plan(StatementStats stats) {
+        Sample sample = stats.sample;
+        if (sample == null || !EXPLAINABLE.matcher(sample.sql().trim()).matches()) {
+            return "Kein Ausführungsplan für diese Anweisung verfügbar";
+        }
+        try (Connection connection = target.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sample.sql())) {
+            for (int i = 0; i < sample.parameters().size(); i++) {
+                statement.setObject(i + 1, sample.parameters().get(i));
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            log.warn("Ausführungsplan nicht ermittelbar: {}", e.getMessage());
+            return "Ausführungsplan nicht ermittelbar: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Parameter der ersten Ausführung einer Anweisung in Reihenfolge ihres Index;
+     * {@code setNull} ergibt {@code null}.
+     */
+    private static List<Object> parameters(List<QueryInfo> queries) {
+        List<List<ParameterSetOperation>> parametersList = queries.get(0).getParametersList();
+        if (parametersList.isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = new ArrayList<>(parametersList.get(0));
+        operations.sort(Comparator.comparingInt(operation ->
+                operation.getArgs()[0] instanceof Integer index ? index : Integer.MAX_VALUE));
+        List<Object> values = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            values.add(ParameterSetOperation.isSetNullParameterOperation(operation) || operation.getArgs().length < 2
+                    ? null
+                    : operation.getArgs()[1]);
+        }
+        return values;
+    }
+
+    /**
+     * Misst jede Ausführung; ein JDBC-Batch zählt als eine Anweisung.
+     */
+    private final class TimingListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+            if (start == null || queryInfoList.isEmpty()) {
+                return;
+            }
+            record(queryInfoList.get(0).getQuery(), parameters(queryInfoList), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Umhüllt ein {@link ResultSet} nur innerhalb einer Anfrage; ausserhalb kostet das Zählen nichts.
+     */
+    private static final class RequestScopedProxyFactory extends JdkJdbcProxyFactory {
+
+        @Override
+        public ResultSet createResultSet(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+            return CURRENT.get() == null ? resultSet : super.createResultSet(resultSet, connectionInfo, proxyConfig);
+        }
+    }
+
+    /**
+     * Zählt jedes erfolgreiche {@code next()} als gelesene Zeile der Anfrage, die das
+     * {@link ResultSet} geöffnet hat.
+     */
+    private static final ResultSetProxyLogicFactory ROW_COUNTING = (resultSet, connectionInfo, proxyConfig) -> {
+        RequestSqlStatistics request = CURRENT.get();
+        ResultSetProxyLogic delegate = ResultSetProxyLogicFactory.DEFAULT.create(resultSet, connectionInfo, proxyConfig);
+        return (proxy, method, args) -> {
+            Object result = delegate.invoke(proxy, method, args);
+            if (request != null && "next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                request.recordRow();
+            }
+            return result;
+        };
+    };
+
+    /**
+     * Zählt von Hibernate geladene Entitäten der laufenden Anfrage.
+     */
+    private static final class EntityCountingInterceptor implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            RequestSqlStatistics request = CURRENT.get();
+            if (request != null) {
+                request.recordEntity();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * SQL und Parameter einer einzelnen Ausführung.
+     */
+    private record Sample(String sql, List<Object> parameters, long nanos) {
+    }
+
+    /**
+     * Zähler einer normalisierten Anweisung innerhalb eines Zeitfensters.
+     */
+    private static final class StatementStats {
+
+        private final String normalizedSql;
+        private final String id;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private volatile Sample sample;
+
+        private StatementStats(String normalizedSql) {
+            this.normalizedSql = normalizedSql;
+            this.id = Integer.toHexString(normalizedSql.hashCode());
+        }
+
+        private void record(String sql, List<Object> parameters, long nanos) {
+            count.increment();
+            total.add(nanos);
+            Sample current = sample;
+            if (current == null || nanos > current.nanos()) {
+                synchronized (this) {
+                    if (sample == null || nanos > sample.nanos()) {
+                        sample = new Sample(sql, parameters, nanos);
+                    }
+                }
+            }
+        }
+
+        private long totalNanos() {
+            return total.sum();
+        }
+
+        private StatementStats copy() {
+            StatementStats copy = new StatementStats(normalizedSql);
+            copy.count.add(count.sum());
+            copy.total.add(total.sum());
+            copy.sample = sample;
+            return copy;
+        }
+
+        private StatementStats combine(StatementStats other) {
+            count.add(other.count.sum());
+            total.add(other.total.sum());
+            if (sample == null || (other.sample != null && other.sample.nanos() > sample.nanos())) {
+                sample = other.sample;
+            }
+            return this;
+        }
+
+        private SqlStatementDTO toDTO() {
+            long executions = count.sum();
+            long totalNanos = total.sum();
+            Sample slowest = sample;
+            return new SqlStatementDTO(id, normalizedSql, executions,
+                    TimeUnit.NANOSECONDS.toMicros(totalNanos) / 1000.0,
+                    executions == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos / executions) / 1000.0,
+                    slowest == null ? 0 : TimeUnit.NANOSECONDS.toMicros(slowest.nanos()) / 1000.0,
+                    slowest == null ? null : slowest.sql(),
+                    slowest == null ? List.of() : slowest.parameters().stream()
+                            .map(value -> value == null ? "NULL" : String.valueOf(value))
+                            .toList());
+        }
+    }
+
+}
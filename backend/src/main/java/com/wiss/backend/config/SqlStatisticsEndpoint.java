@@ -0,0 +1,75 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.dto.SqlStatementDTO;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     SqlStatisticsEndpoint
+ * </h2>
+ * <p>
+ *     Actuator-Endpunkt {@code /actuator/sql} mit der Rangliste der teuersten SQL-Anweisungen
+ *     (laufendes und vorheriges Zeitfenster, absteigend nach Gesamtzeit).
+ * </p>
+ *
+ * <h3>
+ *     Operationen:
+ * </h3>
+ * <ul>
+ *     <li>{@code GET /actuator/sql} – Rangliste ohne Ausführungspläne</li>
+ *     <li>{@code GET /actuator/sql/{id}} – eine Anweisung mit {@code EXPLAIN}-Plan der langsamsten
+ *         Ausführung (404, wenn die ID nicht mehr in der Rangliste ist)</li>
+ *     <li>{@code DELETE /actuator/sql} – Rangliste zurücksetzen</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see SqlStatistics
+ */
+@Component
+@Endpoint(id = "sql")
+public class SqlStatisticsEndpoint {
+
+    private final SqlStatistics sqlStatistics;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param sqlStatistics Erfassung der SQL-Anweisungen
+     */
+    public SqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+
+    /**
+     * @return teuerste Anweisungen ohne Ausführungsplan
+     */
+    @ReadOperation
+    public List<SqlStatementDTO> topStatements() {
+        return sqlStatistics.getTopStatements();
+    }
+
+    /**
+     * @param id ID aus der Rangliste
+     * @return Anweisung mit Ausführungsplan oder {@code null} (404)
+     */
+    @ReadOperation
+    public SqlStatementDTO statement(@Selector String id) {
+        return sqlStatistics.explain(id).orElse(null);
+    }
+
+    /**
+     * Setzt die Rangliste zurück.
+     */
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+}
@@ -0,0 +1,163 @@
+package com.wiss.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2>
+ *     SqlStatisticsFilter
+ * </h2>
+ * <p>
+ *     Öffnet für jede HTTP-Anfrage eine {@link RequestSqlStatistics} und prüft sie nach der Antwort
+ *     gegen die Schwellwerte. Überschreitet eine Anfrage einen Schwellwert, wird sie als eine
+ *     strukturierte WARN-Zeile ({@code schlüssel=wert}) geloggt, inklusive der am häufigsten
+ *     wiederholten Anweisung (typisches N+1-Muster), und {@code sql.requests.exceeded} mit dem
+ *     Grund hochgezählt. Unauffällige Anfragen werden nur mit der Rate
+ *     {@code events.sql.log-sample-rate} als INFO geloggt. Die Statistik liegt zusätzlich im
+ *     Request-Attribut {@link RequestSqlStatistics#ATTRIBUTE}.
+ * </p>
+ *
+ * <h3>
+ *     Schwellwerte ({@code reason}):
+ * </h3>
+ * <ul>
+ *     <li>{@code statements} – {@code events.sql.request.max-statements}</li>
+ *     <li>{@code rows} – {@code events.sql.request.max-rows}</li>
+ *     <li>{@code db-time} – {@code events.sql.request.max-db-time}</li>
+ *     <li>{@code repeats} – {@code events.sql.request.max-repeats} Ausführungen derselben Anweisung</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see SqlStatistics
+ */
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatisticsFilter.class);
+
+    private final SqlStatistics sqlStatistics;
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final long maxRows;
+    private final Duration maxDbTime;
+    private final int maxRepeats;
+    private final double logSampleRate;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param sqlStatistics  Erfassung der SQL-Anweisungen
+     * @param meterRegistry  Registry für den Zähler der auffälligen Anfragen
+     * @param maxStatements  höchstens erwartete Anweisungen pro Anfrage
+     * @param maxRows        höchstens erwartete gelesene Zeilen pro Anfrage
+     * @param maxDbTime      höchstens erwartete Datenbankzeit pro Anfrage
+     * @param maxRepeats     höchstens erwartete Ausführungen derselben Anweisung pro Anfrage
+     * @param logSampleRate  Anteil unauffälliger Anfragen, die als INFO geloggt werden (0 bis 1)
+     */
+    public SqlStatisticsFilter(SqlStatistics sqlStatistics,
+                               ObjectProvider<MeterRegistry> meterRegistry,
+                               @Value("${events.sql.request.max-statements:25}") int maxStatements,
+                               @Value("${events.sql.request.max-rows:10000}") long maxRows,
+                               @Value("${events.sql.request.max-db-time:PT0.5S}") Duration maxDbTime,
+                               @Value("${events.sql.request.max-repeats:10}") int maxRepeats,
+                               @Value("${events.sql.log-sample-rate:0.01}") double logSampleRate) {
+        this.sqlStatistics = sqlStatistics;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.maxStatements = maxStatements;
+        this.maxRows = maxRows;
+        this.maxDbTime = maxDbTime;
+        this.maxRepeats = maxRepeats;
+        this.logSampleRate = logSampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStatistics statistics = sqlStatistics.start();
+        if (statistics == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        request.setAttribute(RequestSqlStatistics.ATTRIBUTE, statistics);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatistics.stop();
+            report(request, response, statistics);
+        }
+    }
+
+    /**
+     * Loggt die Statistik der Anfrage, wenn sie einen Schwellwert überschreitet oder gesampelt wird.
+     */
+    void report(HttpServletRequest request, HttpServletResponse response, RequestSqlStatistics statistics) {
+        Map.Entry<String, Integer> mostRepeated = statistics.getMostRepeated();
+        List<String> reasons = new ArrayList<>();
+        if (statistics.getStatements() > maxStatements) {
+            reasons.add("statements");
+        }
+        if (statistics.getRows() > maxRows) {
+            reasons.add("rows");
+        }
+        if (statistics.getDbTimeMillis() > maxDbTime.toMillis()) {
+            reasons.add("db-time");
+        }
+        if (mostRepeated != null && mostRepeated.getValue() > maxRepeats) {
+            reasons.add("repeats");
+        }
+
+        if (!reasons.isEmpty()) {
+            for (String reason : reasons) {
+                Counter.builder("sql.requests.exceeded")
+                        .description("Anfragen über einem Schwellwert der SQL-Statistik")
+                        .tag("reason", reason)
+                        .register(meterRegistry)
+                        .increment();
+            }
+            log.warn("SQL-Schwellwert überschritten: reasons={} {}", String.join(",", reasons),
+                    summary(request, response, statistics, mostRepeated));
+        } else if (statistics.getStatements() > 0 && log.isInfoEnabled()
+                && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("SQL-Statistik: {}", summary(request, response, statistics, mostRepeated));
+        }
+    }
+
+    private static String summary(HttpServletRequest request, HttpServletResponse response,
+                                  RequestSqlStatistics statistics, Map.Entry<String, Integer> mostRepeated) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        StringBuilder summary = new StringBuilder()
+                .append("method=").append(request.getMethod())
+                .append(" uri=").append(pattern != null ? pattern : request.getRequestURI())
+                .append(" status=").append(response.getStatus())
+                .append(" statements=").append(statistics.getStatements())
+                .append(" rows=").append(statistics.getRows())
+                .append(" entities=").append(statistics.getEntities())
+                .append(" dbTimeMs=").append(statistics.getDbTimeMillis());
+        if (mostRepeated != null && mostRepeated.getValue() > 1) {
+            summary.append(" repeated=").append(mostRepeated.getValue())
+                    .append(" repeatedSql=\"").append(SqlStatistics.abbreviate(mostRepeated.getKey())).append('"');
+        }
+        return summary.toString();
+    }
+}
@@ -29,8 +29,10 @@ public class WebConfig implements WebMvcConfigurer {
      * Konfiguriert die CORS-Mappings für die REST-API.
      * <ul>
      *     <li>Erlaubt Anfragen von <code>http://localhost:5173</code>.</li>
-     *     <li>Unterstützt HTTP-Methoden: GET, POST, PUT, DELETE, OPTIONS.</li>
+     *     <li>Unterstützt HTTP-Methoden: GET, POST, PUT, PATCH, DELETE, OPTIONS.</li>
      *     <li>Erlaubt alle Header.</li>
+     *     <li>Gibt den Header {@code ETag} frei, damit das Frontend ihn für {@code If-Match} lesen kann,
+     *         sowie {@code Location} und {@code Preference-Applied} für asynchron angenommene Events.</li>
      *     <li>Erlaubt keine Cookies (allowCredentials = false).</li>
      *     <li>Legt die CORS-Konfiguration für <code>/api/events/**</code> fest.</li>
      * </ul>
@@ -41,8 +43,9 @@ public class WebConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/events/**")
                 .allowedOrigins("http://localhost:5173")
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("ETag", "Location", "Preference-Applied")
                 .allowCredentials(false)
                 .maxAge(3600);
     }
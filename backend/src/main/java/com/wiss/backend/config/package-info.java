@@ -15,6 +15,12 @@
  * <ul>
  *     <li>{@link com.wiss.backend.config.SwaggerConfig} – Konfiguration der OpenAPI/Swagger-Dokumentation für die REST-API.</li>
  *     <li>{@link com.wiss.backend.config.WebConfig} – CORS-Konfiguration zur Steuerung von Cross-Origin-Zugriffen.</li>
+ *     <li>{@link com.wiss.backend.config.SchedulingConfig} – Aktivierung geplanter Hintergrundjobs.</li>
+ *     <li>{@link com.wiss.backend.config.AutoCloseProperties} – Höchstalter offener Events pro Kategorie für das automatische Abschliessen.</li>
+ *     <li>{@link com.wiss.backend.config.EonetIngestProperties} – Quelle, Kategorien und Puffergrössen des EONET-Imports.</li>
+ *     <li>{@link com.wiss.backend.config.DatabaseBulkhead} – Begrenzung und Metriken der gleichzeitigen Datenbankverbindungen (Grösse des Hikari-Pools).</li>
+ *     <li>{@link com.wiss.backend.config.SqlStatistics}, {@link com.wiss.backend.config.RequestSqlStatistics}, {@link com.wiss.backend.config.SqlStatisticsFilter} und {@link com.wiss.backend.config.SqlStatisticsEndpoint} – SQL-Statistik pro Anfrage, Schwellwerte (N+1, langsame Anweisungen) und Rangliste der teuersten Anweisungen mit Ausführungsplan.</li>
+ *     <li>{@link com.wiss.backend.config.NativeHintsConfig} – Reflection- und Ressourcen-Hinweise für Spring AOT und GraalVM Native Image.</li>
  * </ul>
  *
  * <p>
@@ -1,22 +1,40 @@
 package com.wiss.backend.controller;
 
+import com.wiss.backend.dto.BatchOperationDTO;
+import com.wiss.backend.dto.BatchResultDTO;
 import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.EventTicketDTO;
+import com.wiss.backend.dto.EventTrackDTO;
+import com.wiss.backend.dto.ImportResultDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.service.EventImportService;
 import com.wiss.backend.service.EventService;
+import com.wiss.backend.service.EventTrackService;
+import com.wiss.backend.service.EventWriteBehindQueue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.io.InputStream;
+import java.net.URI;
 import java.time.LocalDate;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <h2>
@@ -36,7 +54,19 @@ import java.util.List;
  *     <li><b>Filter</b>: Filterung nach Kategorie, Status, Datum</li>
  *     <li><b>Statistiken</b>: Anzahl- und Statistikabfragen</li>
  *     <li><b>Formulardaten</b>: Verarbeitung von Event-Entitäten für Frontend-Formulare</li>
+ *     <li><b>Verlauf</b>: Zeitlich geordnete Positionen eines Events</li>
  * </ul>
+ * <p>
+ *     Einzelne Events werden mit ihrer Versionsnummer als ETag ausgeliefert (z. B. {@code "3"}).
+ *     Änderungen (auch {@code PATCH}) und Löschungen mit diesem Wert in {@code If-Match} schreiben nur, wenn das Event
+ *     seither nicht geändert wurde, sonst antworten sie mit 412; ohne {@code If-Match} wird
+ *     unbedingt überschrieben. Eine Liste von ETags passt, wenn einer davon passt (RFC 9110).
+ * </p>
+ * <p>
+ *     Mit {@code Prefer: respond-async} wird ein neues Event nur validiert und mit einer Quittung (202)
+ *     beantwortet, sofern {@code events.async-create.enabled} gesetzt ist; geschrieben wird es gebündelt
+ *     mit anderen durch die {@link EventWriteBehindQueue}.
+ * </p>
  *
  * @author Natascha Blumer
  * @version 1.0
@@ -53,15 +83,32 @@ import java.util.List;
 @RequestMapping("/api/events")
 public class EventController {
 
+    /**
+     * Header für die asynchrone Annahme (RFC 7240) und dessen Bestätigung.
+     */
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final EventTrackService eventTrackService;
+    private final EventWriteBehindQueue writeBehindQueue;
 
     /**
      * Konstruktor mit Abhängigkeitsinjektion für den EventService
      *
      * @param eventService Serviceklasse zur Geschäftslogik von Events
+     * @param eventImportService Serviceklasse für den Import grosser Dateien
+     * @param eventTrackService Serviceklasse für die Verläufe von Events
+     * @param writeBehindQueue Warteschlange für asynchron erstellte Events
      */
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, EventImportService eventImportService,
+                           EventTrackService eventTrackService, EventWriteBehindQueue writeBehindQueue) {
         this.eventService = eventService;
+        this.eventImportService = eventImportService;
+        this.eventTrackService = eventTrackService;
+        this.writeBehindQueue = writeBehindQueue;
     }
 
     /**
@@ -84,7 +131,7 @@ public class EventController {
      * Gibt ein einzelnes Event basierend auf der übergebenen ID zurück.
      *
      * @param id ID des gesuchten Events
-     * @return EventDTO mit den Details des Events
+     * @return EventDTO mit den Details des Events, Version als ETag
      * @throws MethodArgumentTypeMismatchException bei ungültiger ID (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
      */
@@ -94,13 +141,62 @@ public class EventController {
             description = "Gibt ein spezifisches Event anhand der ID zurück"
     )
     @ApiResponse(responseCode = "200", description = "Event gefunden")
+    @ApiResponse(responseCode = "304", description = "Event unverändert seit dem ETag aus If-None-Match")
     @ApiResponse(responseCode = "400", description = "Ungültige ID übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
-    public EventDTO getEventById(
+    public ResponseEntity<EventDTO> getEventById(
+            @Parameter(description = "ID des Events", example = "1", required = true)
+            @PathVariable Long id) {
+        return withETag(eventService.getEventByIdAsDTO(id));
+    }
+
+    /**
+     * Gibt den Verlauf eines Events zurück, auf Wunsch auf höchstens {@code points} Punkte ausgedünnt.
+     *
+     * @param id     ID des Events
+     * @param points Höchstzahl zurückgegebener Punkte ({@code 0} für alle)
+     * @return Verlauf mit Anzahl gespeicherter und den zurückgegebenen Punkten
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei negativer Punktzahl (400)
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     */
+    @GetMapping("/{id}/track")
+    @Operation(
+            summary = "Verlauf eines Events abrufen",
+            description = "Gibt die zeitlich geordneten Positionen eines Events zurück, optional gleichmässig ausgedünnt"
+    )
+    @ApiResponse(responseCode = "200", description = "Verlauf erfolgreich abgerufen")
+    @ApiResponse(responseCode = "400", description = "Ungültige ID oder Punktzahl übergeben")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @Tag(name = "Events – Verlauf", description = "Zeitlich geordnete Positionen eines Events")
+    public EventTrackDTO getEventTrack(
+            @Parameter(description = "ID des Events", example = "1", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Höchstzahl Punkte (0 = alle)", example = "100")
+            @RequestParam(defaultValue = "0") int points) {
+        return eventTrackService.getTrack(id, points);
+    }
+
+    /**
+     * Gibt die letzte bekannte Position eines Events zurück.
+     *
+     * @param id ID des Events
+     * @return letzte Position mit Zeitpunkt
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     */
+    @GetMapping("/{id}/track/latest")
+    @Operation(
+            summary = "Letzte Position eines Events abrufen",
+            description = "Gibt die letzte Position aus dem Verlauf zurück, ohne Verlauf die Position des Events"
+    )
+    @ApiResponse(responseCode = "200", description = "Position gefunden")
+    @ApiResponse(responseCode = "400", description = "Ungültige ID übergeben")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @Tag(name = "Events – Verlauf", description = "Zeitlich geordnete Positionen eines Events")
+    public TrackPointDTO getLatestEventPosition(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id) {
-        return eventService.getEventByIdAsDTO(id);
+        return eventTrackService.getLatestPosition(id);
     }
 
     /**
@@ -184,34 +280,170 @@ public class EventController {
 
     /**
      * Speichert ein neues Event basierend auf den übergebenen {@link EventDTO}-Daten.
+     * <p>
+     *     Mit {@code Prefer: respond-async} (und aktiviertem {@code events.async-create.enabled}) wird das
+     *     Event nur validiert und angenommen: Die Antwort ist 202 mit einer Quittung, deren Stand unter
+     *     {@code Location} abgefragt werden kann. Ohne diese Einstellung wird der Header ignoriert.
+     * </p>
      *
+     * @param prefer Wert des {@code Prefer}-Headers
      * @param eventDTO Daten des neuen Events
-     * @return Erstelltes Event mit ID
+     * @return Erstelltes Event mit ID bzw. Quittung bei asynchroner Annahme
      * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
      * @throws org.springframework.http.converter.HttpMessageNotReadableException bei ungültigen Daten (400)
      */
     @PostMapping
     @Operation(
             summary = "Neues Event erstellen",
-            description = "Erstellt ein neues EONET-Event"
+            description = "Erstellt ein neues EONET-Event; mit Prefer: respond-async wird es gebündelt im Hintergrund geschrieben"
     )
     @ApiResponse(responseCode = "200", description = "Event erfolgreich erstellt")
+    @ApiResponse(responseCode = "202", description = "Event angenommen, Stand unter Location abfragbar")
     @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
-    public EventDTO createEvent(
+    public ResponseEntity<?> createEvent(
+            @Parameter(description = "respond-async für asynchrone Annahme", example = "respond-async")
+            @RequestHeader(value = PREFER, required = false) String prefer,
             @Valid @RequestBody EventDTO eventDTO) {
-        return eventService.createEvent(eventDTO);
+        if (prefer == null || !prefer.contains(RESPOND_ASYNC) || !writeBehindQueue.isEnabled()) {
+            return ResponseEntity.ok(eventService.createEvent(eventDTO));
+        }
+        EventTicketDTO ticket = writeBehindQueue.submit(eventDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/events/tickets/" + ticket.getTicket()))
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(ticket);
+    }
+
+    /**
+     * Gibt den Stand eines asynchron angenommenen Events zurück.
+     *
+     * @param ticket Kennung der Quittung aus {@link #createEvent(String, EventDTO)}
+     * @return Stand der Verarbeitung, nach dem Schreiben mit der ID des Events
+     * @throws com.wiss.backend.exception.TicketNotFoundException wenn die Quittung unbekannt oder abgelaufen ist (404)
+     */
+    @GetMapping("/tickets/{ticket}")
+    @Operation(
+            summary = "Stand einer asynchronen Erstellung abrufen",
+            description = "Gibt zurück, ob ein mit Prefer: respond-async angenommenes Event wartet, geschrieben oder abgelehnt wurde"
+    )
+    @ApiResponse(responseCode = "200", description = "Stand erfolgreich abgerufen")
+    @ApiResponse(responseCode = "404", description = "Quittung unbekannt oder abgelaufen")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public EventTicketDTO getTicket(
+            @Parameter(description = "Kennung der Quittung", required = true)
+            @PathVariable String ticket) {
+        return writeBehindQueue.getTicket(ticket);
+    }
+
+    /**
+     * Erstellt viele Events in einer einzigen Transaktion.
+     *
+     * @param eventDTOs Liste der neuen Events
+     * @return Gespeicherte Events in der Reihenfolge der Eingabe
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
+     * @throws com.wiss.backend.exception.DuplicateEventException bei Duplikaten mit Richtlinie REJECT (409)
+     */
+    @PostMapping("/bulk")
+    @ResponseStatus(HttpStatus.CREATED)
+    @Operation(
+            summary = "Mehrere Events erstellen",
+            description = "Erstellt eine Liste von Events in einer Transaktion mit gebündelten Inserts"
+    )
+    @ApiResponse(responseCode = "201", description = "Events erfolgreich erstellt")
+    @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
+    @ApiResponse(responseCode = "409", description = "Duplikat gefunden (nur bei Richtlinie REJECT)")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public List<EventDTO> createEvents(
+            @RequestBody List<EventDTO> eventDTOs) {
+        return eventService.createEvents(eventDTOs);
+    }
+
+    /**
+     * Gleicht Events über ihren natürlichen Schlüssel ({@code source}, {@code externalId}) ab.
+     * Neue Events werden eingefügt, geänderte aktualisiert, unveränderte nicht geschrieben.
+     * Für neue Schlüssel gilt die Duplikat-Richtlinie; abgelehnte Duplikate stehen im Ergebnis.
+     *
+     * @param eventDTOs Events mit gesetztem {@code source} und {@code externalId}
+     * @return Anzahl eingefügter, geänderter, unveränderter und zusammengeführter sowie die abgelehnten Events
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten oder fehlendem Schlüssel (400)
+     */
+    @PostMapping("/upsert")
+    @Operation(
+            summary = "Events abgleichen (Upsert)",
+            description = "Fügt Events anhand von source und externalId ein oder aktualisiert sie; erneute Importe erzeugen keine neuen Zeilen"
+    )
+    @ApiResponse(responseCode = "200", description = "Abgleich abgeschlossen")
+    @ApiResponse(responseCode = "400", description = "Ungültige Daten oder fehlender natürlicher Schlüssel, nichts gespeichert")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public UpsertResultDTO upsertEvents(
+            @RequestBody List<EventDTO> eventDTOs) {
+        return eventService.upsertEvents(eventDTOs);
+    }
+
+    /**
+     * Führt mehrere Create-, Update- und Delete-Operationen in einer Transaktion aus.
+     *
+     * @param operations Operationen in Ausführungsreihenfolge
+     * @return Ergebnis pro Operation
+     * @throws com.wiss.backend.exception.BatchOperationException wenn eine Operation fehlschlägt; nichts wird gespeichert (400/404/409)
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei zu vielen Operationen (400)
+     */
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Mehrere Änderungen in einer Transaktion",
+            description = "Führt eine Liste von create-, update- und delete-Operationen atomar aus"
+    )
+    @ApiResponse(responseCode = "200", description = "Alle Operationen erfolgreich ausgeführt")
+    @ApiResponse(responseCode = "400", description = "Ungültige Daten in mindestens einer Operation, nichts gespeichert")
+    @ApiResponse(responseCode = "404", description = "Event einer Operation nicht gefunden, nichts gespeichert")
+    @ApiResponse(responseCode = "409", description = "Duplikat gefunden (nur bei Richtlinie REJECT), nichts gespeichert")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public BatchResultDTO executeBatch(
+            @RequestBody List<BatchOperationDTO> operations) {
+        return eventService.executeBatch(operations);
+    }
+
+    /**
+     * Importiert Events aus einer CSV- oder NDJSON-Datei.
+     * <p>
+     *     Der Request-Body wird gestreamt und nicht vollständig in den Speicher geladen.
+     *     Ungültige Zeilen werden übersprungen und im Ergebnis gemeldet.
+     * </p>
+     *
+     * @param contentType {@code text/csv} oder {@code application/x-ndjson}
+     * @param body Dateiinhalt (UTF-8)
+     * @return Ergebnis mit Zählern und Fehlerbericht pro Zeile
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei fehlenden CSV-Spalten (400)
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(
+            summary = "Events aus Datei importieren",
+            description = "Importiert grosse CSV- oder NDJSON-Dateien per PostgreSQL COPY"
+    )
+    @ApiResponse(responseCode = "200", description = "Import abgeschlossen, ungültige Zeilen siehe Fehlerbericht")
+    @ApiResponse(responseCode = "400", description = "CSV-Kopfzeile unvollständig")
+    @ApiResponse(responseCode = "415", description = "Nicht unterstütztes Dateiformat")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public ImportResultDTO importEvents(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.valueOf("text/csv"));
+        EventImportService.Format format = csv ? EventImportService.Format.CSV : EventImportService.Format.NDJSON;
+        return eventImportService.importEvents(body, format);
     }
 
     /**
      * Aktualisiert ein bestehendes Event anhand der ID und der übergebenen {@link EventDTO}-Daten.
      *
      * @param id ID des zu aktualisierenden Events
+     * @param ifMatch ETag aus dem Lesen des Events (optional)
      * @param eventDTO Neue Eventdaten
-     * @return Aktualisiertes Event
+     * @return Aktualisiertes Event, gespeicherte Version als ETag
      * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
      * @throws org.springframework.http.converter.HttpMessageNotReadableException bei ungültigen Daten (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionConflictException wenn das Event seither geändert wurde (412)
      */
     @PutMapping("/{id}")
     @Operation(
@@ -221,19 +453,56 @@ public class EventController {
     @ApiResponse(responseCode = "200", description = "Event erfolgreich aktualisiert")
     @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "412", description = "Event wurde seit dem ETag aus If-Match geändert")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
-    public EventDTO updateEvent(
+    public ResponseEntity<EventDTO> updateEvent(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag aus dem Lesen des Events", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EventDTO eventDTO) {
-        return eventService.updateEvent(id, eventDTO);
+        return withETag(eventService.updateEvent(id, eventDTO, parseIfMatch(id, ifMatch)));
+    }
+
+    /**
+     * Ändert einzelne Felder eines Events nach JSON Merge Patch (RFC 7396), z. B. {@code {"status": "closed"}}.
+     * Nur die enthaltenen Felder werden validiert und geschrieben, ohne das Event vorher zu lesen.
+     *
+     * @param id ID des zu ändernden Events
+     * @param ifMatch ETag aus dem Lesen des Events (optional)
+     * @param patch zu ändernde Felder
+     * @return Geändertes Event, neue Version als ETag
+     * @throws com.wiss.backend.exception.InvalidEventDataException bei unbekannten oder ungültigen Feldern (400)
+     * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionConflictException wenn das Event seither geändert wurde (412)
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+            summary = "Event teilweise ändern",
+            description = "Ändert nur die übergebenen Felder eines Events (JSON Merge Patch)"
+    )
+    @ApiResponse(responseCode = "200", description = "Event erfolgreich geändert")
+    @ApiResponse(responseCode = "400", description = "Unbekanntes, nicht änderbares oder ungültiges Feld")
+    @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "412", description = "Event wurde seit dem ETag aus If-Match geändert")
+    @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
+    public ResponseEntity<EventDTO> patchEvent(
+            @Parameter(description = "ID des Events", example = "1", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "ETag aus dem Lesen des Events", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "Zu ändernde Felder", example = "{\"status\": \"closed\"}", required = true)
+            @RequestBody Map<String, Object> patch) {
+        return withETag(eventService.patchEvent(id, patch, parseIfMatch(id, ifMatch)));
     }
 
     /**
      * Löscht ein Event anhand der übergebenen ID.
      *
      * @param id ID des zu löschenden Events
+     * @param ifMatch ETag aus dem Lesen des Events (optional)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionConflictException wenn das Event seither geändert wurde (412)
      */
     @DeleteMapping("/{id}")
     @Operation(
@@ -242,11 +511,14 @@ public class EventController {
     )
     @ApiResponse(responseCode = "200", description = "Event erfolgreich gelöscht")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "412", description = "Event wurde seit dem ETag aus If-Match geändert")
     @Tag(name = "Events – DTO", description = "Standard-CRUD-API für Events über DTO")
     public void deleteEvent(
             @Parameter(description = "ID des Events", example = "1", required = true)
-            @PathVariable Long id) {
-        eventService.deleteEvent(id);
+            @PathVariable Long id,
+            @Parameter(description = "ETag aus dem Lesen des Events", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        eventService.deleteEvent(id, parseIfMatch(id, ifMatch));
     }
 
     /**
@@ -378,7 +650,7 @@ public class EventController {
      * Gibt ein spezifisches Event als EventFormDTO zurück.
      *
      * @param id ID des Events
-     * @return EventFormDTO zum Bearbeiten im Frontend-Formular
+     * @return EventFormDTO zum Bearbeiten im Frontend-Formular, Version als ETag
      * @throws MethodArgumentTypeMismatchException bei ungültiger ID (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
      */
@@ -388,13 +660,14 @@ public class EventController {
             description = "Gibt ein spezifisches Event anhand der ID zurück, optimiert für das Frontend-Formular"
     )
     @ApiResponse(responseCode = "200", description = "Event gefunden")
+    @ApiResponse(responseCode = "304", description = "Event unverändert seit dem ETag aus If-None-Match")
     @ApiResponse(responseCode = "400", description = "Ungültige ID übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
     @Tag(name = "Events – Formulardaten (Frontend)", description = "Spezielle Endpunkte für die Formularverwendung im Frontend")
-    public EventFormDTO getEventByIdForEdit(
+    public ResponseEntity<EventFormDTO> getEventByIdForEdit(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id) {
-        return eventService.getEventByIdAsFormDTO(id);
+        return withETag(eventService.getEventByIdAsFormDTO(id));
     }
 
     /**
@@ -424,11 +697,13 @@ public class EventController {
      * Aktualisiert ein Event über das Frontend-Formular.
      *
      * @param id ID des Events
+     * @param ifMatch ETag aus {@link #getEventByIdForEdit(Long)} (optional)
      * @param event neue Eventdaten
-     * @return aktualisiertes Event als EventFormDTO
+     * @return aktualisiertes Event als EventFormDTO, gespeicherte Version als ETag
      * @throws com.wiss.backend.exception.InvalidEventDataException bei unvollständigen Daten (400)
      * @throws org.springframework.http.converter.HttpMessageNotReadableException bei ungültigen Daten (400)
      * @throws com.wiss.backend.exception.EventNotFoundException wenn Event nicht existiert (404)
+     * @throws com.wiss.backend.exception.EventVersionConflictException wenn das Event seither geändert wurde (412)
      */
     @PutMapping("/{id}/update")
     @Operation(
@@ -438,12 +713,67 @@ public class EventController {
     @ApiResponse(responseCode = "200", description = "Event erfolgreich aktualisiert")
     @ApiResponse(responseCode = "400", description = "Ungültige oder unvollständige Daten übergeben")
     @ApiResponse(responseCode = "404", description = "Event nicht gefunden")
+    @ApiResponse(responseCode = "412", description = "Event wurde seit dem ETag aus If-Match geändert")
     @Tag(name = "Events – Formulardaten (Frontend)", description = "Spezielle Endpunkte für die Formularverwendung im Frontend")
-    public EventFormDTO updateEventFromForm(
+    public ResponseEntity<EventFormDTO> updateEventFromForm(
             @Parameter(description = "ID des Events", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag aus dem Lesen des Events", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Parameter(description = "Event-Daten", required = true)
             @Valid @RequestBody Event event) {
-        return eventService.updateEventFromForm(id, event);
+        return withETag(eventService.updateEventFromForm(id, event, parseIfMatch(id, ifMatch)));
+    }
+
+    /**
+     * Antwort mit der Versionsnummer als ETag, sofern bekannt. Bei GET beantwortet Spring
+     * einen passenden {@code If-None-Match} dadurch selbst mit 304.
+     *
+     * @param versioned DTO mit Version
+     * @return Antwort 200 mit DTO und ggf. ETag
+     */
+    private static <T> ResponseEntity<T> withETag(EventService.Versioned<T> versioned) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (versioned.version() != null) {
+            response.eTag("\"" + versioned.version() + "\"");
+        }
+        return response.body(versioned.value());
+    }
+
+    /**
+     * Liest die erwartete Version aus {@code If-Match}. Verglichen wird stark (RFC 9110): Nur ETags wie
+     * {@code "3"} können passen, schwache ETags und andere Werte nie; {@code *} gilt als unbedingt.
+     * Bei einer Liste wie {@code "3", "4"} wird die aktuelle Version gelesen und verwendet, sofern sie
+     * in der Liste steht; das bedingte Schreiben prüft sie danach erneut.
+     *
+     * @param id      ID des Events
+     * @param ifMatch Wert des Headers oder {@code null}
+     * @return erwartete Version, {@code null} ohne Bedingung, {@code -1} für einen nie passenden Wert
+     */
+    private Long parseIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String element : ifMatch.split(",")) {
+            String tag = element.trim();
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(tag.substring(1, tag.length() - 1)));
+                } catch (NumberFormatException ignored) {
+                    // kann nie passen
+                }
+            }
+        }
+        if (versions.size() == 1) {
+            return versions.iterator().next();
+        }
+        if (versions.size() > 1) {
+            Long current = eventService.getVersion(id);
+            if (current != null && versions.contains(current)) {
+                return current;
+            }
+        }
+        return -1L;
     }
 }
\ No newline at end of file
@@ -12,7 +12,7 @@
  *     Enthaltene Controller:
  * </h3>
  * <ul>
- *     <li>{@link com.wiss.backend.controller.EventController} – Hauptcontroller für CRUD, Filter und Formulare</li>
+ *     <li>{@link com.wiss.backend.controller.EventController} – Hauptcontroller für CRUD, Filter, Formulare und Verläufe</li>
  * </ul>
  *
  * <h3>
@@ -0,0 +1,70 @@
+package com.wiss.backend.dto;
+
+import com.wiss.backend.model.BatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     BatchOperationDTO
+ * </h2>
+ * <p>
+ *     Eine einzelne Operation im Batch-Endpunkt {@code POST /api/events/batch}.
+ * </p>
+ *
+ * <h3>
+ *     Pflichtfelder je Operation:
+ * </h3>
+ * <ul>
+ *     <li>{@code create}: {@link #getEvent() event}</li>
+ *     <li>{@code update}: {@link #getId() id} und {@link #getEvent() event}</li>
+ *     <li>{@code delete}: {@link #getId() id}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see BatchResultDTO
+ * @see com.wiss.backend.service.EventService#executeBatch(java.util.List)
+ */
+@Schema(description = "Einzelne Operation im Batch-Endpunkt")
+public class BatchOperationDTO {
+
+    /**
+     * Art der Operation.
+     * @see #getOp()
+     */
+    @Schema(description = "Art der Operation", example = "update")
+    private BatchOperationType op;
+
+    /**
+     * ID des betroffenen Events (nur für {@code update} und {@code delete}).
+     * @see #getId()
+     */
+    @Schema(description = "ID des betroffenen Events", example = "1")
+    private Long id;
+
+    /**
+     * Neue Eventdaten (nur für {@code create} und {@code update}).
+     * @see #getEvent()
+     */
+    @Schema(description = "Neue Eventdaten")
+    private EventDTO event;
+
+    public BatchOperationDTO() {}
+
+    public BatchOperationDTO(BatchOperationType op, Long id, EventDTO event) {
+        this.op = op;
+        this.id = id;
+        this.event = event;
+    }
+
+    // Getter & Setter
+    public BatchOperationType getOp() { return op; }
+    public void setOp(BatchOperationType op) { this.op = op; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public EventDTO getEvent() { return event; }
+    public void setEvent(EventDTO event) { this.event = event; }
+}
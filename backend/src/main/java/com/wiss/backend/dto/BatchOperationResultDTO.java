@@ -0,0 +1,104 @@
+package com.wiss.backend.dto;
+
+import com.wiss.backend.model.BatchOperationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * <h2>
+ *     BatchOperationResultDTO
+ * </h2>
+ * <p>
+ *     Ergebnis einer einzelnen Operation aus {@code POST /api/events/batch}.
+ *     {@link #getCode() code} entspricht dem HTTP-Status, den die Operation als einzelner
+ *     Request erhalten hätte; bei Fehlern enthalten {@link #getError() error} und
+ *     {@link #getMessage() message} dieselben Werte wie ein {@link ErrorResponseDTO}.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see BatchResultDTO
+ */
+@Schema(description = "Ergebnis einer einzelnen Batch-Operation")
+public class BatchOperationResultDTO {
+
+    /**
+     * Position der Operation in der Anfrage (beginnend bei 0).
+     * @see #getIndex()
+     */
+    @Schema(description = "Position der Operation in der Anfrage", example = "0")
+    private int index;
+
+    /**
+     * Art der Operation.
+     * @see #getOp()
+     */
+    @Schema(description = "Art der Operation", example = "create")
+    private BatchOperationType op;
+
+    /**
+     * ID des betroffenen bzw. erstellten Events.
+     * @see #getId()
+     */
+    @Schema(description = "ID des betroffenen Events", example = "52")
+    private Long id;
+
+    /**
+     * HTTP-Statuscode der Operation (z. B. 201, 200, 204, 400, 404, 409).
+     * {@code 0}, wenn die Operation wegen eines anderen Fehlers nicht ausgeführt wurde.
+     * @see #getCode()
+     */
+    @Schema(description = "HTTP-Statuscode der Operation", example = "201")
+    private int code;
+
+    /**
+     * Kurzcode des Fehlers (z. B. {@code "EVENT_NOT_FOUND"}), sonst {@code null}.
+     * @see #getError()
+     */
+    @Schema(description = "Kurzcode des Fehlers", example = "INVALID_EVENT_DATA")
+    private String error;
+
+    /**
+     * Fehlermeldung, sonst {@code null}.
+     * @see #getMessage()
+     */
+    @Schema(description = "Fehlermeldung")
+    private String message;
+
+    /**
+     * Gespeichertes Event (bei {@code create} und {@code update}).
+     * @see #getEvent()
+     */
+    @Schema(description = "Gespeichertes Event")
+    private EventDTO event;
+
+    public BatchOperationResultDTO() {}
+
+    public BatchOperationResultDTO(int index, BatchOperationType op, Long id) {
+        this.index = index;
+        this.op = op;
+        this.id = id;
+    }
+
+    // Getter & Setter
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public BatchOperationType getOp() { return op; }
+    public void setOp(BatchOperationType op) { this.op = op; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public int getCode() { return code; }
+    public void setCode(int code) { this.code = code; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public EventDTO getEvent() { return event; }
+    public void setEvent(EventDTO event) { this.event = event; }
+}
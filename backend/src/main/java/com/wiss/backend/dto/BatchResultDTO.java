@@ -0,0 +1,54 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>
+ *     BatchResultDTO
+ * </h2>
+ * <p>
+ *     Antwort von {@code POST /api/events/batch}. Alle Operationen werden in einer Transaktion
+ *     ausgeführt: Schlägt eine fehl, wird nichts gespeichert ({@link #isCommitted()} ist {@code false})
+ *     und die fehlerhaften Operationen sind in {@link #getResults()} markiert.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see BatchOperationDTO
+ * @see BatchOperationResultDTO
+ */
+@Schema(description = "Ergebnis eines Batch-Requests")
+public class BatchResultDTO {
+
+    /**
+     * Gibt an, ob die Transaktion gespeichert wurde.
+     * @see #isCommitted()
+     */
+    @Schema(description = "Transaktion gespeichert", example = "true")
+    private boolean committed;
+
+    /**
+     * Ergebnis pro Operation, in der Reihenfolge der Anfrage.
+     * @see #getResults()
+     */
+    @Schema(description = "Ergebnis pro Operation")
+    private List<BatchOperationResultDTO> results = new ArrayList<>();
+
+    public BatchResultDTO() {}
+
+    public BatchResultDTO(boolean committed, List<BatchOperationResultDTO> results) {
+        this.committed = committed;
+        this.results = results;
+    }
+
+    // Getter & Setter
+    public boolean isCommitted() { return committed; }
+    public void setCommitted(boolean committed) { this.committed = committed; }
+
+    public List<BatchOperationResultDTO> getResults() { return results; }
+    public void setResults(List<BatchOperationResultDTO> results) { this.results = results; }
+}
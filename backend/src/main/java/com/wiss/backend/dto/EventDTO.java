@@ -105,6 +105,30 @@ public class EventDTO {
     @Schema(description = "Status des Events", example = "open")
     private EventStatus status;
 
+    /**
+     * ID des Original-Events, falls dieses Event als Duplikat markiert wurde.
+     * Wird ausschliesslich vom System gesetzt und bei Eingaben ignoriert.
+     * @see #getDuplicateOf()
+     */
+    @Schema(description = "ID des Original-Events, falls als Duplikat markiert", example = "3", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long duplicateOf;
+
+    /**
+     * Herkunft des Events (z. B. {@code EONET}); nur zusammen mit {@link #externalId} zulässig.
+     * @see #getSource()
+     */
+    @Size(max = 50, message = "Quelle darf höchstens 50 Zeichen lang sein")
+    @Schema(description = "Herkunftssystem des Events", example = "EONET")
+    private String source;
+
+    /**
+     * ID des Events im Herkunftssystem; zusammen mit {@link #source} eindeutig.
+     * @see #getExternalId()
+     */
+    @Size(max = 100, message = "Externe ID darf höchstens 100 Zeichen lang sein")
+    @Schema(description = "ID des Events im Herkunftssystem", example = "EONET_6543")
+    private String externalId;
+
     /**
      * Leerer Konstruktor (benötigt für JSON-Deserialisierung).
      */
@@ -152,4 +176,13 @@ public class EventDTO {
 
     public EventStatus getStatus() { return status; }
     public void setStatus(EventStatus status) { this.status = status; }
+
+    public Long getDuplicateOf() { return duplicateOf; }
+    public void setDuplicateOf(Long duplicateOf) { this.duplicateOf = duplicateOf; }
+
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public String getExternalId() { return externalId; }
+    public void setExternalId(String externalId) { this.externalId = externalId; }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.wiss.backend.dto;
+
+import com.wiss.backend.model.TicketState;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * <h2>
+ *     EventTicketDTO
+ * </h2>
+ * <p>
+ *     Quittung für ein asynchron angenommenes Event aus {@code POST /api/events} mit
+ *     {@code Prefer: respond-async}. Der aktuelle Stand kann unter
+ *     {@code GET /api/events/tickets/{ticket}} abgefragt werden, bis das Event geschrieben ist
+ *     ({@link #getEventId() eventId} gesetzt) oder abgelehnt wurde ({@link #getError() error} gesetzt).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventWriteBehindQueue
+ */
+@Schema(description = "Quittung und Stand einer asynchronen Erstellung")
+public class EventTicketDTO {
+
+    /**
+     * Kennung der Quittung.
+     * @see #getTicket()
+     */
+    @Schema(description = "Kennung der Quittung", example = "3f2c8a1e-5b7d-4e0a-9c61-2d4f8b9e7a10")
+    private String ticket;
+
+    /**
+     * Stand der Verarbeitung.
+     * @see #getState()
+     */
+    @Schema(description = "Stand der Verarbeitung", example = "written")
+    private TicketState state;
+
+    /**
+     * ID des gespeicherten (bzw. bestehenden) Events, sobald es geschrieben ist.
+     * @see #getEventId()
+     */
+    @Schema(description = "ID des gespeicherten Events", example = "52")
+    private Long eventId;
+
+    /**
+     * Grund der Ablehnung bzw. des Fehlers, sonst {@code null}.
+     * @see #getError()
+     */
+    @Schema(description = "Grund der Ablehnung", example = "Event ist ein Duplikat von Event mit ID 52")
+    private String error;
+
+    /**
+     * Zeitpunkt der Annahme.
+     * @see #getAcceptedAt()
+     */
+    @Schema(description = "Zeitpunkt der Annahme", example = "2026-10-19T08:15:30.120Z")
+    private Instant acceptedAt;
+
+    /**
+     * Zeitpunkt des Abschlusses, solange das Event wartet {@code null}.
+     * @see #getCompletedAt()
+     */
+    @Schema(description = "Zeitpunkt des Abschlusses", example = "2026-10-19T08:15:30.180Z")
+    private Instant completedAt;
+
+    /**
+     * Standardkonstruktor (wird für die Deserialisierung benötigt).
+     */
+    public EventTicketDTO() {
+    }
+
+    /**
+     * Konstruktor mit allen Feldern.
+     *
+     * @param ticket      Kennung der Quittung
+     * @param state       Stand der Verarbeitung
+     * @param eventId     ID des gespeicherten Events oder {@code null}
+     * @param error       Grund der Ablehnung oder {@code null}
+     * @param acceptedAt  Zeitpunkt der Annahme
+     * @param completedAt Zeitpunkt des Abschlusses oder {@code null}
+     */
+    public EventTicketDTO(String ticket, TicketState state, Long eventId, String error,
+                          Instant acceptedAt, Instant completedAt) {
+        this.ticket = ticket;
+        this.state = state;
+        this.eventId = eventId;
+        this.error = error;
+        this.acceptedAt = acceptedAt;
+        this.completedAt = completedAt;
+    }
+
+    // Getter & Setter
+    public String getTicket() { return ticket; }
+    public void setTicket(String ticket) { this.ticket = ticket; }
+
+    public TicketState getState() { return state; }
+    public void setState(TicketState state) { this.state = state; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public Instant getAcceptedAt() { return acceptedAt; }
+    public void setAcceptedAt(Instant acceptedAt) { this.acceptedAt = acceptedAt; }
+
+    public Instant getCompletedAt() { return completedAt; }
+    public void setCompletedAt(Instant completedAt) { this.completedAt = completedAt; }
+}
@@ -0,0 +1,74 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     EventTrackDTO
+ * </h2>
+ * <p>
+ *     Verlauf (Track) eines Events: die zeitlich geordneten Positionen, vollständig oder
+ *     auf eine Höchstzahl von Punkten ausgedünnt. {@code pointCount} nennt immer die Anzahl
+ *     gespeicherter Punkte, auch wenn {@code points} ausgedünnt wurde.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventTrackService
+ */
+@Schema(description = "Zeitlich geordnete Positionen eines Events")
+public class EventTrackDTO {
+
+    /**
+     * ID des Events.
+     * @see #getEventId()
+     */
+    @Schema(description = "ID des Events", example = "1")
+    private Long eventId;
+
+    /**
+     * Anzahl gespeicherter Punkte.
+     * @see #getPointCount()
+     */
+    @Schema(description = "Anzahl gespeicherter Punkte", example = "240")
+    private int pointCount;
+
+    /**
+     * Zurückgegebene Punkte, aufsteigend nach Zeitpunkt.
+     * @see #getPoints()
+     */
+    @Schema(description = "Zurückgegebene Punkte, aufsteigend nach Zeitpunkt")
+    private List<TrackPointDTO> points;
+
+    /**
+     * Standardkonstruktor (wird für die Deserialisierung benötigt).
+     */
+    public EventTrackDTO() {
+    }
+
+    /**
+     * Konstruktor mit allen Feldern.
+     *
+     * @param eventId    ID des Events
+     * @param pointCount Anzahl gespeicherter Punkte
+     * @param points     zurückgegebene Punkte
+     */
+    public EventTrackDTO(Long eventId, int pointCount, List<TrackPointDTO> points) {
+        this.eventId = eventId;
+        this.pointCount = pointCount;
+        this.points = points;
+    }
+
+    // Getter & Setter
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public int getPointCount() { return pointCount; }
+    public void setPointCount(int pointCount) { this.pointCount = pointCount; }
+
+    public List<TrackPointDTO> getPoints() { return points; }
+    public void setPoints(List<TrackPointDTO> points) { this.points = points; }
+}
@@ -0,0 +1,213 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>
+ *     ImportResultDTO
+ * </h2>
+ * <p>
+ *     Ergebnis eines Dateiimports über {@code POST /api/events/import}.
+ *     Enthält die Anzahl gelesener, importierter, über den natürlichen Schlüssel geänderter und abgelehnter Zeilen sowie
+ *     einen Fehlerbericht pro abgelehnter Zeile. Zeilen ohne natürlichen Schlüssel, die einem bestehenden
+ *     oder einem früheren Event der Datei entsprechen, werden gemäss Duplikat-Richtlinie behandelt und
+ *     unter {@link #getDuplicates()} mit ihrem Original aufgeführt.
+ * </p>
+ *
+ * <h3>
+ *     Fehlerbericht:
+ * </h3>
+ * <p>
+ *     Damit der Bericht bei sehr grossen Dateien nicht unbegrenzt wächst, werden nur die ersten
+ *     Fehler aufgeführt ({@code events.import.max-reported-errors}). In diesem Fall ist
+ *     {@link #isErrorsTruncated()} gesetzt; {@link #getRejectedRows()} zählt trotzdem alle Fehler.
+ *     Dasselbe gilt für den Duplikatbericht ({@link #isDuplicatesTruncated()}, {@link #getDuplicateRows()}).
+ *     Unter der Richtlinie {@code REJECT} zählen Duplikate zusätzlich als abgelehnte Zeilen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventImportService
+ */
+@Schema(description = "Ergebnis eines CSV- oder NDJSON-Imports")
+public class ImportResultDTO {
+
+    /**
+     * Anzahl gelesener Datenzeilen (ohne Kopfzeile und Leerzeilen).
+     * @see #getTotalRows()
+     */
+    @Schema(description = "Anzahl gelesener Datenzeilen", example = "1000")
+    private long totalRows;
+
+    /**
+     * Anzahl erfolgreich importierter Events.
+     * @see #getImportedRows()
+     */
+    @Schema(description = "Anzahl importierter Events", example = "998")
+    private long importedRows;
+
+    /**
+     * Anzahl bestehender Events, die über ihren natürlichen Schlüssel ({@code source}, {@code externalId}) geändert wurden.
+     * @see #getUpdatedRows()
+     */
+    @Schema(description = "Anzahl über source/externalId geänderter Events", example = "0")
+    private long updatedRows;
+
+    /**
+     * Anzahl abgelehnter Zeilen.
+     * @see #getRejectedRows()
+     */
+    @Schema(description = "Anzahl abgelehnter Zeilen", example = "2")
+    private long rejectedRows;
+
+    /**
+     * Gibt an, ob der Fehlerbericht gekürzt wurde.
+     * @see #isErrorsTruncated()
+     */
+    @Schema(description = "Fehlerbericht wurde gekürzt", example = "false")
+    private boolean errorsTruncated;
+
+    /**
+     * Fehler pro abgelehnter Zeile.
+     * @see #getErrors()
+     */
+    @Schema(description = "Fehler pro abgelehnter Zeile")
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Anzahl Zeilen, die als Duplikat erkannt wurden.
+     * @see #getDuplicateRows()
+     */
+    @Schema(description = "Anzahl als Duplikat erkannter Zeilen", example = "1")
+    private long duplicateRows;
+
+    /**
+     * Gibt an, ob der Duplikatbericht gekürzt wurde.
+     * @see #isDuplicatesTruncated()
+     */
+    @Schema(description = "Duplikatbericht wurde gekürzt", example = "false")
+    private boolean duplicatesTruncated;
+
+    /**
+     * Duplikat pro erkannter Zeile.
+     * @see #getDuplicates()
+     */
+    @Schema(description = "Duplikat pro erkannter Zeile")
+    private List<RowDuplicate> duplicates = new ArrayList<>();
+
+    /**
+     * <h3>
+     *     Fehler einer einzelnen Zeile
+     * </h3>
+     *
+     * @see ImportResultDTO#getErrors()
+     */
+    @Schema(description = "Fehler einer einzelnen Importzeile")
+    public static class RowError {
+
+        /**
+         * Zeilennummer in der Datei (beginnend bei 1, inklusive Kopfzeile).
+         */
+        @Schema(description = "Zeilennummer in der Datei", example = "17")
+        private long line;
+
+        /**
+         * Beschreibung des Fehlers.
+         */
+        @Schema(description = "Fehlermeldung", example = "Titel darf nicht null oder leer sein.")
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        // Getter & Setter
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+
+    /**
+     * <h3>
+     *     Als Duplikat erkannte Zeile
+     * </h3>
+     *
+     * @see ImportResultDTO#getDuplicates()
+     */
+    @Schema(description = "Als Duplikat erkannte Importzeile")
+    public static class RowDuplicate {
+
+        /**
+         * Zeilennummer in der Datei (beginnend bei 1, inklusive Kopfzeile).
+         */
+        @Schema(description = "Zeilennummer in der Datei", example = "42")
+        private long line;
+
+        /**
+         * ID des bestehenden Originals.
+         */
+        @Schema(description = "ID des Originals", example = "7")
+        private Long duplicateOf;
+
+        /**
+         * Angewendete Duplikat-Richtlinie ({@code REJECT}, {@code MERGE} oder {@code FLAG}).
+         */
+        @Schema(description = "Angewendete Duplikat-Richtlinie", example = "FLAG")
+        private String policy;
+
+        public RowDuplicate() {}
+
+        public RowDuplicate(long line, Long duplicateOf, String policy) {
+            this.line = line;
+            this.duplicateOf = duplicateOf;
+            this.policy = policy;
+        }
+
+        // Getter & Setter
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+
+        public Long getDuplicateOf() { return duplicateOf; }
+        public void setDuplicateOf(Long duplicateOf) { this.duplicateOf = duplicateOf; }
+
+        public String getPolicy() { return policy; }
+        public void setPolicy(String policy) { this.policy = policy; }
+    }
+
+    // Getter & Setter
+    public long getTotalRows() { return totalRows; }
+    public void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+
+    public long getUpdatedRows() { return updatedRows; }
+    public void setUpdatedRows(long updatedRows) { this.updatedRows = updatedRows; }
+
+    public long getRejectedRows() { return rejectedRows; }
+    public void setRejectedRows(long rejectedRows) { this.rejectedRows = rejectedRows; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    public long getDuplicateRows() { return duplicateRows; }
+    public void setDuplicateRows(long duplicateRows) { this.duplicateRows = duplicateRows; }
+
+    public boolean isDuplicatesTruncated() { return duplicatesTruncated; }
+    public void setDuplicatesTruncated(boolean duplicatesTruncated) { this.duplicatesTruncated = duplicatesTruncated; }
+
+    public List<RowDuplicate> getDuplicates() { return duplicates; }
+    public void setDuplicates(List<RowDuplicate> duplicates) { this.duplicates = duplicates; }
+}
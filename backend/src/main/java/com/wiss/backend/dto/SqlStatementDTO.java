@@ -0,0 +1,146 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     SqlStatementDTO
+ * </h2>
+ * <p>
+ *     Eine normalisierte SQL-Anweisung der Rangliste unter {@code /actuator/sql}: Ausführungen und
+ *     Zeiten im laufenden und vorherigen Zeitfenster sowie SQL und Parameter der langsamsten
+ *     Ausführung. Der Ausführungsplan wird nur bei der Abfrage einer einzelnen Anweisung
+ *     ({@code /actuator/sql/{id}}) ermittelt.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.config.SqlStatistics
+ */
+@Schema(description = "Normalisierte SQL-Anweisung mit Laufzeitstatistik")
+public class SqlStatementDTO {
+
+    /**
+     * Kennung der normalisierten Anweisung.
+     * @see #getId()
+     */
+    @Schema(description = "Kennung der normalisierten Anweisung", example = "5f1c2a9e")
+    private String id;
+
+    /**
+     * Anweisung mit {@code ?} anstelle von Werten.
+     * @see #getSql()
+     */
+    @Schema(description = "Normalisierte Anweisung", example = "select e1_0.id from events e1_0 where e1_0.id=?")
+    private String sql;
+
+    /**
+     * Anzahl Ausführungen.
+     * @see #getExecutions()
+     */
+    @Schema(description = "Anzahl Ausführungen", example = "1200")
+    private long executions;
+
+    /**
+     * Summe der Ausführungszeiten in Millisekunden.
+     * @see #getTotalTimeMs()
+     */
+    @Schema(description = "Gesamtzeit in Millisekunden", example = "845.2")
+    private double totalTimeMs;
+
+    /**
+     * Mittlere Ausführungszeit in Millisekunden.
+     * @see #getMeanTimeMs()
+     */
+    @Schema(description = "Mittlere Zeit in Millisekunden", example = "0.7")
+    private double meanTimeMs;
+
+    /**
+     * Längste Ausführungszeit in Millisekunden.
+     * @see #getMaxTimeMs()
+     */
+    @Schema(description = "Längste Zeit in Millisekunden", example = "12.4")
+    private double maxTimeMs;
+
+    /**
+     * SQL der langsamsten Ausführung, wie an den Treiber übergeben.
+     * @see #getSlowestSql()
+     */
+    @Schema(description = "SQL der langsamsten Ausführung")
+    private String slowestSql;
+
+    /**
+     * Parameter der langsamsten Ausführung in Reihenfolge ihres Index.
+     * @see #getSlowestParameters()
+     */
+    @Schema(description = "Parameter der langsamsten Ausführung", example = "[\"42\"]")
+    private List<String> slowestParameters;
+
+    /**
+     * Ausführungsplan ({@code EXPLAIN}) der langsamsten Ausführung; nur in der Einzelabfrage gesetzt.
+     * @see #getPlan()
+     */
+    @Schema(description = "Ausführungsplan der langsamsten Ausführung")
+    private String plan;
+
+    /**
+     * Standardkonstruktor (wird für die Deserialisierung benötigt).
+     */
+    public SqlStatementDTO() {
+    }
+
+    /**
+     * Konstruktor ohne Ausführungsplan.
+     *
+     * @param id                Kennung der normalisierten Anweisung
+     * @param sql               normalisierte Anweisung
+     * @param executions        Anzahl Ausführungen
+     * @param totalTimeMs       Gesamtzeit in Millisekunden
+     * @param meanTimeMs        mittlere Zeit in Millisekunden
+     * @param maxTimeMs         längste Zeit in Millisekunden
+     * @param slowestSql        SQL der langsamsten Ausführung
+     * @param slowestParameters Parameter der langsamsten Ausführung
+     */
+    public SqlStatementDTO(String id, String sql, long executions, double totalTimeMs, double meanTimeMs,
+                           double maxTimeMs, String slowestSql, List<String> slowestParameters) {
+        this.id = id;
+        this.sql = sql;
+        this.executions = executions;
+        this.totalTimeMs = totalTimeMs;
+        this.meanTimeMs = meanTimeMs;
+        this.maxTimeMs = maxTimeMs;
+        this.slowestSql = slowestSql;
+        this.slowestParameters = slowestParameters;
+    }
+
+    // Getter & Setter
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getSql() { return sql; }
+    public void setSql(String sql) { this.sql = sql; }
+
+    public long getExecutions() { return executions; }
+    public void setExecutions(long executions) { this.executions = executions; }
+
+    public double getTotalTimeMs() { return totalTimeMs; }
+    public void setTotalTimeMs(double totalTimeMs) { this.totalTimeMs = totalTimeMs; }
+
+    public double getMeanTimeMs() { return meanTimeMs; }
+    public void setMeanTimeMs(double meanTimeMs) { this.meanTimeMs = meanTimeMs; }
+
+    public double getMaxTimeMs() { return maxTimeMs; }
+    public void setMaxTimeMs(double maxTimeMs) { this.maxTimeMs = maxTimeMs; }
+
+    public String getSlowestSql() { return slowestSql; }
+    public void setSlowestSql(String slowestSql) { this.slowestSql = slowestSql; }
+
+    public List<String> getSlowestParameters() { return slowestParameters; }
+    public void setSlowestParameters(List<String> slowestParameters) { this.slowestParameters = slowestParameters; }
+
+    public String getPlan() { return plan; }
+    public void setPlan(String plan) { this.plan = plan; }
+}
@@ -0,0 +1,74 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * <h2>
+ *     TrackPointDTO
+ * </h2>
+ * <p>
+ *     Eine zeitgestempelte Position eines Events (z. B. eine Beobachtung eines Sturms).
+ *     Gespeichert werden Zeitpunkte auf die Sekunde und Koordinaten auf fünf Nachkommastellen
+ *     (ca. 1 m) genau.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventTrackDTO
+ */
+@Schema(description = "Zeitgestempelte Position eines Events")
+public class TrackPointDTO {
+
+    /**
+     * Zeitpunkt der Beobachtung (UTC).
+     * @see #getTimestamp()
+     */
+    @Schema(description = "Zeitpunkt der Beobachtung (UTC)", example = "2026-09-12T12:00:00Z")
+    private Instant timestamp;
+
+    /**
+     * Breitengrad der Position.
+     * @see #getLatitude()
+     */
+    @Schema(description = "Breitengrad", example = "39.0")
+    private double latitude;
+
+    /**
+     * Längengrad der Position.
+     * @see #getLongitude()
+     */
+    @Schema(description = "Längengrad", example = "-121.0")
+    private double longitude;
+
+    /**
+     * Standardkonstruktor (wird für die Deserialisierung benötigt).
+     */
+    public TrackPointDTO() {
+    }
+
+    /**
+     * Konstruktor mit allen Feldern.
+     *
+     * @param timestamp Zeitpunkt der Beobachtung
+     * @param latitude  Breitengrad
+     * @param longitude Längengrad
+     */
+    public TrackPointDTO(Instant timestamp, double latitude, double longitude) {
+        this.timestamp = timestamp;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // Getter & Setter
+    public Instant getTimestamp() { return timestamp; }
+    public void setTimestamp(Instant timestamp) { this.timestamp = timestamp; }
+
+    public double getLatitude() { return latitude; }
+    public void setLatitude(double latitude) { this.latitude = latitude; }
+
+    public double getLongitude() { return longitude; }
+    public void setLongitude(double longitude) { this.longitude = longitude; }
+}
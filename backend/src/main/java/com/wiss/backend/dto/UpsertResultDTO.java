@@ -0,0 +1,170 @@
+package com.wiss.backend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h2>
+ *     UpsertResultDTO
+ * </h2>
+ * <p>
+ *     Ergebnis eines Abgleichs über {@code POST /api/events/upsert}.
+ *     Events werden über ihren natürlichen Schlüssel ({@code source}, {@code externalId}) erkannt:
+ *     neue Events werden eingefügt, geänderte aktualisiert und unveränderte nicht geschrieben.
+ *     Neue Events durchlaufen die Duplikat-Richtlinie: bei {@code MERGE} werden sie mit dem Original
+ *     zusammengeführt, bei {@code REJECT} abgelehnt und unter {@link #getRejections()} aufgeführt.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventService#upsertEvents(java.util.List)
+ */
+@Schema(description = "Ergebnis eines Abgleichs über den natürlichen Schlüssel")
+public class UpsertResultDTO {
+
+    /**
+     * Anzahl neu eingefügter Events.
+     * @see #getInserted()
+     */
+    @Schema(description = "Anzahl neu eingefügter Events", example = "12")
+    private long inserted;
+
+    /**
+     * Anzahl geänderter Events.
+     * @see #getUpdated()
+     */
+    @Schema(description = "Anzahl geänderter Events", example = "3")
+    private long updated;
+
+    /**
+     * Anzahl Events ohne Änderung (nicht geschrieben).
+     * @see #getUnchanged()
+     */
+    @Schema(description = "Anzahl unveränderter Events", example = "985")
+    private long unchanged;
+
+    /**
+     * Anzahl neuer Events, die mit einem bestehenden Original zusammengeführt wurden (Richtlinie {@code MERGE}).
+     * @see #getMerged()
+     */
+    @Schema(description = "Anzahl mit einem Original zusammengeführter Events", example = "0")
+    private long merged;
+
+    /**
+     * Anzahl als Duplikat abgelehnter Events (Richtlinie {@code REJECT}).
+     * @see #getRejected()
+     */
+    @Schema(description = "Anzahl als Duplikat abgelehnter Events", example = "0")
+    private long rejected;
+
+    /**
+     * Abgelehnte Events mit ihrem Original.
+     * @see #getRejections()
+     */
+    @Schema(description = "Als Duplikat abgelehnte Events")
+    private List<Rejection> rejections = new ArrayList<>();
+
+    /**
+     * <h3>
+     *     Als Duplikat abgelehntes Event
+     * </h3>
+     *
+     * @see UpsertResultDTO#getRejections()
+     */
+    @Schema(description = "Als Duplikat abgelehntes Event")
+    public static class Rejection {
+
+        /**
+         * Herkunft des abgelehnten Events.
+         */
+        @Schema(description = "Herkunft", example = "EONET")
+        private String source;
+
+        /**
+         * ID des abgelehnten Events im Herkunftssystem.
+         */
+        @Schema(description = "ID im Herkunftssystem", example = "EONET_6543")
+        private String externalId;
+
+        /**
+         * ID des bestehenden Originals.
+         */
+        @Schema(description = "ID des bestehenden Originals", example = "42")
+        private Long duplicateOf;
+
+        public Rejection() {}
+
+        public Rejection(String source, String externalId, Long duplicateOf) {
+            this.source = source;
+            this.externalId = externalId;
+            this.duplicateOf = duplicateOf;
+        }
+
+        // Getter & Setter
+        public String getSource() { return source; }
+        public void setSource(String source) { this.source = source; }
+
+        public String getExternalId() { return externalId; }
+        public void setExternalId(String externalId) { this.externalId = externalId; }
+
+        public Long getDuplicateOf() { return duplicateOf; }
+        public void setDuplicateOf(Long duplicateOf) { this.duplicateOf = duplicateOf; }
+    }
+
+    /**
+     * Standardkonstruktor (wird für die Deserialisierung benötigt).
+     */
+    public UpsertResultDTO() {
+    }
+
+    /**
+     * Konstruktor mit allen Feldern.
+     *
+     * @param inserted  Anzahl neu eingefügter Events
+     * @param updated   Anzahl geänderter Events
+     * @param unchanged Anzahl unveränderter Events
+     */
+    public UpsertResultDTO(long inserted, long updated, long unchanged) {
+        this.inserted = inserted;
+        this.updated = updated;
+        this.unchanged = unchanged;
+    }
+
+    /**
+     * Konstruktor mit allen Feldern inklusive Ergebnis der Duplikat-Richtlinie.
+     *
+     * @param inserted   Anzahl neu eingefügter Events
+     * @param updated    Anzahl geänderter Events
+     * @param unchanged  Anzahl unveränderter Events
+     * @param merged     Anzahl mit einem Original zusammengeführter Events
+     * @param rejections als Duplikat abgelehnte Events
+     */
+    public UpsertResultDTO(long inserted, long updated, long unchanged, long merged, List<Rejection> rejections) {
+        this(inserted, updated, unchanged);
+        this.merged = merged;
+        this.rejected = rejections.size();
+        this.rejections = rejections;
+    }
+
+    // Getter & Setter
+    public long getInserted() { return inserted; }
+    public void setInserted(long inserted) { this.inserted = inserted; }
+
+    public long getUpdated() { return updated; }
+    public void setUpdated(long updated) { this.updated = updated; }
+
+    public long getUnchanged() { return unchanged; }
+    public void setUnchanged(long unchanged) { this.unchanged = unchanged; }
+
+    public long getMerged() { return merged; }
+    public void setMerged(long merged) { this.merged = merged; }
+
+    public long getRejected() { return rejected; }
+    public void setRejected(long rejected) { this.rejected = rejected; }
+
+    public List<Rejection> getRejections() { return rejections; }
+    public void setRejections(List<Rejection> rejections) { this.rejections = rejections; }
+}
@@ -18,6 +18,12 @@
  *     <li>{@link com.wiss.backend.dto.EventDTO} – Repräsentiert ein Naturereignis für die Anzeige im Frontend</li>
  *     <li>{@link com.wiss.backend.dto.EventFormDTO} – Eingabeobjekt für das Erfassen oder Bearbeiten eines Events im Frontend. Validiert Formulardaten und kann in ein {@link com.wiss.backend.dto.EventDTO} umgewandelt werden.</li>
  *     <li>{@link com.wiss.backend.dto.ErrorResponseDTO} – Einheitliches Format für Fehlermeldungen, z. B. bei Validierungsfehlern oder Ausnahmen</li>
+ *     <li>{@link com.wiss.backend.dto.BatchOperationDTO}, {@link com.wiss.backend.dto.BatchOperationResultDTO} und {@link com.wiss.backend.dto.BatchResultDTO} – Operationen und Ergebnisse des Batch-Endpunkts</li>
+ *     <li>{@link com.wiss.backend.dto.ImportResultDTO} – Ergebnis eines Dateiimports mit Fehlerbericht pro Zeile</li>
+ *     <li>{@link com.wiss.backend.dto.UpsertResultDTO} – Anzahl eingefügter, geänderter und unveränderter Events eines Abgleichs</li>
+ *     <li>{@link com.wiss.backend.dto.EventTicketDTO} – Quittung und Stand eines asynchron angenommenen Events</li>
+ *     <li>{@link com.wiss.backend.dto.EventTrackDTO} und {@link com.wiss.backend.dto.TrackPointDTO} – Verlauf eines Events aus zeitgestempelten Positionen</li>
+ *     <li>{@link com.wiss.backend.dto.SqlStatementDTO} – Laufzeitstatistik und Ausführungsplan einer SQL-Anweisung für {@code /actuator/sql}</li>
  * </ul>
  *
  * <h3>
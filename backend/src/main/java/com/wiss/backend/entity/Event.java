@@ -1,8 +1,10 @@
 package com.wiss.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -19,6 +21,21 @@ import java.time.LocalDate;
  *     Ein Event besteht aus Metadaten wie Titel, Datum, Kategorie, geografischen Koordinaten und Status.
  * </p>
  *
+ * <p>
+ *     Unter PostgreSQL ist die Tabelle nach Jahr ({@link #date}) partitioniert; der Primärschlüssel
+ *     der Tabelle ist daher ({@code id}, {@code date}), die ID bleibt über die Sequenz dennoch eindeutig.
+ *     Die Eindeutigkeit von ({@code source}, {@code external_id}) sichert dort die Tabelle
+ *     <code>event_keys</code>, die von Triggern gepflegt wird (siehe Migration V8).
+ * </p>
+ * <p>
+ *     Die Spalte <code>change_seq</code> (Migration V9) wird nur von Triggern gesetzt und ist hier
+ *     nicht abgebildet; sie dient dem Nachladen von Änderungen nach einem Snapshot.
+ * </p>
+ * <p>
+ *     Mit {@code @DynamicUpdate} schreibt Hibernate bei Änderungen nur die geänderten Spalten
+ *     (plus Versionsnummer), etwa beim Abschliessen eines Events in einem Batch-Request.
+ * </p>
+ *
  * @author Natascha Blumer
  * @version 1.0
  * @since 2025-07-18
@@ -27,16 +44,28 @@ import java.time.LocalDate;
  * @see EventStatus Enum mit allen gültigen Statuswerte für ein Naturereignis
  */
 @Entity
-@Table(name = "events")
+@DynamicUpdate
+@Table(name = "events", uniqueConstraints = @UniqueConstraint(
+        name = "ux_events_source_external_id", columnNames = {"source", "external_id"}),
+        indexes = @Index(name = "idx_events_duplicate_of", columnList = "duplicate_of"))
 public class Event {
 
+    /**
+     * Anzahl IDs, die pro Aufruf der Sequenz <code>events_seq</code> reserviert werden.
+     * Ein Sequenzwert {@code v} steht für die IDs {@code v - ID_ALLOCATION_SIZE + 1} bis {@code v}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     /**
      * Eindeutige ID des Events (Primary Key).
-     * Wird automatisch von der Datenbank generiert.
+     * Wird über die Sequenz <code>events_seq</code> vergeben. Hibernate reserviert dabei
+     * jeweils 50 IDs auf einmal, damit Inserts per JDBC-Batching gebündelt werden können
+     * (mit {@code IDENTITY} wäre pro Insert ein eigener Roundtrip nötig).
      * @see #getId()
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     /**
@@ -85,6 +114,42 @@ public class Event {
     @Column(name = "status", nullable = false, length = 50)
     private EventStatus status;
 
+    /**
+     * ID des Original-Events, falls dieses Event beim Erfassen als Duplikat markiert wurde.
+     * Bleibt {@code null} für alle eigenständigen Events.
+     * @see com.wiss.backend.service.EventDuplicateDetector
+     * @see #getDuplicateOf()
+     */
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
+    /**
+     * Herkunft des Events (z. B. <code>EONET</code>), zusammen mit {@link #externalId} der natürliche Schlüssel.
+     * Bleibt {@code null} für manuell erfasste Events.
+     * @see #getSource()
+     */
+    @Column(name = "source", length = 50)
+    private String source;
+
+    /**
+     * ID des Events im Herkunftssystem (z. B. <code>EONET_6543</code>).
+     * Pro {@link #source} eindeutig; erneute Importe aktualisieren dadurch das bestehende Event.
+     * @see #getExternalId()
+     */
+    @Column(name = "external_id", length = 100)
+    private String externalId;
+
+    /**
+     * Versionsnummer für optimistisches Sperren (Migration V10), wird bei jeder Änderung erhöht.
+     * Nach aussen nur als ETag sichtbar; in Formulardaten wird sie ignoriert.
+     * @see com.wiss.backend.repository.EventRepository#updateValues(Event, Long)
+     * @see #getVersion()
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonIgnore
+    private long version;
+
     /**
      * Leerer Standard-Konstruktor (für JPA erforderlich).
      */
@@ -175,4 +240,32 @@ public class Event {
     public void setStatus(EventStatus status) {
         this.status = status;
     }
+
+    public Long getDuplicateOf() {
+        return duplicateOf;
+    }
+    public void setDuplicateOf(Long duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
+
+    public String getSource() {
+        return source;
+    }
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getExternalId() {
+        return externalId;
+    }
+    public void setExternalId(String externalId) {
+        this.externalId = externalId;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
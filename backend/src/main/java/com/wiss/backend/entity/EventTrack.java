@@ -0,0 +1,189 @@
+package com.wiss.backend.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * <h2>
+ *     Entity-Klasse für den Verlauf (Track) eines Events
+ * </h2>
+ * <p>
+ *     Ein Event wie ein Sturm oder ein Eisabbruch wird über die Zeit an mehreren Positionen
+ *     beobachtet. Statt einer Zeile pro Punkt speichert diese Klasse alle Punkte eines Events
+ *     kompakt in {@link #getData()}: Zeitpunkt, Breiten- und Längengrad werden als Differenz
+ *     zum vorherigen Punkt kodiert und als Varint geschrieben. Ein typischer Punkt belegt so
+ *     wenige Bytes, und Speicher- wie Lesekosten wachsen mit der kodierten Grösse.
+ * </p>
+ * <p>
+ *     Anzahl Punkte, Zeitraum und die letzte Position sind zusätzlich als Spalten abgelegt,
+ *     damit die aktuelle Position ohne Dekodieren gelesen und neue Punkte ohne Dekodieren
+ *     angehängt werden können.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventTrackService
+ */
+@Entity
+@Table(name = "event_tracks")
+public class EventTrack implements Persistable<Long> {
+
+    /**
+     * ID des zugehörigen {@link Event} (Primary Key). Wird das Event gelöscht,
+     * löscht die Datenbank den Verlauf mit (unter PostgreSQL per Trigger, da <code>events</code> partitioniert ist).
+     * @see #getEventId()
+     */
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    /**
+     * Anzahl gespeicherter Punkte.
+     * @see #getPointCount()
+     */
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    /**
+     * Zeitpunkt des ersten Punkts.
+     * @see #getFirstTimestamp()
+     */
+    @Column(name = "first_timestamp", nullable = false)
+    private Instant firstTimestamp;
+
+    /**
+     * Zeitpunkt des letzten Punkts.
+     * @see #getLastTimestamp()
+     */
+    @Column(name = "last_timestamp", nullable = false)
+    private Instant lastTimestamp;
+
+    /**
+     * Breitengrad des letzten Punkts.
+     * @see #getLastLatitude()
+     */
+    @Column(name = "last_latitude", nullable = false)
+    private double lastLatitude;
+
+    /**
+     * Längengrad des letzten Punkts.
+     * @see #getLastLongitude()
+     */
+    @Column(name = "last_longitude", nullable = false)
+    private double lastLongitude;
+
+    /**
+     * Delta- und varint-kodierte Punkte, aufsteigend nach Zeitpunkt.
+     * @see #getData()
+     */
+    @Column(name = "data", nullable = false, length = Length.LONG32)
+    private byte[] data;
+
+    /**
+     * Zeitpunkt der letzten Änderung.
+     * @see #getUpdatedAt()
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Ob der Verlauf noch nicht gespeichert ist. Die ID wird nicht generiert, daher kann
+     * Spring Data neue Einträge nicht an einer fehlenden ID erkennen; ohne dieses Feld
+     * würde vor jedem Insert ein Select ausgeführt.
+     */
+    @Transient
+    private boolean isNew;
+
+    /**
+     * Leerer Standard-Konstruktor (für JPA erforderlich).
+     */
+    public EventTrack() {}
+
+    /**
+     * Konstruktor für einen neuen, noch leeren Verlauf.
+     *
+     * @param eventId ID des Events
+     */
+    public EventTrack(Long eventId) {
+        this.eventId = eventId;
+        this.data = new byte[0];
+        this.isNew = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // Getter & Setter
+    public Long getEventId() {
+        return eventId;
+    }
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+    public void setPointCount(int pointCount) {
+        this.pointCount = pointCount;
+    }
+
+    public Instant getFirstTimestamp() {
+        return firstTimestamp;
+    }
+    public void setFirstTimestamp(Instant firstTimestamp) {
+        this.firstTimestamp = firstTimestamp;
+    }
+
+    public Instant getLastTimestamp() {
+        return lastTimestamp;
+    }
+    public void setLastTimestamp(Instant lastTimestamp) {
+        this.lastTimestamp = lastTimestamp;
+    }
+
+    public double getLastLatitude() {
+        return lastLatitude;
+    }
+    public void setLastLatitude(double lastLatitude) {
+        this.lastLatitude = lastLatitude;
+    }
+
+    public double getLastLongitude() {
+        return lastLongitude;
+    }
+    public void setLastLongitude(double lastLongitude) {
+        this.lastLongitude = lastLongitude;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,148 @@
+package com.wiss.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * <h2>
+ *     Entity-Klasse für den Fortschritt eines Dateiimports
+ * </h2>
+ * <p>
+ *     Speichert pro Importdatei, bis zu welcher Byte-Position die Daten bereits gespeichert wurden.
+ *     Die Marke wird in derselben Transaktion wie der zugehörige Block geschrieben; nach einem Absturz
+ *     setzt der Import genau hinter dem letzten gespeicherten Block fort.
+ * </p>
+ * <p>
+ *     Grösse und Änderungszeitpunkt der Datei werden mitgespeichert. Stimmen sie nicht mehr überein,
+ *     wurde die Datei ersetzt und der Import beginnt von vorne.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EonetArchiveImportService
+ */
+@Entity
+@Table(name = "import_checkpoints")
+public class ImportCheckpoint {
+
+    /**
+     * Absoluter Pfad der Importdatei (Primary Key).
+     * @see #getFile()
+     */
+    @Id
+    @Column(name = "file", length = 500)
+    private String file;
+
+    /**
+     * Grösse der Datei in Bytes beim Start des Imports.
+     * @see #getFileSize()
+     */
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    /**
+     * Änderungszeitpunkt der Datei beim Start des Imports.
+     * @see #getLastModified()
+     */
+    @Column(name = "last_modified", nullable = false)
+    private Instant lastModified;
+
+    /**
+     * Byte-Position, ab der noch nichts gespeichert wurde; gleich {@link #fileSize}, wenn der Import abgeschlossen ist.
+     * @see #getByteOffset()
+     */
+    @Column(name = "byte_offset", nullable = false)
+    private long byteOffset;
+
+    /**
+     * Anzahl bisher gespeicherter Features (über alle Läufe).
+     * @see #getImportedRows()
+     */
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    /**
+     * Anzahl bisher abgelehnter Features (über alle Läufe).
+     * @see #getRejectedRows()
+     */
+    @Column(name = "rejected_rows", nullable = false)
+    private long rejectedRows;
+
+    /**
+     * Zeitpunkt der letzten Aktualisierung.
+     * @see #getUpdatedAt()
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Leerer Standard-Konstruktor (für JPA erforderlich).
+     */
+    public ImportCheckpoint() {}
+
+    /**
+     * Konstruktor für den Beginn eines Imports.
+     *
+     * @param file         Absoluter Pfad der Datei.
+     * @param fileSize     Grösse der Datei in Bytes.
+     * @param lastModified Änderungszeitpunkt der Datei.
+     */
+    public ImportCheckpoint(String file, long fileSize, Instant lastModified) {
+        this.file = file;
+        this.fileSize = fileSize;
+        this.lastModified = lastModified;
+        this.updatedAt = Instant.now();
+    }
+
+    // Getter & Setter
+    public String getFile() {
+        return file;
+    }
+    public void setFile(String file) {
+        this.file = file;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Instant getLastModified() {
+        return lastModified;
+    }
+    public void setLastModified(Instant lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public long getByteOffset() {
+        return byteOffset;
+    }
+    public void setByteOffset(long byteOffset) {
+        this.byteOffset = byteOffset;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
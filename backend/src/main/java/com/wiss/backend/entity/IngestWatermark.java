@@ -0,0 +1,88 @@
+package com.wiss.backend.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * <h2>
+ *     Entity-Klasse für den Fortschritt eines Feed-Imports
+ * </h2>
+ * <p>
+ *     Speichert pro Feed (z. B. <code>eonet:wildfires</code>), bis zu welchem Datum die Daten
+ *     bereits vollständig übernommen wurden. Der nächste Abruf fragt nur noch Events ab diesem
+ *     Datum ab (inkrementelles Polling), statt den ganzen Feed erneut zu laden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EonetIngestService
+ */
+@Entity
+@Table(name = "ingest_watermarks")
+public class IngestWatermark {
+
+    /**
+     * Eindeutiger Name des Feeds (Primary Key).
+     * @see #getFeed()
+     */
+    @Id
+    @Column(name = "feed", length = 100)
+    private String feed;
+
+    /**
+     * Datum, bis zu dem der Feed vollständig übernommen wurde.
+     * @see #getPolledUntil()
+     */
+    @Column(name = "polled_until", nullable = false)
+    private LocalDate polledUntil;
+
+    /**
+     * Zeitpunkt der letzten erfolgreichen Übernahme.
+     * @see #getUpdatedAt()
+     */
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    /**
+     * Leerer Standard-Konstruktor (für JPA erforderlich).
+     */
+    public IngestWatermark() {}
+
+    /**
+     * Konstruktor für eine neue bzw. fortgeschriebene Marke.
+     *
+     * @param feed        Name des Feeds.
+     * @param polledUntil Datum, bis zu dem der Feed übernommen wurde.
+     * @param updatedAt   Zeitpunkt der Übernahme.
+     */
+    public IngestWatermark(String feed, LocalDate polledUntil, Instant updatedAt) {
+        this.feed = feed;
+        this.polledUntil = polledUntil;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getter & Setter
+    public String getFeed() {
+        return feed;
+    }
+    public void setFeed(String feed) {
+        this.feed = feed;
+    }
+
+    public LocalDate getPolledUntil() {
+        return polledUntil;
+    }
+    public void setPolledUntil(LocalDate polledUntil) {
+        this.polledUntil = polledUntil;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -18,6 +18,12 @@
  * <ul>
  *     <li>{@link com.wiss.backend.entity.Event} – Entity-Klasse zur Abbildung eines
  *     Naturereignisses mit ID, Titel, Datum, Kategorie, Koordinaten und Status.</li>
+ *     <li>{@link com.wiss.backend.entity.IngestWatermark} – Fortschrittsmarke eines Feed-Imports
+ *     (bis zu welchem Datum ein Feed übernommen wurde).</li>
+ *     <li>{@link com.wiss.backend.entity.ImportCheckpoint} – Fortschrittsmarke eines Archivimports
+ *     (bis zu welcher Byte-Position eine Datei übernommen wurde).</li>
+ *     <li>{@link com.wiss.backend.entity.EventTrack} – Verlauf eines Events, delta- und
+ *     varint-kodiert in einer Zeile pro Event.</li>
  * </ul>
  *
  * <p>
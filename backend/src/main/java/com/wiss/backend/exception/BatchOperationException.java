@@ -0,0 +1,62 @@
+package com.wiss.backend.exception;
+
+import com.wiss.backend.dto.BatchOperationResultDTO;
+import com.wiss.backend.dto.BatchResultDTO;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für einen fehlgeschlagenen Batch-Request
+ * </h2>
+ * <p>
+ *     Wird geworfen, wenn mindestens eine Operation in {@code POST /api/events/batch} fehlschlägt.
+ *     Dadurch wird die gesamte Transaktion zurückgerollt. Die Exception enthält das
+ *     {@link BatchResultDTO} mit dem Ergebnis jeder Operation.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in den HTTP-Status der ersten fehlgeschlagenen
+ *         Operation umgewandelt (z. B. 400, 404 oder 409).
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleBatchOperation(BatchOperationException, WebRequest)
+ */
+public class BatchOperationException extends RuntimeException {
+
+    /**
+     * Ergebnis aller Operationen des Batches.
+     */
+    private final BatchResultDTO result;
+
+    /**
+     * Erstellt eine neue BatchOperationException.
+     *
+     * @param result Ergebnis aller Operationen (nicht gespeichert)
+     */
+    public BatchOperationException(BatchResultDTO result) {
+        super("Batch wurde nicht ausgeführt, mindestens eine Operation ist fehlgeschlagen.");
+        this.result = result;
+    }
+
+    /**
+     * @return Ergebnis aller Operationen des Batches.
+     */
+    public BatchResultDTO getResult() {
+        return result;
+    }
+
+    /**
+     * @return HTTP-Statuscode der ersten fehlgeschlagenen Operation, sonst 400.
+     */
+    public int getStatusCode() {
+        return result.getResults().stream()
+                .map(BatchOperationResultDTO::getCode)
+                .filter(code -> code >= 400)
+                .findFirst()
+                .orElse(400);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+
+/**
+ * <h2>
+ *     Exception für eine ausgelastete Datenbank
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn innerhalb der erlaubten Wartezeit keine freie
+ *     Datenbankverbindung im Bulkhead ({@link com.wiss.backend.config.DatabaseBulkhead}) verfügbar wird.
+ *     Statt weiter zu warten, erhält der Client eine schnelle Absage und kann es später erneut versuchen.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 503 Service Unavailable umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleDatabaseUnavailable(RuntimeException, WebRequest)
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+    /**
+     * Erstellt eine neue DatabaseBusyException.
+     *
+     * @param maxWait Wartezeit, nach der abgebrochen wurde
+     */
+    public DatabaseBusyException(Duration maxWait) {
+        super("Die Datenbank ist ausgelastet (keine Verbindung innerhalb von " + maxWait.toMillis()
+                + " ms frei). Bitte versuchen Sie es später erneut.");
+    }
+}
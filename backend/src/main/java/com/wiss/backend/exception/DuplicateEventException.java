@@ -0,0 +1,50 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für doppelt erfasste Events
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn ein neu erfasstes Event einem bereits
+ *     gespeicherten Event entspricht (gleiche Kategorie, nahezu gleicher Standort,
+ *     gleicher Zeitraum und gleicher normalisierter Titel) und die Duplikat-Richtlinie
+ *     auf {@code REJECT} steht.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 409 Conflict umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleDuplicateEvent(DuplicateEventException, WebRequest)
+ * @see com.wiss.backend.service.EventDuplicateDetector
+ */
+public class DuplicateEventException extends RuntimeException {
+
+    /**
+     * Die ID des bereits vorhandenen Events, dem das neue Event entspricht.
+     */
+    private final Long existingEventId;
+
+    /**
+     * Erstellt eine neue DuplicateEventException.
+     *
+     * @param existingEventId Die ID des bereits vorhandenen Events.
+     */
+    public DuplicateEventException(Long existingEventId) {
+        super("Das Event ist ein Duplikat des bestehenden Events mit ID " + existingEventId);
+        this.existingEventId = existingEventId;
+    }
+
+    /**
+     * @return Die ID des bereits vorhandenen Events.
+     */
+    public Long getExistingEventId() {
+        return existingEventId;
+    }
+}
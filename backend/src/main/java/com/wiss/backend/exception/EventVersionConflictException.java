@@ -0,0 +1,62 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für zwischenzeitlich geänderte Events
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn ein Event mit {@code If-Match} geändert oder gelöscht
+ *     werden soll, es seit dem Lesen aber bereits geändert wurde (andere Versionsnummer).
+ *     Der Client muss das Event neu laden, statt die fremde Änderung zu überschreiben.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 412 Precondition Failed umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleVersionConflict(EventVersionConflictException, WebRequest)
+ */
+public class EventVersionConflictException extends RuntimeException {
+
+    /**
+     * Die ID des geänderten Events.
+     */
+    private final Long eventId;
+
+    /**
+     * Die vom Client erwartete Version.
+     */
+    private final long expectedVersion;
+
+    /**
+     * Erstellt eine neue EventVersionConflictException.
+     *
+     * @param eventId         Die ID des Events.
+     * @param expectedVersion Die vom Client erwartete Version.
+     */
+    public EventVersionConflictException(Long eventId, long expectedVersion) {
+        super("Event mit ID " + eventId + " wurde seit Version " + expectedVersion + " geändert");
+        this.eventId = eventId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    /**
+     * @return Die ID des geänderten Events.
+     */
+    public Long getEventId() {
+        return eventId;
+    }
+
+    /**
+     * @return Die vom Client erwartete Version.
+     */
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -1,10 +1,22 @@
 package com.wiss.backend.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.wiss.backend.dto.BatchResultDTO;
 import com.wiss.backend.dto.ErrorResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -33,6 +45,10 @@ import java.util.Map;
  *     Die Rückgaben erfolgen im Format {@link ErrorResponseDTO}, inklusive Statuscode,
  *     Fehlertyp, Nachricht, Zeitstempel und URI-Pfad.
  * </p>
+ * <p>
+ *     Jede Fehlerantwort wird im Zähler {@code api.errors} mit den Tags {@code type}
+ *     (Fehlertyp der {@link ErrorResponseDTO}) und {@code status} erfasst.
+ * </p>
  *
  * @author Natascha Blumer
  * @version 1.1
@@ -42,6 +58,20 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param meterRegistry Registry für den Fehlerzähler {@code api.errors}; ohne Actuator-Metriken
+     *                      (z. B. in {@code @WebMvcTest}) die globale Registry von Micrometer
+     */
+    public GlobalExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
     /**
      * Behandelt {@link EventNotFoundException}, wenn ein Event mit der
      * angegebenen ID nicht existiert.
@@ -60,6 +90,24 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Behandelt {@link TicketNotFoundException}, wenn eine Quittung einer asynchronen
+     * Erstellung unbekannt oder abgelaufen ist.
+     *
+     * @param ex Die ausgelöste TicketNotFoundException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 404 (Not Found).
+     */
+    @ExceptionHandler(TicketNotFoundException.class)
+    public ResponseEntity<ErrorResponseDTO> handleTicketNotFound(TicketNotFoundException ex, WebRequest request) {
+        return buildError(
+                "TICKET_NOT_FOUND",
+                ex.getMessage(),
+                404,
+                request
+        );
+    }
+
     /**
      * Behandelt {@link FutureDateException}, wenn ein Event-Datum
      * in der Zukunft liegt.
@@ -114,6 +162,112 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Behandelt {@link DuplicateEventException}, wenn ein neues Event einem
+     * bereits gespeicherten Event entspricht.
+     *
+     * @param ex Die ausgelöste DuplicateEventException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 409 (Conflict).
+     */
+    @ExceptionHandler(DuplicateEventException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDuplicateEvent(DuplicateEventException ex, WebRequest request) {
+        return buildError(
+                "DUPLICATE_EVENT",
+                ex.getMessage(),
+                409,
+                request
+        );
+    }
+
+    /**
+     * Behandelt {@link EventVersionConflictException}, wenn ein Event mit {@code If-Match}
+     * geändert oder gelöscht werden soll, das inzwischen eine andere Version hat.
+     *
+     * @param ex Die ausgelöste EventVersionConflictException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 412 (Precondition Failed).
+     */
+    @ExceptionHandler(EventVersionConflictException.class)
+    public ResponseEntity<ErrorResponseDTO> handleVersionConflict(EventVersionConflictException ex, WebRequest request) {
+        return buildError(
+                "VERSION_CONFLICT",
+                ex.getMessage(),
+                412,
+                request
+        );
+    }
+
+    /**
+     * Behandelt {@link OptimisticLockingFailureException}, wenn ein geladenes Event beim Schreiben
+     * bereits von einem anderen Request geändert wurde (ohne {@code If-Match}, z. B. in Batch-Requests).
+     *
+     * @param ex Die ausgelöste OptimisticLockingFailureException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 409 (Conflict).
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDTO> handleOptimisticLockingFailure(OptimisticLockingFailureException ex, WebRequest request) {
+        return buildError(
+                "CONCURRENT_MODIFICATION",
+                "Das Event wurde gleichzeitig von einem anderen Request geändert",
+                409,
+                request
+        );
+    }
+
+    /**
+     * Behandelt {@link DataIntegrityViolationException}, z. B. wenn zwei Requests gleichzeitig
+     * ein Event mit demselben natürlichen Schlüssel ({@code source}, {@code externalId}) anlegen.
+     *
+     * @param ex Die ausgelöste DataIntegrityViolationException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 409 (Conflict).
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolation(DataIntegrityViolationException ex, WebRequest request) {
+        return buildError(
+                "DATA_CONFLICT",
+                "Die Änderung verletzt eine Eindeutigkeitsregel (z. B. source und externalId). Bitte erneut versuchen.",
+                409,
+                request
+        );
+    }
+
+    /**
+     * Behandelt {@link DatabaseBusyException}, wenn im Datenbank-Bulkhead innerhalb der Wartezeit keine
+     * Verbindung frei wurde, sowie {@link CannotCreateTransactionException}, wenn keine Transaktion
+     * gestartet werden konnte. Der Bulkhead meldet sich beim Holen der Verbindung; die Exception kommt
+     * daher meist als Ursache einer {@link CannotCreateTransactionException} an.
+     *
+     * @param ex Die ausgelöste Exception.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Strukturierte Fehlerantwort mit HTTP-Status 503 (Service Unavailable) und {@code Retry-After}.
+     */
+    @ExceptionHandler({DatabaseBusyException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponseDTO> handleDatabaseUnavailable(RuntimeException ex, WebRequest request) {
+        ResponseEntity<ErrorResponseDTO> response = NestedExceptionUtils.getMostSpecificCause(ex) instanceof DatabaseBusyException busy
+                ? buildError("DATABASE_BUSY", busy.getMessage(), 503, request)
+                : buildError("DATABASE_UNAVAILABLE", "Die Datenbank ist derzeit nicht erreichbar. Bitte versuchen Sie es später erneut.", 503, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    /**
+     * Behandelt {@link BatchOperationException}, wenn mindestens eine Operation eines
+     * Batch-Requests fehlgeschlagen ist. Statt einer {@link ErrorResponseDTO} wird das
+     * Ergebnis jeder Operation zurückgegeben.
+     *
+     * @param ex Die ausgelöste BatchOperationException.
+     * @param request Der zugehörige HTTP-Request.
+     * @return Ergebnis aller Operationen mit dem HTTP-Status der ersten fehlgeschlagenen Operation.
+     */
+    @ExceptionHandler(BatchOperationException.class)
+    public ResponseEntity<BatchResultDTO> handleBatchOperation(BatchOperationException ex, WebRequest request) {
+        return new ResponseEntity<>(ex.getResult(), HttpStatus.valueOf(ex.getStatusCode()));
+    }
+
     /**
      * Behandelt {@link MethodArgumentTypeMismatchException}, die auftritt, wenn z. B.
      * eine ungültige ID oder ein ungültiger Enum-Wert in einem {@code @PathVariable}
@@ -222,9 +376,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponseDTO> handleGeneralException(Exception ex, WebRequest request) {
-        // Internes Logging
-        System.err.println("Unhandled exception: " + ex.getMessage());
-        ex.printStackTrace();
+        log.error("Unbehandelte Exception bei {}", extractPath(request), ex);
 
         return buildError(
                 "INTERNAL_SERVER_ERROR",
@@ -238,7 +390,7 @@ public class GlobalExceptionHandler {
      * Erstellt eine strukturierte Fehlerantwort im Standardformat.
      * <p>
      *     Wird von allen spezifischen Exception-Handlern verwendet, um Redundanz zu vermeiden.
-     *     Enthält Fehlertyp, Nachricht, HTTP-Status, Zeitstempel und URI-Pfad.
+     *     Enthält Fehlertyp, Nachricht, HTTP-Status, Zeitstempel und URI-Pfad und zählt den Fehler in {@code api.errors}.
      * </p>
      *
      * @param type Technischer Fehlercode, z. B. "INVALID_STATUS".
@@ -248,6 +400,12 @@ public class GlobalExceptionHandler {
      * @return Strukturierte Fehlerantwort mit {@link ErrorResponseDTO}.
      */
     private ResponseEntity<ErrorResponseDTO> buildError(String type, String message, int status, WebRequest request) {
+        Counter.builder("api.errors")
+                .description("Fehlerantworten nach Fehlertyp")
+                .tag("type", type)
+                .tag("status", String.valueOf(status))
+                .register(meterRegistry)
+                .increment();
         ErrorResponseDTO error = new ErrorResponseDTO(
                 type,
                 message,
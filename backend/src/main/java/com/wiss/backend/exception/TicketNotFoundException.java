@@ -0,0 +1,47 @@
+package com.wiss.backend.exception;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * <h2>
+ *     Exception für unbekannte Quittungen
+ * </h2>
+ * <p>
+ *     Diese Exception wird geworfen, wenn der Stand einer asynchronen Erstellung abgefragt wird,
+ *     die Quittung aber nie ausgestellt wurde oder ihre Aufbewahrungsdauer abgelaufen ist.
+ * </p>
+ * <ul>
+ *     <li>
+ *         Wird durch den GlobalExceptionHandler in HTTP 404 Not Found umgewandelt.
+ *     </li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see GlobalExceptionHandler#handleTicketNotFound(TicketNotFoundException, WebRequest)
+ */
+public class TicketNotFoundException extends RuntimeException {
+
+    /**
+     * Die angefragte Quittung.
+     */
+    private final String ticket;
+
+    /**
+     * Erstellt eine neue TicketNotFoundException.
+     *
+     * @param ticket Die angefragte Quittung.
+     */
+    public TicketNotFoundException(String ticket) {
+        super("Quittung " + ticket + " ist unbekannt oder abgelaufen");
+        this.ticket = ticket;
+    }
+
+    /**
+     * @return Die angefragte Quittung.
+     */
+    public String getTicket() {
+        return ticket;
+    }
+}
@@ -15,8 +15,13 @@
  * <ul>
  *     <li>{@link com.wiss.backend.exception.EventNotFoundException} – Wird geworfen, wenn ein Event mit der angegebenen ID nicht gefunden wurde (HTTP 404).</li>
  *     <li>{@link com.wiss.backend.exception.InvalidEventDataException} – Wird geworfen, wenn Event-Daten unvollständig oder ungültig sind (HTTP 400).</li>
+ *     <li>{@link com.wiss.backend.exception.TicketNotFoundException} – Wird geworfen, wenn die Quittung einer asynchronen Erstellung unbekannt oder abgelaufen ist (HTTP 404).</li>
  *     <li>{@link com.wiss.backend.exception.FutureDateException} – Wird geworfen, wenn ein Event-Datum in der Zukunft liegt (HTTP 400).</li>
  *     <li>{@link com.wiss.backend.exception.CoordinateOutOfRangeException} – Wird geworfen, wenn Longitude oder Latitude ausserhalb des erlaubten Bereichs liegt (HTTP 400).</li>
+ *     <li>{@link com.wiss.backend.exception.DuplicateEventException} – Wird geworfen, wenn ein neues Event ein Duplikat eines bestehenden Events ist (HTTP 409).</li>
+ *     <li>{@link com.wiss.backend.exception.EventVersionConflictException} – Wird geworfen, wenn ein Event mit {@code If-Match} geändert oder gelöscht werden soll, das inzwischen eine andere Version hat (HTTP 412).</li>
+ *     <li>{@link com.wiss.backend.exception.DatabaseBusyException} – Wird geworfen, wenn im Datenbank-Bulkhead innerhalb der Wartezeit keine Verbindung frei wird (HTTP 503).</li>
+ *     <li>{@link com.wiss.backend.exception.BatchOperationException} – Wird geworfen, wenn eine Operation eines Batch-Requests fehlschlägt; enthält das Ergebnis pro Operation.</li>
  *     <li>{@link com.wiss.backend.exception.GlobalExceptionHandler} – Wandelt alle obigen Fehler in strukturierte JSON-Antworten im {@link com.wiss.backend.dto.ErrorResponseDTO}-Format um.</li>
  * </ul>
  *
@@ -54,7 +54,7 @@ public class EventMapper {
             return null;
         }
 
-        return new EventDTO(
+        EventDTO dto = new EventDTO(
                 entity.getId(),
                 entity.getTitle(),
                 entity.getDate(),
@@ -63,6 +63,10 @@ public class EventMapper {
                 entity.getLatitude(),
                 entity.getStatus()
         );
+        dto.setDuplicateOf(entity.getDuplicateOf());
+        dto.setSource(entity.getSource());
+        dto.setExternalId(entity.getExternalId());
+        return dto;
     }
 
     /**
@@ -106,7 +110,7 @@ public class EventMapper {
             return null;
         }
 
-        return new Event(
+        Event entity = new Event(
                 dto.getTitle(),
                 dto.getDate(),
                 dto.getCategory(),
@@ -114,6 +118,9 @@ public class EventMapper {
                 dto.getLatitude(),
                 dto.getStatus()
         );
+        entity.setSource(dto.getSource());
+        entity.setExternalId(dto.getExternalId());
+        return entity;
     }
 
     /**
@@ -0,0 +1,40 @@
+package com.wiss.backend.model;
+
+/**
+ * <h2>
+ *     Enum zur Art einer Operation im Batch-Endpunkt
+ * </h2>
+ *
+ * <p>
+ *     Gibt an, was eine einzelne Operation in {@code POST /api/events/batch} ausführt:
+ *     <ul>
+ *         <li><code>create</code> – Ein neues Event wird erstellt.</li>
+ *         <li><code>update</code> – Ein bestehendes Event wird überschrieben.</li>
+ *         <li><code>delete</code> – Ein bestehendes Event wird gelöscht.</li>
+ *     </ul>
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.dto.BatchOperationDTO Verwendung als Transportobjekt
+ * @see com.wiss.backend.service.EventService#executeBatch(java.util.List) Ausführung der Operationen
+ */
+public enum BatchOperationType {
+
+    /**
+     * Neues Event erstellen.
+     */
+    create,
+
+    /**
+     * Bestehendes Event aktualisieren.
+     */
+    update,
+
+    /**
+     * Bestehendes Event löschen.
+     */
+    delete
+}
@@ -0,0 +1,53 @@
+package com.wiss.backend.model;
+
+/**
+ * <h2>
+ *     Enum zum Zustand einer asynchron angenommenen Erstellung
+ * </h2>
+ *
+ * <p>
+ *     Gibt an, wie weit ein über {@code POST /api/events} mit {@code Prefer: respond-async}
+ *     angenommenes Event verarbeitet ist:
+ *     <ul>
+ *         <li><code>queued</code> – Das Event wartet in der Warteschlange im Arbeitsspeicher.</li>
+ *         <li><code>spilled</code> – Die Warteschlange war voll; das Event wartet in der Auslagerungsdatei.</li>
+ *         <li><code>written</code> – Das Event ist gespeichert (bzw. mit einem bestehenden zusammengeführt).</li>
+ *         <li><code>rejected</code> – Das Event wurde beim Schreiben abgelehnt, z. B. als Duplikat.</li>
+ *         <li><code>failed</code> – Das Event konnte wegen eines Datenbankfehlers nicht gespeichert werden.</li>
+ *     </ul>
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ *
+ * @see com.wiss.backend.dto.EventTicketDTO Verwendung als Transportobjekt
+ * @see com.wiss.backend.service.EventWriteBehindQueue Verarbeitung der Warteschlange
+ */
+public enum TicketState {
+
+    /**
+     * Wartet in der Warteschlange im Arbeitsspeicher.
+     */
+    queued,
+
+    /**
+     * Wartet in der Auslagerungsdatei.
+     */
+    spilled,
+
+    /**
+     * Gespeichert.
+     */
+    written,
+
+    /**
+     * Beim Schreiben abgelehnt (ungültige Daten oder Duplikat).
+     */
+    rejected,
+
+    /**
+     * Wegen eines Datenbankfehlers nicht gespeichert.
+     */
+    failed
+}
@@ -17,6 +17,10 @@
  *         gemäss der NASA-EONET-API (z. B. floods, volcanoes).</li>
  *     <li>{@link com.wiss.backend.model.EventStatus} – Gibt an, ob ein Event aktuell <code>open</code>
  *         oder bereits <code>closed</code> ist.</li>
+ *     <li>{@link com.wiss.backend.model.BatchOperationType} – Art einer Operation im Batch-Endpunkt
+ *         (<code>create</code>, <code>update</code>, <code>delete</code>).</li>
+ *     <li>{@link com.wiss.backend.model.TicketState} – Stand einer asynchron angenommenen Erstellung
+ *         (<code>queued</code>, <code>spilled</code>, <code>written</code>, <code>rejected</code>, <code>failed</code>).</li>
  * </ul>
  *
  * <p>
@@ -0,0 +1,200 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.Event;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * <h2>
+ *     Erweiterung des {@link EventRepository} für Massenoperationen
+ * </h2>
+ * <p>
+ *     Spring Data erlaubt es, ein Repository um eigene Implementierungen zu ergänzen.
+ *     Diese Schnittstelle wird von {@link EventRepository} erweitert; die Implementierung
+ *     liegt in {@link EventBulkRepositoryImpl} und arbeitet direkt mit dem {@code EntityManager}.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventRepository
+ * @see EventBulkRepositoryImpl
+ */
+public interface EventBulkRepository {
+
+    /**
+     * Merkt ein neues Event zum Speichern vor, ohne sofort ein SQL-Statement auszuführen.
+     * <p>
+     *     Die ID wird dabei bereits aus dem vorab reservierten Sequenzblock vergeben.
+     *     Geschrieben wird erst beim nächsten {@link #flushAndClear()} bzw. beim Commit,
+     *     und zwar gebündelt als JDBC-Batch. Muss innerhalb einer Transaktion aufgerufen werden.
+     * </p>
+     *
+     * @param event neues Event (ohne ID)
+     * @return dasselbe Event, nun mit ID
+     */
+    Event persist(Event event);
+
+    /**
+     * Schreibt alle vorgemerkten Änderungen als JDBC-Batch und leert den Persistenzkontext,
+     * damit der Speicherbedarf bei grossen Importen nicht mit der Anzahl Events wächst.
+     */
+    void flushAndClear();
+
+    /**
+     * Ergebnis einer Zeile aus {@link #upsert(List)}: eingefügt oder geändert.
+     *
+     * @param id         ID des Events
+     * @param source     Herkunft
+     * @param externalId ID im Herkunftssystem
+     * @param inserted   {@code true} bei neu eingefügten, {@code false} bei geänderten Events
+     */
+    record UpsertOutcome(long id, String source, String externalId, boolean inserted) {}
+
+    /**
+     * Prüft, ob die aktuelle Datenbankverbindung zu PostgreSQL gehört und damit
+     * {@code COPY ... FROM STDIN} sowie die Schlüsseltabelle {@code event_keys} unterstützt.
+     *
+     * @return {@code true}, wenn {@link #copyInsert(Iterator)} und {@link #upsert(List)} verwendet werden können
+     */
+    boolean isPostgreSql();
+
+    /**
+     * Schreibt neue Events per {@code COPY events (...) FROM STDIN} in die Datenbank.
+     * <p>
+     *     Die Events werden beim Lesen aus dem Iterator blockweise an die Datenbank gestreamt,
+     *     der Speicherbedarf ist daher unabhängig von der Anzahl Events. IDs werden pro Block
+     *     aus der Sequenz <code>events_seq</code> reserviert. Der Iterator wird nur zwischen zwei
+     *     {@code COPY}-Befehlen gelesen und darf daher selbst Anweisungen ausführen. Die vergebene ID
+     *     wird in jedem Event gesetzt, {@code duplicateOf} wird mitgeschrieben.
+     *     Muss innerhalb einer Transaktion aufgerufen werden.
+     * </p>
+     * <p>
+     *     {@code source} und {@code externalId} werden mitgeschrieben; die Trigger auf {@code events}
+     *     tragen den Schlüssel in {@code event_keys} ein und lehnen bereits bekannte Schlüssel ab.
+     *     Events mit natürlichem Schlüssel gehören daher über {@link #upsert(List)} geschrieben.
+     * </p>
+     *
+     * @param events neue, bereits validierte Events (ohne ID)
+     * @return Anzahl der geschriebenen Zeilen
+     * @throws UnsupportedOperationException Wenn die Datenbank kein {@code COPY} unterstützt
+     */
+    long copyInsert(Iterator<Event> events);
+
+    /**
+     * Fügt Events anhand ihres natürlichen Schlüssels ({@code source}, {@code externalId}) ein oder
+     * aktualisiert sie, mit einer einzigen Anweisung für alle Events. Bestehende Events werden über
+     * die Schlüsseltabelle {@code event_keys} gefunden, die Trigger auf {@code events} aktuell halten.
+     * <p>
+     *     Zeilen, deren Werte sich nicht ändern würden, werden nicht geschrieben
+     *     ({@code WHERE ... IS DISTINCT FROM}) und erscheinen nicht im Ergebnis.
+     *     Jeder Schlüssel darf in {@code events} nur einmal vorkommen.
+     *     {@code duplicateOf} wird nur für neu eingefügte Events übernommen; bei geänderten bleibt
+     *     die gespeicherte Markierung bestehen.
+     *     Muss innerhalb einer Transaktion aufgerufen werden.
+     * </p>
+     * <p>
+     *     Neue Schlüssel werden vor dem Einfügen in {@code event_keys} beansprucht
+     *     ({@code ON CONFLICT DO NOTHING}). Beansprucht eine parallele Transaktion denselben neuen
+     *     Schlüssel zuerst, wartet die Anweisung auf deren Commit und lässt die Zeile aus; diese
+     *     Zeilen werden mit einer neuen Anweisung erneut abgeglichen und dann aktualisiert.
+     * </p>
+     *
+     * @param events Events mit gesetztem {@code source} und {@code externalId} (ohne ID)
+     * @return eingefügte und geänderte Zeilen
+     * @throws org.springframework.dao.ConcurrencyFailureException Wenn Zeilen nach mehreren Versuchen
+     *         weder eingefügt noch gefunden werden konnten
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    List<UpsertOutcome> upsert(List<Event> events);
+
+    /**
+     * Legt fehlende Jahrespartitionen der Tabelle {@code events} an (Funktion
+     * {@code events_ensure_partitions}, siehe Migrationen V8 und V12). Events, die bisher mangels
+     * passender Partition in {@code events_default} lagen, werden dabei in ihre Jahrespartition verschoben.
+     * Die Tabelle {@code events} bleibt währenddessen les- und beschreibbar; nur {@code events_default}
+     * ist beim Anhängen bis zum Commit exklusiv gesperrt.
+     * Muss innerhalb einer Transaktion aufgerufen werden.
+     *
+     * @param fromYear erstes Jahr (inklusive)
+     * @param toYear   letztes Jahr (inklusive)
+     * @return Namen der neu angelegten Partitionen
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    List<String> ensureYearPartitions(int fromYear, int toYear);
+
+    /**
+     * Liest den Datenstand, bis zu dem alle Änderungen an {@code events} committet sind
+     * (Funktion {@code events_change_version}, siehe Migration V9). Jede Änderung mit einer
+     * Nummer ({@code change_seq}) bis zu diesem Wert ist danach in jeder Abfrage sichtbar.
+     * <p>
+     *     Laufen gerade schreibende Transaktionen, wird nicht gewartet, sondern {@code null}
+     *     zurückgegeben. Muss in einer eigenen, kurzen Transaktion aufgerufen werden, da
+     *     Schreibvorgänge bis zu deren Ende warten.
+     * </p>
+     *
+     * @return Datenstand oder {@code null}, wenn gerade geschrieben wird
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    Long lockChangeVersion();
+
+    /**
+     * Liest Events, die nach dem angegebenen Datenstand eingefügt oder geändert wurden,
+     * aufsteigend nach ID (Keyset-Pagination).
+     *
+     * @param changeVersion Datenstand, z. B. eines Snapshots
+     * @param afterId       nur Events mit grösserer ID
+     * @param limit         maximale Anzahl Events
+     * @return geänderte Events in ihrem aktuellen Stand
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    List<Event> findChangedSince(long changeVersion, long afterId, int limit);
+
+    /**
+     * Liest die IDs der Events, die nach dem angegebenen Datenstand gelöscht wurden
+     * (auch Events, die nur in eine andere Partition verschoben wurden).
+     *
+     * @param changeVersion Datenstand, z. B. eines Snapshots
+     * @return IDs der gelöschten Events
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    List<Long> findDeletedIdsSince(long changeVersion);
+
+    /**
+     * Entfernt Einträge aus {@code event_deletions}, die in einem Snapshot bereits berücksichtigt und
+     * älter als die Aufbewahrungsdauer sind. Snapshots anderer Instanzen, die jünger als die
+     * Aufbewahrungsdauer sind, finden ihre Löschungen damit weiterhin.
+     * Muss innerhalb einer Transaktion aufgerufen werden.
+     *
+     * @param changeVersion Datenstand des zuletzt geschriebenen Snapshots
+     * @param retention     Aufbewahrungsdauer der Löschungen
+     * @return Anzahl entfernter Einträge
+     * @throws UnsupportedOperationException Wenn die Datenbank nicht PostgreSQL ist
+     */
+    int pruneDeletions(long changeVersion, Duration retention);
+
+    /**
+     * Ändert nur die angegebenen Spalten eines Events mit einer einzigen Anweisung, erhöht dabei die
+     * Versionsnummer und liefert den neuen Stand zurück: unter PostgreSQL per
+     * {@code UPDATE ... RETURNING *}, sonst per {@code SELECT * FROM FINAL TABLE (UPDATE ...)} (H2).
+     * Das Event wird vorher nicht gelesen; unveränderte Spalten werden nicht geschrieben.
+     * <p>
+     *     Mit {@code expectedVersion} wird nur geschrieben, wenn das Event noch diese Version hat.
+     *     Muss innerhalb einer Transaktion aufgerufen werden.
+     * </p>
+     *
+     * @param id              ID des Events
+     * @param values          neue Werte nach Attributname von {@link Event} ({@code title}, {@code date},
+     *                        {@code category}, {@code longitude}, {@code latitude}, {@code status},
+     *                        {@code duplicateOf}, {@code source}, {@code externalId}); {@code null} leert die Spalte
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return neuer Stand (nicht vom Persistenzkontext verwaltet) oder leer, wenn das Event fehlt
+     *         oder eine andere Version hat
+     * @throws IllegalArgumentException Wenn {@code values} leer ist oder ein anderes Attribut enthält
+     */
+    Optional<Event> patch(long id, Map<String, ?> values, Long expectedVersion);
+}
@@ -0,0 +1,523 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+
+/**
+ * <h2>
+ *     Implementierung der Massenoperationen für Events
+ * </h2>
+ * <p>
+ *     Wird von Spring Data anhand des Namenssuffixes {@code Impl} automatisch mit dem
+ *     {@link EventRepository} verbunden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventBulkRepository
+ */
+public class EventBulkRepositoryImpl implements EventBulkRepository {
+
+    private static final String COPY_SQL =
+            "COPY events (id, title, date, category, longitude, latitude, status, source, external_id, duplicate_of) FROM STDIN";
+
+    /**
+     * Abgleich über die Schlüsseltabelle {@code event_keys}: Die Tabelle {@code events} ist nach
+     * Datum partitioniert und kann daher keinen eindeutigen Index auf ({@code source},
+     * {@code external_id}) haben, auf den sich {@code ON CONFLICT} beziehen könnte.
+     * <p>
+     *     Neue Schlüssel werden zuerst in {@code event_keys} beansprucht; nur beanspruchte Zeilen werden
+     *     eingefügt. Hat eine parallele Transaktion den Schlüssel zuerst beansprucht, liefert die Anweisung
+     *     die Zeile mit {@code inserted = NULL} zurück: Sie sieht den Schlüssel erst in einer neuen Anweisung.
+     * </p>
+     */
+    private static final String UPSERT_SQL = """
+            WITH input (id, title, date, category, longitude, latitude, status, source, external_id, duplicate_of) AS (
+                SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::date[], ?::varchar[], ?::float8[], ?::float8[],
+                                     ?::varchar[], ?::varchar[], ?::varchar[], ?::bigint[])
+            ), matched AS (
+                SELECT input.*, k.event_id
+                FROM input
+                JOIN event_keys k ON k.source = input.source AND k.external_id = input.external_id
+            ), claimed AS (
+                INSERT INTO event_keys (source, external_id, event_id)
+                SELECT source, external_id, id
+                FROM input
+                WHERE NOT EXISTS (SELECT 1 FROM matched WHERE matched.id = input.id)
+                ON CONFLICT DO NOTHING
+                RETURNING event_id
+            ), updated AS (
+                UPDATE events e SET
+                    title = m.title, date = m.date, category = m.category,
+                    longitude = m.longitude, latitude = m.latitude, status = m.status,
+                    version = e.version + 1
+                FROM matched m
+                WHERE e.id = m.event_id
+                  AND (e.title, e.date, e.category, e.longitude, e.latitude, e.status)
+                      IS DISTINCT FROM
+                      (m.title, m.date, m.category, m.longitude, m.latitude, m.status)
+                RETURNING e.id, e.source, e.external_id, false AS inserted
+            ), inserted AS (
+                INSERT INTO events (id, title, date, category, longitude, latitude, status, source, external_id, duplicate_of)
+                SELECT id, title, date, category, longitude, latitude, status, source, external_id, duplicate_of
+                FROM input
+                JOIN claimed ON claimed.event_id = input.id
+                RETURNING id, source, external_id, true AS inserted
+            )
+            SELECT * FROM updated
+            UNION ALL
+            SELECT * FROM inserted
+            UNION ALL
+            SELECT input.id, input.source, input.external_id, NULL::boolean
+            FROM input
+            WHERE NOT EXISTS (SELECT 1 FROM matched WHERE matched.id = input.id)
+              AND NOT EXISTS (SELECT 1 FROM claimed WHERE claimed.event_id = input.id)
+            """;
+
+    /**
+     * Anzahl Anweisungen, mit denen {@link #upsert(List)} Zeilen abgleicht, die parallel eingefügt wurden.
+     */
+    private static final int UPSERT_ATTEMPTS = 3;
+
+    private static final String ENSURE_PARTITIONS_SQL =
+            "SELECT * FROM events_ensure_partitions(?, ?)";
+
+    private static final String CHANGE_VERSION_SQL =
+            "SELECT events_change_version()";
+
+    private static final String CHANGED_SINCE_SQL =
+            "SELECT * FROM events WHERE change_seq > ? AND id > ? ORDER BY id LIMIT ?";
+
+    private static final String DELETED_SINCE_SQL =
+            "SELECT event_id FROM event_deletions WHERE change_seq > ?";
+
+    private static final String PRUNE_DELETIONS_SQL =
+            "DELETE FROM event_deletions WHERE change_seq <= ? AND deleted_at < now() - ? * INTERVAL '1 second'";
+
+    /**
+     * Spalten, die {@link #patch(long, Map, Long)} ändern darf, nach Attributname von {@link Event}.
+     */
+    private static final Map<String, String> PATCH_COLUMNS = Map.of(
+            "title", "title",
+            "date", "date",
+            "category", "category",
+            "longitude", "longitude",
+            "latitude", "latitude",
+            "status", "status",
+            "duplicateOf", "duplicate_of",
+            "source", "source",
+            "externalId", "external_id");
+
+    private static final String RESERVE_IDS_SQL =
+            "SELECT nextval('events_seq') FROM generate_series(1, ?)";
+
+    /**
+     * Anzahl Events pro {@code COPY}-Befehl; bestimmt den maximalen Speicherbedarf.
+     */
+    private static final int COPY_CHUNK_SIZE = 10_000;
+
+    /**
+     * Grösse des Puffers, ab der gesammelte Zeilen an die Datenbank übertragen werden.
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Event persist(Event event) {
+        entityManager.persist(event);
+        return event;
+    }
+
+    @Override
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Override
+    public boolean isPostgreSql() {
+        return entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.isWrapperFor(PGConnection.class));
+    }
+
+    @Override
+    public long copyInsert(Iterator<Event> events) {
+        if (!isPostgreSql()) {
+            throw new UnsupportedOperationException("COPY wird nur von PostgreSQL unterstützt.");
+        }
+        // Ausstehende JPA-Änderungen zuerst schreiben, damit die Reihenfolge erhalten bleibt
+        entityManager.flush();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            long total = 0;
+            List<Event> chunk = new ArrayList<>(COPY_CHUNK_SIZE);
+            while (events.hasNext()) {
+                chunk.add(events.next());
+                if (chunk.size() == COPY_CHUNK_SIZE) {
+                    total += copyChunk(connection, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                total += copyChunk(connection, chunk);
+            }
+            return total;
+        });
+    }
+
+    @Override
+    public List<String> ensureYearPartitions(int fromYear, int toYear) {
+        if (!isPostgreSql()) {
+            throw new UnsupportedOperationException("Partitionen werden nur von PostgreSQL unterstützt.");
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            List<String> created = new ArrayList<>();
+            try (PreparedStatement statement = connection.prepareStatement(ENSURE_PARTITIONS_SQL)) {
+                statement.setInt(1, fromYear);
+                statement.setInt(2, toYear);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        created.add(resultSet.getString(1));
+                    }
+                }
+            }
+            return created;
+        });
+    }
+
+    @Override
+    public Long lockChangeVersion() {
+        requireChangeLog();
+        Object version = entityManager.createNativeQuery(CHANGE_VERSION_SQL).getSingleResult();
+        return version == null ? null : ((Number) version).longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Event> findChangedSince(long changeVersion, long afterId, int limit) {
+        requireChangeLog();
+        return entityManager.createNativeQuery(CHANGED_SINCE_SQL, Event.class)
+                .setParameter(1, changeVersion)
+                .setParameter(2, afterId)
+                .setParameter(3, limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findDeletedIdsSince(long changeVersion) {
+        requireChangeLog();
+        List<?> ids = entityManager.createNativeQuery(DELETED_SINCE_SQL)
+                .setParameter(1, changeVersion)
+                .getResultList();
+        return ids.stream().map(id -> ((Number) id).longValue()).toList();
+    }
+
+    @Override
+    public int pruneDeletions(long changeVersion, Duration retention) {
+        requireChangeLog();
+        return entityManager.createNativeQuery(PRUNE_DELETIONS_SQL)
+                .setParameter(1, changeVersion)
+                .setParameter(2, retention.toSeconds())
+                .executeUpdate();
+    }
+
+    @Override
+    public Optional<Event> patch(long id, Map<String, ?> values, Long expectedVersion) {
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Keine Spalten zum Ändern angegeben.");
+        }
+        StringBuilder update = new StringBuilder("UPDATE events SET ");
+        List<Object> parameters = new ArrayList<>(values.size() + 2);
+        for (Map.Entry<String, ?> value : values.entrySet()) {
+            String column = PATCH_COLUMNS.get(value.getKey());
+            if (column == null) {
+                throw new IllegalArgumentException("Attribut kann nicht geändert werden: " + value.getKey());
+            }
+            update.append(column).append(" = ?, ");
+            parameters.add(value.getValue() instanceof Enum<?> constant ? constant.name() : value.getValue());
+        }
+        update.append("version = version + 1 WHERE id = ?");
+        parameters.add(id);
+        if (expectedVersion != null) {
+            update.append(" AND version = ?");
+            parameters.add(expectedVersion);
+        }
+        String sql = isPostgreSql() ? update + " RETURNING *" : "SELECT * FROM FINAL TABLE (" + update + ")";
+        entityManager.flush();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    statement.setObject(i + 1, parameters.get(i));
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? Optional.of(toEvent(resultSet)) : Optional.empty();
+                }
+            }
+        });
+    }
+
+    /**
+     * Liest eine Zeile der Tabelle {@code events} als Event.
+     *
+     * @param resultSet Ergebnis, positioniert auf der Zeile
+     * @return Event mit allen Werten inkl. Version
+     * @throws SQLException bei Datenbankfehlern
+     */
+    private static Event toEvent(ResultSet resultSet) throws SQLException {
+        Event event = new Event(
+                resultSet.getLong("id"),
+                resultSet.getString("title"),
+                resultSet.getObject("date", LocalDate.class),
+                EventCategory.valueOf(resultSet.getString("category")),
+                resultSet.getDouble("longitude"),
+                resultSet.getDouble("latitude"),
+                EventStatus.valueOf(resultSet.getString("status")));
+        event.setDuplicateOf(resultSet.getObject("duplicate_of", Long.class));
+        event.setSource(resultSet.getString("source"));
+        event.setExternalId(resultSet.getString("external_id"));
+        event.setVersion(resultSet.getLong("version"));
+        return event;
+    }
+
+    private void requireChangeLog() {
+        if (!isPostgreSql()) {
+            throw new UnsupportedOperationException("Das Änderungsprotokoll wird nur von PostgreSQL unterstützt.");
+        }
+    }
+
+    @Override
+    public List<UpsertOutcome> upsert(List<Event> events) {
+        if (!isPostgreSql()) {
+            throw new UnsupportedOperationException("Der Abgleich über event_keys wird nur von PostgreSQL unterstützt.");
+        }
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            // Für Konflikte reservierte IDs bleiben ungenutzt; pro Zeile geht höchstens eine ID verloren
+            List<Long> ids = reserveIds(connection, events.size());
+            Map<Long, Event> pending = new LinkedHashMap<>();
+            for (int i = 0; i < events.size(); i++) {
+                pending.put(ids.get(i), events.get(i));
+            }
+
+            List<UpsertOutcome> outcomes = new ArrayList<>();
+            for (int attempt = 1; !pending.isEmpty(); attempt++) {
+                if (attempt > UPSERT_ATTEMPTS) {
+                    throw new ConcurrencyFailureException(pending.size()
+                            + " Events konnten wegen paralleler Änderungen nicht abgeglichen werden.");
+                }
+                pending = upsertOnce(connection, pending, outcomes);
+            }
+            return outcomes;
+        });
+    }
+
+    /**
+     * Führt {@link #UPSERT_SQL} einmal aus.
+     *
+     * @param connection JDBC-Verbindung der laufenden Transaktion
+     * @param events     abzugleichende Events nach reservierter ID
+     * @param outcomes   Liste, in die eingefügte und geänderte Zeilen eingetragen werden
+     * @return Events, deren Schlüssel eine parallele Transaktion zuerst beansprucht hat
+     * @throws SQLException bei Datenbankfehlern
+     */
+    private static Map<Long, Event> upsertOnce(Connection connection, Map<Long, Event> events,
+                                               List<UpsertOutcome> outcomes) throws SQLException {
+        int size = events.size();
+        Object[][] columns = new Object[10][size];
+        int i = 0;
+        for (Map.Entry<Long, Event> entry : events.entrySet()) {
+            Event event = entry.getValue();
+            columns[0][i] = entry.getKey();
+            columns[1][i] = event.getTitle();
+            columns[2][i] = event.getDate().toString();
+            columns[3][i] = event.getCategory().name();
+            columns[4][i] = event.getLongitude();
+            columns[5][i] = event.getLatitude();
+            columns[6][i] = event.getStatus().name();
+            columns[7][i] = event.getSource();
+            columns[8][i] = event.getExternalId();
+            columns[9][i] = event.getDuplicateOf();
+            i++;
+        }
+
+        Map<Long, Event> lost = new LinkedHashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+            statement.setArray(1, connection.createArrayOf("int8", columns[0]));
+            statement.setArray(2, connection.createArrayOf("varchar", columns[1]));
+            statement.setArray(3, connection.createArrayOf("varchar", columns[2]));
+            statement.setArray(4, connection.createArrayOf("varchar", columns[3]));
+            statement.setArray(5, connection.createArrayOf("float8", columns[4]));
+            statement.setArray(6, connection.createArrayOf("float8", columns[5]));
+            statement.setArray(7, connection.createArrayOf("varchar", columns[6]));
+            statement.setArray(8, connection.createArrayOf("varchar", columns[7]));
+            statement.setArray(9, connection.createArrayOf("varchar", columns[8]));
+            statement.setArray(10, connection.createArrayOf("int8", columns[9]));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong("id");
+                    Boolean inserted = resultSet.getObject("inserted", Boolean.class);
+                    if (inserted == null) {
+                        lost.put(id, events.get(id));
+                    } else {
+                        outcomes.add(new UpsertOutcome(
+                                id,
+                                resultSet.getString("source"),
+                                resultSet.getString("external_id"),
+                                inserted));
+                    }
+                }
+            }
+        }
+        return lost;
+    }
+
+    /**
+     * Reserviert IDs für einen Block und schreibt ihn mit einem {@code COPY}-Befehl.
+     * <p>
+     *     Die IDs werden wie bei Hibernate blockweise aus <code>events_seq</code> bezogen
+     *     (siehe {@link Event#ID_ALLOCATION_SIZE}). Ein Spaltenstandard mit {@code nextval}
+     *     würde pro Zeile einen ganzen Block verbrauchen. Die reservierte ID wird im Event gesetzt.
+     * </p>
+     *
+     * @param connection JDBC-Verbindung der laufenden Transaktion
+     * @param chunk      zu schreibende Events
+     * @return Anzahl geschriebener Zeilen
+     * @throws SQLException bei Datenbankfehlern
+     */
+    private long copyChunk(Connection connection, List<Event> chunk) throws SQLException {
+        Iterator<Long> ids = reserveIds(connection, chunk.size()).iterator();
+
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_SIZE + 1024);
+            for (Event event : chunk) {
+                event.setId(ids.next());
+                byte[] row = toCopyRow(event).getBytes(StandardCharsets.UTF_8);
+                buffer.write(row, 0, row.length);
+                if (buffer.size() >= COPY_BUFFER_SIZE) {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    buffer.reset();
+                }
+            }
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            }
+            return copyIn.endCopy();
+        } catch (SQLException | RuntimeException e) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reserviert mindestens {@code count} IDs aus der Sequenz <code>events_seq</code>.
+     *
+     * @param connection JDBC-Verbindung
+     * @param count      Anzahl benötigter IDs
+     * @return reservierte IDs in aufsteigender Reihenfolge je Block
+     * @throws SQLException bei Datenbankfehlern
+     */
+    private static List<Long> reserveIds(Connection connection, int count) throws SQLException {
+        int blocks = (count + Event.ID_ALLOCATION_SIZE - 1) / Event.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(blocks * Event.ID_ALLOCATION_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(RESERVE_IDS_SQL)) {
+            statement.setInt(1, blocks);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long hi = resultSet.getLong(1);
+                    for (long id = Math.max(1, hi - Event.ID_ALLOCATION_SIZE + 1); id <= hi; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        if (ids.size() < count) {
+            // Erster Sequenzwert (1) enthält nur eine ID – fehlende IDs nachreservieren
+            ids.addAll(reserveIds(connection, count - ids.size()));
+        }
+        return ids;
+    }
+
+    /**
+     * Wandelt ein Event in eine Zeile im Textformat von {@code COPY} um (Tabulator-getrennt).
+     *
+     * @param event zu schreibendes Event mit reservierter ID
+     * @return Zeile inklusive Zeilenumbruch
+     */
+    private static String toCopyRow(Event event) {
+        return event.getId() + "\t"
+                + escapeCopyText(event.getTitle()) + '\t'
+                + event.getDate() + '\t'
+                + event.getCategory().name() + '\t'
+                + event.getLongitude() + '\t'
+                + event.getLatitude() + '\t'
+                + event.getStatus().name() + '\t'
+                + copyTextOrNull(event.getSource()) + '\t'
+                + copyTextOrNull(event.getExternalId()) + '\t'
+                + (event.getDuplicateOf() == null ? "\\N" : event.getDuplicateOf().toString()) + '\n';
+    }
+
+    /**
+     * Maskiert einen optionalen Text; {@code null} wird im Textformat von {@code COPY} als {@code \N} geschrieben.
+     *
+     * @param value Originaltext oder {@code null}
+     * @return maskierter Text oder {@code \N}
+     */
+    private static String copyTextOrNull(String value) {
+        return value == null ? "\\N" : escapeCopyText(value);
+    }
+
+    /**
+     * Maskiert Backslash, Tabulator und Zeilenumbrüche für das Textformat von {@code COPY}.
+     *
+     * @param value Originaltext
+     * @return maskierter Text
+     */
+    private static String escapeCopyText(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> escaped.append("\\\\");
+                case '\t' -> escaped.append("\\t");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
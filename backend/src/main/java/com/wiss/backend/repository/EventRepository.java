@@ -3,11 +3,19 @@ package com.wiss.backend.repository;
 import com.wiss.backend.entity.Event;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * <h2>
@@ -28,6 +36,10 @@ import java.util.List;
  *     <li>Kombinierte Filter (z. B. Kategorie + Zeitraum)</li>
  *     <li>Zählmethoden zur Auswertung nach Status oder Zeitspanne</li>
  * </ul>
+ * <p>
+ *     Massenoperationen (gebündeltes Speichern grosser Listen) werden über
+ *     {@link EventBulkRepository} ergänzt.
+ * </p>
  *
  * @author Natascha Blumer
  * @version 1.0
@@ -37,7 +49,7 @@ import java.util.List;
  * @see com.wiss.backend.controller.EventController
  */
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventBulkRepository {
 
     // ---------------------------------------------
     // Einfache Filterabfragen
@@ -163,4 +175,190 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      * @see com.wiss.backend.service.EventService#getTotalEventsByDateBetween(LocalDate, LocalDate)
      */
     long countByDateBetween(LocalDate start, LocalDate end);
-}
\ No newline at end of file
+
+    // ---------------------------------------------
+    // Natürlicher Schlüssel
+    // ---------------------------------------------
+
+    /**
+     * Gibt das Event mit der angegebenen externen ID einer Quelle zurück.
+     *
+     * @param source     Herkunft (z. B. {@code EONET})
+     * @param externalId ID im Herkunftssystem
+     * @return gefundenes Event oder leer
+     * @see com.wiss.backend.service.EventService#createEvent(com.wiss.backend.dto.EventDTO)
+     */
+    Optional<Event> findBySourceAndExternalId(String source, String externalId);
+
+    /**
+     * Gibt alle Events einer Quelle zurück, deren externe ID in der angegebenen Menge liegt.
+     *
+     * @param source      Herkunft
+     * @param externalIds IDs im Herkunftssystem
+     * @return gefundene Events
+     * @see com.wiss.backend.service.EventService#upsertEvents(List)
+     */
+    List<Event> findBySourceAndExternalIdIn(String source, Collection<String> externalIds);
+
+    /**
+     * Gibt alle als Duplikat des angegebenen Events markierten Events zurück, aufsteigend nach ID.
+     * Nutzt den Teilindex {@code idx_events_duplicate_of} (Migration V11), sodass die Abfrage beim
+     * Löschen eines Events ohne Duplikate nur einen Indexzugriff kostet.
+     *
+     * @param originalId ID des Originals
+     * @return markierte Duplikate, das älteste zuerst
+     * @see com.wiss.backend.service.EventService#deleteEvent(Long, Long)
+     */
+    List<Event> findByDuplicateOfOrderByIdAsc(Long originalId);
+
+    /**
+     * Gibt alle Events zurück, die als Duplikat eines der angegebenen Events markiert sind.
+     *
+     * @param originalIds IDs der bisherigen Originale
+     * @return markierte Events, aufsteigend nach ID
+     * @see com.wiss.backend.service.EventDuplicateCollapseJob
+     */
+    List<Event> findByDuplicateOfInOrderByIdAsc(Collection<Long> originalIds);
+
+    // ---------------------------------------------
+    // Batch-Abfragen
+    // ---------------------------------------------
+
+    /**
+     * Gibt die nächsten Events nach der angegebenen ID zurück, aufsteigend sortiert (Keyset-Pagination).
+     * <p>
+     *     Im Gegensatz zu {@code findAll()} wird die Tabelle so in begrenzten Blöcken gelesen,
+     *     ohne dass ein Offset oder eine zusätzliche Count-Abfrage nötig ist.
+     * </p>
+     *
+     * @param afterId ID, nach der gelesen werden soll (exklusiv), z. B. {@code 0} für den Anfang
+     * @param limit   maximale Anzahl Events pro Block
+     * @return Liste der nächsten Events, leer wenn keine weiteren vorhanden sind
+     * @see com.wiss.backend.service.EventDuplicateDetector#rebuild()
+     * @see com.wiss.backend.service.EventDuplicateCollapseJob#collapseDuplicates()
+     */
+    List<Event> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Gibt die IDs der nächsten Events einer Kategorie mit gegebenem Status zurück,
+     * deren Datum vor dem Stichtag liegt (Keyset-Pagination über die ID).
+     * Es werden nur IDs geladen, keine Entities. Die Zeilen bleiben bis zum Ende der Transaktion
+     * gesperrt, damit ein anschliessendes Update genau diese Events betrifft.
+     *
+     * @param category Kategorie der Events
+     * @param status   Status der Events
+     * @param before   Stichtag (exklusiv)
+     * @param afterId  ID, nach der gelesen werden soll (exklusiv)
+     * @param limit    maximale Anzahl IDs pro Block
+     * @return aufsteigend sortierte IDs
+     * @see com.wiss.backend.service.EventAutoCloseJob#closeStaleEvents()
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Event e where e.category = :category and e.status = :status "
+            + "and e.date < :before and e.id > :afterId order by e.id")
+    List<Long> findIdsByCategoryAndStatusAndDateBefore(@Param("category") EventCategory category,
+                                                       @Param("status") EventStatus status,
+                                                       @Param("before") LocalDate before,
+                                                       @Param("afterId") Long afterId,
+                                                       Limit limit);
+
+    // ---------------------------------------------
+    // Massenänderungen
+    // ---------------------------------------------
+
+    /**
+     * Setzt den Status aller angegebenen Events mit einem einzigen {@code UPDATE ... WHERE id IN (...)}.
+     * Nur Events, die noch den erwarteten Status haben, werden geändert.
+     * <p>
+     *     Der Persistenzkontext wird vorher geschrieben und danach geleert,
+     *     damit keine veralteten Entities im Speicher bleiben.
+     * </p>
+     *
+     * @param ids           IDs der zu ändernden Events
+     * @param currentStatus erwarteter aktueller Status
+     * @param newStatus     neuer Status
+     * @return Anzahl tatsächlich geänderter Events
+     * @see com.wiss.backend.service.EventAutoCloseJob#closeStaleEvents()
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.status = :newStatus, e.version = e.version + 1 "
+            + "where e.id in :ids and e.status = :currentStatus")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("currentStatus") EventStatus currentStatus,
+                           @Param("newStatus") EventStatus newStatus);
+
+    /**
+     * Überschreibt alle fachlichen Werte eines Events mit einem einzigen {@code UPDATE ... WHERE id = ?},
+     * ohne das Event vorher zu laden, und erhöht dabei die Versionsnummer.
+     * <p>
+     *     Mit {@code expectedVersion} wird nur geschrieben, wenn das Event noch diese Version hat
+     *     ({@code AND version = ?}); so gehen gleichzeitige Änderungen nicht verloren.
+     *     Ohne {@code expectedVersion} wird unbedingt überschrieben.
+     * </p>
+     *
+     * @param values          neue Werte inkl. ID und {@code duplicateOf}
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return Anzahl geänderter Zeilen: {@code 0}, wenn das Event fehlt oder eine andere Version hat
+     * @see com.wiss.backend.service.EventService#updateEvent(Long, com.wiss.backend.dto.EventDTO, Long)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.title = :#{#values.title}, e.date = :#{#values.date}, "
+            + "e.category = :#{#values.category}, e.longitude = :#{#values.longitude}, "
+            + "e.latitude = :#{#values.latitude}, e.status = :#{#values.status}, "
+            + "e.duplicateOf = :#{#values.duplicateOf}, e.source = :#{#values.source}, "
+            + "e.externalId = :#{#values.externalId}, e.version = e.version + 1 "
+            + "where e.id = :#{#values.id} and (:expectedVersion is null or e.version = :expectedVersion)")
+    int updateValues(@Param("values") Event values, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Wie {@link #updateValues(Event, Long)}, lässt aber die gespeicherte Markierung {@code duplicateOf}
+     * unverändert. Für die Duplikat-Richtlinien {@code MERGE} und {@code REJECT}, unter denen die
+     * Markierung beim Ändern nicht neu bestimmt wird.
+     *
+     * @param values          neue Werte inkl. ID
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return Anzahl geänderter Zeilen: {@code 0}, wenn das Event fehlt oder eine andere Version hat
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Event e set e.title = :#{#values.title}, e.date = :#{#values.date}, "
+            + "e.category = :#{#values.category}, e.longitude = :#{#values.longitude}, "
+            + "e.latitude = :#{#values.latitude}, e.status = :#{#values.status}, "
+            + "e.source = :#{#values.source}, "
+            + "e.externalId = :#{#values.externalId}, e.version = e.version + 1 "
+            + "where e.id = :#{#values.id} and (:expectedVersion is null or e.version = :expectedVersion)")
+    int updateValuesKeepingDuplicateOf(@Param("values") Event values, @Param("expectedVersion") Long expectedVersion);
+
+    /**
+     * Liest nur die Markierung {@code duplicateOf} eines Events, ohne die Entity zu laden.
+     *
+     * @param id ID des Events
+     * @return ID des Originals oder leer, wenn das Event kein Duplikat ist oder nicht existiert
+     */
+    @Query("select e.duplicateOf from Event e where e.id = :id")
+    Optional<Long> findDuplicateOfById(@Param("id") Long id);
+
+    /**
+     * Liest nur die Versionsnummer eines Events, ohne die Entity zu laden.
+     * Nach {@link #updateValues(Event, Long)} in derselben Transaktion ist das die geschriebene Version,
+     * weil die Zeile bis zum Commit gesperrt bleibt.
+     *
+     * @param id ID des Events
+     * @return Versionsnummer oder leer, wenn das Event nicht existiert
+     * @see com.wiss.backend.service.EventService#getVersion(Long)
+     */
+    @Query("select e.version from Event e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Löscht ein Event mit einem einzigen {@code DELETE ... WHERE id = ?}, ohne es vorher zu laden.
+     * Mit {@code expectedVersion} nur, wenn das Event noch diese Version hat.
+     *
+     * @param id              ID des Events
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return Anzahl gelöschter Zeilen: {@code 0}, wenn das Event fehlt oder eine andere Version hat
+     * @see com.wiss.backend.service.EventService#deleteEvent(Long, Long)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Event e where e.id = :id and (:expectedVersion is null or e.version = :expectedVersion)")
+    int deleteByIdAndVersion(@Param("id") Long id, @Param("expectedVersion") Long expectedVersion);
+}
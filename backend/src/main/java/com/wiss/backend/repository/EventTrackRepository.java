@@ -0,0 +1,39 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.entity.EventTrack;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * <h2>
+ *     Repository für Event-Verläufe
+ * </h2>
+ * <p>
+ *     Verwaltet die {@link EventTrack}-Einträge. Die ID des Events ist der Primärschlüssel;
+ *     pro Event gibt es höchstens einen Verlauf.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EventTrackService
+ */
+@Repository
+public interface EventTrackRepository extends JpaRepository<EventTrack, Long> {
+
+    /**
+     * Liest nur die letzte Position eines Verlaufs aus den Spalten {@code last_timestamp},
+     * {@code last_latitude} und {@code last_longitude}; die kodierten Punkte werden nicht geladen.
+     *
+     * @param eventId ID des Events
+     * @return letzte Position oder leer, wenn das Event keinen Verlauf hat
+     */
+    @Query("select new com.wiss.backend.dto.TrackPointDTO(t.lastTimestamp, t.lastLatitude, t.lastLongitude) "
+            + "from EventTrack t where t.eventId = :eventId")
+    Optional<TrackPointDTO> findLatestPosition(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,23 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.ImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * <h2>
+ *     Repository für Fortschrittsmarken von Dateiimporten
+ * </h2>
+ * <p>
+ *     Verwaltet die {@link ImportCheckpoint}-Einträge, über die ein abgebrochener Import
+ *     an der zuletzt gespeicherten Byte-Position fortgesetzt wird. Der Dateipfad ist der Primärschlüssel.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EonetArchiveImportService
+ */
+@Repository
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
@@ -0,0 +1,23 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.IngestWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * <h2>
+ *     Repository für Import-Fortschrittsmarken
+ * </h2>
+ * <p>
+ *     Verwaltet die {@link IngestWatermark}-Einträge, über die Feed-Importe
+ *     nur neue Daten abrufen. Der Feedname ist der Primärschlüssel.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.service.EonetIngestService
+ */
+@Repository
+public interface IngestWatermarkRepository extends JpaRepository<IngestWatermark, String> {
+}
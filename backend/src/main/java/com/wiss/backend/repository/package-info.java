@@ -15,6 +15,9 @@
  *     <li>Filterung von Ereignissen nach Kategorie, Status und Zeitraum</li>
  *     <li>Kombinierte Query-Methoden zur gezielten Abfrage</li>
  *     <li>Zählmethoden zur statistischen Auswertung</li>
+ *     <li>Fortschrittsmarken für Feed-Importe ({@link com.wiss.backend.repository.IngestWatermarkRepository})</li>
+ *     <li>Fortschrittsmarken für Archivimporte ({@link com.wiss.backend.repository.ImportCheckpointRepository})</li>
+ *     <li>Verläufe von Events ({@link com.wiss.backend.repository.EventTrackRepository})</li>
  * </ul>
  *
  * <h3>
@@ -0,0 +1,803 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * <h2>
+ *     Spaltenorientiertes Abbild aller Events mit Bitmap-Indizes
+ * </h2>
+ * <p>
+ *     Optionale Lese-Engine für Filter- und Zählabfragen. Alle Events werden in primitive Spalten
+ *     gespiegelt (IDs, Koordinaten, Kategorie und Status als Ordinalzahl, Datum als Epochentag,
+ *     Titel und Herkunft über ein Wörterbuch kodiert). Pro {@link EventCategory} und {@link EventStatus}
+ *     führt das Abbild eine komprimierte Bitmap (RoaringBitmap) der Zeilennummern, dazu einen nach
+ *     Datum sortierten Index. Eine Filterabfrage ist damit eine UND-Verknüpfung von Bitmaps plus eine
+ *     Bereichssuche; Zählabfragen erzeugen keine Objekte.
+ * </p>
+ *
+ * <h3>
+ *     Versionen und gleichzeitiger Zugriff:
+ * </h3>
+ * <ul>
+ *     <li>Zeilen liegen in Segmenten fester Grösse und werden nur angehängt, nie überschrieben.
+ *         Eine Änderung hängt eine neue Zeile an und entfernt die alte aus der Bitmap lebender Zeilen.</li>
+ *     <li>Jede Änderung veröffentlicht eine neue {@link Version} (Zeilenzahl, Bitmaps, Datumsindex) über
+ *         eine {@code volatile}-Referenz. Geänderte Bitmaps werden vorher kopiert, unveränderte geteilt.</li>
+ *     <li>Lesende arbeiten ohne Sperre auf der Version, die sie beim Start der Abfrage vorfinden.</li>
+ *     <li>Neue Zeilen werden zunächst linear durchsucht und ab einer Mindestzahl in den Datumsindex
+ *         eingemischt. Überwiegen entfernte Zeilen, werden die Segmente neu aufgebaut.</li>
+ * </ul>
+ * <p>
+ *     Geschrieben wird nur über {@link EventsChangedNotification} und {@link EventsClosedNotification}
+ *     nach dem Commit. Ist das Abbild deaktiviert ({@code events.columnar.enabled=false}) oder noch
+ *     nicht geladen, liest der {@link EventService} aus der Datenbank.
+ * </p>
+ * <p>
+ *     Geladen wird beim Start durch den {@link EventSnapshotService}: aus einem Snapshot plus den seither
+ *     geänderten Zeilen ({@link #restore(EventSnapshotFile.Content)}) oder vollständig aus der Datenbank.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventService
+ * @see OpenEventCache
+ */
+@Component
+public class ColumnarEventStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarEventStore.class);
+
+    /**
+     * Anzahl Zeilen pro Segment (Zweierpotenz, damit Segment und Position per Shift/Maske folgen).
+     */
+    static final int SEGMENT_SHIFT = 12;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    /**
+     * Anzahl Events, die beim Laden pro Block aus der Datenbank gelesen werden.
+     */
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+    private static final EventStatus[] STATUSES = EventStatus.values();
+
+    /**
+     * Spalten eines Segments. Positionen ab der veröffentlichten Zeilenzahl werden nur vom
+     * Schreibenden beschrieben und erst mit der nächsten {@link Version} sichtbar.
+     */
+    private static final class Segment {
+        final long[] id = new long[SEGMENT_SIZE];
+        final double[] latitude = new double[SEGMENT_SIZE];
+        final double[] longitude = new double[SEGMENT_SIZE];
+        final byte[] category = new byte[SEGMENT_SIZE];
+        final byte[] status = new byte[SEGMENT_SIZE];
+        final int[] epochDay = new int[SEGMENT_SIZE];
+        final int[] title = new int[SEGMENT_SIZE];
+        final int[] source = new int[SEGMENT_SIZE];
+        final String[] externalId = new String[SEGMENT_SIZE];
+        final long[] duplicateOf = new long[SEGMENT_SIZE];
+    }
+
+    /**
+     * Nach Datum sortierter Index über die Zeilen {@code 0} bis {@code rows.length - 1}
+     * (enthält auch entfernte Zeilen; diese werden über {@link Version#live} ausgefiltert).
+     *
+     * @param days Epochentage, aufsteigend
+     * @param rows Zeilennummern in derselben Reihenfolge
+     */
+    private record DateIndex(int[] days, int[] rows) {
+
+        static final DateIndex EMPTY = new DateIndex(new int[0], new int[0]);
+
+        int size() {
+            return rows.length;
+        }
+
+        /** Erste Position mit Tag {@code >= day}. */
+        int lowerBound(int day) {
+            int low = 0;
+            int high = days.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (days[mid] < day) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Unveränderlicher Stand des Abbilds. Die Bitmaps dürfen nicht verändert werden.
+     *
+     * @param segments   Segmente (das letzte kann über {@code rowCount} hinaus beschrieben werden)
+     * @param rowCount   Anzahl sichtbarer Zeilen
+     * @param live       Zeilen, die den aktuellen Stand eines Events enthalten
+     * @param byCategory Zeilen pro Kategorie (Index = Ordinalzahl)
+     * @param byStatus   Zeilen pro Status (Index = Ordinalzahl)
+     * @param dateIndex  Datumsindex über die ersten {@code dateIndex.size()} Zeilen
+     * @param titles     Wörterbuch der Titel
+     * @param sources    Wörterbuch der Herkünfte
+     */
+    private record Version(Segment[] segments, int rowCount, RoaringBitmap live,
+                           RoaringBitmap[] byCategory, RoaringBitmap[] byStatus, DateIndex dateIndex,
+                           String[] titles, String[] sources) {
+    }
+
+    /**
+     * Änderung, die vor dem ersten Laden eintrifft und danach nachgetragen wird.
+     *
+     * @param saved      eingefügte oder geänderte Events
+     * @param deletedIds gelöschte Events
+     * @param closedIds  abgeschlossene Events
+     * @param reload     ob das Abbild neu geladen werden muss
+     */
+    private record PendingChange(List<EventDTO> saved, Collection<Long> deletedIds, Collection<Long> closedIds,
+                                 boolean reload) {
+    }
+
+    private final EventRepository eventRepository;
+    private final boolean enabled;
+
+    /**
+     * Aktuelle Version; {@code null}, solange das Abbild nicht geladen oder deaktiviert ist.
+     */
+    private volatile Version version;
+
+    /**
+     * Anzahl aus dem Abbild beantworteter Abfragen (Metrik {@code events.index.reads}).
+     */
+    private final LongAdder reads = new LongAdder();
+
+    /**
+     * Sperre der Schreibenden. Kein {@code synchronized}: {@link #reload()} und {@link #restore}
+     * warten auf die Datenbank und würden sonst den Trägerthread eines virtuellen Threads blockieren.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Änderungen, die eintreffen, solange noch keine Version veröffentlicht ist (Warmstart).
+     * Sie werden nach dem Laden in ihrer Reihenfolge angewendet, damit zwischen dem Lesen der
+     * Datenbank und der ersten Version committete Änderungen nicht verloren gehen.
+     */
+    private final Queue<PendingChange> pending = new ConcurrentLinkedQueue<>();
+
+    // Zustand des Schreibenden, nur unter lock verwendet
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final Map<String, Integer> titleCodes = new HashMap<>();
+    private final Map<String, Integer> sourceCodes = new HashMap<>();
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository Repository zum Laden der Events
+     * @param enabled         ob das Abbild aufgebaut und für Abfragen verwendet wird
+     */
+    public ColumnarEventStore(EventRepository eventRepository,
+                              @Value("${events.columnar.enabled:false}") boolean enabled) {
+        this.eventRepository = eventRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gibt an, ob das Abbild aktiviert ist ({@code events.columnar.enabled}).
+     *
+     * @return {@code true}, wenn das Abbild beim Start geladen werden soll
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gibt an, ob das Abbild aktiviert und geladen ist.
+     *
+     * @return {@code true}, wenn Abfragen aus dem Abbild beantwortet werden können
+     */
+    public boolean isReady() {
+        return version != null;
+    }
+
+    /**
+     * @return Anzahl Events im Abbild ({@code 0}, solange es nicht geladen ist)
+     */
+    public long size() {
+        Version current = version;
+        return current == null ? 0 : current.live().getLongCardinality();
+    }
+
+    /**
+     * @return Anzahl aus dem Abbild beantworteter Abfragen seit dem Start
+     */
+    public long getReadCount() {
+        return reads.sum();
+    }
+
+    /**
+     * Lädt alle Events blockweise (Keyset-Pagination über die ID) neu aus der Datenbank.
+     * Änderungen, die währenddessen committet werden, warten auf die Sperre und werden danach angewendet;
+     * vor der ersten Version eingetroffene Änderungen werden im Anschluss nachgetragen.
+     */
+    public void reload() {
+        lock.lock();
+        try {
+            load();
+            applyPending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lädt alle Events und veröffentlicht sie als neue Version (nur unter der Sperre).
+     */
+    private void load() {
+        rowById.clear();
+        titleCodes.clear();
+        sourceCodes.clear();
+        Writer writer = new Writer(emptyVersion());
+        long lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (Event event : batch) {
+                writer.put(EventMapper.toDTO(event));
+                lastId = event.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        version = writer.publish();
+        log.info("Spaltenabbild geladen: {} Events in {} Segmenten", rowById.size(), version.segments().length);
+    }
+
+    /**
+     * Übernimmt einen Snapshot und lädt danach nur die Events aus der Datenbank nach, die seit dessen
+     * Datenstand geändert oder gelöscht wurden. Die Sperre wird bis zum Ende gehalten, damit
+     * währenddessen committete Änderungen erst danach (und damit zuletzt) angewendet werden.
+     *
+     * @param snapshot gelesener Snapshot
+     * @return Anzahl nachgeladener Änderungen (geänderte und gelöschte Events)
+     * @throws UnsupportedOperationException Wenn die Datenbank kein Änderungsprotokoll führt
+     */
+    public int restore(EventSnapshotFile.Content snapshot) {
+        lock.lock();
+        try {
+            rowById.clear();
+            Writer writer = new Writer(emptyVersion());
+            writer.append(snapshot);
+            Version restored = writer.publish();
+
+            writer = new Writer(restored);
+            List<Long> deletedIds = eventRepository.findDeletedIdsSince(snapshot.changeVersion());
+            // Löschungen zuerst: in eine andere Partition verschobene Events kommen danach als Änderung zurück
+            deletedIds.forEach(writer::remove);
+            int changed = 0;
+            long lastId = 0;
+            List<Event> batch;
+            do {
+                batch = eventRepository.findChangedSince(snapshot.changeVersion(), lastId, LOAD_BATCH_SIZE);
+                for (Event event : batch) {
+                    writer.put(EventMapper.toDTO(event));
+                    lastId = event.getId();
+                }
+                changed += batch.size();
+            } while (batch.size() == LOAD_BATCH_SIZE);
+            version = writer.publish();
+            log.info("Spaltenabbild aus Snapshot geladen: {} Events, {} geändert und {} gelöscht seit Datenstand {}",
+                    rowById.size(), changed, deletedIds.size(), snapshot.changeVersion());
+            applyPending();
+            return changed + deletedIds.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ---------------------------------------------
+    // Abfragen
+    // ---------------------------------------------
+
+    /**
+     * Gibt alle Events zurück, die den gesetzten Filtern entsprechen.
+     *
+     * @param category Kategorie oder {@code null}
+     * @param status   Status oder {@code null}
+     * @param start    Startdatum (inklusive) oder {@code null}
+     * @param end      Enddatum (inklusive) oder {@code null}
+     * @return passende Events, aufsteigend nach ID
+     * @throws IllegalStateException Wenn das Abbild nicht geladen ist
+     */
+    public List<EventDTO> find(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
+        reads.increment();
+        Version current = current();
+        RoaringBitmap rows = select(current, category, status, start, end);
+        List<EventDTO> result = new ArrayList<>(rows.getCardinality());
+        rows.forEach((int row) -> result.add(toDTO(current, row)));
+        result.sort(Comparator.comparing(EventDTO::getId));
+        return result;
+    }
+
+    /**
+     * Zählt die Events, die den gesetzten Filtern entsprechen, ohne Objekte anzulegen.
+     *
+     * @param category Kategorie oder {@code null}
+     * @param status   Status oder {@code null}
+     * @param start    Startdatum (inklusive) oder {@code null}
+     * @param end      Enddatum (inklusive) oder {@code null}
+     * @return Anzahl passender Events
+     * @throws IllegalStateException Wenn das Abbild nicht geladen ist
+     */
+    public long count(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
+        reads.increment();
+        Version current = current();
+        if (start == null && end == null) {
+            if (category == null && status == null) {
+                return current.live().getLongCardinality();
+            }
+            if (category == null || status == null) {
+                RoaringBitmap bitmap = category != null
+                        ? current.byCategory()[category.ordinal()]
+                        : current.byStatus()[status.ordinal()];
+                return RoaringBitmap.andCardinality(current.live(), bitmap);
+            }
+        }
+        return select(current, category, status, start, end).getLongCardinality();
+    }
+
+    /**
+     * Übergibt alle Events des aktuellen Stands in Zeilenreihenfolge (nicht nach ID sortiert),
+     * z. B. um weitere Indizes ohne Datenbankzugriff aufzubauen.
+     *
+     * @param action Verarbeitung pro Event
+     * @throws IllegalStateException Wenn das Abbild nicht geladen ist
+     */
+    public void forEach(Consumer<EventDTO> action) {
+        Version current = current();
+        current.live().forEach((int row) -> action.accept(toDTO(current, row)));
+    }
+
+    /**
+     * Bestimmt die Zeilen, die den Filtern entsprechen.
+     * <p>
+     *     Ist ein Datumsbereich gesetzt, wird die kleinere Menge gewählt: Entweder werden die Zeilen
+     *     des Bereichs aus dem Datumsindex gelesen und mit den Bitmaps verknüpft, oder die bereits
+     *     über Kategorie und Status gefilterten Zeilen werden über die Datumsspalte geprüft.
+     * </p>
+     */
+    private static RoaringBitmap select(Version current, EventCategory category, EventStatus status,
+                                        LocalDate start, LocalDate end) {
+        List<RoaringBitmap> filters = new ArrayList<>(3);
+        filters.add(current.live());
+        if (category != null) {
+            filters.add(current.byCategory()[category.ordinal()]);
+        }
+        if (status != null) {
+            filters.add(current.byStatus()[status.ordinal()]);
+        }
+        RoaringBitmap candidates = filters.size() == 1
+                ? current.live().clone()
+                : FastAggregation.and(filters.toArray(RoaringBitmap[]::new));
+        if (start == null && end == null) {
+            return candidates;
+        }
+
+        int from = start == null ? Integer.MIN_VALUE : (int) start.toEpochDay();
+        int to = end == null ? Integer.MAX_VALUE : (int) end.toEpochDay();
+        if (from > to) {
+            return new RoaringBitmap();
+        }
+        DateIndex index = current.dateIndex();
+        int low = index.lowerBound(from);
+        int high = to == Integer.MAX_VALUE ? index.size() : index.lowerBound(to + 1);
+        int tail = current.rowCount() - index.size();
+
+        if (high - low + tail < candidates.getCardinality()) {
+            RoaringBitmap inRange = RoaringBitmap.bitmapOfUnordered(Arrays.copyOfRange(index.rows(), low, high));
+            for (int row = index.size(); row < current.rowCount(); row++) {
+                int day = segment(current, row).epochDay[row & SEGMENT_MASK];
+                if (day >= from && day <= to) {
+                    inRange.add(row);
+                }
+            }
+            candidates.and(inRange);
+            return candidates;
+        }
+
+        RoaringBitmap result = new RoaringBitmap();
+        candidates.forEach((int row) -> {
+            int day = segment(current, row).epochDay[row & SEGMENT_MASK];
+            if (day >= from && day <= to) {
+                result.add(row);
+            }
+        });
+        return result;
+    }
+
+    private static EventDTO toDTO(Version current, int row) {
+        Segment segment = segment(current, row);
+        int i = row & SEGMENT_MASK;
+        EventDTO dto = new EventDTO(segment.id[i], current.titles()[segment.title[i]],
+                LocalDate.ofEpochDay(segment.epochDay[i]), CATEGORIES[segment.category[i]],
+                segment.longitude[i], segment.latitude[i], STATUSES[segment.status[i]]);
+        dto.setDuplicateOf(segment.duplicateOf[i] == 0 ? null : segment.duplicateOf[i]);
+        dto.setSource(segment.source[i] < 0 ? null : current.sources()[segment.source[i]]);
+        dto.setExternalId(segment.externalId[i]);
+        return dto;
+    }
+
+    private static Segment segment(Version current, int row) {
+        return current.segments()[row >>> SEGMENT_SHIFT];
+    }
+
+    private Version current() {
+        Version current = version;
+        if (current == null) {
+            throw new IllegalStateException("Spaltenabbild ist nicht geladen.");
+        }
+        return current;
+    }
+
+    // ---------------------------------------------
+    // Änderungen
+    // ---------------------------------------------
+
+    /**
+     * Übernimmt gespeicherte und gelöschte Events nach dem Commit (ohne Transaktion sofort).
+     *
+     * @param notification geänderte Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedNotification notification) {
+        if (version == null) {
+            defer(new PendingChange(notification.getSavedEvents(), notification.getDeletedIds(), List.of(),
+                    notification.isReloadRequired()));
+        } else if (notification.isReloadRequired()) {
+            reload();
+        } else {
+            apply(notification.getSavedEvents(), notification.getDeletedIds(), List.of());
+        }
+    }
+
+    /**
+     * Setzt automatisch abgeschlossene Events nach dem Commit des Blocks auf {@link EventStatus#closed}.
+     *
+     * @param notification IDs der abgeschlossenen Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsClosed(EventsClosedNotification notification) {
+        if (version == null) {
+            defer(new PendingChange(List.of(), List.of(), notification.getEventIds(), false));
+        } else {
+            apply(List.of(), List.of(), notification.getEventIds());
+        }
+    }
+
+    /**
+     * Merkt eine Änderung vor, solange keine Version veröffentlicht ist. Wurde die erste Version
+     * inzwischen veröffentlicht, wird sie sofort nachgetragen; bei deaktiviertem Abbild verworfen.
+     *
+     * @param change Änderung
+     */
+    private void defer(PendingChange change) {
+        if (!enabled) {
+            return;
+        }
+        pending.add(change);
+        if (version != null) {
+            lock.lock();
+            try {
+                applyPending();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Wendet vorgemerkte Änderungen in ihrer Reihenfolge an (nur unter der Sperre und mit Version).
+     * Bereits geladene Stände werden dabei erneut geschrieben, was das Ergebnis nicht verändert.
+     */
+    private void applyPending() {
+        PendingChange change;
+        while ((change = pending.poll()) != null) {
+            if (change.reload()) {
+                load();
+            } else {
+                apply(change.saved(), change.deletedIds(), change.closedIds());
+            }
+        }
+    }
+
+    /**
+     * Wendet Änderungen an und veröffentlicht eine neue Version.
+     *
+     * @param saved     eingefügte oder geänderte Events
+     * @param deletedIds gelöschte Events
+     * @param closedIds abgeschlossene Events
+     */
+    private void apply(List<EventDTO> saved, Collection<Long> deletedIds, Collection<Long> closedIds) {
+        lock.lock();
+        try {
+            Version current = version;
+            if (current == null) {
+                return;
+            }
+            Writer writer = new Writer(current);
+            saved.forEach(writer::put);
+            deletedIds.forEach(writer::remove);
+            for (Long id : closedIds) {
+                Integer row = rowById.get(id);
+                if (row != null && STATUSES[segment(current, row).status[row & SEGMENT_MASK]] != EventStatus.closed) {
+                    EventDTO dto = toDTO(current, row);
+                    dto.setStatus(EventStatus.closed);
+                    writer.put(dto);
+                }
+            }
+            Version next = writer.publish();
+            if (next.rowCount() - next.live().getCardinality() > Math.max(SEGMENT_SIZE, next.live().getCardinality())) {
+                next = compact(next);
+            }
+            version = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Baut die Segmente ohne entfernte Zeilen neu auf.
+     *
+     * @param current aktuelle Version
+     * @return neue, kompakte Version
+     */
+    private Version compact(Version current) {
+        List<EventDTO> live = new ArrayList<>(current.live().getCardinality());
+        current.live().forEach((int row) -> live.add(toDTO(current, row)));
+        live.sort(Comparator.comparing(EventDTO::getId));
+        rowById.clear();
+        Writer writer = new Writer(emptyVersion());
+        live.forEach(writer::put);
+        log.info("Spaltenabbild kompaktiert: {} von {} Zeilen behalten", live.size(), current.rowCount());
+        return writer.publish();
+    }
+
+    private Version emptyVersion() {
+        RoaringBitmap[] byCategory = new RoaringBitmap[CATEGORIES.length];
+        RoaringBitmap[] byStatus = new RoaringBitmap[STATUSES.length];
+        Arrays.setAll(byCategory, i -> new RoaringBitmap());
+        Arrays.setAll(byStatus, i -> new RoaringBitmap());
+        titleCodes.clear();
+        sourceCodes.clear();
+        return new Version(new Segment[0], 0, new RoaringBitmap(), byCategory, byStatus, DateIndex.EMPTY,
+                new String[16], new String[4]);
+    }
+
+    /**
+     * Sammelt Änderungen auf Kopien der betroffenen Bitmaps und erzeugt daraus eine neue Version.
+     * Wird nur unter der Sperre von {@link ColumnarEventStore} verwendet.
+     */
+    private final class Writer {
+
+        private final Version base;
+        private Segment[] segments;
+        private int rowCount;
+        private String[] titles;
+        private String[] sources;
+        private RoaringBitmap live;
+        private final RoaringBitmap[] byCategory;
+        private final RoaringBitmap[] byStatus;
+        private final boolean[] categoryCopied = new boolean[CATEGORIES.length];
+        private final boolean[] statusCopied = new boolean[STATUSES.length];
+
+        Writer(Version base) {
+            this.base = base;
+            this.segments = base.segments();
+            this.rowCount = base.rowCount();
+            this.titles = base.titles();
+            this.sources = base.sources();
+            this.byCategory = base.byCategory().clone();
+            this.byStatus = base.byStatus().clone();
+        }
+
+        /** Hängt den neuen Stand eines Events an und entfernt den bisherigen. */
+        void put(EventDTO dto) {
+            remove(dto.getId());
+            if (rowCount == segments.length * SEGMENT_SIZE) {
+                segments = Arrays.copyOf(segments, segments.length + 1);
+                segments[segments.length - 1] = new Segment();
+            }
+            int row = rowCount++;
+            Segment segment = segments[row >>> SEGMENT_SHIFT];
+            int i = row & SEGMENT_MASK;
+            segment.id[i] = dto.getId();
+            segment.latitude[i] = dto.getLatitude();
+            segment.longitude[i] = dto.getLongitude();
+            segment.category[i] = (byte) dto.getCategory().ordinal();
+            segment.status[i] = (byte) dto.getStatus().ordinal();
+            segment.epochDay[i] = (int) dto.getDate().toEpochDay();
+            segment.title[i] = titleCode(dto.getTitle());
+            segment.source[i] = dto.getSource() == null ? -1 : sourceCode(dto.getSource());
+            segment.externalId[i] = dto.getExternalId();
+            segment.duplicateOf[i] = dto.getDuplicateOf() == null ? 0 : dto.getDuplicateOf();
+
+            live().add(row);
+            category(dto.getCategory().ordinal()).add(row);
+            status(dto.getStatus().ordinal()).add(row);
+            rowById.put(dto.getId(), row);
+        }
+
+        /**
+         * Hängt alle Events eines Snapshots an. Die Zahlenspalten werden pro Segment als Block kopiert,
+         * Titel- und Herkunftscodes auf das eigene Wörterbuch umgeschlüsselt.
+         */
+        void append(EventSnapshotFile.Content snapshot) {
+            int[] titleRemap = new int[snapshot.titles().length];
+            Arrays.setAll(titleRemap, code -> titleCode(snapshot.titles()[code]));
+            int[] sourceRemap = new int[snapshot.sources().length];
+            Arrays.setAll(sourceRemap, code -> sourceCode(snapshot.sources()[code]));
+
+            int from = 0;
+            while (from < snapshot.rowCount()) {
+                if (rowCount == segments.length * SEGMENT_SIZE) {
+                    segments = Arrays.copyOf(segments, segments.length + 1);
+                    segments[segments.length - 1] = new Segment();
+                }
+                int start = rowCount;
+                Segment segment = segments[start >>> SEGMENT_SHIFT];
+                int offset = start & SEGMENT_MASK;
+                int length = Math.min(snapshot.rowCount() - from, SEGMENT_SIZE - offset);
+
+                snapshot.ids().get(from, segment.id, offset, length);
+                snapshot.latitudes().get(from, segment.latitude, offset, length);
+                snapshot.longitudes().get(from, segment.longitude, offset, length);
+                snapshot.epochDays().get(from, segment.epochDay, offset, length);
+                snapshot.duplicateOf().get(from, segment.duplicateOf, offset, length);
+                snapshot.categories().get(from, segment.category, offset, length);
+                snapshot.statuses().get(from, segment.status, offset, length);
+                System.arraycopy(snapshot.externalIds(), from, segment.externalId, offset, length);
+
+                live().add((long) start, (long) start + length);
+                for (int k = 0; k < length; k++) {
+                    int i = offset + k;
+                    int row = start + k;
+                    int source = snapshot.sourceCodes().get(from + k);
+                    segment.title[i] = titleRemap[snapshot.titleCodes().get(from + k)];
+                    segment.source[i] = source < 0 ? -1 : sourceRemap[source];
+                    category(segment.category[i]).add(row);
+                    status(segment.status[i]).add(row);
+                    Integer previous = rowById.put(segment.id[i], row);
+                    if (previous != null) {
+                        live().remove(previous);
+                    }
+                }
+                rowCount += length;
+                from += length;
+            }
+        }
+
+        /** Entfernt den aktuellen Stand eines Events (die Zeile selbst bleibt bis zur Kompaktierung bestehen). */
+        void remove(Long id) {
+            Integer row = rowById.remove(id);
+            if (row != null) {
+                live().remove(row);
+            }
+        }
+
+        Version publish() {
+            return new Version(segments, rowCount, live == null ? base.live() : live,
+                    byCategory, byStatus, mergeDateIndex(), titles, sources);
+        }
+
+        /**
+         * Mischt neue Zeilen in den Datumsindex, sobald sie eine Mindestzahl erreichen;
+         * bis dahin werden sie bei Abfragen linear durchsucht.
+         */
+        private DateIndex mergeDateIndex() {
+            DateIndex index = base.dateIndex();
+            int tail = rowCount - index.size();
+            if (tail < Math.max(SEGMENT_SIZE, index.size() / 8)) {
+                return index;
+            }
+            long[] tailEntries = new long[tail];
+            for (int k = 0; k < tail; k++) {
+                int row = index.size() + k;
+                tailEntries[k] = ((long) segments[row >>> SEGMENT_SHIFT].epochDay[row & SEGMENT_MASK] << 32) | row;
+            }
+            Arrays.sort(tailEntries);
+
+            int size = index.size() + tail;
+            int[] days = new int[size];
+            int[] rows = new int[size];
+            int a = 0;
+            int b = 0;
+            for (int k = 0; k < size; k++) {
+                boolean takeOld = b == tail
+                        || (a < index.size() && index.days()[a] <= (int) (tailEntries[b] >> 32));
+                if (takeOld) {
+                    days[k] = index.days()[a];
+                    rows[k] = index.rows()[a++];
+                } else {
+                    days[k] = (int) (tailEntries[b] >> 32);
+                    rows[k] = (int) tailEntries[b++];
+                }
+            }
+            return new DateIndex(days, rows);
+        }
+
+        private RoaringBitmap live() {
+            if (live == null) {
+                live = base.live().clone();
+            }
+            return live;
+        }
+
+        private RoaringBitmap category(int ordinal) {
+            if (!categoryCopied[ordinal]) {
+                byCategory[ordinal] = byCategory[ordinal].clone();
+                categoryCopied[ordinal] = true;
+            }
+            return byCategory[ordinal];
+        }
+
+        private RoaringBitmap status(int ordinal) {
+            if (!statusCopied[ordinal]) {
+                byStatus[ordinal] = byStatus[ordinal].clone();
+                statusCopied[ordinal] = true;
+            }
+            return byStatus[ordinal];
+        }
+
+        private int titleCode(String title) {
+            Integer code = titleCodes.get(title);
+            if (code == null) {
+                code = titleCodes.size();
+                if (code == titles.length) {
+                    titles = Arrays.copyOf(titles, titles.length * 2);
+                }
+                titles[code] = title;
+                titleCodes.put(title, code);
+            }
+            return code;
+        }
+
+        private int sourceCode(String source) {
+            Integer code = sourceCodes.get(source);
+            if (code == null) {
+                code = sourceCodes.size();
+                if (code == sources.length) {
+                    sources = Arrays.copyOf(sources, sources.length * 2);
+                }
+                sources[code] = source;
+                sourceCodes.put(source, code);
+            }
+            return code;
+        }
+    }
+}
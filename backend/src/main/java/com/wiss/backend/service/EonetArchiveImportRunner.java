@@ -0,0 +1,92 @@
+package com.wiss.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * <h2>
+ *     Kommandozeilen-Import eines EONET-Archivs
+ * </h2>
+ * <p>
+ *     Startet den {@link EonetArchiveImportService}, wenn die Anwendung mit
+ *     {@code --eonet.archive.file=<pfad>} gestartet wird, und beendet sie danach
+ *     (Exit-Code {@code 0} bei Erfolg, {@code 1} bei einem Fehler). Mit
+ *     {@code --eonet.archive.exit=false} läuft die Anwendung nach dem Import weiter.
+ * </p>
+ *
+ * <h3>
+ *     Beispiel:
+ * </h3>
+ * <pre>
+ * java -jar backend.jar --eonet.archive.file=/data/eonet-2000-2025.geojson \
+ *      --spring.main.web-application-type=none --eonet.ingest.enabled=false
+ * </pre>
+ * <p>
+ *     Bricht der Import ab, setzt derselbe Aufruf beim letzten gespeicherten Block fort.
+ * </p>
+ * <p>
+ *     Die Komponente ist immer vorhanden und prüft den Pfad erst beim Start, statt über
+ *     {@code @ConditionalOnProperty} zu entscheiden: Im nativen Programm (Spring AOT) werden
+ *     Bedingungen beim Build ausgewertet und die Option könnte sonst nicht mehr gesetzt werden.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetArchiveImportService
+ */
+@Component
+public class EonetArchiveImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(EonetArchiveImportRunner.class);
+
+    private final EonetArchiveImportService importService;
+    private final ConfigurableApplicationContext context;
+    private final String file;
+    private final boolean exitAfterImport;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param importService   Import-Service
+     * @param context         Anwendungskontext (zum Beenden nach dem Import)
+     * @param file            Pfad zur GeoJSON-Datei (leer: kein Import)
+     * @param exitAfterImport ob die Anwendung nach dem Import beendet wird
+     */
+    public EonetArchiveImportRunner(EonetArchiveImportService importService,
+                                    ConfigurableApplicationContext context,
+                                    @Value("${eonet.archive.file:}") String file,
+                                    @Value("${eonet.archive.exit:true}") boolean exitAfterImport) {
+        this.importService = importService;
+        this.context = context;
+        this.file = file;
+        this.exitAfterImport = exitAfterImport;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (file.isBlank()) {
+            return;
+        }
+        int exitCode = 0;
+        try {
+            importService.importArchive(Path.of(file));
+        } catch (IOException | RuntimeException e) {
+            log.error("Import des Archivs {} fehlgeschlagen; ein erneuter Aufruf setzt beim letzten Block fort", file, e);
+            exitCode = 1;
+        }
+        if (exitAfterImport) {
+            int code = exitCode;
+            System.exit(SpringApplication.exit(context, () -> code));
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.ImportCheckpoint;
+import com.wiss.backend.repository.ImportCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>
+ *     Import grosser EONET-Archive im GeoJSON-Format
+ * </h2>
+ * <p>
+ *     Liest eine GeoJSON-{@code FeatureCollection} (z. B. ein Abzug von {@code /events/geojson})
+ *     über einen gepufferten {@link FileChannel} und zerlegt sie mit einem Jackson-{@link JsonParser}
+ *     Feature für Feature. Es liegt nie mehr als ein Block im Speicher; der Speicherbedarf hängt
+ *     nicht von der Dateigrösse ab.
+ * </p>
+ *
+ * <h3>
+ *     Ablauf:
+ * </h3>
+ * <ul>
+ *     <li>Jedes Feature wird mit denselben Regeln wie beim Erfassen geprüft; ungültige Features
+ *         (z. B. Koordinaten ausserhalb des Wertebereichs) werden gezählt und übersprungen.</li>
+ *     <li>Gültige Features werden zu Blöcken ({@code eonet.archive.batch-size}) gesammelt und per
+ *         {@link EventService#upsertEvents(java.util.List)} gespeichert. Mehrere Features desselben Events in
+ *         einem Block werden zusammengefasst: Datum des frühesten, übrige Werte des letzten Features.
+ *         Zeitpunkt und Position jedes Features gehen zusätzlich in den Verlauf des Events
+ *         ({@link EventTrackService#mergeTracks(String, Map)}). Neue Events, die einem bereits
+ *         gespeicherten Ereignis (etwa aus einer anderen Quelle) entsprechen, durchlaufen die
+ *         Duplikat-Richtlinie und werden als Duplikate gezählt.</li>
+ *     <li>Mit jedem Block wird in derselben Transaktion ein {@link ImportCheckpoint} mit der
+ *         Byte-Position des nächsten Features geschrieben. Nach einem Absturz setzt ein erneuter
+ *         Aufruf dort fort; bereits gespeicherte Blöcke werden nicht erneut gelesen.</li>
+ *     <li>Alle {@value #PROGRESS_INTERVAL_SECONDS} Sekunden und am Ende wird der Durchsatz protokolliert.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetArchiveImportRunner
+ * @see EonetFeedParser#parseFeature(JsonParser, List)
+ */
+@Service
+public class EonetArchiveImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EonetArchiveImportService.class);
+
+    /**
+     * Grösse des Lesepuffers vor dem Dateikanal.
+     */
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Abstand zwischen zwei Fortschrittsmeldungen.
+     */
+    private static final long PROGRESS_INTERVAL_SECONDS = 10;
+
+    private final EventService eventService;
+    private final EventTrackService trackService;
+    private final ImportCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final int batchSize;
+
+    /**
+     * Ergebnis eines Importlaufs.
+     *
+     * @param features  Anzahl in diesem Lauf gelesener Features
+     * @param imported  Anzahl gespeicherter Features
+     * @param rejected  Anzahl abgelehnter Features
+     * @param duplicates Anzahl neuer Events, die gemäss Duplikat-Richtlinie zusammengeführt oder abgelehnt wurden
+     * @param resumedAt Byte-Position, an der der Lauf begonnen hat ({@code 0} ohne Fortsetzung)
+     * @param bytesRead Anzahl in diesem Lauf gelesener Bytes
+     * @param elapsed   Dauer des Laufs
+     */
+    public record ArchiveImportSummary(long features, long imported, long rejected, long duplicates,
+                                       long resumedAt, long bytesRead, Duration elapsed) {
+
+        /**
+         * @return gelesene Features pro Sekunde
+         */
+        public double featuresPerSecond() {
+            return features / Math.max(elapsed.toNanos() / 1e9, 1e-3);
+        }
+
+        /**
+         * @return gelesene Megabytes pro Sekunde
+         */
+        public double megabytesPerSecond() {
+            return bytesRead / 1e6 / Math.max(elapsed.toNanos() / 1e9, 1e-3);
+        }
+    }
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventService         Service für das Speichern der Events
+     * @param trackService         Service für das Speichern der Verläufe
+     * @param checkpointRepository Fortschrittsmarken pro Datei
+     * @param transactionTemplate  Transaktion pro Block (Events und Fortschrittsmarke gemeinsam)
+     * @param objectMapper         Quelle der Jackson-{@code JsonFactory} für den Streaming-Parser
+     * @param batchSize            Anzahl Features pro Block
+     */
+    public EonetArchiveImportService(EventService eventService,
+                                     EventTrackService trackService,
+                                     ImportCheckpointRepository checkpointRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     ObjectMapper objectMapper,
+                                     @Value("${eonet.archive.batch-size:1000}") int batchSize) {
+        this.eventService = eventService;
+        this.trackService = trackService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Importiert ein GeoJSON-Archiv bzw. setzt einen abgebrochenen Import fort.
+     *
+     * @param file Pfad zur GeoJSON-Datei
+     * @return Ergebnis dieses Laufs
+     * @throws IOException Wenn die Datei nicht gelesen werden kann oder kein gültiges GeoJSON enthält;
+     *                     bis dahin gespeicherte Blöcke bleiben erhalten
+     */
+    public ArchiveImportSummary importArchive(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath().normalize();
+        long fileSize = Files.size(absolute);
+        // Auf Millisekunden gekürzt, da die Datenbank keine Nanosekunden speichert
+        Instant lastModified = Files.getLastModifiedTime(absolute).toInstant().truncatedTo(ChronoUnit.MILLIS);
+        ImportCheckpoint checkpoint = loadCheckpoint(absolute.toString(), fileSize, lastModified);
+        long start = checkpoint.getByteOffset();
+        if (start >= fileSize) {
+            log.info("Archiv {} wurde bereits vollständig importiert", absolute);
+            return new ArchiveImportSummary(0, 0, 0, 0, start, 0, Duration.ZERO);
+        }
+        if (start > 0) {
+            log.info("Archiv {}: Fortsetzung ab Byte {} von {}", absolute, start, fileSize);
+        }
+
+        Run run = new Run(checkpoint, start, fileSize);
+        try (FileChannel channel = FileChannel.open(absolute, StandardOpenOption.READ)) {
+            channel.position(start);
+            InputStream in = new BufferedInputStream(Channels.newInputStream(channel), READ_BUFFER_SIZE);
+            // Fortsetzung mitten im Array "features": mit vorangestelltem "[" bleibt der Rest gültiges JSON
+            long base = start;
+            if (start > 0) {
+                in = new SequenceInputStream(new ByteArrayInputStream(new byte[] {'['}), in);
+                base = start - 1;
+            }
+
+            try (JsonParser parser = jsonFactory.createParser(in)) {
+                if (start == 0) {
+                    seekToFeatures(parser);
+                } else if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("Ungültige Fortsetzungsposition " + start + " in " + absolute);
+                }
+
+                JsonToken token;
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    long offset = base + parser.currentTokenLocation().getByteOffset();
+                    if (run.batchSize() >= batchSize) {
+                        run.flush(offset);
+                    }
+                    List<TrackPointDTO> track = new ArrayList<>(1);
+                    run.accept(EonetFeedParser.parseFeature(parser, track), track);
+                    run.reportProgress(offset);
+                }
+                if (token != JsonToken.END_ARRAY) {
+                    throw new IOException("Das Array \"features\" in " + absolute + " ist kein Array von Objekten.");
+                }
+                run.flush(fileSize);
+            }
+        }
+
+        ArchiveImportSummary summary = run.summary();
+        log.info("Archiv {} importiert: {} Features, {} gespeichert, {} abgelehnt, {} Duplikate, {} s, {} Features/s, {} MB/s",
+                absolute, summary.features(), summary.imported(), summary.rejected(), summary.duplicates(),
+                summary.elapsed().toSeconds(), Math.round(summary.featuresPerSecond()),
+                String.format("%.1f", summary.megabytesPerSecond()));
+        return summary;
+    }
+
+    /**
+     * Lädt die Fortschrittsmarke einer Datei. Fehlt sie oder wurde die Datei seither geändert,
+     * beginnt der Import von vorne.
+     *
+     * @param file         absoluter Pfad
+     * @param fileSize     aktuelle Dateigrösse
+     * @param lastModified aktueller Änderungszeitpunkt
+     * @return Fortschrittsmarke (ggf. neu)
+     */
+    private ImportCheckpoint loadCheckpoint(String file, long fileSize, Instant lastModified) {
+        return checkpointRepository.findById(file)
+                .filter(checkpoint -> {
+                    boolean unchanged = checkpoint.getFileSize() == fileSize
+                            && checkpoint.getLastModified().equals(lastModified);
+                    if (!unchanged) {
+                        log.info("Archiv {} wurde seit dem letzten Import geändert, Import beginnt von vorne", file);
+                    }
+                    return unchanged;
+                })
+                .orElseGet(() -> new ImportCheckpoint(file, fileSize, lastModified));
+    }
+
+    /**
+     * Springt zum Inhalt des Arrays {@code features} der {@code FeatureCollection}.
+     *
+     * @param parser Parser am Dateianfang
+     * @throws IOException Wenn die Datei keine FeatureCollection mit Array {@code features} ist
+     */
+    private static void seekToFeatures(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("GeoJSON-Archiv ist kein JSON-Objekt.");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("features".equals(field) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IOException("GeoJSON-Archiv enthält kein Array \"features\".");
+    }
+
+    /**
+     * Zustand eines Importlaufs: aktueller Block, Zähler und Fortschrittsmeldungen.
+     */
+    private final class Run {
+
+        private final ImportCheckpoint checkpoint;
+        private final long start;
+        private final long fileSize;
+        private final long startedAt = System.nanoTime();
+        private long lastProgressAt = startedAt;
+        private Map<String, EventDTO> batch = new LinkedHashMap<>();
+        private Map<String, List<TrackPointDTO>> tracks = new HashMap<>();
+        private long batchFeatures;
+        private long batchRejected;
+        private long features;
+        private long imported;
+        private long rejected;
+        private long duplicates;
+        private long position;
+
+        Run(ImportCheckpoint checkpoint, long start, long fileSize) {
+            this.checkpoint = checkpoint;
+            this.start = start;
+            this.fileSize = fileSize;
+            this.position = start;
+        }
+
+        int batchSize() {
+            return batch.size();
+        }
+
+        void accept(EventDTO feature, List<TrackPointDTO> track) {
+            features++;
+            if (!EonetFeedParser.isValid(feature)) {
+                batchRejected++;
+                return;
+            }
+            batchFeatures++;
+            EventDTO previous = batch.remove(feature.getExternalId());
+            if (previous != null) {
+                LocalDate earliest = previous.getDate().isBefore(feature.getDate()) ? previous.getDate() : feature.getDate();
+                feature.setDate(earliest);
+            }
+            batch.put(feature.getExternalId(), feature);
+            tracks.computeIfAbsent(feature.getExternalId(), id -> new ArrayList<>()).addAll(track);
+        }
+
+        /**
+         * Speichert den aktuellen Block und die Fortschrittsmarke in einer Transaktion.
+         *
+         * @param nextOffset Byte-Position des ersten noch nicht gelesenen Features
+         */
+        void flush(long nextOffset) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!batch.isEmpty()) {
+                    UpsertResultDTO result = eventService.upsertEvents(new ArrayList<>(batch.values()));
+                    duplicates += result.getMerged() + result.getRejected();
+                    trackService.mergeTracks(EonetFeedParser.SOURCE, tracks);
+                }
+                checkpoint.setByteOffset(nextOffset);
+                checkpoint.setImportedRows(checkpoint.getImportedRows() + batchFeatures);
+                checkpoint.setRejectedRows(checkpoint.getRejectedRows() + batchRejected);
+                checkpoint.setUpdatedAt(Instant.now());
+                checkpointRepository.save(checkpoint);
+            });
+            imported += batchFeatures;
+            rejected += batchRejected;
+            position = nextOffset;
+            batch = new LinkedHashMap<>();
+            tracks = new HashMap<>();
+            batchFeatures = 0;
+            batchRejected = 0;
+        }
+
+        void reportProgress(long offset) {
+            long now = System.nanoTime();
+            if (now - lastProgressAt < Duration.ofSeconds(PROGRESS_INTERVAL_SECONDS).toNanos()) {
+                return;
+            }
+            lastProgressAt = now;
+            double seconds = (now - startedAt) / 1e9;
+            log.info("Archivimport {}: {} von {} MB ({} %), {} Features/s, {} MB/s",
+                    checkpoint.getFile(), offset / 1_000_000, fileSize / 1_000_000,
+                    offset * 100 / fileSize, Math.round(features / seconds),
+                    String.format("%.1f", (offset - start) / 1e6 / seconds));
+        }
+
+        ArchiveImportSummary summary() {
+            return new ArchiveImportSummary(features, imported, rejected, duplicates, start, position - start,
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+}
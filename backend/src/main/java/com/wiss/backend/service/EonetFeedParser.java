@@ -0,0 +1,395 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.exception.CoordinateOutOfRangeException;
+import com.wiss.backend.exception.FutureDateException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * <h2>
+ *     Streaming-Parser für EONET-Feeds (API v3)
+ * </h2>
+ * <p>
+ *     Liest die Antwort von {@code /events} Token für Token mit einem Jackson-{@link JsonParser},
+ *     statt das ganze Dokument in einen Objektbaum zu binden. Pro Event im Array {@code events}
+ *     wird sofort ein {@link EventDTO} an den Empfänger übergeben; der Speicherbedarf hängt
+ *     damit nur von einem einzelnen Event ab.
+ * </p>
+ *
+ * <h3>
+ *     Abbildung:
+ * </h3>
+ * <ul>
+ *     <li>{@code id} → {@code externalId}, Quelle {@value #SOURCE}</li>
+ *     <li>erste auf {@link EventCategory} abbildbare Kategorie → {@code category} (sonst {@code null})</li>
+ *     <li>{@code closed} gesetzt → {@link EventStatus#closed}, sonst {@link EventStatus#open}</li>
+ *     <li>Datum der ersten Geometrie → {@code date} (Beginn des Events)</li>
+ *     <li>erste Position der letzten Geometrie → {@code longitude}/{@code latitude} (aktueller Ort)</li>
+ *     <li>Datum und erste Position jeder Geometrie → ein Punkt des Verlaufs ({@link TrackPointDTO})</li>
+ * </ul>
+ * <p>
+ *     Für Archive im GeoJSON-Format ({@code /events/geojson}) liest {@link #parseFeature(JsonParser)}
+ *     ein einzelnes Feature; dort stammen Datum und Position aus der Geometrie des Features.
+ *     Die Events werden beim Lesen nicht validiert; der Aufrufer prüft sie mit {@link #isValid(EventDTO)}.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetIngestService
+ * @see EonetArchiveImportService
+ */
+final class EonetFeedParser {
+
+    private static final Logger log = LoggerFactory.getLogger(EonetFeedParser.class);
+
+    /**
+     * Quelle, unter der EONET-Events gespeichert werden.
+     */
+    static final String SOURCE = "EONET";
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Erstellt einen Parser.
+     *
+     * @param jsonFactory Factory für Streaming-Parser (z. B. von einem {@code ObjectMapper})
+     */
+    EonetFeedParser(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    /**
+     * Liest alle Events eines Feeds.
+     *
+     * @param in       Antwort von {@code /events} (UTF-8)
+     * @param consumer Empfänger pro Event, zusammen mit dessen Verlauf (Punkte in Feed-Reihenfolge)
+     * @return Anzahl gelesener Events
+     * @throws IOException Wenn der Inhalt kein gültiges JSON ist oder nicht gelesen werden kann
+     */
+    int parse(InputStream in, BiConsumer<EventDTO, List<TrackPointDTO>> consumer) throws IOException {
+        int count = 0;
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("EONET-Antwort ist kein JSON-Objekt.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("events".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        List<TrackPointDTO> track = new ArrayList<>();
+                        consumer.accept(parseEvent(parser, track), track);
+                        count++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Liest ein einzelnes Event; der Parser steht auf dessen {@code START_OBJECT}.
+     *
+     * @param parser Parser
+     * @param track  Liste, in welche die Punkte des Verlaufs eingetragen werden
+     * @return gelesenes Event
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static EventDTO parseEvent(JsonParser parser, List<TrackPointDTO> track) throws IOException {
+        EventDTO dto = newEvent();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("geometry".equals(field)) {
+                parseGeometries(parser, dto, track);
+            } else if (!readEventField(parser, field, value, dto)) {
+                parser.skipChildren();
+            }
+        }
+        return dto;
+    }
+
+    /**
+     * Liest ein GeoJSON-Feature eines EONET-Archivs; der Parser steht auf dessen {@code START_OBJECT}.
+     * Danach steht der Parser auf dem zugehörigen {@code END_OBJECT}.
+     *
+     * @param parser Parser
+     * @param track  Liste, in die der Punkt des Features (Zeitpunkt und Position) eingetragen wird
+     * @return gelesenes Event mit Datum und Position der Feature-Geometrie
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    static EventDTO parseFeature(JsonParser parser, List<TrackPointDTO> track) throws IOException {
+        EventDTO dto = newEvent();
+        Instant timestamp = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("properties".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = parser.currentName();
+                    JsonToken propertyValue = parser.nextToken();
+                    if ("date".equals(property)) {
+                        timestamp = toInstant(parser.getValueAsString());
+                        dto.setDate(toDate(timestamp));
+                    } else if (!readEventField(parser, property, propertyValue, dto)) {
+                        parser.skipChildren();
+                    }
+                }
+            } else if ("geometry".equals(field) && value == JsonToken.START_OBJECT) {
+                parseGeometry(parser, dto, false, null);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (timestamp != null && dto.getLongitude() != null && dto.getLatitude() != null) {
+            track.add(new TrackPointDTO(timestamp, dto.getLatitude(), dto.getLongitude()));
+        }
+        return dto;
+    }
+
+    /**
+     * Erstellt ein leeres EONET-Event (Quelle gesetzt, Status {@code open}).
+     *
+     * @return neues Event
+     */
+    private static EventDTO newEvent() {
+        EventDTO dto = new EventDTO();
+        dto.setSource(SOURCE);
+        dto.setStatus(EventStatus.open);
+        return dto;
+    }
+
+    /**
+     * Liest ein Feld, das in Events und Feature-Properties gleich aufgebaut ist.
+     *
+     * @param parser Parser auf dem Wert des Felds
+     * @param field  Feldname
+     * @param value  Token des Werts
+     * @param dto    Event, in das der Wert geschrieben wird
+     * @return {@code false}, wenn das Feld nicht bekannt ist (der Wert wurde dann nicht gelesen)
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static boolean readEventField(JsonParser parser, String field, JsonToken value, EventDTO dto) throws IOException {
+        switch (field) {
+            case "id" -> dto.setExternalId(parser.getValueAsString());
+            case "title" -> dto.setTitle(parser.getValueAsString());
+            case "closed" -> dto.setStatus(value == JsonToken.VALUE_NULL ? EventStatus.open : EventStatus.closed);
+            case "categories" -> dto.setCategory(parseCategories(parser));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Liest das Array {@code categories} und gibt die erste bekannte Kategorie zurück.
+     *
+     * @param parser Parser auf {@code START_ARRAY}
+     * @return Kategorie oder {@code null}, wenn keine abgebildet werden kann
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static EventCategory parseCategories(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        EventCategory category = null;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("id".equals(field) && category == null) {
+                    category = toCategory(parser.getValueAsString());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return category;
+    }
+
+    /**
+     * Liest das Array {@code geometry}, setzt Datum und Position im Event und
+     * trägt jede Geometrie mit Datum als Punkt in den Verlauf ein.
+     *
+     * @param parser Parser auf {@code START_ARRAY}
+     * @param dto    Event, in das Datum und Position geschrieben werden
+     * @param track  Liste für die Punkte des Verlaufs
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static void parseGeometries(JsonParser parser, EventDTO dto, List<TrackPointDTO> track) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        boolean first = true;
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            parseGeometry(parser, dto, first, track);
+            first = false;
+        }
+    }
+
+    /**
+     * Liest ein einzelnes Geometrie-Objekt und übernimmt dessen Position (und ggf. Datum).
+     *
+     * @param parser   Parser auf {@code START_OBJECT}
+     * @param dto      Event, in das Position und Datum geschrieben werden
+     * @param withDate ob das Feld {@code date} der Geometrie übernommen wird
+     * @param track    Liste für den Punkt der Geometrie oder {@code null}
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static void parseGeometry(JsonParser parser, EventDTO dto, boolean withDate,
+                                      List<TrackPointDTO> track) throws IOException {
+        double[] position = null;
+        Instant timestamp = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("date".equals(field)) {
+                timestamp = toInstant(parser.getValueAsString());
+                if (withDate) {
+                    dto.setDate(toDate(timestamp));
+                }
+            } else if ("coordinates".equals(field)) {
+                position = readFirstPosition(parser);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (position != null) {
+            dto.setLongitude(position[0]);
+            dto.setLatitude(position[1]);
+            if (track != null && timestamp != null) {
+                track.add(new TrackPointDTO(timestamp, position[1], position[0]));
+            }
+        }
+    }
+
+    /**
+     * Liest ein GeoJSON-{@code coordinates}-Array beliebiger Tiefe (Point, Polygon, ...)
+     * und gibt dessen erste Position zurück. Der Rest des Arrays wird übersprungen.
+     *
+     * @param parser Parser auf {@code START_ARRAY}
+     * @return {@code [longitude, latitude]} oder {@code null}, wenn keine Position enthalten ist
+     * @throws IOException Bei ungültigem Inhalt
+     */
+    private static double[] readFirstPosition(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        double[] position = new double[2];
+        int found = 0;
+        int depth = 1;
+        while (depth > 0) {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new IOException("Unerwartetes Ende der EONET-Antwort.");
+            }
+            if (token == JsonToken.START_ARRAY) {
+                depth++;
+            } else if (token == JsonToken.END_ARRAY) {
+                depth--;
+            } else if (token.isNumeric() && found < 2) {
+                position[found++] = parser.getDoubleValue();
+            }
+        }
+        return found == 2 ? position : null;
+    }
+
+    /**
+     * Bildet eine EONET-Kategorie-ID auf {@link EventCategory} ab.
+     * Die IDs der API v3 entsprechen den Enum-Namen (z. B. {@code severeStorms}).
+     *
+     * @param id Kategorie-ID aus dem Feed
+     * @return Kategorie oder {@code null}, wenn die Kategorie nicht unterstützt wird (z. B. {@code tempExtremes})
+     */
+    static EventCategory toCategory(String id) {
+        if (id == null) {
+            return null;
+        }
+        for (EventCategory category : EventCategory.values()) {
+            if (category.name().equalsIgnoreCase(id)) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wandelt einen Zeitstempel wie {@code 2024-08-01T18:00:00Z} in einen Zeitpunkt um.
+     *
+     * @param value Zeitstempel aus dem Feed
+     * @return Zeitpunkt oder {@code null}, wenn der Wert fehlt oder ungültig ist
+     */
+    private static Instant toInstant(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return OffsetDateTime.parse(value).toInstant();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gibt das Datum (UTC) eines Zeitpunkts zurück.
+     *
+     * @param timestamp Zeitpunkt oder {@code null}
+     * @return Datum oder {@code null}
+     */
+    private static LocalDate toDate(Instant timestamp) {
+        return timestamp == null ? null : LocalDate.ofInstant(timestamp, ZoneOffset.UTC);
+    }
+
+    /**
+     * Prüft ein gelesenes Event mit denselben Regeln wie beim Erfassen
+     * (u. a. Wertebereich von Längen- und Breitengrad) und verlangt eine EONET-ID.
+     *
+     * @param event gelesenes Event
+     * @return {@code true}, wenn das Event gespeichert werden kann
+     */
+    static boolean isValid(EventDTO event) {
+        if (event.getExternalId() == null) {
+            return false;
+        }
+        try {
+            EventService.validateEventData(
+                    event.getTitle(),
+                    event.getDate(),
+                    event.getCategory(),
+                    event.getLongitude(),
+                    event.getLatitude(),
+                    event.getStatus()
+            );
+            return true;
+        } catch (InvalidEventDataException | FutureDateException | CoordinateOutOfRangeException e) {
+            log.debug("EONET-Event {} übersprungen: {}", event.getExternalId(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.config.EonetIngestProperties;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.IngestWatermark;
+import com.wiss.backend.repository.IngestWatermarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2>
+ *     Import aus dem NASA-EONET-Feed
+ * </h2>
+ * <p>
+ *     Ruft periodisch die Events der EONET-API (v3) ab und gleicht sie über den natürlichen
+ *     Schlüssel ({@code source = EONET}, {@code externalId}) mit der Tabelle <code>events</code> ab.
+ *     Erneut gelesene, unveränderte Events werden dabei nicht geschrieben.
+ * </p>
+ *
+ * <h3>
+ *     Ablauf eines Durchlaufs:
+ * </h3>
+ * <ol>
+ *     <li>Pro Kategorie läuft ein Abruf auf einem eigenen virtuellen Thread. Die Antwort wird
+ *         direkt aus dem Netzwerkstrom mit dem {@link EonetFeedParser} gelesen.</li>
+ *     <li>Gelesene Events landen in einer begrenzten Warteschlange
+ *         ({@code eonet.ingest.queue-capacity}). Ist sie voll, blockieren die Abrufe und lesen
+ *         nicht weiter vom Server (Gegendruck statt unbegrenztem Speicherbedarf).</li>
+ *     <li>Ein einzelner Schreiber validiert die Events, sammelt sie zu Blöcken
+ *         ({@code eonet.ingest.batch-size}) und schreibt jeden Block mit
+ *         {@link EventService#upsertEvents(List)} in einer eigenen Transaktion. Danach werden die
+ *         Geometrien der Events mit {@link EventTrackService#mergeTracks(String, Map)} in deren
+ *         Verläufe übernommen. Neue Events, die einem bereits gespeicherten Ereignis (etwa aus einer
+ *         anderen Quelle) entsprechen, durchlaufen dabei die Duplikat-Richtlinie.</li>
+ *     <li>Ist eine Kategorie vollständig geschrieben, wird ihre {@link IngestWatermark} fortgeschrieben.
+ *         Der nächste Durchlauf fragt nur noch ab diesem Datum ab (abzüglich {@code overlap-days}).
+ *         Schlägt Abruf oder Schreiben fehl, bleibt die Marke stehen und der Zeitraum wird erneut gelesen.</li>
+ * </ol>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetIngestProperties
+ */
+@Service
+public class EonetIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(EonetIngestService.class);
+
+    /**
+     * Präfix der Feednamen in <code>ingest_watermarks</code>.
+     */
+    static final String FEED_PREFIX = "eonet:";
+
+    private final EventService eventService;
+    private final EventTrackService trackService;
+    private final IngestWatermarkRepository watermarkRepository;
+    private final EonetIngestProperties properties;
+    private final EonetFeedParser parser;
+    private final HttpClient httpClient;
+
+    /**
+     * Verhindert überlappende Durchläufe. Kein {@code synchronized}, da der Durchlauf auf einem
+     * virtuellen Thread laufen kann und währenddessen auf Netzwerk und Datenbank wartet.
+     */
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    /**
+     * Ergebnis eines Durchlaufs.
+     *
+     * @param fetched          Anzahl gelesener Events
+     * @param rejected         Anzahl wegen ungültiger Daten übersprungener Events
+     * @param inserted         Anzahl neu eingefügter Events
+     * @param updated          Anzahl geänderter Events
+     * @param unchanged        Anzahl unveränderter Events
+     * @param duplicates       Anzahl neuer Events, die gemäss Duplikat-Richtlinie zusammengeführt oder abgelehnt wurden
+     * @param failedCategories Kategorien, deren Abruf oder Speicherung fehlgeschlagen ist
+     */
+    public record IngestSummary(long fetched, long rejected, long inserted, long updated, long unchanged,
+                                long duplicates, Set<String> failedCategories) {}
+
+    /**
+     * Element der Warteschlange zwischen Abruf und Schreiber.
+     */
+    private sealed interface Item permits Parsed, Completed {}
+
+    /**
+     * Ein gelesenes Event einer Kategorie mit den Punkten seines Verlaufs.
+     */
+    private record Parsed(String category, EventDTO event, List<TrackPointDTO> track) implements Item {}
+
+    /**
+     * Abschluss des Abrufs einer Kategorie; danach folgen keine Events dieser Kategorie mehr.
+     */
+    private record Completed(String category, boolean successful) implements Item {}
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventService        Service für das Speichern der Events
+     * @param trackService        Service für das Speichern der Verläufe
+     * @param watermarkRepository Fortschrittsmarken pro Kategorie
+     * @param properties          Einstellungen des Imports
+     * @param objectMapper        Quelle der Jackson-{@code JsonFactory} für den Streaming-Parser
+     */
+    public EonetIngestService(EventService eventService,
+                              EventTrackService trackService,
+                              IngestWatermarkRepository watermarkRepository,
+                              EonetIngestProperties properties,
+                              ObjectMapper objectMapper) {
+        this.eventService = eventService;
+        this.trackService = trackService;
+        this.watermarkRepository = watermarkRepository;
+        this.properties = properties;
+        this.parser = new EonetFeedParser(objectMapper.getFactory());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    /**
+     * Geplanter Durchlauf. Wird nur ausgeführt, wenn der Import aktiviert ist.
+     */
+    @Scheduled(fixedDelayString = "${eonet.ingest.interval:PT15M}",
+            initialDelayString = "${eonet.ingest.initial-delay:PT1M}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            IngestSummary summary = ingest();
+            log.info("EONET-Import: {} gelesen, {} eingefügt, {} geändert, {} unverändert, {} Duplikate, {} abgelehnt, fehlgeschlagen: {}",
+                    summary.fetched(), summary.inserted(), summary.updated(), summary.unchanged(),
+                    summary.duplicates(), summary.rejected(), summary.failedCategories());
+        }
+    }
+
+    /**
+     * Führt einen vollständigen Durchlauf über alle konfigurierten Kategorien aus.
+     * Gleichzeitige Aufrufe werden nacheinander ausgeführt.
+     *
+     * @return Ergebnis des Durchlaufs
+     */
+    public IngestSummary ingest() {
+        runLock.lock();
+        try {
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            List<String> categories = List.copyOf(new TreeSet<>(properties.getCategories()));
+            Map<String, LocalDate> starts = loadStartDates(categories, today);
+            BlockingQueue<Item> queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+            Writer writer = new Writer(today);
+
+            ExecutorService fetchers = Executors.newVirtualThreadPerTaskExecutor();
+            try {
+                for (String category : categories) {
+                    fetchers.submit(() -> fetch(category, starts.get(category), today, queue));
+                }
+                writer.drain(queue, categories.size());
+                fetchers.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fetchers.shutdownNow();
+                log.warn("EONET-Import wurde unterbrochen");
+            } catch (RuntimeException e) {
+                fetchers.shutdownNow();
+                throw e;
+            } finally {
+                fetchers.close();
+            }
+            return writer.summary();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Bestimmt pro Kategorie das Startdatum des Abrufs aus den gespeicherten Fortschrittsmarken.
+     *
+     * @param categories Kategorien
+     * @param today      heutiges Datum (UTC)
+     * @return Startdatum pro Kategorie
+     */
+    private Map<String, LocalDate> loadStartDates(List<String> categories, LocalDate today) {
+        Map<String, LocalDate> starts = new HashMap<>();
+        categories.forEach(category -> starts.put(category, today.minusDays(properties.getInitialDays())));
+        for (IngestWatermark watermark : watermarkRepository.findAllById(categories.stream().map(c -> FEED_PREFIX + c).toList())) {
+            String category = watermark.getFeed().substring(FEED_PREFIX.length());
+            starts.put(category, watermark.getPolledUntil().minusDays(properties.getOverlapDays()));
+        }
+        return starts;
+    }
+
+    /**
+     * Ruft den Feed einer Kategorie ab und legt die gelesenen Events in die Warteschlange.
+     * Läuft auf einem virtuellen Thread; blockiert, solange die Warteschlange voll ist.
+     *
+     * @param category EONET-Kategorie
+     * @param start    erstes abzufragendes Datum
+     * @param end      letztes abzufragendes Datum
+     * @param queue    Warteschlange zum Schreiber
+     */
+    private void fetch(String category, LocalDate start, LocalDate end, BlockingQueue<Item> queue) {
+        boolean successful = false;
+        try (InputStream in = open(category, start, end)) {
+            int count = parser.parse(in, (event, track) -> put(queue, new Parsed(category, event, track)));
+            log.debug("EONET-Kategorie {}: {} Events gelesen ({} bis {})", category, count, start, end);
+            successful = true;
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("EONET-Abruf für Kategorie {} fehlgeschlagen: {}", category, e.getMessage());
+        } finally {
+            try {
+                put(queue, new Completed(category, successful));
+            } catch (CancellationException ignored) {
+                // Durchlauf wurde abgebrochen, der Schreiber wartet nicht mehr
+            }
+        }
+    }
+
+    /**
+     * Öffnet den Feed einer Kategorie als Datenstrom.
+     * Bei einer {@code file:}-Basis-URL wird die Datei {@code <kategorie>.json} gelesen.
+     *
+     * @param category EONET-Kategorie
+     * @param start    erstes abzufragendes Datum
+     * @param end      letztes abzufragendes Datum
+     * @return Antwortinhalt
+     * @throws IOException Wenn der Feed nicht erreichbar ist oder mit einem Fehlerstatus antwortet
+     */
+    private InputStream open(String category, LocalDate start, LocalDate end) throws IOException {
+        String baseUrl = properties.getBaseUrl();
+        URI base = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        if ("file".equals(base.getScheme())) {
+            return base.resolve(URLEncoder.encode(category, StandardCharsets.UTF_8) + ".json").toURL().openStream();
+        }
+
+        URI uri = base.resolve("events?status=all&category=" + URLEncoder.encode(category, StandardCharsets.UTF_8)
+                + "&start=" + start + "&end=" + end);
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(properties.getRequestTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Abruf von " + uri + " unterbrochen");
+        }
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("HTTP " + response.statusCode() + " für " + uri);
+        }
+        return response.body();
+    }
+
+    /**
+     * Legt ein Element in die Warteschlange und wartet, solange sie voll ist.
+     *
+     * @param queue Warteschlange
+     * @param item  Element
+     * @throws CancellationException Wenn der wartende Thread unterbrochen wird
+     */
+    private static void put(BlockingQueue<Item> queue, Item item) {
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("EONET-Import abgebrochen");
+        }
+    }
+
+    /**
+     * Schreiber eines Durchlaufs: liest die Warteschlange, schreibt blockweise und
+     * führt die Fortschrittsmarken nach.
+     */
+    private final class Writer {
+
+        private final LocalDate polledUntil;
+        private List<EventDTO> batch = new ArrayList<>();
+        private Map<String, List<TrackPointDTO>> tracks = new LinkedHashMap<>();
+        private final Set<String> batchCategories = new HashSet<>();
+        private final Set<String> failedCategories = new TreeSet<>();
+        private long fetched;
+        private long rejected;
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long duplicates;
+
+        Writer(LocalDate polledUntil) {
+            this.polledUntil = polledUntil;
+        }
+
+        /**
+         * Verarbeitet die Warteschlange, bis alle Kategorien abgeschlossen sind.
+         *
+         * @param queue Warteschlange
+         * @param feeds Anzahl Kategorien
+         * @throws InterruptedException Wenn der Thread beim Warten unterbrochen wird
+         */
+        void drain(BlockingQueue<Item> queue, int feeds) throws InterruptedException {
+            int open = feeds;
+            while (open > 0) {
+                Item item = queue.take();
+                if (item instanceof Parsed parsed) {
+                    accept(parsed);
+                } else if (item instanceof Completed completed) {
+                    // Alle Events dieser Kategorie liegen vor dem Abschluss in der Warteschlange
+                    flush();
+                    complete(completed);
+                    open--;
+                }
+            }
+        }
+
+        private void accept(Parsed parsed) {
+            fetched++;
+            EventDTO event = parsed.event();
+            if (!EonetFeedParser.isValid(event)) {
+                rejected++;
+                return;
+            }
+            batch.add(event);
+            if (!parsed.track().isEmpty()) {
+                tracks.put(event.getExternalId(), parsed.track());
+            }
+            batchCategories.add(parsed.category());
+            if (batch.size() >= properties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                UpsertResultDTO result = eventService.upsertEvents(batch);
+                inserted += result.getInserted();
+                updated += result.getUpdated();
+                unchanged += result.getUnchanged();
+                duplicates += result.getMerged() + result.getRejected();
+                trackService.mergeTracks(EonetFeedParser.SOURCE, tracks);
+            } catch (RuntimeException e) {
+                log.warn("EONET-Import: {} Events konnten nicht gespeichert werden: {}", batch.size(), e.getMessage());
+                failedCategories.addAll(batchCategories);
+            }
+            batch = new ArrayList<>();
+            tracks = new LinkedHashMap<>();
+            batchCategories.clear();
+        }
+
+        private void complete(Completed completed) {
+            String category = completed.category();
+            if (!completed.successful()) {
+                failedCategories.add(category);
+            }
+            if (failedCategories.contains(category)) {
+                return;
+            }
+            watermarkRepository.save(new IngestWatermark(FEED_PREFIX + category, polledUntil, Instant.now()));
+        }
+
+        IngestSummary summary() {
+            return new IngestSummary(fetched, rejected, inserted, updated, unchanged, duplicates, Set.copyOf(failedCategories));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.config.AutoCloseProperties;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>
+ *     Hintergrundjob zum Abschliessen veralteter offener Events
+ * </h2>
+ * <p>
+ *     Setzt offene Events auf {@link EventStatus#closed}, deren Datum älter ist als das
+ *     für ihre Kategorie konfigurierte Höchstalter. Pro Block werden nur die IDs geladen
+ *     (Keyset-Pagination) und mit einem einzigen {@code UPDATE ... WHERE id IN (...)} abgeschlossen;
+ *     Entities werden dabei weder geladen noch einzeln gespeichert.
+ * </p>
+ * <p>
+ *     Nach jedem Block wird eine {@link EventsClosedNotification} mit den abgeschlossenen IDs
+ *     veröffentlicht.
+ * </p>
+ *
+ * <h3>
+ *     Konfiguration:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.auto-close.*} – siehe {@link AutoCloseProperties}</li>
+ *     <li>{@code events.auto-close.interval} – Pause zwischen zwei Durchläufen (Standard: {@code PT1H})</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventRepository#updateStatusByIdIn(java.util.Collection, EventStatus, EventStatus)
+ */
+@Component
+public class EventAutoCloseJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventAutoCloseJob.class);
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AutoCloseProperties properties;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository     Repository für den Datenzugriff
+     * @param transactionTemplate Transaktion pro verarbeitetem Block
+     * @param eventPublisher      Veröffentlichung der Benachrichtigungen
+     * @param properties          Einstellungen des Jobs
+     */
+    public EventAutoCloseJob(EventRepository eventRepository,
+                             TransactionTemplate transactionTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             AutoCloseProperties properties) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    /**
+     * Geplanter Durchlauf. Wird nur ausgeführt, wenn der Job aktiviert ist.
+     */
+    @Scheduled(fixedDelayString = "${events.auto-close.interval:PT1H}",
+            initialDelayString = "${events.auto-close.interval:PT1H}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            closeStaleEvents();
+        }
+    }
+
+    /**
+     * Schliesst alle offenen Events ab, die älter als das Höchstalter ihrer Kategorie sind.
+     *
+     * @return Anzahl abgeschlossener Events
+     */
+    public int closeStaleEvents() {
+        LocalDate today = LocalDate.now();
+        int closed = 0;
+        for (Map.Entry<EventCategory, Integer> entry : properties.getMaxAgeDays().entrySet()) {
+            int closedInCategory = closeCategory(entry.getKey(), today.minusDays(entry.getValue()));
+            if (closedInCategory > 0) {
+                log.info("{} offene Events der Kategorie {} automatisch abgeschlossen", closedInCategory, entry.getKey());
+            }
+            closed += closedInCategory;
+        }
+        return closed;
+    }
+
+    /**
+     * Schliesst die offenen Events einer Kategorie blockweise ab.
+     *
+     * @param category Kategorie
+     * @param before   Stichtag; ältere Events werden abgeschlossen
+     * @return Anzahl abgeschlossener Events
+     */
+    private int closeCategory(EventCategory category, LocalDate before) {
+        int batchSize = properties.getBatchSize();
+        int closed = 0;
+        long lastId = 0;
+        List<Long> ids;
+        do {
+            long afterId = lastId;
+            ids = transactionTemplate.execute(status -> closeBatch(category, before, afterId, batchSize));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            lastId = ids.getLast();
+            closed += ids.size();
+        } while (ids.size() == batchSize);
+        return closed;
+    }
+
+    /**
+     * Schliesst einen Block in der laufenden Transaktion ab.
+     *
+     * @param category  Kategorie
+     * @param before    Stichtag; ältere Events werden abgeschlossen
+     * @param afterId   ID, nach der gelesen wird (exklusiv)
+     * @param batchSize maximale Anzahl Events im Block
+     * @return IDs der abgeschlossenen Events
+     */
+    private List<Long> closeBatch(EventCategory category, LocalDate before, long afterId, int batchSize) {
+        List<Long> ids = eventRepository.findIdsByCategoryAndStatusAndDateBefore(
+                category, EventStatus.open, before, afterId, Limit.of(batchSize));
+        if (ids.isEmpty()) {
+            return ids;
+        }
+
+        int updated = eventRepository.updateStatusByIdIn(ids, EventStatus.open, EventStatus.closed);
+        if (updated != ids.size()) {
+            log.warn("Automatisches Abschliessen: {} IDs gesperrt, aber {} Events geändert", ids.size(), updated);
+        }
+        eventPublisher.publishEvent(new EventsClosedNotification(category, ids));
+        return ids;
+    }
+}
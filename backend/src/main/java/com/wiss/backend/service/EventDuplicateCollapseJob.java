@@ -0,0 +1,211 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * <h2>
+ *     Hintergrundjob zum Zusammenführen bestehender Duplikate
+ * </h2>
+ * <p>
+ *     Durchläuft die Tabelle <code>events</code> blockweise (Keyset-Pagination über die ID)
+ *     und entfernt Events, für die der {@link EventDuplicateDetector} ein älteres Original findet.
+ *     Ist ein entferntes Duplikat bereits abgeschlossen, wird das Original ebenfalls auf
+ *     {@link EventStatus#closed} gesetzt, damit keine Information verloren geht.
+ * </p>
+ * <p>
+ *     Gelöscht wird nur mit der gelesenen Version: Wurde ein Duplikat seither geändert (z. B. mit
+ *     {@code If-Match}), bleibt es bis zum nächsten Durchlauf bestehen. In derselben Transaktion
+ *     werden Events, die auf ein gelöschtes Duplikat verweisen, auf das verbleibende Original
+ *     umgehängt. Wird auch das Original eines Duplikats im selben Block entfernt, gilt dessen
+ *     Original als verbleibend; nur dieses wird gegebenenfalls abgeschlossen.
+ * </p>
+ *
+ * <h3>
+ *     Konfiguration:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.duplicates.collapse.enabled} – Job aktivieren (Standard: {@code false})</li>
+ *     <li>{@code events.duplicates.collapse.interval} – Pause zwischen zwei Durchläufen (Standard: {@code PT1H})</li>
+ *     <li>{@code events.duplicates.collapse.batch-size} – Anzahl Events pro Block und Transaktion</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventDuplicateDetector
+ */
+@Component
+public class EventDuplicateCollapseJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDuplicateCollapseJob.class);
+
+    private final EventRepository eventRepository;
+    private final EventDuplicateDetector duplicateDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository     Repository für den Datenzugriff
+     * @param duplicateDetector   Duplikaterkennung mit In-Memory-Index
+     * @param eventPublisher      Publisher für {@link EventsChangedNotification}s
+     * @param transactionTemplate Transaktion pro verarbeitetem Block
+     * @param enabled             ob der geplante Durchlauf aktiv ist
+     * @param batchSize           Anzahl Events pro Block
+     */
+    public EventDuplicateCollapseJob(EventRepository eventRepository,
+                                     EventDuplicateDetector duplicateDetector,
+                                     ApplicationEventPublisher eventPublisher,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${events.duplicates.collapse.enabled:false}") boolean enabled,
+                                     @Value("${events.duplicates.collapse.batch-size:500}") int batchSize) {
+        this.eventRepository = eventRepository;
+        this.duplicateDetector = duplicateDetector;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Geplanter Durchlauf. Wird nur ausgeführt, wenn der Job aktiviert ist.
+     */
+    @Scheduled(fixedDelayString = "${events.duplicates.collapse.interval:PT1H}",
+            initialDelayString = "${events.duplicates.collapse.interval:PT1H}")
+    public void scheduledRun() {
+        if (enabled) {
+            collapseDuplicates();
+        }
+    }
+
+    /**
+     * Führt alle Duplikate der Tabelle blockweise mit ihrem Original zusammen.
+     *
+     * @return Anzahl der entfernten Duplikate
+     */
+    public int collapseDuplicates() {
+        int removed = 0;
+        long lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.getLast().getId();
+            removed += collapseBatch(batch);
+        } while (batch.size() == batchSize);
+
+        if (removed > 0) {
+            log.info("{} doppelte Events zusammengeführt", removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Entfernt die Duplikate eines Blocks in einer gemeinsamen Transaktion.
+     *
+     * @param batch Block von Events, aufsteigend nach ID sortiert
+     * @return Anzahl der entfernten Duplikate
+     */
+    private int collapseBatch(List<Event> batch) {
+        // Duplikat → Original; der Detektor liefert nur ältere Events, Ketten enden also immer
+        Map<Long, Long> originalOf = new LinkedHashMap<>();
+        Map<Long, Long> versionOf = new HashMap<>();
+        Set<Long> closedDuplicates = new HashSet<>();
+
+        for (Event event : batch) {
+            Optional<Long> original = duplicateDetector.findDuplicate(event);
+            if (original.isPresent()) {
+                originalOf.put(event.getId(), original.get());
+                versionOf.put(event.getId(), event.getVersion());
+                if (event.getStatus() == EventStatus.closed) {
+                    closedDuplicates.add(event.getId());
+                }
+            }
+        }
+
+        if (originalOf.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> deletedIds = transactionTemplate.execute(status -> {
+            List<Long> deleted = new ArrayList<>();
+            for (Long id : originalOf.keySet()) {
+                if (eventRepository.deleteByIdAndVersion(id, versionOf.get(id)) == 1) {
+                    deleted.add(id);
+                }
+            }
+            if (deleted.isEmpty()) {
+                return deleted;
+            }
+            Set<Long> deletedSet = new HashSet<>(deleted);
+
+            Map<Long, Event> changed = new LinkedHashMap<>();
+            for (Event marked : eventRepository.findByDuplicateOfInOrderByIdAsc(deleted)) {
+                marked.setDuplicateOf(survivor(marked.getDuplicateOf(), originalOf, deletedSet));
+                changed.put(marked.getId(), marked);
+            }
+            Set<Long> originalsToClose = new HashSet<>();
+            for (Long id : deleted) {
+                if (closedDuplicates.contains(id)) {
+                    originalsToClose.add(survivor(id, originalOf, deletedSet));
+                }
+            }
+            if (!originalsToClose.isEmpty()) {
+                for (Event original : eventRepository.findAllById(originalsToClose)) {
+                    original.setStatus(EventStatus.closed);
+                    changed.put(original.getId(), original);
+                }
+            }
+            if (!changed.isEmpty()) {
+                List<Event> saved = eventRepository.saveAll(changed.values());
+                eventPublisher.publishEvent(EventsChangedNotification.saved(saved));
+            }
+            eventPublisher.publishEvent(EventsChangedNotification.deleted(deleted));
+            return deleted;
+        });
+
+        deletedIds.forEach(duplicateDetector::unregister);
+        return deletedIds.size();
+    }
+
+    /**
+     * Bestimmt das Event, das nach dem Löschen an die Stelle eines gelöschten Duplikats tritt:
+     * dessen Original bzw., falls auch dieses gelöscht wurde, das nächste verbleibende.
+     *
+     * @param id          ID eines (möglicherweise gelöschten) Events
+     * @param originalOf  Duplikat → Original des Blocks
+     * @param deleted     im Block gelöschte Events
+     * @return ID des verbleibenden Events
+     */
+    private static Long survivor(Long id, Map<Long, Long> originalOf, Set<Long> deleted) {
+        Long current = id;
+        while (deleted.contains(current)) {
+            current = originalOf.get(current);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,398 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>
+ *     Duplikaterkennung für Naturereignisse
+ * </h2>
+ * <p>
+ *     Diese Komponente erkennt nahezu identische Events, wie sie entstehen, wenn dasselbe
+ *     Naturereignis von mehreren Quellen gemeldet wird. Dazu wird aus jedem Event ein
+ *     normalisierter Schlüssel gebildet und als 64-Bit-Hash in einem In-Memory-Index abgelegt.
+ * </p>
+ *
+ * <h3>
+ *     Normalisierter Schlüssel:
+ * </h3>
+ * <ul>
+ *     <li>Kategorie des Events</li>
+ *     <li>Koordinaten, quantisiert auf ein Raster von {@code events.duplicates.grid-degrees} Grad</li>
+ *     <li>Datum, eingeteilt in Zeitfenster von {@code events.duplicates.date-window-days} Tagen</li>
+ *     <li>Titel in Kleinbuchstaben, ohne Akzente, Satzzeichen und doppelte Leerzeichen</li>
+ * </ul>
+ * <p>
+ *     Bei der Suche werden zusätzlich die benachbarten Rasterzellen und Zeitfenster geprüft,
+ *     damit Events knapp an einer Zellgrenze ebenfalls erkannt werden. Ein Treffer wird
+ *     anschliessend anhand der tatsächlichen Abstände bestätigt.
+ * </p>
+ *
+ * <h3>
+ *     Richtlinien ({@code events.duplicates.policy}):
+ * </h3>
+ * <ul>
+ *     <li>{@link Policy#REJECT} – Duplikate werden mit HTTP 409 abgelehnt</li>
+ *     <li>{@link Policy#MERGE} – das bestehende Event wird zurückgegeben und ggf. ergänzt</li>
+ *     <li>{@link Policy#FLAG} – das Duplikat wird gespeichert und über {@code duplicateOf} markiert (Standard)</li>
+ * </ul>
+ * <p>
+ *     Pro Schlüssel merkt sich der Index alle Events, das älteste gilt als Original. Wird es
+ *     entfernt, rückt das nächstältere nach, sodass spätere Duplikate auf ein bestehendes Event zeigen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventService
+ * @see EventDuplicateCollapseJob
+ */
+@Component
+public class EventDuplicateDetector {
+
+    private static final Logger log = LoggerFactory.getLogger(EventDuplicateDetector.class);
+
+    /**
+     * Anzahl Events, die beim Aufbau des Index pro Block aus der Datenbank gelesen werden.
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * Mögliche Reaktionen auf ein erkanntes Duplikat.
+     */
+    public enum Policy {
+        /** Duplikat ablehnen. */
+        REJECT,
+        /** Duplikat mit dem bestehenden Event zusammenführen. */
+        MERGE,
+        /** Duplikat speichern und markieren. */
+        FLAG
+    }
+
+    /**
+     * Eintrag im Index. Enthält alle Werte, die zur Bestätigung eines Hash-Treffers nötig sind.
+     */
+    private record IndexEntry(long id, int categoryOrdinal, long titleHash, long epochDay, double latitude, double longitude) {}
+
+    private final EventRepository eventRepository;
+    private final Policy policy;
+    private final double gridDegrees;
+    private final int dateWindowDays;
+
+    /**
+     * Inhalt des Index.
+     *
+     * @param entries Schlüssel-Hash → alle Events mit diesem Schlüssel, aufsteigend nach ID (das erste ist das Original)
+     * @param keyById Rückwärtsindex: Event-ID → Schlüssel-Hash, für Updates und Löschungen
+     */
+    private record Index(Map<Long, List<IndexEntry>> entries, Map<Long, Long> keyById) {
+
+        Index() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Aktueller Index. Ein Neuaufbau füllt einen neuen Index und ersetzt diesen erst danach,
+     * damit Abfragen währenddessen nie einen leeren oder halb gefüllten Index sehen.
+     */
+    private volatile Index current = new Index();
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository Repository für den initialen Aufbau des Index
+     * @param policy          Reaktion auf erkannte Duplikate
+     * @param gridDegrees     Rastergrösse für die Quantisierung der Koordinaten in Grad
+     * @param dateWindowDays  maximale Differenz in Tagen, innerhalb der zwei Events als gleich gelten
+     */
+    public EventDuplicateDetector(EventRepository eventRepository,
+                                  @Value("${events.duplicates.policy:FLAG}") Policy policy,
+                                  @Value("${events.duplicates.grid-degrees:0.1}") double gridDegrees,
+                                  @Value("${events.duplicates.date-window-days:3}") int dateWindowDays) {
+        this.eventRepository = eventRepository;
+        this.policy = policy;
+        this.gridDegrees = gridDegrees;
+        this.dateWindowDays = Math.max(1, dateWindowDays);
+    }
+
+    /**
+     * @return Die konfigurierte Reaktion auf erkannte Duplikate.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return Anzahl der aktuell indexierten Events.
+     */
+    public int size() {
+        return current.keyById().size();
+    }
+
+    /**
+     * Erstellt einen leeren Index mit derselben Konfiguration, z. B. um noch nicht gespeicherte
+     * Events untereinander zu vergleichen.
+     *
+     * @return neuer, leerer Index
+     */
+    public EventDuplicateDetector emptyCopy() {
+        return new EventDuplicateDetector(eventRepository, policy, gridDegrees, dateWindowDays);
+    }
+
+    /**
+     * Baut den Index vollständig aus der Datenbank neu auf.
+     * Die Events werden blockweise über {@link EventRepository#findByIdGreaterThanOrderByIdAsc(Long, Limit)} gelesen.
+     * Bis der neue Index vollständig ist, beantwortet der bisherige alle Abfragen.
+     */
+    public void rebuild() {
+        Index rebuilt = new Index();
+        long lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(REBUILD_BATCH_SIZE));
+            for (Event event : batch) {
+                register(rebuilt, event);
+                lastId = event.getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        current = rebuilt;
+
+        log.info("Duplikat-Index aufgebaut: {} Events", size());
+    }
+
+    /**
+     * Baut den Index aus dem bereits geladenen {@link ColumnarEventStore} statt aus der Datenbank auf.
+     *
+     * @param store geladenes Spaltenabbild
+     */
+    public void rebuildFrom(ColumnarEventStore store) {
+        Index rebuilt = new Index();
+        store.forEach(dto -> register(rebuilt, new Event(dto.getId(), dto.getTitle(), dto.getDate(), dto.getCategory(),
+                dto.getLongitude(), dto.getLatitude(), dto.getStatus())));
+        current = rebuilt;
+        log.info("Duplikat-Index aus dem Spaltenabbild aufgebaut: {} Events", size());
+    }
+
+    /**
+     * Sucht ein bereits indexiertes Event, das dem übergebenen Event entspricht.
+     * <p>
+     *     Als Original kommen nur ältere Events in Frage (kleinere ID; für ein neues Event ohne ID alle).
+     *     Von allen Treffern in den benachbarten Buckets wird das älteste zurückgegeben. So wird ein
+     *     Original beim Ändern nie als Duplikat seiner eigenen Kopie markiert, und eine Kopie zeigt immer
+     *     auf dasselbe Original, unabhängig davon, in welchem Bucket sie gefunden wird.
+     * </p>
+     *
+     * @param event zu prüfendes Event
+     * @return ID des ältesten entsprechenden Events oder leeres Optional, wenn kein Duplikat gefunden wurde
+     */
+    public Optional<Long> findDuplicate(Event event) {
+        if (!isIndexable(event)) {
+            return Optional.empty();
+        }
+
+        int categoryOrdinal = event.getCategory().ordinal();
+        long titleHash = titleHash(event.getTitle());
+        long epochDay = event.getDate().toEpochDay();
+        long latCell = cell(event.getLatitude());
+        long lonCell = cell(event.getLongitude());
+        long dayBucket = Math.floorDiv(epochDay, dateWindowDays);
+        long maxId = event.getId() == null ? Long.MAX_VALUE : event.getId();
+        Map<Long, List<IndexEntry>> index = current.entries();
+
+        long original = Long.MAX_VALUE;
+        for (long dLat = -1; dLat <= 1; dLat++) {
+            for (long dLon = -1; dLon <= 1; dLon++) {
+                for (long dDay = -1; dDay <= 1; dDay++) {
+                    List<IndexEntry> entries = index.get(key(categoryOrdinal, titleHash, latCell + dLat, lonCell + dLon, dayBucket + dDay));
+                    if (entries == null) {
+                        continue;
+                    }
+                    // Einträge sind nach ID sortiert: der erste Treffer ist der älteste dieses Buckets
+                    for (IndexEntry entry : entries) {
+                        if (entry.id() >= maxId || entry.id() >= original) {
+                            break;
+                        }
+                        if (entry.categoryOrdinal() == categoryOrdinal
+                                && entry.titleHash() == titleHash
+                                && Math.abs(entry.epochDay() - epochDay) <= dateWindowDays
+                                && Math.abs(entry.latitude() - event.getLatitude()) <= gridDegrees
+                                && Math.abs(entry.longitude() - event.getLongitude()) <= gridDegrees) {
+                            original = entry.id();
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return original == Long.MAX_VALUE ? Optional.empty() : Optional.of(original);
+    }
+
+    /**
+     * Nimmt ein gespeichertes Event in den Index auf bzw. aktualisiert dessen Schlüssel.
+     * Existiert für den Schlüssel bereits ein älteres Event, bleibt dieses als Original bestehen;
+     * das neue wird dahinter eingereiht und rückt nach, sobald das Original entfernt wird.
+     *
+     * @param event gespeichertes Event mit ID
+     */
+    public void register(Event event) {
+        register(current, event);
+    }
+
+    /**
+     * Nimmt ein Event in den angegebenen Index auf.
+     *
+     * @param target Index
+     * @param event  gespeichertes Event mit ID
+     */
+    private void register(Index target, Event event) {
+        if (event.getId() == null) {
+            return;
+        }
+        unregister(target, event.getId());
+        if (!isIndexable(event)) {
+            return;
+        }
+
+        int categoryOrdinal = event.getCategory().ordinal();
+        long titleHash = titleHash(event.getTitle());
+        long epochDay = event.getDate().toEpochDay();
+        long key = key(categoryOrdinal, titleHash, cell(event.getLatitude()), cell(event.getLongitude()),
+                Math.floorDiv(epochDay, dateWindowDays));
+
+        IndexEntry entry = new IndexEntry(event.getId(), categoryOrdinal, titleHash, epochDay,
+                event.getLatitude(), event.getLongitude());
+        target.entries().compute(key, (k, entries) -> insert(entries, entry));
+        target.keyById().put(event.getId(), key);
+    }
+
+    /**
+     * Entfernt ein Event aus dem Index, z. B. nach dem Löschen. War es das Original seines
+     * Schlüssels, wird das nächstältere Event mit diesem Schlüssel zum Original.
+     *
+     * @param id ID des entfernten Events
+     */
+    public void unregister(Long id) {
+        unregister(current, id);
+    }
+
+    /**
+     * Entfernt ein Event aus dem angegebenen Index.
+     *
+     * @param target Index
+     * @param id     ID des entfernten Events
+     */
+    private static void unregister(Index target, Long id) {
+        Long key = target.keyById().remove(id);
+        if (key != null) {
+            target.entries().computeIfPresent(key, (k, entries) -> remove(entries, id));
+        }
+    }
+
+    /**
+     * Fügt einen Eintrag nach ID sortiert in eine unveränderliche Liste ein.
+     *
+     * @param entries bisherige Einträge oder {@code null}
+     * @param added   neuer Eintrag
+     * @return neue Liste
+     */
+    private static List<IndexEntry> insert(List<IndexEntry> entries, IndexEntry added) {
+        if (entries == null) {
+            return List.of(added);
+        }
+        List<IndexEntry> result = new ArrayList<>(entries.size() + 1);
+        int position = 0;
+        while (position < entries.size() && entries.get(position).id() < added.id()) {
+            position++;
+        }
+        result.addAll(entries);
+        result.add(position, added);
+        return List.copyOf(result);
+    }
+
+    /**
+     * Entfernt den Eintrag mit der angegebenen ID aus einer unveränderlichen Liste.
+     *
+     * @param entries bisherige Einträge
+     * @param id      ID des zu entfernenden Events
+     * @return neue Liste oder {@code null}, wenn sie leer wäre
+     */
+    private static List<IndexEntry> remove(List<IndexEntry> entries, long id) {
+        List<IndexEntry> result = entries.stream().filter(entry -> entry.id() != id).toList();
+        return result.isEmpty() ? null : result;
+    }
+
+    /**
+     * Normalisiert einen Titel für den Vergleich: Kleinbuchstaben, keine Akzente,
+     * Satzzeichen werden zu Leerzeichen, mehrfache Leerzeichen werden zusammengefasst.
+     *
+     * @param title ursprünglicher Titel
+     * @return normalisierter Titel
+     */
+    static String normalizeTitle(String title) {
+        String decomposed = Normalizer.normalize(title, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "");
+        return decomposed.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{Alnum}]+", " ")
+                .trim();
+    }
+
+    private boolean isIndexable(Event event) {
+        return event.getTitle() != null
+                && event.getDate() != null
+                && event.getCategory() != null
+                && event.getLatitude() != null
+                && event.getLongitude() != null;
+    }
+
+    private long cell(double coordinate) {
+        return (long) Math.floor(coordinate / gridDegrees);
+    }
+
+    /**
+     * Berechnet einen 64-Bit-FNV-1a-Hash des normalisierten Titels.
+     */
+    private static long titleHash(String title) {
+        String normalized = normalizeTitle(title);
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < normalized.length(); i++) {
+            hash ^= normalized.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Kombiniert alle Schlüsselbestandteile zu einem 64-Bit-Hash.
+     */
+    private static long key(int categoryOrdinal, long titleHash, long latCell, long lonCell, long dayBucket) {
+        long hash = titleHash;
+        hash = mix(hash ^ categoryOrdinal);
+        hash = mix(hash ^ latCell);
+        hash = mix(hash ^ lonCell);
+        hash = mix(hash ^ dayBucket);
+        return hash;
+    }
+
+    /**
+     * Finalisierungsfunktion von SplitMix64 für eine gute Bitverteilung.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,758 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.ImportResultDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.CoordinateOutOfRangeException;
+import com.wiss.backend.exception.FutureDateException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * <h2>
+ *     Service für den Import grosser CSV- und NDJSON-Dateien
+ * </h2>
+ * <p>
+ *     Liest die Datei zeilenweise, validiert jede Zeile mit denselben Regeln wie
+ *     {@link EventService} und streamt gültige Events per {@code COPY ... FROM STDIN}
+ *     in die Tabelle <code>events</code>. Events mit natürlichem Schlüssel ({@code source},
+ *     {@code externalId}) werden stattdessen blockweise über {@link EventService#upsertEvents(List)}
+ *     abgeglichen, damit ein erneuter Import sie aktualisiert statt zu verdoppeln.
+ *     Ungültige Zeilen werden übersprungen und im
+ *     {@link ImportResultDTO} mit Zeilennummer gemeldet. Da nie die ganze Datei im Speicher
+ *     liegt, bleibt der Speicherbedarf für das Lesen unabhängig von der Dateigrösse; wie nach jedem
+ *     Speichern wächst nur der Duplikat-Index um die neuen Events.
+ * </p>
+ *
+ * <h3>
+ *     Formate:
+ * </h3>
+ * <ul>
+ *     <li>CSV mit Kopfzeile; benötigte Spalten: {@code title, date, category, longitude, latitude, status},
+ *         optional {@code source, external_id} (Reihenfolge beliebig, weitere Spalten werden ignoriert,
+ *         Felder dürfen in Anführungszeichen stehen)</li>
+ *     <li>NDJSON: ein Event im Format von {@link EventDTO} pro Zeile</li>
+ * </ul>
+ *
+ * <h3>
+ *     Hinweise:
+ * </h3>
+ * <ul>
+ *     <li>Ohne PostgreSQL (z. B. H2 in Tests) werden die Events blockweise per JPA-Batching gespeichert.</li>
+ *     <li>Jede Zeile ohne natürlichen Schlüssel wird vor dem {@code COPY} mit dem Duplikat-Index und den
+ *         bereits gelesenen Zeilen verglichen und gemäss Duplikat-Richtlinie abgelehnt, zusammengeführt
+ *         oder markiert; Duplikate erscheinen mit Zeilennummer im Bericht. Entspricht eine Zeile einer
+ *         früheren Zeile derselben Datei, wird sie zurückgestellt und nach dem {@code COPY} einzeln
+ *         gespeichert, da das Original erst beim Schreiben eine ID erhält.</li>
+ *     <li>Nach dem Commit werden nur die eingefügten Events im Duplikat-Index eingetragen und an die
+ *         Abbilder im Arbeitsspeicher gemeldet.</li>
+ *     <li>Ein nicht geschlossenes Anführungszeichen lehnt nur den betroffenen Datensatz ab; das Lesen
+ *         wird nach dessen erster Zeile fortgesetzt.</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.repository.EventBulkRepository#copyInsert(Iterator)
+ */
+@Service
+public class EventImportService {
+
+    /**
+     * Unterstützte Dateiformate.
+     */
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final List<String> REQUIRED_CSV_COLUMNS =
+            List.of("title", "date", "category", "longitude", "latitude", "status");
+
+    /**
+     * Maximale Länge eines CSV-Datensatzes über mehrere Zeilen (Zeichen); längere Datensätze
+     * gelten als nicht geschlossenes Anführungszeichen.
+     */
+    private static final int MAX_CSV_RECORD_LENGTH = 64 * 1024;
+
+    private final EventRepository eventRepository;
+    private final EventService eventService;
+    private final EventDuplicateDetector duplicateDetector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectReader dtoReader;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository   Repository für den Datenzugriff
+     * @param eventService      Service, über den Events mit natürlichem Schlüssel abgeglichen werden
+     * @param duplicateDetector Duplikat-Index, gegen den neue Zeilen geprüft und in den sie nach dem Commit eingetragen werden
+     * @param eventPublisher    Publisher, über den die Abbilder im Arbeitsspeicher über eingefügte Events benachrichtigt werden
+     * @param objectMapper      JSON-Mapper für NDJSON-Zeilen
+     * @param chunkSize         Blockgrösse für den JPA-Fallback und den Abgleich über den natürlichen Schlüssel
+     * @param maxReportedErrors maximale Anzahl Zeilenfehler im Bericht
+     */
+    public EventImportService(EventRepository eventRepository,
+                              EventService eventService,
+                              EventDuplicateDetector duplicateDetector,
+                              ApplicationEventPublisher eventPublisher,
+                              ObjectMapper objectMapper,
+                              @Value("${events.bulk.chunk-size:1000}") int chunkSize,
+                              @Value("${events.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.eventRepository = eventRepository;
+        this.eventService = eventService;
+        this.duplicateDetector = duplicateDetector;
+        this.eventPublisher = eventPublisher;
+        this.dtoReader = objectMapper.readerFor(EventDTO.class);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Importiert alle gültigen Events aus dem Datenstrom in einer Transaktion.
+     *
+     * @param input  Dateiinhalt (UTF-8)
+     * @param format Dateiformat
+     * @return Ergebnis mit Zählern und Fehlerbericht
+     * @throws InvalidEventDataException Wenn der CSV-Kopfzeile eine benötigte Spalte fehlt
+     * @see com.wiss.backend.controller.EventController#importEvents(String, InputStream)
+     */
+    @Transactional
+    public ImportResultDTO importEvents(InputStream input, Format format) {
+        ImportResultDTO result = new ImportResultDTO();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        RowIterator rows = switch (format) {
+            case CSV -> new CsvRowIterator(reader, result);
+            case NDJSON -> new NdjsonRowIterator(reader, result);
+        };
+        KeyedRowRouter keyed = new KeyedRowRouter(rows, result);
+        DuplicateFilter events = new DuplicateFilter(keyed, rows, result);
+
+        long imported;
+        if (eventRepository.isPostgreSql()) {
+            imported = eventRepository.copyInsert(events);
+        } else {
+            imported = persistInChunks(events);
+        }
+        keyed.flush();
+        imported += events.writeDeferred();
+        result.setImportedRows(result.getImportedRows() + imported);
+
+        registerInIndexAfterCommit(events.inserted);
+        eventPublisher.publishEvent(EventsChangedNotification.saved(events.inserted));
+        return result;
+    }
+
+    /**
+     * Speichert Events blockweise über JPA, falls {@code COPY} nicht verfügbar ist.
+     *
+     * @param events gültige Events
+     * @return Anzahl gespeicherter Events
+     */
+    private long persistInChunks(Iterator<Event> events) {
+        long count = 0;
+        while (events.hasNext()) {
+            eventRepository.persist(events.next());
+            if (++count % chunkSize == 0) {
+                eventRepository.flushAndClear();
+            }
+        }
+        eventRepository.flushAndClear();
+        return count;
+    }
+
+    /**
+     * Trägt die eingefügten Events nach erfolgreichem Commit in den Duplikat-Index ein
+     * (ohne laufende Transaktion sofort).
+     *
+     * @param events eingefügte Events mit gesetzter ID
+     */
+    private void registerInIndexAfterCommit(List<Event> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.forEach(duplicateDetector::register);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(duplicateDetector::register);
+            }
+        });
+    }
+
+    /**
+     * Vermerkt eine als Duplikat erkannte Zeile im Ergebnis.
+     *
+     * @param result     Ergebnis des Imports
+     * @param line       Zeilennummer in der Datei
+     * @param originalId ID des Originals
+     * @param policy     angewendete Duplikat-Richtlinie
+     */
+    private void reportDuplicate(ImportResultDTO result, long line, Long originalId, EventDuplicateDetector.Policy policy) {
+        result.setDuplicateRows(result.getDuplicateRows() + 1);
+        if (policy == EventDuplicateDetector.Policy.REJECT) {
+            result.setRejectedRows(result.getRejectedRows() + 1);
+        }
+        if (result.getDuplicates().size() < maxReportedErrors) {
+            result.getDuplicates().add(new ImportResultDTO.RowDuplicate(line, originalId, policy.name()));
+        } else {
+            result.setDuplicatesTruncated(true);
+        }
+    }
+
+    /**
+     * Validiert ein gelesenes Event mit den Regeln aus {@link EventService}.
+     *
+     * @param event gelesenes Event
+     * @return dasselbe Event
+     */
+    private static Event validate(Event event) {
+        EventService.validateEventData(
+                event.getTitle(),
+                event.getDate(),
+                event.getCategory(),
+                event.getLongitude(),
+                event.getLatitude(),
+                event.getStatus()
+        );
+        EventService.validateExternalKey(event.getSource(), event.getExternalId());
+        return event;
+    }
+
+    /**
+     * Liest ein Datum im ISO-Format.
+     *
+     * @param value Feldwert oder {@code null}
+     * @return Datum oder {@code null}
+     * @throws RowException bei ungültigem Format
+     */
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeException e) {
+            throw new RowException("Ungültiges Datum '" + value + "', erwartet wird JJJJ-MM-TT.");
+        }
+    }
+
+    /**
+     * Liest einen Enum-Wert (z. B. Kategorie oder Status).
+     *
+     * @param type  Enum-Typ
+     * @param value Feldwert oder {@code null}
+     * @return Enum-Wert oder {@code null}
+     * @throws RowException bei unbekanntem Wert
+     */
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value);
+        } catch (IllegalArgumentException e) {
+            throw new RowException("Unbekannter Wert '" + value + "' für " + type.getSimpleName() + ".");
+        }
+    }
+
+    /**
+     * Liest eine Koordinate als Dezimalzahl.
+     *
+     * @param value Feldwert oder {@code null}
+     * @return Koordinate oder {@code null}
+     * @throws RowException bei ungültiger Zahl
+     */
+    private static Double parseCoordinate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new RowException("Ungültige Koordinate '" + value + "'.");
+        }
+    }
+
+    /**
+     * Liest die Zeilen einer Datei und liefert nur gültige Events.
+     * Fehlerhafte Zeilen werden im Ergebnis vermerkt und übersprungen.
+     */
+    private abstract class RowIterator implements Iterator<Event> {
+
+        protected final BufferedReader reader;
+        protected long lineNumber;
+        protected long rowLine;
+        private final ImportResultDTO result;
+        private Event next;
+        private boolean finished;
+
+        RowIterator(BufferedReader reader, ImportResultDTO result) {
+            this.reader = reader;
+            this.result = result;
+        }
+
+        /**
+         * Liest die nächste Zeile und wandelt sie in ein Event um.
+         *
+         * @return Event oder {@code null} am Dateiende
+         * @throws IOException bei Lesefehlern
+         * @throws RowException wenn die Zeile nicht gelesen werden kann
+         */
+        protected abstract Event readRow() throws IOException;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !finished) {
+                try {
+                    Event event = readRow();
+                    if (event == null) {
+                        finished = true;
+                    } else {
+                        next = validate(event);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (RowException | InvalidEventDataException | FutureDateException
+                         | CoordinateOutOfRangeException e) {
+                    reject(rowLine, e.getMessage());
+                }
+                if (!finished) {
+                    result.setTotalRows(result.getTotalRows() + 1);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Event event = next;
+            next = null;
+            return event;
+        }
+
+        private void reject(long line, String message) {
+            result.setRejectedRows(result.getRejectedRows() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new ImportResultDTO.RowError(line, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    /**
+     * Leitet Events mit natürlichem Schlüssel an {@link EventService#upsertEvents(List)} weiter und
+     * liefert nur Events ohne Schlüssel an {@code COPY} bzw. den JPA-Fallback.
+     * <p>
+     *     Die Events mit Schlüssel werden in Blöcken von {@code chunkSize} abgeglichen; der letzte,
+     *     unvollständige Block mit {@link #flush()}.
+     * </p>
+     */
+    private class KeyedRowRouter implements Iterator<Event> {
+
+        private final RowIterator rows;
+        private final ImportResultDTO result;
+        private final List<EventDTO> keyed = new ArrayList<>();
+        private final Map<List<String>, Long> lines = new HashMap<>();
+        private Event next;
+
+        KeyedRowRouter(RowIterator rows, ImportResultDTO result) {
+            this.rows = rows;
+            this.result = result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && rows.hasNext()) {
+                Event event = rows.next();
+                if (event.getSource() == null) {
+                    next = event;
+                } else {
+                    keyed.add(EventMapper.toDTO(event));
+                    lines.put(List.of(event.getSource(), event.getExternalId()), rows.rowLine);
+                    if (keyed.size() >= chunkSize) {
+                        flush();
+                    }
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Event event = next;
+            next = null;
+            return event;
+        }
+
+        /**
+         * Gleicht die gesammelten Events mit Schlüssel ab und zählt eingefügte und geänderte Events.
+         * Abgelehnte Duplikate werden mit ihrer Zeilennummer gemeldet, zusammengeführte nur gezählt.
+         */
+        void flush() {
+            if (keyed.isEmpty()) {
+                return;
+            }
+            UpsertResultDTO upserted = eventService.upsertEvents(List.copyOf(keyed));
+            keyed.clear();
+            result.setImportedRows(result.getImportedRows() + upserted.getInserted());
+            result.setUpdatedRows(result.getUpdatedRows() + upserted.getUpdated());
+            result.setDuplicateRows(result.getDuplicateRows() + upserted.getMerged());
+            for (UpsertResultDTO.Rejection rejection : upserted.getRejections()) {
+                reportDuplicate(result, lines.get(List.of(rejection.getSource(), rejection.getExternalId())),
+                        rejection.getDuplicateOf(), EventDuplicateDetector.Policy.REJECT);
+            }
+            lines.clear();
+        }
+    }
+
+    /**
+     * Wendet die Duplikat-Richtlinie auf Events ohne natürlichen Schlüssel an, bevor sie an {@code COPY}
+     * bzw. den JPA-Fallback gehen.
+     * <p>
+     *     Jedes Event wird mit dem Duplikat-Index und mit den bereits weitergegebenen Events der Datei
+     *     verglichen. Entspricht es einem weitergegebenen Event, wird es zurückgestellt, da dieses erst
+     *     beim Schreiben eine ID erhält; {@link #writeDeferred()} schreibt die zurückgestellten Events danach einzeln.
+     * </p>
+     */
+    private class DuplicateFilter implements Iterator<Event> {
+
+        private final Iterator<Event> events;
+        private final RowIterator rows;
+        private final ImportResultDTO result;
+        /** Weitergegebene Events mit ihrer Position als vorläufiger ID. */
+        private final EventDuplicateDetector passed = duplicateDetector.emptyCopy();
+        private final List<DeferredRow> deferred = new ArrayList<>();
+        /** Eingefügte Events; nach dem Schreiben mit gesetzter ID. */
+        private final List<Event> inserted = new ArrayList<>();
+        private Event next;
+
+        DuplicateFilter(Iterator<Event> events, RowIterator rows, ImportResultDTO result) {
+            this.events = events;
+            this.rows = rows;
+            this.result = result;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && events.hasNext()) {
+                Event event = events.next();
+                long line = rows.rowLine;
+                if (passed.findDuplicate(event).isPresent()) {
+                    deferred.add(new DeferredRow(line, event));
+                } else if (resolve(event, line, duplicateDetector.findDuplicate(event))) {
+                    inserted.add(event);
+                    passed.register(new Event((long) inserted.size(), event.getTitle(), event.getDate(),
+                            event.getCategory(), event.getLongitude(), event.getLatitude(), event.getStatus()));
+                    next = event;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Event next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Event event = next;
+            next = null;
+            return event;
+        }
+
+        /**
+         * Schreibt die zurückgestellten Events einzeln, nachdem alle übrigen Events eine ID erhalten haben.
+         *
+         * @return Anzahl eingefügter Events
+         */
+        long writeDeferred() {
+            if (deferred.isEmpty()) {
+                return 0;
+            }
+            EventDuplicateDetector written = duplicateDetector.emptyCopy();
+            inserted.forEach(written::register);
+            long count = 0;
+            for (DeferredRow row : deferred) {
+                Event event = row.event();
+                if (resolve(event, row.line(), duplicateDetector.findDuplicate(event).or(() -> written.findDuplicate(event)))) {
+                    eventRepository.persist(event);
+                    written.register(event);
+                    inserted.add(event);
+                    count++;
+                }
+            }
+            eventRepository.flushAndClear();
+            return count;
+        }
+
+        /**
+         * Wendet die Duplikat-Richtlinie auf ein Event an.
+         *
+         * @param event      gelesenes Event
+         * @param line       Zeilennummer in der Datei
+         * @param originalId ID des Originals oder leer, wenn das Event kein Duplikat ist
+         * @return {@code true}, wenn das Event geschrieben werden soll (ggf. mit gesetztem {@code duplicateOf})
+         */
+        private boolean resolve(Event event, long line, Optional<Long> originalId) {
+            event.setDuplicateOf(null);
+            if (originalId.isEmpty()) {
+                return true;
+            }
+            EventDuplicateDetector.Policy policy = duplicateDetector.getPolicy();
+            return switch (policy) {
+                case REJECT -> {
+                    reportDuplicate(result, line, originalId.get(), policy);
+                    yield false;
+                }
+                case MERGE -> {
+                    // Ist das Original nicht mehr vorhanden, wird das Event regulär geschrieben
+                    boolean merged = eventService.mergeDuplicate(originalId.get(), event).isPresent();
+                    if (merged) {
+                        reportDuplicate(result, line, originalId.get(), policy);
+                    }
+                    yield !merged;
+                }
+                case FLAG -> {
+                    event.setDuplicateOf(originalId.get());
+                    reportDuplicate(result, line, originalId.get(), policy);
+                    yield true;
+                }
+            };
+        }
+    }
+
+    /**
+     * Zurückgestellte Zeile, deren Original in derselben Datei steht.
+     *
+     * @param line  Zeilennummer in der Datei
+     * @param event gelesenes Event
+     */
+    private record DeferredRow(long line, Event event) {}
+
+    /**
+     * Liest CSV-Dateien nach RFC 4180 (Anführungszeichen, verdoppelte Anführungszeichen,
+     * Zeilenumbrüche innerhalb von Anführungszeichen).
+     */
+    private class CsvRowIterator extends RowIterator {
+
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvRowIterator(BufferedReader reader, ImportResultDTO result) {
+            super(reader, result);
+            readHeader();
+        }
+
+        private void readHeader() {
+            List<String> header;
+            try {
+                header = readRecord();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (header == null) {
+                header = List.of();
+            }
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED_CSV_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new InvalidEventDataException("CSV-Kopfzeile enthält die Spalte '" + column + "' nicht.");
+                }
+            }
+        }
+
+        @Override
+        protected Event readRow() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.getFirst().isBlank());
+
+            Event event = new Event();
+            event.setTitle(field(record, "title"));
+            event.setDate(parseDate(field(record, "date")));
+            event.setCategory(parseEnum(EventCategory.class, field(record, "category")));
+            event.setLongitude(parseCoordinate(field(record, "longitude")));
+            event.setLatitude(parseCoordinate(field(record, "latitude")));
+            event.setStatus(parseEnum(EventStatus.class, field(record, "status")));
+            event.setSource(field(record, "source"));
+            event.setExternalId(field(record, "external_id"));
+            return event;
+        }
+
+        private String field(List<String> record, String column) {
+            Integer index = columns.get(column);
+            if (index == null) {
+                return null;
+            }
+            if (index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Liest einen vollständigen CSV-Datensatz, der sich über mehrere Zeilen erstrecken kann.
+         * <p>
+         *     Bleibt ein Anführungszeichen bis zum Dateiende oder über {@link #MAX_CSV_RECORD_LENGTH}
+         *     Zeichen offen, wird nur dieser Datensatz abgelehnt: Der Leser springt an das Ende seiner
+         *     ersten Zeile zurück, sodass die folgenden Zeilen wieder als eigene Datensätze gelesen werden.
+         * </p>
+         *
+         * @return Felder des Datensatzes oder {@code null} am Dateiende
+         * @throws IOException bei Lesefehlern
+         * @throws RowException bei nicht geschlossenem Anführungszeichen
+         */
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+            rowLine = lineNumber;
+            reader.mark(MAX_CSV_RECORD_LENGTH);
+            int continued = 0;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                line = reader.readLine();
+                if (line != null) {
+                    lineNumber++;
+                    continued += line.length() + 1;
+                }
+                if (line == null || continued > MAX_CSV_RECORD_LENGTH) {
+                    skipToSecondLine();
+                    throw new RowException("Nicht geschlossenes Anführungszeichen.");
+                }
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        /**
+         * Setzt den Leser nach einem abgelehnten mehrzeiligen Datensatz an das Ende seiner ersten Zeile zurück.
+         * Ist die Markierung wegen einer überlangen Zeile ungültig, wird ab der aktuellen Position weitergelesen.
+         */
+        private void skipToSecondLine() {
+            try {
+                reader.reset();
+                lineNumber = rowLine;
+            } catch (IOException e) {
+                // Markierung verfallen: Die bereits gelesenen Zeilen bleiben übersprungen
+            }
+        }
+    }
+
+    /**
+     * Liest NDJSON-Dateien: ein JSON-Objekt pro Zeile, Leerzeilen werden ignoriert.
+     */
+    private class NdjsonRowIterator extends RowIterator {
+
+        NdjsonRowIterator(BufferedReader reader, ImportResultDTO result) {
+            super(reader, result);
+        }
+
+        @Override
+        protected Event readRow() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            rowLine = lineNumber;
+
+            EventDTO dto;
+            try {
+                dto = dtoReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                throw new RowException("Ungültiges JSON: " + e.getOriginalMessage());
+            }
+            Event event = EventMapper.toEntity(dto);
+            event.setId(null);
+            event.setDuplicateOf(null);
+            return event;
+        }
+    }
+
+    /**
+     * Fehler beim Einlesen einer einzelnen Zeile.
+     */
+    private static class RowException extends RuntimeException {
+        RowException(String message) {
+            super(message);
+        }
+    }
+}
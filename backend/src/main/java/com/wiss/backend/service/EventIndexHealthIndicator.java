@@ -0,0 +1,47 @@
+package com.wiss.backend.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h2>
+ *     Health-Indikator für die Arbeitsspeicher-Indizes
+ * </h2>
+ * <p>
+ *     Meldet {@code DOWN}, solange der Warmstart im {@link EventSnapshotService} läuft. Der Indikator
+ *     ist Teil der Readiness-Gruppe ({@code management.endpoint.health.group.readiness.include}),
+ *     damit ein Load Balancer erst Anfragen schickt, wenn die Indizes vollständig sind.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSnapshotService#isReady()
+ */
+@Component("eventIndexes")
+public class EventIndexHealthIndicator implements HealthIndicator {
+
+    private final EventSnapshotService snapshotService;
+    private final ColumnarEventStore columnarStore;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param snapshotService Warmstart der Indizes
+     * @param columnarStore   Spaltenabbild
+     */
+    public EventIndexHealthIndicator(EventSnapshotService snapshotService, ColumnarEventStore columnarStore) {
+        this.snapshotService = snapshotService;
+        this.columnarStore = columnarStore;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = snapshotService.isReady() ? Health.up() : Health.down();
+        return builder.withDetail("columnarStore", columnarStore.isEnabled()
+                        ? (columnarStore.isReady() ? "loaded" : "loading")
+                        : "disabled")
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.wiss.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/**
+ * <h2>
+ *     Metriken der Arbeitsspeicher-Indizes
+ * </h2>
+ * <p>
+ *     Macht Grösse und Nutzung des {@link OpenEventCache} und des {@link ColumnarEventStore} unter
+ *     {@code /actuator/metrics} und {@code /actuator/prometheus} sichtbar. Die Werte werden erst beim
+ *     Abruf der Metriken gelesen; im Lesepfad kostet die Erfassung nur das Hochzählen eines
+ *     {@link java.util.concurrent.atomic.LongAdder}.
+ * </p>
+ *
+ * <h3>
+ *     Metriken (Tag {@code index} = {@code open} oder {@code columnar}):
+ * </h3>
+ * <ul>
+ *     <li>{@code events.index.size} – Anzahl Events im Abbild ({@code NaN}, solange es nicht geladen ist)</li>
+ *     <li>{@code events.index.reads} – aus dem Abbild beantwortete Abfragen; alle übrigen Abfragen
+ *         erscheinen in {@code spring.data.repository.invocations}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventIndexHealthIndicator
+ */
+@Component
+public class EventIndexMetrics implements MeterBinder {
+
+    private final OpenEventCache openEvents;
+    private final ColumnarEventStore columnarStore;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param openEvents    Abbild der offenen Events
+     * @param columnarStore Spaltenabbild
+     */
+    public EventIndexMetrics(OpenEventCache openEvents, ColumnarEventStore columnarStore) {
+        this.openEvents = openEvents;
+        this.columnarStore = columnarStore;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.index.size", openEvents, cache -> cache.isLoaded() ? cache.size() : Double.NaN)
+                .description("Anzahl Events im Arbeitsspeicher-Index")
+                .tag("index", "open")
+                .register(registry);
+        Gauge.builder("events.index.size", columnarStore, store -> store.isReady() ? store.size() : Double.NaN)
+                .description("Anzahl Events im Arbeitsspeicher-Index")
+                .tag("index", "columnar")
+                .register(registry);
+        FunctionCounter.builder("events.index.reads", openEvents, OpenEventCache::getReadCount)
+                .description("Aus dem Arbeitsspeicher-Index beantwortete Abfragen")
+                .tag("index", "open")
+                .register(registry);
+        FunctionCounter.builder("events.index.reads", columnarStore, ColumnarEventStore::getReadCount)
+                .description("Aus dem Arbeitsspeicher-Index beantwortete Abfragen")
+                .tag("index", "columnar")
+                .register(registry);
+    }
+}
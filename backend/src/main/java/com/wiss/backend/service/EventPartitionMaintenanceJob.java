@@ -0,0 +1,100 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * <h2>
+ *     Hintergrundjob zum Anlegen der Jahrespartitionen
+ * </h2>
+ * <p>
+ *     Die Tabelle <code>events</code> ist unter PostgreSQL nach Jahr (Spalte <code>date</code>)
+ *     partitioniert (Migration V8). Der Job legt die Partitionen des laufenden und der nächsten
+ *     Jahre rechtzeitig an. Events ohne passende Partition landen in <code>events_default</code>;
+ *     der Job legt auch für diese Jahrgänge Partitionen an und verschiebt die Events dorthin.
+ *     Dabei bleibt <code>events</code> les- und beschreibbar: Die Events werden unter Zeilensperren
+ *     in eine neue Tabelle verschoben, die erst danach angehängt wird (Migration V12).
+ * </p>
+ * <p>
+ *     Unter anderen Datenbanken (z. B. H2 in Tests) ist die Tabelle nicht partitioniert und der Job tut nichts.
+ * </p>
+ *
+ * <h3>
+ *     Konfiguration:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.partitions.enabled} – Job aktivieren (Standard: {@code true})</li>
+ *     <li>{@code events.partitions.interval} – Pause zwischen zwei Durchläufen (Standard: {@code P1D})</li>
+ *     <li>{@code events.partitions.years-ahead} – Anzahl Jahre im Voraus (Standard: {@code 1})</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.repository.EventBulkRepository#ensureYearPartitions(int, int)
+ */
+@Component
+public class EventPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPartitionMaintenanceJob.class);
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int yearsAhead;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository     Repository für den Datenzugriff
+     * @param transactionTemplate Transaktion pro Durchlauf
+     * @param enabled             ob der geplante Durchlauf aktiv ist
+     * @param yearsAhead          Anzahl Jahre, für die im Voraus Partitionen angelegt werden
+     */
+    public EventPartitionMaintenanceJob(EventRepository eventRepository,
+                                        TransactionTemplate transactionTemplate,
+                                        @Value("${events.partitions.enabled:true}") boolean enabled,
+                                        @Value("${events.partitions.years-ahead:1}") int yearsAhead) {
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.yearsAhead = yearsAhead;
+    }
+
+    /**
+     * Geplanter Durchlauf. Wird nur ausgeführt, wenn der Job aktiviert ist.
+     */
+    @Scheduled(fixedDelayString = "${events.partitions.interval:P1D}",
+            initialDelayString = "${events.partitions.initial-delay:PT30S}")
+    public void scheduledRun() {
+        if (enabled) {
+            ensurePartitions();
+        }
+    }
+
+    /**
+     * Legt fehlende Partitionen vom laufenden Jahr bis {@code years-ahead} Jahre voraus an
+     * und verschiebt Events aus der Default-Partition in ihre Jahrespartition.
+     *
+     * @return Namen der neu angelegten Partitionen (leer, wenn nichts fehlte oder die Datenbank nicht PostgreSQL ist)
+     */
+    public List<String> ensurePartitions() {
+        int currentYear = LocalDate.now(ZoneOffset.UTC).getYear();
+        List<String> created = transactionTemplate.execute(status -> eventRepository.isPostgreSql()
+                ? eventRepository.ensureYearPartitions(currentYear, currentYear + yearsAhead)
+                : List.of());
+        if (created != null && !created.isEmpty()) {
+            log.info("Partitionen angelegt: {}", created);
+        }
+        return created == null ? List.of() : created;
+    }
+}
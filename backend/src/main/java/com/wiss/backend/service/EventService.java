@@ -1,21 +1,45 @@
 package com.wiss.backend.service;
 
 import com.wiss.backend.controller.EventController;
+import com.wiss.backend.dto.BatchOperationDTO;
+import com.wiss.backend.dto.BatchOperationResultDTO;
+import com.wiss.backend.dto.BatchResultDTO;
 import com.wiss.backend.dto.EventDTO;
 import com.wiss.backend.dto.EventFormDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
 import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.BatchOperationException;
 import com.wiss.backend.exception.CoordinateOutOfRangeException;
+import com.wiss.backend.exception.DuplicateEventException;
 import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.exception.EventVersionConflictException;
 import com.wiss.backend.exception.FutureDateException;
 import com.wiss.backend.exception.InvalidEventDataException;
 import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.BatchOperationType;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventBulkRepository.UpsertOutcome;
 import com.wiss.backend.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * <h2>
@@ -34,6 +58,11 @@ import java.util.List;
  *     <li>Verbindung zur Datenbank über {@link EventRepository}</li>
  *     <li>Konvertierung zwischen {@link Event}, {@link EventDTO} und {@link EventFormDTO}</li>
  *     <li>Validierung der Eingabedaten (inkl. Ausnahmebehandlung)</li>
+ *     <li>Erkennung von Duplikaten beim Erfassen über den {@link EventDuplicateDetector}</li>
+ *     <li>Abgleich über den natürlichen Schlüssel ({@code source}, {@code externalId}), damit erneute Importe nichts verdoppeln</li>
+ *     <li>Lesen offener Events aus dem {@link OpenEventCache} statt aus der Datenbank</li>
+ *     <li>Filter- und Zählabfragen über den {@link ColumnarEventStore}, sofern aktiviert</li>
+ *     <li>Laufzeit jeder öffentlichen Methode als Timer {@code events.service} (Tags {@code class}, {@code method}, {@code exception})</li>
  * </ul>
  *
  * <h3>
@@ -64,6 +93,7 @@ import java.util.List;
  * @see com.wiss.backend.controller.EventController
  */
 @Service
+@Timed("events.service")
 public class EventService {
 
     /**
@@ -72,13 +102,86 @@ public class EventService {
      */
     private final EventRepository eventRepository;
 
+    /**
+     * In-Memory-Index zur Erkennung doppelt erfasster Events.
+     */
+    private final EventDuplicateDetector duplicateDetector;
+
+    /**
+     * Arbeitsspeicher-Abbild der offenen Events; wird nach jedem Commit nachgeführt.
+     */
+    private final OpenEventCache openEvents;
+
+    /**
+     * Spaltenorientiertes Abbild aller Events für Filter- und Zählabfragen (optional).
+     */
+    private final ColumnarEventStore columnarStore;
+
+    /**
+     * Veröffentlicht {@link EventsChangedNotification}s, mit denen die Abbilder im Arbeitsspeicher
+     * nach dem Commit nachgeführt werden.
+     */
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Anzahl Events, nach denen beim Massenimport geschrieben und der Persistenzkontext geleert wird.
+     */
+    private final int bulkChunkSize;
+
+    /**
+     * Maximale Anzahl Operationen pro Batch-Request.
+     */
+    private final int maxBatchOperations;
+
+    /**
+     * Felder, aus denen der {@link EventDuplicateDetector} seinen Schlüssel bildet. Nur wenn ein Patch
+     * eines davon ändert, muss die Duplikat-Markierung neu bestimmt werden.
+     */
+    private static final Set<String> DUPLICATE_KEY_FIELDS = Set.of("title", "date", "category", "longitude", "latitude");
+
+    /**
+     * Ergebnis zusammen mit der Versionsnummer des Events, aus der der Controller den ETag bildet.
+     *
+     * @param value   Event als DTO
+     * @param version Version des Events; {@code null}, wenn sie ohne weitere Abfrage nicht bekannt ist
+     *                (nach einer unbedingten Änderung)
+     * @param <T>     Typ des DTOs
+     */
+    public record Versioned<T>(T value, Long version) {}
+
+    /**
+     * Ergebnis eines einzelnen Events aus {@link #createEventsIndividually(List)}.
+     *
+     * @param event gespeichertes bzw. bestehendes Event; {@code null}, wenn es abgelehnt wurde
+     * @param error Grund der Ablehnung (ungültige Daten oder Duplikat bei {@code REJECT}); sonst {@code null}
+     */
+    public record CreateOutcome(EventDTO event, RuntimeException error) {}
+
     /**
      * Konstruktor für Dependency Injection.
      *
      * @param eventRepository Repository für Event-Datenbankoperationen
+     * @param duplicateDetector Duplikaterkennung für neu erfasste Events
+     * @param openEvents Abbild der offenen Events
+     * @param columnarStore spaltenorientiertes Abbild aller Events
+     * @param eventPublisher Publisher für {@link EventsChangedNotification}s
+     * @param bulkChunkSize Blockgrösse für {@link #createEvents(List)}
+     * @param maxBatchOperations Höchstzahl Operationen für {@link #executeBatch(List)}
      */
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository,
+                        EventDuplicateDetector duplicateDetector,
+                        OpenEventCache openEvents,
+                        ColumnarEventStore columnarStore,
+                        ApplicationEventPublisher eventPublisher,
+                        @Value("${events.bulk.chunk-size:1000}") int bulkChunkSize,
+                        @Value("${events.batch.max-operations:1000}") int maxBatchOperations) {
         this.eventRepository = eventRepository;
+        this.duplicateDetector = duplicateDetector;
+        this.openEvents = openEvents;
+        this.columnarStore = columnarStore;
+        this.eventPublisher = eventPublisher;
+        this.bulkChunkSize = bulkChunkSize;
+        this.maxBatchOperations = maxBatchOperations;
     }
 
     // ---------------------------------------------
@@ -92,24 +195,38 @@ public class EventService {
      * @see EventController#getAllEvents() 
      */
     public List<EventDTO> getAllEventsAsDTO() {
+        if (columnarStore.isReady()) {
+            return columnarStore.find(null, null, null, null);
+        }
         List<Event> entities = eventRepository.findAll();
         return EventMapper.toDTOList(entities);
     }
 
     /**
-     * Gibt ein einzelnes Event als {@link EventDTO} zurück.
+     * Gibt ein einzelnes Event als {@link EventDTO} samt Versionsnummer zurück.
      *
      * @param id ID des Events
-     * @return Event als DTO
+     * @return Event als DTO mit Version
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @see #validateId(Long)
      * @see EventController#getEventById(Long) 
      */
-    public EventDTO getEventByIdAsDTO(Long id) {
+    public Versioned<EventDTO> getEventByIdAsDTO(Long id) {
+        Event entity = getEventById(id);
+        return new Versioned<>(EventMapper.toDTO(entity), entity.getVersion());
+    }
+
+    /**
+     * Gibt nur die Versionsnummer eines Events zurück, z. B. um eine Liste von ETags
+     * aus {@code If-Match} zu prüfen.
+     *
+     * @param id ID des Events
+     * @return Versionsnummer oder {@code null}, wenn das Event nicht existiert
+     * @see EventController#updateEvent(Long, String, EventDTO)
+     */
+    public Long getVersion(Long id) {
         validateId(id);
-        Event entity = eventRepository.findById(id)
-                .orElseThrow(() -> new EventNotFoundException(id));
-        return EventMapper.toDTO(entity);
+        return eventRepository.findVersionById(id).orElse(null);
     }
 
     /**
@@ -120,18 +237,27 @@ public class EventService {
      * @see EventController#getEventsByCategory(EventCategory)
      */
     public List<EventDTO> getEventsByCategoryAsDTO(EventCategory category) {
+        if (columnarStore.isReady()) {
+            return columnarStore.find(category, null, null, null);
+        }
         List<Event> entities = eventRepository.findByCategory(category);
         return EventMapper.toDTOList(entities);
     }
 
     /**
-     * Gibt Events nach Status gefiltert zurück.
+     * Gibt Events nach Status gefiltert zurück. Offene Events stammen aus dem {@link OpenEventCache}.
      *
      * @param status Status (z. B. {@code open})
      * @return Liste gefilterter Events als DTOs
      * @see EventController#getEventsByStatus(EventStatus) 
      */
     public List<EventDTO> getEventsByStatusAsDTO(EventStatus status) {
+        if (status == EventStatus.open && openEvents.isLoaded()) {
+            return openEvents.getOpenEvents();
+        }
+        if (columnarStore.isReady()) {
+            return columnarStore.find(null, status, null, null);
+        }
         List<Event> entities = eventRepository.findByStatus(status);
         return EventMapper.toDTOList(entities);
     }
@@ -144,6 +270,9 @@ public class EventService {
      * @see EventController#getEventsByDate(LocalDate)
      */
     public List<EventDTO> getEventsByDateAsDTO(LocalDate date) {
+        if (columnarStore.isReady()) {
+            return columnarStore.find(null, null, date, date);
+        }
         List<Event> entities = eventRepository.findByDate(date);
         return EventMapper.toDTOList(entities);
     }
@@ -164,22 +293,17 @@ public class EventService {
     }
 
     /**
-     * Gibt ein Event als {@link EventFormDTO} zurück.
+     * Gibt ein Event als {@link EventFormDTO} samt Versionsnummer zurück.
      *
      * @param id ID des gesuchten Events
-     * @return Event als FormDTO
+     * @return Event als FormDTO mit Version
      * @throws EventNotFoundException Wenn das Event nicht existiert
      * @see #validateId(Long) 
      * @see EventController#getEventByIdForEdit(Long)
      */
-    public EventFormDTO getEventByIdAsFormDTO(Long id) {
-        validateId(id);
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-
+    public Versioned<EventFormDTO> getEventByIdAsFormDTO(Long id) {
         Event entity = getEventById(id);
-        return EventMapper.toFormDTO(entity);
+        return new Versioned<>(EventMapper.toFormDTO(entity), entity.getVersion());
     }
 
     /**
@@ -187,7 +311,9 @@ public class EventService {
      *
      * @param event Event-Entity mit Formdaten
      * @return Gespeichertes Event als FormDTO
+     * @throws DuplicateEventException Wenn das Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
+     * @see #saveNewEvent(Event)
      * @see EventController#createEventFromForm(Event) 
      */
     public EventFormDTO createEventFromForm(Event event) {
@@ -200,26 +326,30 @@ public class EventService {
                 event.getStatus()
         );
 
-        Event savedEntity = eventRepository.save(event);
+        Event savedEntity = saveNewEvent(event);
         return EventMapper.toFormDTO(savedEntity);
     }
 
     /**
      * Aktualisiert ein bestehendes Event über Formdaten.
+     * <p>
+     *     Das Event wird nicht geladen, sondern mit einem einzigen bedingten UPDATE überschrieben
+     *     (siehe {@link EventRepository#updateValues(Event, Long)}). Nur wenn keine Zeile geändert
+     *     wurde, klärt eine weitere Abfrage, ob das Event fehlt oder eine andere Version hat.
+     * </p>
      *
      * @param id ID des zu aktualisierenden Events
      * @param event Neue Daten als Event-Entity
-     * @return Aktualisiertes Event als FormDTO
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} für unbedingtes Überschreiben
+     * @return Aktualisiertes Event als FormDTO mit der gespeicherten Version
      * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionConflictException Wenn das Event nicht mehr die erwartete Version hat
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
-     * @see EventController#updateEventFromForm(Long, Event)
+     * @see EventController#updateEventFromForm(Long, String, Event)
      */
-    public EventFormDTO updateEventFromForm(Long id, Event event) {
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-        event.setId(id);
-
+    @Transactional
+    public Versioned<EventFormDTO> updateEventFromForm(Long id, Event event, Long expectedVersion) {
+        validateId(id);
         validateEventData(
                 event.getTitle(),
                 event.getDate(),
@@ -229,8 +359,9 @@ public class EventService {
                 event.getStatus()
         );
 
-        Event updatedEntity = eventRepository.save(event);
-        return EventMapper.toFormDTO(updatedEntity);
+        event.setId(id);
+        Event updatedEntity = updateExistingEvent(event, expectedVersion);
+        return new Versioned<>(EventMapper.toFormDTO(updatedEntity), storedVersion(id, expectedVersion));
     }
 
     // ---------------------------------------------
@@ -297,6 +428,9 @@ public class EventService {
      * @see EventController#getEventCount()
      */
     public long getTotalEventsCount() {
+        if (columnarStore.isReady()) {
+            return columnarStore.count(null, null, null, null);
+        }
         return eventRepository.count();
     }
 
@@ -306,12 +440,19 @@ public class EventService {
 
     /**
      * Erstellt ein neues Event basierend auf einem {@link EventDTO}.
+     * <p>
+     *     Ist eine externe ID gesetzt und existiert bereits ein Event mit demselben
+     *     natürlichen Schlüssel, wird dieses aktualisiert statt ein weiteres angelegt.
+     *     Unveränderte Events werden dabei nicht geschrieben.
+     * </p>
      *
      * @param dto DTO mit den Eventdaten
-     * @return Das neu erstellte Event als DTO
+     * @return Das neu erstellte bzw. bestehende Event als DTO
      * @throws InvalidEventDataException Wenn die Eingabedaten ungültig sind
+     * @throws DuplicateEventException Wenn das Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
-     * @see EventController#createEvent(EventDTO)
+     * @see #saveNewEvent(Event)
+     * @see EventController#createEvent(String, EventDTO)
      */
     public EventDTO createEvent(EventDTO dto) {
         validateEventData(
@@ -322,28 +463,38 @@ public class EventService {
                 dto.getLatitude(),
                 dto.getStatus()
         );
+        validateExternalKey(dto.getSource(), dto.getExternalId());
 
         Event entity = EventMapper.toEntity(dto);
-        Event newEvent = eventRepository.save(entity);
+        if (entity.getExternalId() != null) {
+            Optional<Event> existing = eventRepository.findBySourceAndExternalId(entity.getSource(), entity.getExternalId());
+            if (existing.isPresent()) {
+                Event target = existing.get();
+                return EventMapper.toDTO(applyChanges(target, entity) ? saveExistingEvent(target) : target);
+            }
+        }
+
+        Event newEvent = saveNewEvent(entity);
         return EventMapper.toDTO(newEvent);
     }
 
     /**
-     * Aktualisiert ein bestehendes Event mit neuen Daten.
+     * Aktualisiert ein bestehendes Event mit neuen Daten (ein bedingtes UPDATE,
+     * siehe {@link #updateEventFromForm(Long, Event, Long)}).
      *
      * @param id ID des zu aktualisierenden Events
      * @param dto Neues {@link EventDTO} mit aktualisierten Informationen
-     * @return Aktualisiertes Event als DTO
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} für unbedingtes Überschreiben
+     * @return Aktualisiertes Event als DTO mit der gespeicherten Version
      * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionConflictException Wenn das Event nicht mehr die erwartete Version hat
      * @throws InvalidEventDataException Wenn die Eingabedaten ungültig sind
      * @see #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus) 
-     * @see EventController#updateEvent(Long, EventDTO)
+     * @see EventController#updateEvent(Long, String, EventDTO)
      */
-    public EventDTO updateEvent(Long id, EventDTO dto) {
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
-        }
-
+    @Transactional
+    public Versioned<EventDTO> updateEvent(Long id, EventDTO dto, Long expectedVersion) {
+        validateId(id);
         validateEventData(
                 dto.getTitle(),
                 dto.getDate(),
@@ -352,26 +503,1069 @@ public class EventService {
                 dto.getLatitude(),
                 dto.getStatus()
         );
+        validateExternalKey(dto.getSource(), dto.getExternalId());
 
-        Event entity = EventMapper.toEntity(dto);
-        entity.setId(id); // <- Wichtig: id setzen für UPDATE-Erkennung
-        Event updatedEntity = eventRepository.save(entity);
-        return EventMapper.toDTO(updatedEntity);
+        Event values = EventMapper.toEntity(dto);
+        values.setId(id);
+        Event updatedEntity = updateExistingEvent(values, expectedVersion);
+        return new Versioned<>(EventMapper.toDTO(updatedEntity), storedVersion(id, expectedVersion));
     }
 
     /**
-     * Löscht ein Event anhand seiner ID.
+     * Ändert einzelne Felder eines Events nach JSON Merge Patch (RFC 7396).
+     * <p>
+     *     Nur die im Patch enthaltenen Felder werden validiert und mit einem einzigen UPDATE
+     *     geschrieben, das den neuen Stand direkt zurückliefert
+     *     (siehe {@link com.wiss.backend.repository.EventBulkRepository#patch(long, Map, Long)});
+     *     das Event wird vorher nicht gelesen. Ändert der Patch ein Feld des Duplikat-Schlüssels und
+     *     gilt die Richtlinie {@code FLAG}, wird die Markierung danach neu bestimmt und bei Bedarf
+     *     mit einer zweiten Anweisung nachgeführt. Ein leerer Patch liest nur den aktuellen Stand.
+     * </p>
+     *
+     * @param id ID des Events
+     * @param patch zu ändernde Felder ({@code title}, {@code date}, {@code category}, {@code longitude},
+     *              {@code latitude}, {@code status}, {@code source}, {@code externalId}); {@code null} leert
+     *              ein Feld, was nur bei {@code source} und {@code externalId} erlaubt ist
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} für unbedingtes Ändern
+     * @return Geändertes Event als DTO mit neuer Version
+     * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionConflictException Wenn das Event nicht mehr die erwartete Version hat
+     * @throws InvalidEventDataException Wenn ein Feld unbekannt, nicht änderbar oder ungültig ist
+     * @see EventController#patchEvent(Long, String, Map)
+     */
+    @Transactional
+    public Versioned<EventDTO> patchEvent(Long id, Map<String, Object> patch, Long expectedVersion) {
+        validateId(id);
+        Map<String, Object> values = toPatchValues(patch);
+        if (values.isEmpty()) {
+            Event current = getEventById(id);
+            if (expectedVersion != null && current.getVersion() != expectedVersion) {
+                throw new EventVersionConflictException(id, expectedVersion);
+            }
+            return new Versioned<>(EventMapper.toDTO(current), current.getVersion());
+        }
+
+        Event patched = eventRepository.patch(id, values, expectedVersion)
+                .orElseThrow(() -> notWritten(id, expectedVersion));
+        if (duplicateDetector.getPolicy() == EventDuplicateDetector.Policy.FLAG
+                && values.keySet().stream().anyMatch(DUPLICATE_KEY_FIELDS::contains)) {
+            Long duplicateOf = duplicateDetector.findDuplicate(patched).orElse(null);
+            if (!Objects.equals(duplicateOf, patched.getDuplicateOf())) {
+                Map<String, Object> flag = new HashMap<>();
+                flag.put("duplicateOf", duplicateOf);
+                long version = patched.getVersion();
+                patched = eventRepository.patch(id, flag, version)
+                        .orElseThrow(() -> notWritten(id, version));
+            }
+        }
+
+        Event registered = patched;
+        afterCommit(() -> duplicateDetector.register(registered));
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(patched)));
+        return new Versioned<>(EventMapper.toDTO(patched), patched.getVersion());
+    }
+
+    /**
+     * Löscht ein Event anhand seiner ID mit einem einzigen bedingten DELETE, ohne es vorher zu laden.
+     * War es Original von Duplikaten, rückt das älteste Duplikat nach (siehe {@link #promoteDuplicatesOf(Long)}).
      *
      * @param id ID des zu löschenden Events
+     * @param expectedVersion Version aus {@code If-Match} oder {@code null} für unbedingtes Löschen
      * @throws EventNotFoundException Wenn das Event nicht existiert
-     * @see EventController#deleteEvent(Long)
+     * @throws EventVersionConflictException Wenn das Event nicht mehr die erwartete Version hat
+     * @see EventController#deleteEvent(Long, String)
      */
-    public void deleteEvent(Long id) {
-        if (!eventRepository.existsById(id)) {
-            throw new EventNotFoundException(id);
+    @Transactional
+    public void deleteEvent(Long id, Long expectedVersion) {
+        validateId(id);
+        if (eventRepository.deleteByIdAndVersion(id, expectedVersion) == 0) {
+            throw notWritten(id, expectedVersion);
         }
-        
-        eventRepository.deleteById(id);
+
+        afterCommit(() -> duplicateDetector.unregister(id));
+        eventPublisher.publishEvent(EventsChangedNotification.deleted(List.of(id)));
+        promoteDuplicatesOf(id);
+    }
+
+    // ---------------------------------------------
+    // Massenoperationen
+    // ---------------------------------------------
+
+    /**
+     * Erstellt viele Events in einer Transaktion.
+     * <p>
+     *     Zuerst werden alle Events validiert, damit ein fehlerhafter Eintrag nichts schreibt.
+     *     Danach werden die Events in Blöcken von {@code events.bulk.chunk-size} gespeichert:
+     *     IDs stammen aus dem vorab reservierten Sequenzblock, die Inserts werden per JDBC-Batching
+     *     gebündelt und nach jedem Block wird der Persistenzkontext geleert.
+     *     Events mit externer ID werden wie bei {@link #createEvent(EventDTO)} mit einem bestehenden
+     *     Event gleichen Schlüssels abgeglichen. Übrige Duplikate (auch innerhalb der Liste) werden
+     *     gemäss der konfigurierten Richtlinie behandelt.
+     * </p>
+     *
+     * @param dtos Liste der neuen Events
+     * @return Gespeicherte Events als DTOs, in derselben Reihenfolge wie die Eingabe
+     * @throws InvalidEventDataException Wenn ein Event ungültige Daten enthält
+     * @throws DuplicateEventException Wenn ein Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
+     * @see EventController#createEvents(List)
+     */
+    @Transactional
+    public List<EventDTO> createEvents(List<EventDTO> dtos) {
+        for (EventDTO dto : dtos) {
+            validateEventData(
+                    dto.getTitle(),
+                    dto.getDate(),
+                    dto.getCategory(),
+                    dto.getLongitude(),
+                    dto.getLatitude(),
+                    dto.getStatus()
+            );
+            validateExternalKey(dto.getSource(), dto.getExternalId());
+        }
+
+        List<Long> registeredIds = new ArrayList<>();
+        List<Event> previousStates = new ArrayList<>();
+        restoreIndexOnRollback(registeredIds, previousStates);
+
+        List<EventDTO> result = new ArrayList<>(dtos.size());
+        List<Event> created = new ArrayList<>();
+        int pending = 0;
+        for (EventDTO dto : dtos) {
+            Event entity = EventMapper.toEntity(dto);
+            entity.setId(null);
+            Optional<Event> existing = matchExternalKey(entity, previousStates, created);
+            if (existing.isPresent()) {
+                result.add(EventMapper.toDTO(existing.get()));
+                continue;
+            }
+            Optional<Event> original = resolveDuplicate(entity);
+            if (original.isPresent()) {
+                result.add(EventMapper.toDTO(original.get()));
+                continue;
+            }
+
+            eventRepository.persist(entity);
+            duplicateDetector.register(entity);
+            registeredIds.add(entity.getId());
+            created.add(entity);
+            result.add(EventMapper.toDTO(entity));
+
+            if (++pending >= bulkChunkSize) {
+                eventRepository.flushAndClear();
+                pending = 0;
+            }
+        }
+        eventRepository.flushAndClear();
+        eventPublisher.publishEvent(EventsChangedNotification.saved(created));
+        return result;
+    }
+
+    /**
+     * Erstellt viele Events mit derselben Wirkung wie einzelne Aufrufe von {@link #createEvent(EventDTO)},
+     * aber in einer einzigen Transaktion (ein Commit für alle).
+     * <p>
+     *     Anders als bei {@link #createEvents(List)} verhindert ein abgelehntes Event (ungültige Daten
+     *     oder Duplikat bei {@code REJECT}) nicht das Speichern der übrigen: Die Ablehnung wird im
+     *     Ergebnis vermerkt, bevor für das Event etwas geschrieben wurde. Events mit externer ID werden
+     *     wie bei {@link #createEvent(EventDTO)} mit einem bestehenden Event gleichen Schlüssels abgeglichen.
+     *     Scheitert das Schreiben selbst (z. B. an einer Constraint-Verletzung), wird die ganze
+     *     Transaktion zurückgerollt.
+     * </p>
+     *
+     * @param dtos Liste der neuen Events
+     * @return Ergebnis pro Event, in derselben Reihenfolge wie die Eingabe
+     * @see EventWriteBehindQueue
+     */
+    @Transactional
+    public List<CreateOutcome> createEventsIndividually(List<EventDTO> dtos) {
+        List<Long> registeredIds = new ArrayList<>();
+        List<Event> previousStates = new ArrayList<>();
+        restoreIndexOnRollback(registeredIds, previousStates);
+
+        List<CreateOutcome> outcomes = new ArrayList<>(dtos.size());
+        List<Event> written = new ArrayList<>();
+        for (EventDTO dto : dtos) {
+            try {
+                validateEventData(
+                        dto.getTitle(),
+                        dto.getDate(),
+                        dto.getCategory(),
+                        dto.getLongitude(),
+                        dto.getLatitude(),
+                        dto.getStatus()
+                );
+                validateExternalKey(dto.getSource(), dto.getExternalId());
+                Event saved = createOne(EventMapper.toEntity(dto), registeredIds, previousStates, written);
+                outcomes.add(new CreateOutcome(EventMapper.toDTO(saved), null));
+            } catch (InvalidEventDataException | FutureDateException | CoordinateOutOfRangeException
+                     | DuplicateEventException e) {
+                outcomes.add(new CreateOutcome(null, e));
+            }
+        }
+        eventRepository.flush();
+        eventPublisher.publishEvent(EventsChangedNotification.saved(written));
+        return outcomes;
+    }
+
+    /**
+     * Speichert ein bereits validiertes Event innerhalb von {@link #createEventsIndividually(List)}.
+     *
+     * @param entity         neues Event
+     * @param registeredIds  IDs neu registrierter Events (für einen Rollback)
+     * @param previousStates vorheriger Stand geänderter Events (für einen Rollback)
+     * @param written        eingefügte oder geänderte Events (für die Benachrichtigung nach dem Commit)
+     * @return gespeichertes bzw. bestehendes Event
+     * @throws DuplicateEventException Wenn das Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
+     */
+    private Event createOne(Event entity, List<Long> registeredIds, List<Event> previousStates, List<Event> written) {
+        entity.setId(null);
+        Optional<Event> existing = matchExternalKey(entity, previousStates, written);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        Optional<Event> original = resolveDuplicate(entity);
+        if (original.isPresent()) {
+            return original.get();
+        }
+        eventRepository.persist(entity);
+        duplicateDetector.register(entity);
+        registeredIds.add(entity.getId());
+        written.add(entity);
+        return entity;
+    }
+
+    /**
+     * Gleicht ein neues Event wie {@link #createEvent(EventDTO)} über seinen natürlichen Schlüssel
+     * ({@code source}, {@code externalId}) mit einem bestehenden Event ab. Ist der Schlüssel bekannt,
+     * werden geänderte Werte in das bestehende Event übernommen (geschrieben beim Flush) statt ein
+     * neues anzulegen.
+     *
+     * @param entity         neues, validiertes Event
+     * @param previousStates vorheriger Stand geänderter Events (für einen Rollback)
+     * @param written        Liste, in die ein geändertes Event eingetragen wird
+     * @return bestehendes Event oder leer, wenn das Event keinen oder einen unbekannten Schlüssel hat
+     */
+    private Optional<Event> matchExternalKey(Event entity, List<Event> previousStates, List<Event> written) {
+        if (entity.getExternalId() == null) {
+            return Optional.empty();
+        }
+        Optional<Event> existing = eventRepository.findBySourceAndExternalId(entity.getSource(), entity.getExternalId());
+        existing.ifPresent(target -> {
+            Event previous = copyOf(target);
+            if (applyChanges(target, entity)) {
+                previousStates.add(previous);
+                target.setDuplicateOf(duplicateDetector.getPolicy() == EventDuplicateDetector.Policy.FLAG
+                        ? duplicateDetector.findDuplicate(target).orElse(null)
+                        : null);
+                duplicateDetector.register(target);
+                written.add(target);
+            }
+        });
+        return existing;
+    }
+
+    /**
+     * Gleicht viele Events über ihren natürlichen Schlüssel ({@code source}, {@code externalId}) ab.
+     * <p>
+     *     Unbekannte Events werden eingefügt, bekannte nur dann aktualisiert, wenn sich mindestens
+     *     ein Wert geändert hat; ein erneuter Import derselben Daten schreibt also nichts.
+     *     Kommt ein Schlüssel mehrfach vor, gilt der letzte Eintrag.
+     *     Unter PostgreSQL wird pro Block eine einzige Anweisung über die Schlüsseltabelle
+     *     {@code event_keys} ausgeführt, sonst werden die Events pro Block über JPA geschrieben.
+     *     In beiden Fällen werden die bestehenden Events eines Blocks vorab mit einer Abfrage pro Quelle geladen.
+     * </p>
+     * <p>
+     *     Der natürliche Schlüssel ist nur innerhalb einer Quelle eindeutig; dasselbe Ereignis kann von
+     *     einer anderen Quelle oder ohne Schlüssel bereits gespeichert sein. Für jedes Event, dessen
+     *     Schlüssel noch unbekannt ist, gilt daher die Duplikat-Richtlinie wie bei {@link #createEvents(List)}:
+     *     {@code REJECT} lehnt es ab (im Ergebnis aufgeführt), {@code MERGE} führt es mit dem Original
+     *     zusammen, {@code FLAG} fügt es mit gesetztem {@code duplicateOf} ein. Duplikate innerhalb der
+     *     Liste werden erkannt, indem der Block vor einem solchen Event geschrieben wird. Bekannte
+     *     Schlüssel behalten ihre gespeicherte Markierung.
+     * </p>
+     * <p>
+     *     Geschriebene Events werden sofort im Duplikat-Index eingetragen und bei einem Rollback wieder entfernt.
+     * </p>
+     *
+     * @param dtos Events mit gesetztem {@code source} und {@code externalId}
+     * @return Anzahl eingefügter, geänderter, unveränderter und zusammengeführter sowie die abgelehnten Events
+     * @throws InvalidEventDataException Wenn ein Event ungültige Daten oder keinen natürlichen Schlüssel enthält
+     * @see EventController#upsertEvents(List)
+     */
+    @Transactional
+    public UpsertResultDTO upsertEvents(List<EventDTO> dtos) {
+        Map<NaturalKey, Event> byKey = new LinkedHashMap<>();
+        for (EventDTO dto : dtos) {
+            validateEventData(
+                    dto.getTitle(),
+                    dto.getDate(),
+                    dto.getCategory(),
+                    dto.getLongitude(),
+                    dto.getLatitude(),
+                    dto.getStatus()
+            );
+            if (dto.getSource() == null || dto.getExternalId() == null) {
+                throw new InvalidEventDataException("Für einen Abgleich sind source und externalId erforderlich.");
+            }
+
+            Event entity = EventMapper.toEntity(dto);
+            entity.setId(null);
+            byKey.put(NaturalKey.of(entity), entity);
+        }
+
+        List<Long> registeredIds = new ArrayList<>();
+        List<Event> previousStates = new ArrayList<>();
+        restoreIndexOnRollback(registeredIds, previousStates);
+
+        List<Event> events = new ArrayList<>(byKey.values());
+        List<Event> written = new ArrayList<>();
+        List<UpsertResultDTO.Rejection> rejections = new ArrayList<>();
+        boolean postgreSql = eventRepository.isPostgreSql();
+        long inserted = 0;
+        long merged = 0;
+        for (int from = 0; from < events.size(); from += bulkChunkSize) {
+            List<Event> slice = events.subList(from, Math.min(from + bulkChunkSize, events.size()));
+            Map<NaturalKey, Event> existing = findByNaturalKeys(slice);
+            List<Event> chunk = new ArrayList<>();
+            EventDuplicateDetector unsaved = duplicateDetector.emptyCopy();
+            for (Event event : slice) {
+                if (!existing.containsKey(NaturalKey.of(event))) {
+                    if (unsaved.findDuplicate(event).isPresent()) {
+                        // Das Original steht im selben Block und hat noch keine ID: Block zuerst schreiben
+                        inserted += upsertChunk(chunk, existing, postgreSql, written, registeredIds, previousStates);
+                        chunk = new ArrayList<>();
+                        unsaved = duplicateDetector.emptyCopy();
+                    }
+                    try {
+                        if (resolveDuplicate(event).isPresent()) {
+                            merged++;
+                            continue;
+                        }
+                    } catch (DuplicateEventException e) {
+                        rejections.add(new UpsertResultDTO.Rejection(event.getSource(), event.getExternalId(),
+                                e.getExistingEventId()));
+                        continue;
+                    }
+                    Event candidate = copyOf(event);
+                    candidate.setId((long) chunk.size() + 1);
+                    unsaved.register(candidate);
+                }
+                chunk.add(event);
+            }
+            inserted += upsertChunk(chunk, existing, postgreSql, written, registeredIds, previousStates);
+            eventRepository.flushAndClear();
+        }
+
+        eventPublisher.publishEvent(EventsChangedNotification.saved(written));
+        long updated = written.size() - inserted;
+        long unchanged = events.size() - written.size() - merged - rejections.size();
+        return new UpsertResultDTO(inserted, updated, unchanged, merged, rejections);
+    }
+
+    /**
+     * Lädt die bestehenden Events eines Blocks mit einer Abfrage pro Quelle.
+     *
+     * @param events Events mit gesetztem {@code source} und {@code externalId}
+     * @return bestehende Events nach natürlichem Schlüssel
+     */
+    private Map<NaturalKey, Event> findByNaturalKeys(List<Event> events) {
+        Map<String, List<String>> externalIdsBySource = new HashMap<>();
+        for (Event event : events) {
+            externalIdsBySource.computeIfAbsent(event.getSource(), source -> new ArrayList<>()).add(event.getExternalId());
+        }
+        Map<NaturalKey, Event> existing = new HashMap<>();
+        externalIdsBySource.forEach((source, externalIds) ->
+                eventRepository.findBySourceAndExternalIdIn(source, externalIds)
+                        .forEach(event -> existing.put(NaturalKey.of(event), event)));
+        return existing;
+    }
+
+    /**
+     * Schreibt einen Block von {@link #upsertEvents(List)} und trägt die geschriebenen Events im
+     * Duplikat-Index ein. Unter PostgreSQL mit {@link EventRepository#upsert(List)}, sonst über JPA:
+     * neue Events werden eingefügt, bestehende nur bei geänderten Werten aktualisiert.
+     *
+     * @param chunk          Events mit eindeutigem natürlichem Schlüssel
+     * @param existing       bestehende Events des Blocks nach natürlichem Schlüssel
+     * @param postgreSql     {@code true}, wenn die Datenbank PostgreSQL ist
+     * @param written        Liste, in welche eingefügte und geänderte Events eingetragen werden
+     * @param registeredIds  IDs neu eingefügter Events (für einen Rollback)
+     * @param previousStates vorheriger Stand geänderter Events (für einen Rollback)
+     * @return Anzahl eingefügter Events
+     */
+    private long upsertChunk(List<Event> chunk, Map<NaturalKey, Event> existing, boolean postgreSql,
+                             List<Event> written, List<Long> registeredIds, List<Event> previousStates) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        long inserted = 0;
+        if (postgreSql) {
+            Map<NaturalKey, Event> byKey = new HashMap<>();
+            chunk.forEach(event -> byKey.put(NaturalKey.of(event), event));
+            for (UpsertOutcome outcome : eventRepository.upsert(chunk)) {
+                NaturalKey key = new NaturalKey(outcome.source(), outcome.externalId());
+                Event event = byKey.get(key);
+                event.setId(outcome.id());
+                Event target = existing.get(key);
+                if (target == null) {
+                    registeredIds.add(event.getId());
+                } else {
+                    previousStates.add(copyOf(target));
+                    event.setDuplicateOf(target.getDuplicateOf());
+                }
+                duplicateDetector.register(event);
+                written.add(event);
+                inserted += outcome.inserted() ? 1 : 0;
+            }
+            return inserted;
+        }
+
+        for (Event event : chunk) {
+            Event target = existing.get(NaturalKey.of(event));
+            if (target == null) {
+                eventRepository.persist(event);
+                registeredIds.add(event.getId());
+                duplicateDetector.register(event);
+                written.add(event);
+                inserted++;
+                continue;
+            }
+            Event previous = copyOf(target);
+            if (applyChanges(target, event)) {
+                previousStates.add(previous);
+                duplicateDetector.register(target);
+                written.add(target);
+            }
+        }
+        eventRepository.flush();
+        return inserted;
+    }
+
+    /**
+     * Übernimmt die fachlichen Werte eines Events in ein bestehendes, sofern sie sich unterscheiden.
+     *
+     * @param target bestehendes Event
+     * @param source neue Werte
+     * @return {@code true}, wenn mindestens ein Wert geändert wurde
+     */
+    private static boolean applyChanges(Event target, Event source) {
+        boolean changed = !Objects.equals(target.getTitle(), source.getTitle())
+                || !Objects.equals(target.getDate(), source.getDate())
+                || target.getCategory() != source.getCategory()
+                || !Objects.equals(target.getLongitude(), source.getLongitude())
+                || !Objects.equals(target.getLatitude(), source.getLatitude())
+                || target.getStatus() != source.getStatus();
+        if (changed) {
+            target.setTitle(source.getTitle());
+            target.setDate(source.getDate());
+            target.setCategory(source.getCategory());
+            target.setLongitude(source.getLongitude());
+            target.setLatitude(source.getLatitude());
+            target.setStatus(source.getStatus());
+        }
+        return changed;
+    }
+
+    /**
+     * Natürlicher Schlüssel eines Events.
+     *
+     * @param source     Herkunft
+     * @param externalId ID im Herkunftssystem
+     */
+    private record NaturalKey(String source, String externalId) {
+
+        static NaturalKey of(Event event) {
+            return new NaturalKey(event.getSource(), event.getExternalId());
+        }
+    }
+
+    /**
+     * Führt mehrere Create-, Update- und Delete-Operationen in einer Transaktion aus.
+     * <p>
+     *     Zuerst werden alle Operationen mit den Validierungsregeln geprüft und die betroffenen
+     *     Events mit einer einzigen Abfrage geladen (statt {@code existsById} pro Operation).
+     *     Danach werden die Operationen der Reihe nach ausgeführt; Hibernate schreibt die Änderungen
+     *     beim Commit gebündelt per JDBC-Batching. Schlägt eine Operation fehl, wird die ganze
+     *     Transaktion zurückgerollt.
+     * </p>
+     *
+     * @param operations Operationen in Ausführungsreihenfolge
+     * @return Ergebnis pro Operation
+     * @throws InvalidEventDataException Wenn mehr als {@code events.batch.max-operations} Operationen übergeben werden
+     * @throws BatchOperationException Wenn mindestens eine Operation fehlschlägt (nichts wird gespeichert)
+     * @see EventController#executeBatch(List)
+     */
+    @Transactional
+    public BatchResultDTO executeBatch(List<BatchOperationDTO> operations) {
+        if (operations.size() > maxBatchOperations) {
+            throw new InvalidEventDataException(
+                    "Ein Batch darf höchstens " + maxBatchOperations + " Operationen enthalten.");
+        }
+
+        List<BatchOperationResultDTO> results = new ArrayList<>(operations.size());
+        boolean failed = false;
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO operation = operations.get(i);
+            BatchOperationResultDTO result = new BatchOperationResultDTO(i, operation.getOp(), operation.getId());
+            failed |= !validateOperation(operation, result);
+            results.add(result);
+        }
+
+        Set<Long> targetIds = new HashSet<>();
+        for (BatchOperationDTO operation : operations) {
+            if (operation.getOp() != BatchOperationType.create && operation.getId() != null) {
+                targetIds.add(operation.getId());
+            }
+        }
+        Map<Long, Event> targets = new HashMap<>();
+        eventRepository.findAllById(targetIds).forEach(event -> targets.put(event.getId(), event));
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO operation = operations.get(i);
+            BatchOperationResultDTO result = results.get(i);
+            if (result.getError() == null && operation.getOp() != BatchOperationType.create
+                    && !targets.containsKey(operation.getId())) {
+                failed = true;
+                setError(result, 404, "EVENT_NOT_FOUND", new EventNotFoundException(operation.getId()).getMessage());
+            }
+        }
+        if (failed) {
+            throw new BatchOperationException(new BatchResultDTO(false, results));
+        }
+
+        List<Long> registeredIds = new ArrayList<>();
+        List<Event> previousStates = new ArrayList<>();
+        restoreIndexOnRollback(registeredIds, previousStates);
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDTO operation = operations.get(i);
+            BatchOperationResultDTO result = results.get(i);
+            try {
+                switch (operation.getOp()) {
+                    case create -> executeCreate(operation, result, registeredIds, previousStates);
+                    case update -> executeUpdate(operation, result, targets, previousStates);
+                    case delete -> executeDelete(operation, result, targets, previousStates);
+                }
+            } catch (DuplicateEventException e) {
+                setError(result, 409, "DUPLICATE_EVENT", e.getMessage());
+                throw new BatchOperationException(new BatchResultDTO(false, results));
+            } catch (EventNotFoundException e) {
+                setError(result, 404, "EVENT_NOT_FOUND", e.getMessage());
+                throw new BatchOperationException(new BatchResultDTO(false, results));
+            }
+        }
+
+        eventRepository.flush();
+        return new BatchResultDTO(true, results);
+    }
+
+    /**
+     * Prüft Aufbau und Daten einer Batch-Operation.
+     *
+     * @param operation zu prüfende Operation
+     * @param result    Ergebnis, in das ein Fehler eingetragen wird
+     * @return {@code true}, wenn die Operation gültig ist
+     */
+    private boolean validateOperation(BatchOperationDTO operation, BatchOperationResultDTO result) {
+        try {
+            if (operation.getOp() == null) {
+                throw new InvalidEventDataException("Operation (op) darf nicht null sein.");
+            }
+            if (operation.getOp() != BatchOperationType.create) {
+                validateId(operation.getId());
+            }
+            if (operation.getOp() != BatchOperationType.delete) {
+                EventDTO dto = operation.getEvent();
+                if (dto == null) {
+                    throw new InvalidEventDataException("Eventdaten (event) dürfen nicht null sein.");
+                }
+                validateEventData(
+                        dto.getTitle(),
+                        dto.getDate(),
+                        dto.getCategory(),
+                        dto.getLongitude(),
+                        dto.getLatitude(),
+                        dto.getStatus()
+                );
+                validateExternalKey(dto.getSource(), dto.getExternalId());
+            }
+            return true;
+        } catch (InvalidEventDataException e) {
+            setError(result, 400, "INVALID_EVENT_DATA", e.getMessage());
+        } catch (FutureDateException e) {
+            setError(result, 400, "INVALID_DATE", e.getMessage());
+        } catch (CoordinateOutOfRangeException e) {
+            setError(result, 400, "INVALID_COORDINATE", e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Führt eine {@code create}-Operation aus. Ein Event mit bekannter externer ID wird wie bei
+     * {@link #createEvent(EventDTO)} in das bestehende Event übernommen (HTTP 200).
+     *
+     * @param operation      Operation mit den neuen Eventdaten
+     * @param result         Ergebnis der Operation
+     * @param registeredIds  IDs neu registrierter Events (für einen Rollback)
+     * @param previousStates vorheriger Stand geänderter Events (für einen Rollback)
+     */
+    private void executeCreate(BatchOperationDTO operation, BatchOperationResultDTO result,
+                               List<Long> registeredIds, List<Event> previousStates) {
+        Event entity = EventMapper.toEntity(operation.getEvent());
+        entity.setId(null);
+        List<Event> changed = new ArrayList<>(1);
+        Optional<Event> existing = matchExternalKey(entity, previousStates, changed);
+        if (existing.isPresent()) {
+            if (!changed.isEmpty()) {
+                eventPublisher.publishEvent(EventsChangedNotification.saved(changed));
+            }
+            result.setId(existing.get().getId());
+            result.setCode(200);
+            result.setEvent(EventMapper.toDTO(existing.get()));
+            return;
+        }
+        Optional<Event> original = resolveDuplicate(entity);
+        if (original.isPresent()) {
+            result.setId(original.get().getId());
+            result.setCode(200);
+            result.setEvent(EventMapper.toDTO(original.get()));
+            return;
+        }
+
+        eventRepository.persist(entity);
+        duplicateDetector.register(entity);
+        registeredIds.add(entity.getId());
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(entity)));
+        result.setId(entity.getId());
+        result.setCode(201);
+        result.setEvent(EventMapper.toDTO(entity));
+    }
+
+    /**
+     * Führt eine {@code update}-Operation auf dem bereits geladenen Event aus.
+     * Die Änderung wird beim Flush als (gebündeltes) {@code UPDATE} geschrieben.
+     *
+     * @param operation      Operation mit ID und neuen Eventdaten
+     * @param result         Ergebnis der Operation
+     * @param targets        vorab geladene Events nach ID
+     * @param previousStates vorheriger Stand geänderter Events (für einen Rollback)
+     * @throws EventNotFoundException Wenn das Event im selben Batch bereits gelöscht wurde
+     */
+    private void executeUpdate(BatchOperationDTO operation, BatchOperationResultDTO result,
+                               Map<Long, Event> targets, List<Event> previousStates) {
+        Event target = targets.get(operation.getId());
+        if (target == null) {
+            throw new EventNotFoundException(operation.getId());
+        }
+        previousStates.add(copyOf(target));
+
+        EventDTO dto = operation.getEvent();
+        target.setTitle(dto.getTitle());
+        target.setDate(dto.getDate());
+        target.setCategory(dto.getCategory());
+        target.setLongitude(dto.getLongitude());
+        target.setLatitude(dto.getLatitude());
+        target.setStatus(dto.getStatus());
+        target.setSource(dto.getSource());
+        target.setExternalId(dto.getExternalId());
+        target.setDuplicateOf(duplicateDetector.getPolicy() == EventDuplicateDetector.Policy.FLAG
+                ? duplicateDetector.findDuplicate(target).orElse(null)
+                : null);
+        duplicateDetector.register(target);
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(target)));
+
+        result.setCode(200);
+        result.setEvent(EventMapper.toDTO(target));
+    }
+
+    /**
+     * Führt eine {@code delete}-Operation auf dem bereits geladenen Event aus.
+     *
+     * @param operation      Operation mit der ID
+     * @param result         Ergebnis der Operation
+     * @param targets        vorab geladene Events nach ID
+     * @param previousStates vorheriger Stand gelöschter Events (für einen Rollback)
+     * @throws EventNotFoundException Wenn das Event im selben Batch bereits gelöscht wurde
+     */
+    private void executeDelete(BatchOperationDTO operation, BatchOperationResultDTO result,
+                               Map<Long, Event> targets, List<Event> previousStates) {
+        Event target = targets.remove(operation.getId());
+        if (target == null) {
+            throw new EventNotFoundException(operation.getId());
+        }
+        previousStates.add(copyOf(target));
+
+        eventRepository.delete(target);
+        duplicateDetector.unregister(target.getId());
+        eventPublisher.publishEvent(EventsChangedNotification.deleted(List.of(target.getId())));
+        promoteDuplicatesOf(target.getId());
+        result.setCode(204);
+    }
+
+    /**
+     * Trägt einen Fehler in das Ergebnis einer Batch-Operation ein.
+     *
+     * @param result  Ergebnis der Operation
+     * @param code    HTTP-Statuscode
+     * @param error   Kurzcode des Fehlers
+     * @param message Fehlermeldung
+     */
+    private static void setError(BatchOperationResultDTO result, int code, String error, String message) {
+        result.setCode(code);
+        result.setError(error);
+        result.setMessage(message);
+        result.setEvent(null);
+    }
+
+    /**
+     * Erstellt eine unverwaltete Kopie eines Events, z. B. um den Duplikat-Index nach einem Rollback
+     * wiederherzustellen.
+     *
+     * @param event zu kopierendes Event
+     * @return Kopie mit denselben Werten
+     */
+    private static Event copyOf(Event event) {
+        Event copy = new Event(event.getId(), event.getTitle(), event.getDate(), event.getCategory(),
+                event.getLongitude(), event.getLatitude(), event.getStatus());
+        copy.setDuplicateOf(event.getDuplicateOf());
+        copy.setSource(event.getSource());
+        copy.setExternalId(event.getExternalId());
+        return copy;
+    }
+
+    /**
+     * Stellt den Duplikat-Index wieder her, falls die laufende Transaktion zurückgerollt wird:
+     * neu registrierte Events werden entfernt, geänderte oder gelöschte Events mit ihrem
+     * vorherigen Stand erneut eingetragen.
+     *
+     * @param registeredIds  Liste, in welche die IDs neu erstellter Events laufend eingetragen werden
+     * @param previousStates Liste, in welche der vorherige Stand geänderter Events laufend eingetragen wird
+     */
+    private void restoreIndexOnRollback(List<Long> registeredIds, List<Event> previousStates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    registeredIds.forEach(duplicateDetector::unregister);
+                    previousStates.forEach(duplicateDetector::register);
+                }
+            }
+        });
+    }
+
+    /**
+     * Führt eine Änderung am Duplikat-Index erst nach erfolgreichem Commit aus (ohne laufende
+     * Transaktion sofort). Für Änderungen, deren vorheriger Stand nicht gelesen wurde und nach einem
+     * Rollback daher nicht wiederhergestellt werden könnte.
+     *
+     * @param indexChange Änderung am Duplikat-Index
+     */
+    private static void afterCommit(Runnable indexChange) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            indexChange.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                indexChange.run();
+            }
+        });
+    }
+
+    // ---------------------------------------------
+    // Duplikaterkennung
+    // ---------------------------------------------
+
+    /**
+     * Speichert ein neues Event unter Berücksichtigung der Duplikat-Richtlinie.
+     * <ul>
+     *     <li>{@code REJECT}: wirft eine {@link DuplicateEventException}</li>
+     *     <li>{@code MERGE}: gibt das bestehende Event zurück (ein abgeschlossenes Duplikat schliesst auch das Original)</li>
+     *     <li>{@code FLAG}: speichert das Event und setzt {@code duplicateOf}</li>
+     * </ul>
+     *
+     * @param event Neues, bereits validiertes Event
+     * @return Gespeichertes bzw. bestehendes Event
+     * @throws DuplicateEventException Wenn das Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
+     */
+    private Event saveNewEvent(Event event) {
+        Optional<Event> original = resolveDuplicate(event);
+        if (original.isPresent()) {
+            return original.get();
+        }
+
+        Event saved = eventRepository.save(event);
+        duplicateDetector.register(saved);
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Prüft ein neues Event auf Duplikate und wendet die konfigurierte Richtlinie an.
+     *
+     * @param event Neues, bereits validiertes Event
+     * @return Das bestehende Original, falls das Event damit zusammengeführt wurde;
+     *         leer, wenn das Event gespeichert werden soll (ggf. mit gesetztem {@code duplicateOf})
+     * @throws DuplicateEventException Wenn das Event ein Duplikat ist und die Richtlinie {@code REJECT} gilt
+     */
+    private Optional<Event> resolveDuplicate(Event event) {
+        event.setDuplicateOf(null);
+        Optional<Long> duplicateId = duplicateDetector.findDuplicate(event);
+
+        if (duplicateId.isPresent()) {
+            switch (duplicateDetector.getPolicy()) {
+                case REJECT -> throw new DuplicateEventException(duplicateId.get());
+                case MERGE -> {
+                    Optional<Event> original = mergeDuplicate(duplicateId.get(), event);
+                    if (original.isPresent()) {
+                        return original;
+                    }
+                    // Index war veraltet – Event wird regulär gespeichert
+                    duplicateDetector.unregister(duplicateId.get());
+                }
+                case FLAG -> event.setDuplicateOf(duplicateId.get());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Führt ein Duplikat gemäss Richtlinie {@code MERGE} mit seinem gespeicherten Original zusammen:
+     * Ein abgeschlossenes Duplikat schliesst auch das Original. Das Duplikat selbst wird nicht gespeichert.
+     *
+     * @param originalId ID des Originals
+     * @param duplicate  neu gemeldetes Duplikat
+     * @return das (ggf. aktualisierte) Original oder leer, wenn es nicht mehr existiert
+     * @see EventImportService
+     */
+    @Transactional
+    public Optional<Event> mergeDuplicate(Long originalId, Event duplicate) {
+        return eventRepository.findById(originalId).map(original -> mergeIntoOriginal(original, duplicate));
+    }
+
+    /**
+     * Lässt nach dem Löschen eines Originals dessen ältestes Duplikat nachrücken: Es verliert seine
+     * Markierung, alle übrigen Duplikate zeigen danach auf das nachgerückte Event statt auf eine
+     * gelöschte ID. Entspricht dem Nachrücken im {@link EventDuplicateDetector}. Ohne Duplikate
+     * kostet das eine Abfrage über den Teilindex auf {@code duplicate_of}.
+     *
+     * @param deletedId ID des gelöschten Events
+     */
+    private void promoteDuplicatesOf(Long deletedId) {
+        List<Event> duplicates = eventRepository.findByDuplicateOfOrderByIdAsc(deletedId);
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        Long successorId = duplicates.getFirst().getId();
+        for (Event duplicate : duplicates) {
+            duplicate.setDuplicateOf(duplicate.getId().equals(successorId) ? null : successorId);
+        }
+        eventRepository.saveAll(duplicates);
+        eventPublisher.publishEvent(EventsChangedNotification.saved(duplicates));
+    }
+
+    /**
+     * Speichert ein bestehendes Event und aktualisiert dessen Eintrag im Duplikat-Index.
+     * Bei der Richtlinie {@code FLAG} wird die Markierung anhand der neuen Daten neu bestimmt.
+     *
+     * @param event Event mit gesetzter ID
+     * @return Gespeichertes Event
+     */
+    private Event saveExistingEvent(Event event) {
+        event.setDuplicateOf(duplicateDetector.getPolicy() == EventDuplicateDetector.Policy.FLAG
+                ? duplicateDetector.findDuplicate(event).orElse(null)
+                : null);
+
+        Event saved = eventRepository.save(event);
+        duplicateDetector.register(saved);
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Überschreibt ein bestehendes Event mit einem bedingten UPDATE und aktualisiert dessen Eintrag
+     * im Duplikat-Index nach dem Commit. Bei der Richtlinie {@code FLAG} wird die Markierung anhand
+     * der neuen Daten neu bestimmt; bei {@code MERGE} und {@code REJECT} bleibt die gespeicherte
+     * Markierung bestehen und wird für das Ergebnis nachgelesen.
+     *
+     * @param values neue, bereits validierte Werte mit gesetzter ID
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return dieselben Werte, wie sie nun gespeichert sind (ohne Versionsnummer)
+     * @throws EventNotFoundException Wenn das Event nicht existiert
+     * @throws EventVersionConflictException Wenn das Event nicht mehr die erwartete Version hat
+     */
+    private Event updateExistingEvent(Event values, Long expectedVersion) {
+        if (duplicateDetector.getPolicy() == EventDuplicateDetector.Policy.FLAG) {
+            values.setDuplicateOf(duplicateDetector.findDuplicate(values).orElse(null));
+            if (eventRepository.updateValues(values, expectedVersion) == 0) {
+                throw notWritten(values.getId(), expectedVersion);
+            }
+        } else {
+            if (eventRepository.updateValuesKeepingDuplicateOf(values, expectedVersion) == 0) {
+                throw notWritten(values.getId(), expectedVersion);
+            }
+            values.setDuplicateOf(eventRepository.findDuplicateOfById(values.getId()).orElse(null));
+        }
+        afterCommit(() -> duplicateDetector.register(values));
+        eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(values)));
+        return values;
+    }
+
+    /**
+     * Wandelt die Felder eines Merge Patch in typisierte Werte um und validiert jedes Feld mit
+     * demselben Validator wie beim vollständigen Ändern. {@code source} und {@code externalId}
+     * können nur gemeinsam geändert werden, da sie zusammen den natürlichen Schlüssel bilden.
+     *
+     * @param patch Felder aus dem JSON-Body
+     * @return Werte nach Attributname von {@link Event}, in der Reihenfolge des Patch
+     * @throws InvalidEventDataException Wenn ein Feld unbekannt, nicht änderbar oder ungültig ist
+     */
+    private static Map<String, Object> toPatchValues(Map<String, Object> patch) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> field : patch.entrySet()) {
+            Object value = field.getValue();
+            switch (field.getKey()) {
+                case "title" -> {
+                    String title = patchText(field.getKey(), value);
+                    validateTitle(title);
+                    values.put("title", title);
+                }
+                case "date" -> {
+                    LocalDate date = patchDate(value);
+                    validateDate(date);
+                    values.put("date", date);
+                }
+                case "category" -> {
+                    EventCategory category = patchEnum(field.getKey(), value, EventCategory.class);
+                    validateCategory(category);
+                    values.put("category", category);
+                }
+                case "longitude" -> {
+                    Double longitude = patchNumber(field.getKey(), value);
+                    validateLongitude(longitude);
+                    values.put("longitude", longitude);
+                }
+                case "latitude" -> {
+                    Double latitude = patchNumber(field.getKey(), value);
+                    validateLatitude(latitude);
+                    values.put("latitude", latitude);
+                }
+                case "status" -> {
+                    EventStatus status = patchEnum(field.getKey(), value, EventStatus.class);
+                    validateStatus(status);
+                    values.put("status", status);
+                }
+                case "source", "externalId" -> values.put(field.getKey(), patchText(field.getKey(), value));
+                default -> throw new InvalidEventDataException("Feld kann nicht geändert werden: " + field.getKey());
+            }
+        }
+        if (values.containsKey("source") != values.containsKey("externalId")) {
+            throw new InvalidEventDataException("source und externalId können nur gemeinsam geändert werden.");
+        }
+        if (values.containsKey("source")) {
+            validateExternalKey((String) values.get("source"), (String) values.get("externalId"));
+        }
+        return values;
+    }
+
+    /**
+     * @return Text aus dem Patch oder {@code null}
+     * @throws InvalidEventDataException Wenn der Wert kein Text ist
+     */
+    private static String patchText(String field, Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new InvalidEventDataException("Feld " + field + " muss ein Text sein.");
+        }
+        return (String) value;
+    }
+
+    /**
+     * @return Datum aus dem Patch ({@code JJJJ-MM-TT}) oder {@code null}
+     * @throws InvalidEventDataException Wenn der Wert kein gültiges Datum ist
+     */
+    private static LocalDate patchDate(Object value) {
+        try {
+            return value == null ? null : LocalDate.parse(patchText("date", value));
+        } catch (DateTimeParseException e) {
+            throw new InvalidEventDataException("Feld date muss ein Datum im Format JJJJ-MM-TT sein.");
+        }
+    }
+
+    /**
+     * @return Zahl aus dem Patch oder {@code null}
+     * @throws InvalidEventDataException Wenn der Wert keine Zahl ist
+     */
+    private static Double patchNumber(String field, Object value) {
+        if (value != null && !(value instanceof Number)) {
+            throw new InvalidEventDataException("Feld " + field + " muss eine Zahl sein.");
+        }
+        return value == null ? null : ((Number) value).doubleValue();
+    }
+
+    /**
+     * @return Enum-Konstante aus dem Patch oder {@code null}
+     * @throws InvalidEventDataException Wenn der Wert keine Konstante von {@code type} ist
+     */
+    private static <E extends Enum<E>> E patchEnum(String field, Object value, Class<E> type) {
+        try {
+            return value == null ? null : Enum.valueOf(type, patchText(field, value));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEventDataException("Ungültiger Wert für " + field + ": " + value);
+        }
+    }
+
+    /**
+     * Bestimmt den Fehler, wenn ein bedingtes UPDATE oder DELETE keine Zeile getroffen hat.
+     * Die zusätzliche Abfrage fällt nur in diesem Fehlerfall an.
+     *
+     * @param id ID des Events
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return {@link EventVersionConflictException}, wenn das Event mit anderer Version existiert,
+     *         sonst {@link EventNotFoundException}
+     */
+    private RuntimeException notWritten(Long id, Long expectedVersion) {
+        if (expectedVersion != null && eventRepository.existsById(id)) {
+            return new EventVersionConflictException(id, expectedVersion);
+        }
+        return new EventNotFoundException(id);
+    }
+
+    /**
+     * Version nach einem UPDATE: nach einer bedingten Änderung die erwartete plus eins, nach einer
+     * unbedingten wird sie in derselben Transaktion gelesen (eine zusätzliche Abfrage).
+     *
+     * @param id ID des geänderten Events
+     * @param expectedVersion erwartete Version oder {@code null}
+     * @return gespeicherte Version
+     */
+    private Long storedVersion(Long id, Long expectedVersion) {
+        if (expectedVersion != null) {
+            return expectedVersion + 1;
+        }
+        return eventRepository.findVersionById(id).orElseThrow(() -> new EventNotFoundException(id));
+    }
+
+    /**
+     * Führt ein Duplikat mit dem bestehenden Original zusammen.
+     * Ist das Duplikat bereits abgeschlossen, wird auch das Original abgeschlossen.
+     *
+     * @param original  bestehendes Event
+     * @param duplicate neu gemeldetes Duplikat
+     * @return Das (ggf. aktualisierte) Original
+     */
+    private Event mergeIntoOriginal(Event original, Event duplicate) {
+        if (duplicate.getStatus() == EventStatus.closed && original.getStatus() != EventStatus.closed) {
+            original.setStatus(EventStatus.closed);
+            Event saved = eventRepository.save(original);
+            eventPublisher.publishEvent(EventsChangedNotification.saved(List.of(saved)));
+            return saved;
+        }
+        return original;
     }
 
     // ---------------------------------------------
@@ -380,6 +1574,7 @@ public class EventService {
 
     /**
      * Gibt alle Events zurück, die der angegebenen Kategorie und dem angegebenen Status entsprechen.
+     * Offene Events werden als vorbereitete Liste aus dem {@link OpenEventCache} gelesen.
      *
      * @param category Kategorie zur Filterung
      * @param status Status zur Filterung
@@ -387,6 +1582,12 @@ public class EventService {
      * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate) 
      */
     public List<EventDTO> getEventsByCategoryAndStatus(EventCategory category, EventStatus status) {
+        if (status == EventStatus.open && openEvents.isLoaded()) {
+            return openEvents.getOpenEvents(category);
+        }
+        if (columnarStore.isReady()) {
+            return columnarStore.find(category, status, null, null);
+        }
         List<Event> entities = eventRepository.findByCategoryAndStatus(category, status);
         return EventMapper.toDTOList(entities);
     }
@@ -400,6 +1601,9 @@ public class EventService {
      * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
      */
     public List<EventDTO> getEventsByDateBetween(LocalDate start, LocalDate end) {
+        if (columnarStore.isReady()) {
+            return columnarStore.find(null, null, start, end);
+        }
         List<Event> entities = eventRepository.findByDateBetween(start, end);
         return EventMapper.toDTOList(entities);
     }
@@ -415,6 +1619,9 @@ public class EventService {
      * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
      */
     public List<EventDTO> getEventsByCategoryAndDateBetween(EventCategory category, LocalDate start, LocalDate end) {
+        if (columnarStore.isReady()) {
+            return columnarStore.find(category, null, start, end);
+        }
         List<Event> entities = eventRepository.findByCategoryAndDateBetween(category, start, end);
         return EventMapper.toDTOList(entities);
     }
@@ -422,6 +1629,7 @@ public class EventService {
     /**
      * Gibt alle Events zurück, die dem angegebenen Status entsprechen
      * und deren Datum zwischen dem angegebenen Start- und Enddatum liegt.
+     * Offene Events werden im {@link OpenEventCache} gefiltert.
      *
      * @param status Status zur Filterung
      * @param start Startdatum (inklusive)
@@ -430,6 +1638,12 @@ public class EventService {
      * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
      */
     public List<EventDTO> getEventsByStatusAndDateBetween(EventStatus status, LocalDate start, LocalDate end) {
+        if (status == EventStatus.open && openEvents.isLoaded()) {
+            return filterByDate(openEvents.getOpenEvents(), start, end);
+        }
+        if (columnarStore.isReady()) {
+            return columnarStore.find(null, status, start, end);
+        }
         List<Event> entities = eventRepository.findByStatusAndDateBetween(status, start, end);
         return EventMapper.toDTOList(entities);
     }
@@ -437,6 +1651,7 @@ public class EventService {
     /**
      * Gibt alle Events zurück, die der angegebenen Kategorie und dem angegebenen
      * Status entsprechen und deren Datum zwischen dem angegebenen Start- und Enddatum liegt.
+     * Offene Events werden im {@link OpenEventCache} gefiltert.
      *
      * @param category Kategorie zur Filterung
      * @param status Status zur Filterung
@@ -446,10 +1661,30 @@ public class EventService {
      * @see EventController#getEventsByFilter(EventCategory, EventStatus, LocalDate, LocalDate)
      */
     public List<EventDTO> getEventsByCategoryAndStatusAndDateBetween(EventCategory category, EventStatus status, LocalDate start, LocalDate end) {
+        if (status == EventStatus.open && openEvents.isLoaded()) {
+            return filterByDate(openEvents.getOpenEvents(category), start, end);
+        }
+        if (columnarStore.isReady()) {
+            return columnarStore.find(category, status, start, end);
+        }
         List<Event> entities = eventRepository.findByCategoryAndStatusAndDateBetween(category, status, start, end);
         return EventMapper.toDTOList(entities);
     }
 
+    /**
+     * Filtert Events aus dem {@link OpenEventCache} nach Datum.
+     *
+     * @param events offene Events
+     * @param start Startdatum (inklusive)
+     * @param end Enddatum (inklusive)
+     * @return Events im Zeitraum
+     */
+    private static List<EventDTO> filterByDate(List<EventDTO> events, LocalDate start, LocalDate end) {
+        return events.stream()
+                .filter(event -> !event.getDate().isBefore(start) && !event.getDate().isAfter(end))
+                .toList();
+    }
+
     // ---------------------------------------------
     // Zählmethoden
     // ---------------------------------------------
@@ -462,6 +1697,9 @@ public class EventService {
      * @see EventController#getEventCountByCategory(EventCategory) 
      */
     public long getTotalEventsByCategory(EventCategory category) {
+        if (columnarStore.isReady()) {
+            return columnarStore.count(category, null, null, null);
+        }
         return eventRepository.countByCategory(category);
     }
 
@@ -473,6 +1711,12 @@ public class EventService {
      * @see EventController#getEventCountByStatus(EventStatus) 
      */
     public long getTotalEventsByStatus(EventStatus status) {
+        if (status == EventStatus.open && openEvents.isLoaded()) {
+            return openEvents.getOpenEvents().size();
+        }
+        if (columnarStore.isReady()) {
+            return columnarStore.count(null, status, null, null);
+        }
         return eventRepository.countByStatus(status);
     }
 
@@ -485,6 +1729,9 @@ public class EventService {
      * @see EventController#getEventCountByDateBetween(LocalDate, LocalDate)
      */
     public long getTotalEventsByDateBetween(LocalDate start, LocalDate end) {
+        if (columnarStore.isReady()) {
+            return columnarStore.count(null, null, start, end);
+        }
         return eventRepository.countByDateBetween(start, end);
     }
 
@@ -498,7 +1745,7 @@ public class EventService {
      * @param id ID des Events
      * @throws InvalidEventDataException Wenn die ID null ist
      */
-    private void validateId(Long id) {
+    private static void validateId(Long id) {
         if (id == null) {
             throw new InvalidEventDataException("ID darf nicht null sein.");
         }
@@ -510,7 +1757,7 @@ public class EventService {
      * @param title Titel des Events
      * @throws InvalidEventDataException Wenn der Titel null oder leer ist
      */
-    private void validateTitle(String title) {
+    private static void validateTitle(String title) {
         if (title == null || title.trim().isEmpty()) {
             throw new InvalidEventDataException("Titel darf nicht null oder leer sein.");
         }
@@ -523,7 +1770,7 @@ public class EventService {
      * @throws InvalidEventDataException Wenn das Datum null ist
      * @throws FutureDateException Wenn das Datum in der Zukunft liegt
      */
-    private void validateDate(LocalDate date) {
+    private static void validateDate(LocalDate date) {
         if (date == null) {
             throw new InvalidEventDataException("Datum darf nicht null sein.");
         }
@@ -539,7 +1786,7 @@ public class EventService {
      * @param category Kategorie des Events
      * @throws InvalidEventDataException Wenn die Kategorie null ist
      */
-    private void validateCategory(EventCategory category) {
+    private static void validateCategory(EventCategory category) {
         if (category == null) {
             throw new InvalidEventDataException("Kategorie darf nicht null sein.");
         }
@@ -552,7 +1799,7 @@ public class EventService {
      * @throws InvalidEventDataException Wenn der Längengrad null ist
      * @throws CoordinateOutOfRangeException Wenn der Längengrad ausserhalb des gültigen Wertebereichs liegt
      */
-    private void validateLongitude(Double longitude) {
+    private static void validateLongitude(Double longitude) {
         if (longitude == null) {
             throw new InvalidEventDataException("Longitude darf nicht null sein.");
         }
@@ -569,7 +1816,7 @@ public class EventService {
      * @throws InvalidEventDataException Wenn der Breitengrad null ist
      * @throws CoordinateOutOfRangeException Wenn der Breitengrad ausserhalb des gültigen Wertebereichs liegt
      */
-    private void validateLatitude(Double latitude) {
+    private static void validateLatitude(Double latitude) {
         if (latitude == null) {
             throw new InvalidEventDataException("Latitude darf nicht null sein.");
         }
@@ -585,14 +1832,31 @@ public class EventService {
      * @param status Status des Events
      * @throws InvalidEventDataException Wenn der Status null ist
      */
-    private void validateStatus(EventStatus status) {
+    private static void validateStatus(EventStatus status) {
         if (status == null) {
             throw new InvalidEventDataException("Status darf nicht null sein.");
         }
     }
 
+    /**
+     * Validiert den natürlichen Schlüssel eines Events: {@code source} und {@code externalId}
+     * sind entweder beide gesetzt oder beide leer. Öffentlich wie
+     * {@link #validateEventData(String, LocalDate, EventCategory, Double, Double, EventStatus)}.
+     *
+     * @param source     Herkunft des Events
+     * @param externalId ID im Herkunftssystem
+     * @throws InvalidEventDataException Wenn nur einer der beiden Werte gesetzt ist
+     * @see EventWriteBehindQueue
+     */
+    public static void validateExternalKey(String source, String externalId) {
+        if ((source == null) != (externalId == null)) {
+            throw new InvalidEventDataException("source und externalId müssen gemeinsam angegeben werden.");
+        }
+    }
+
     /**
      * Validiert die Daten eines Events.
+     * Öffentlich, damit Dateiimport, EONET-Import, die Schreib-Warteschlange und die Benchmarks dieselben Regeln verwenden.
      *
      * @param title Titel des Events
      * @param date Datum des Events
@@ -600,8 +1864,11 @@ public class EventService {
      * @param longitude Längengrad des Event-Standorts
      * @param latitude Breitengrad des Event-Standorts
      * @param status Status des Events
+     * @see EventImportService
+     * @see EonetFeedParser#isValid(EventDTO)
+     * @see EventWriteBehindQueue#submit(EventDTO)
      */
-    private void validateEventData(String title, LocalDate date, EventCategory category, Double longitude, Double latitude, EventStatus status) {
+    public static void validateEventData(String title, LocalDate date, EventCategory category, Double longitude, Double latitude, EventStatus status) {
         validateTitle(title);
         validateDate(date);
         validateCategory(category);
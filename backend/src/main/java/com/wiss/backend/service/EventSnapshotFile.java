@@ -0,0 +1,355 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * <h2>
+ *     Binäres Dateiformat für Snapshots aller Events
+ * </h2>
+ * <p>
+ *     Ein Snapshot enthält alle Events spaltenweise, so wie sie der {@link ColumnarEventStore} hält,
+ *     und den Datenstand ({@code change_seq}), bis zu dem er vollständig ist. Beim Start wird die Datei
+ *     per Memory Mapping gelesen: Die Zahlenspalten werden ohne Umwandlung pro Zeile als Blöcke
+ *     kopiert, nur Texte werden dekodiert.
+ * </p>
+ *
+ * <h3>
+ *     Aufbau (Little Endian):
+ * </h3>
+ * <ul>
+ *     <li>Kopf: Kennung {@code EVSN}, Formatversion, Datenstand, Erstellungszeitpunkt, Anzahl Zeilen</li>
+ *     <li>Namen der Kategorien und Status in Ordinalreihenfolge (muss zur laufenden Version passen)</li>
+ *     <li>Wörterbücher der Titel und Herkünfte</li>
+ *     <li>Spalten: IDs, Breiten- und Längengrade, Epochentage, Duplikat-Verweise, Titel- und
+ *         Herkunftscodes, Kategorien, Status, externe IDs</li>
+ *     <li>CRC32-Prüfsumme über alle vorangehenden Bytes</li>
+ * </ul>
+ * <p>
+ *     Texte werden als Länge plus UTF-8-Bytes gespeichert, {@code null} als Länge {@code -1}.
+ *     Ein Snapshot ist auf 2 GB begrenzt (eine Abbildung pro Datei).
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSnapshotService
+ */
+public final class EventSnapshotFile {
+
+    private static final int MAGIC = 0x4E535645; // "EVSN" in Little Endian
+    private static final int FORMAT_VERSION = 1;
+
+    private EventSnapshotFile() {
+    }
+
+    /**
+     * Gelesener Snapshot. Die Zahlenspalten sind Sichten auf die abgebildete Datei und
+     * werden beim Einlesen in den {@link ColumnarEventStore} kopiert.
+     *
+     * @param changeVersion Datenstand, bis zu dem der Snapshot vollständig ist
+     * @param createdAt     Erstellungszeitpunkt (Millisekunden seit 1970)
+     * @param rowCount      Anzahl Events
+     * @param titles        Wörterbuch der Titel
+     * @param sources       Wörterbuch der Herkünfte
+     * @param ids           IDs
+     * @param latitudes     Breitengrade
+     * @param longitudes    Längengrade
+     * @param epochDays     Datum als Epochentag
+     * @param duplicateOf   ID des Originals oder {@code 0}
+     * @param titleCodes    Index ins Titel-Wörterbuch
+     * @param sourceCodes   Index ins Herkunfts-Wörterbuch oder {@code -1}
+     * @param categories    Ordinalzahl der Kategorie
+     * @param statuses      Ordinalzahl des Status
+     * @param externalIds   externe IDs (Einträge können {@code null} sein)
+     */
+    public record Content(long changeVersion, long createdAt, int rowCount, String[] titles, String[] sources,
+                          LongBuffer ids, DoubleBuffer latitudes, DoubleBuffer longitudes, IntBuffer epochDays,
+                          LongBuffer duplicateOf, IntBuffer titleCodes, IntBuffer sourceCodes,
+                          ByteBuffer categories, ByteBuffer statuses, String[] externalIds) {
+    }
+
+    /**
+     * Sammelt Events für einen neuen Snapshot in wachsenden Spalten.
+     */
+    public static final class Builder {
+
+        private int rowCount;
+        private long[] ids = new long[1024];
+        private double[] latitudes = new double[1024];
+        private double[] longitudes = new double[1024];
+        private int[] epochDays = new int[1024];
+        private long[] duplicateOf = new long[1024];
+        private int[] titleCodes = new int[1024];
+        private int[] sourceCodes = new int[1024];
+        private byte[] categories = new byte[1024];
+        private byte[] statuses = new byte[1024];
+        private String[] externalIds = new String[1024];
+        private final Map<String, Integer> titles = new HashMap<>();
+        private final Map<String, Integer> sources = new HashMap<>();
+
+        /**
+         * Fügt ein Event hinzu.
+         *
+         * @param event gespeichertes Event
+         */
+        public void add(Event event) {
+            if (rowCount == ids.length) {
+                grow(ids.length * 2);
+            }
+            int row = rowCount++;
+            ids[row] = event.getId();
+            latitudes[row] = event.getLatitude();
+            longitudes[row] = event.getLongitude();
+            epochDays[row] = (int) event.getDate().toEpochDay();
+            duplicateOf[row] = event.getDuplicateOf() == null ? 0 : event.getDuplicateOf();
+            titleCodes[row] = titles.computeIfAbsent(event.getTitle(), title -> titles.size());
+            sourceCodes[row] = event.getSource() == null ? -1
+                    : sources.computeIfAbsent(event.getSource(), source -> sources.size());
+            categories[row] = (byte) event.getCategory().ordinal();
+            statuses[row] = (byte) event.getStatus().ordinal();
+            externalIds[row] = event.getExternalId();
+        }
+
+        /**
+         * @return Anzahl gesammelter Events
+         */
+        public int size() {
+            return rowCount;
+        }
+
+        private void grow(int capacity) {
+            ids = Arrays.copyOf(ids, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            duplicateOf = Arrays.copyOf(duplicateOf, capacity);
+            titleCodes = Arrays.copyOf(titleCodes, capacity);
+            sourceCodes = Arrays.copyOf(sourceCodes, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            externalIds = Arrays.copyOf(externalIds, capacity);
+        }
+
+        private static String[] dictionary(Map<String, Integer> codes) {
+            String[] values = new String[codes.size()];
+            codes.forEach((value, code) -> values[code] = value);
+            return values;
+        }
+    }
+
+    /**
+     * Schreibt einen Snapshot.
+     *
+     * @param file          Zieldatei (wird überschrieben)
+     * @param changeVersion Datenstand, bis zu dem die Events vollständig sind
+     * @param builder       gesammelte Events
+     * @return Grösse der Datei in Bytes
+     * @throws IOException Bei Schreibfehlern
+     */
+    public static long write(Path file, long changeVersion, Builder builder) throws IOException {
+        int rows = builder.rowCount;
+        CRC32 crc = new CRC32();
+        try (OutputStream fileOut = Files.newOutputStream(file);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileOut, 1 << 16), crc)) {
+            LittleEndianWriter out = new LittleEndianWriter(checked);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(changeVersion);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(rows);
+            out.writeNames(EventCategory.values());
+            out.writeNames(EventStatus.values());
+            out.writeStrings(Builder.dictionary(builder.titles));
+            out.writeStrings(Builder.dictionary(builder.sources));
+
+            ByteBuffer buffer = ByteBuffer.allocate(Math.multiplyExact(rows, Long.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.asLongBuffer().put(builder.ids, 0, rows);
+            out.write(buffer, rows * Long.BYTES);
+            buffer.clear().asDoubleBuffer().put(builder.latitudes, 0, rows);
+            out.write(buffer, rows * Double.BYTES);
+            buffer.clear().asDoubleBuffer().put(builder.longitudes, 0, rows);
+            out.write(buffer, rows * Double.BYTES);
+            buffer.clear().asIntBuffer().put(builder.epochDays, 0, rows);
+            out.write(buffer, rows * Integer.BYTES);
+            buffer.clear().asLongBuffer().put(builder.duplicateOf, 0, rows);
+            out.write(buffer, rows * Long.BYTES);
+            buffer.clear().asIntBuffer().put(builder.titleCodes, 0, rows);
+            out.write(buffer, rows * Integer.BYTES);
+            buffer.clear().asIntBuffer().put(builder.sourceCodes, 0, rows);
+            out.write(buffer, rows * Integer.BYTES);
+            checked.write(builder.categories, 0, rows);
+            checked.write(builder.statuses, 0, rows);
+            for (int row = 0; row < rows; row++) {
+                out.writeString(builder.externalIds[row]);
+            }
+            checked.flush();
+            // Prüfsumme selbst nicht mitrechnen
+            new DataOutputStream(fileOut).writeLong(Long.reverseBytes(crc.getValue()));
+        }
+        return Files.size(file);
+    }
+
+    /**
+     * Liest einen Snapshot per Memory Mapping und prüft Kennung, Format und Prüfsumme.
+     *
+     * @param file Snapshot-Datei
+     * @return gelesener Snapshot
+     * @throws IOException Wenn die Datei fehlt, beschädigt ist oder nicht zur laufenden Version passt
+     */
+    public static Content read(Path file) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE || channel.size() < Long.BYTES) {
+                throw new IOException("Ungültige Grösse des Snapshots: " + channel.size() + " Bytes");
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        int end = buffer.limit() - Long.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().limit(end));
+        if (crc.getValue() != buffer.getLong(end)) {
+            throw new IOException("Prüfsumme des Snapshots stimmt nicht");
+        }
+        buffer.limit(end);
+
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unbekanntes Snapshot-Format");
+            }
+            long changeVersion = buffer.getLong();
+            long createdAt = buffer.getLong();
+            int rows = buffer.getInt();
+            requireNames(buffer, EventCategory.values());
+            requireNames(buffer, EventStatus.values());
+            String[] titles = readStrings(buffer);
+            String[] sources = readStrings(buffer);
+
+            LongBuffer ids = slice(buffer, rows, Long.BYTES).asLongBuffer();
+            DoubleBuffer latitudes = slice(buffer, rows, Double.BYTES).asDoubleBuffer();
+            DoubleBuffer longitudes = slice(buffer, rows, Double.BYTES).asDoubleBuffer();
+            IntBuffer epochDays = slice(buffer, rows, Integer.BYTES).asIntBuffer();
+            LongBuffer duplicateOf = slice(buffer, rows, Long.BYTES).asLongBuffer();
+            IntBuffer titleCodes = slice(buffer, rows, Integer.BYTES).asIntBuffer();
+            IntBuffer sourceCodes = slice(buffer, rows, Integer.BYTES).asIntBuffer();
+            ByteBuffer categories = slice(buffer, rows, 1);
+            ByteBuffer statuses = slice(buffer, rows, 1);
+            String[] externalIds = new String[rows];
+            for (int row = 0; row < rows; row++) {
+                externalIds[row] = readString(buffer);
+            }
+            if (buffer.hasRemaining()) {
+                throw new IOException("Snapshot enthält unerwartete Daten");
+            }
+            return new Content(changeVersion, createdAt, rows, titles, sources, ids, latitudes, longitudes,
+                    epochDays, duplicateOf, titleCodes, sourceCodes, categories, statuses, externalIds);
+        } catch (RuntimeException e) {
+            throw new IOException("Snapshot ist unvollständig", e);
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int rows, int width) {
+        int length = Math.multiplyExact(rows, width);
+        ByteBuffer slice = buffer.slice(buffer.position(), length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(buffer.position() + length);
+        return slice;
+    }
+
+    private static void requireNames(ByteBuffer buffer, Enum<?>[] values) throws IOException {
+        String[] names = readStrings(buffer);
+        String[] expected = Arrays.stream(values).map(Enum::name).toArray(String[]::new);
+        if (!Arrays.equals(names, expected)) {
+            throw new IOException("Snapshot passt nicht zu den Werten von " + values.getClass().getComponentType().getSimpleName());
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] values = new String[buffer.getInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readString(buffer);
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Schreibt Werte im Little-Endian-Format.
+     */
+    private static final class LittleEndianWriter {
+
+        private final OutputStream out;
+        private final ByteBuffer scratch = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        LittleEndianWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        void writeInt(int value) throws IOException {
+            out.write(scratch.clear().putInt(value).array(), 0, Integer.BYTES);
+        }
+
+        void writeLong(long value) throws IOException {
+            out.write(scratch.clear().putLong(value).array(), 0, Long.BYTES);
+        }
+
+        void write(ByteBuffer buffer, int length) throws IOException {
+            out.write(buffer.array(), 0, length);
+        }
+
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        void writeStrings(String[] values) throws IOException {
+            writeInt(values.length);
+            for (String value : values) {
+                writeString(value);
+            }
+        }
+
+        void writeNames(Enum<?>[] values) throws IOException {
+            writeInt(values.length);
+            for (Enum<?> value : values) {
+                writeString(value.name());
+            }
+        }
+    }
+}
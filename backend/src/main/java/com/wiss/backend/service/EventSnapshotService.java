@@ -0,0 +1,255 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * <h2>
+ *     Warmstart der Arbeitsspeicher-Indizes aus einem Snapshot
+ * </h2>
+ * <p>
+ *     Lädt beim Start der Applikation den {@link ColumnarEventStore}, den {@link EventDuplicateDetector}
+ *     und den {@link OpenEventCache}. Statt alle Events aus der Datenbank zu lesen, wird eine
+ *     Snapshot-Datei ({@link EventSnapshotFile}) per Memory Mapping eingelesen; aus der Datenbank kommen
+ *     nur die Events, die seit dem Datenstand des Snapshots geändert oder gelöscht wurden (Spalte
+ *     {@code change_seq} und Tabelle {@code event_deletions}, Migration V9). Die beiden anderen Indizes
+ *     werden danach aus dem Spaltenabbild aufgebaut. Die Startzeit hängt damit vor allem von der
+ *     Grösse der Datei und der Anzahl Änderungen ab, nicht von der Anzahl Abfragen an die Datenbank.
+ * </p>
+ * <p>
+ *     Fehlt der Snapshot, ist er beschädigt oder passt er nicht zur laufenden Version, werden alle
+ *     Indizes wie bisher vollständig aus der Datenbank geladen. Bis der Warmstart abgeschlossen ist,
+ *     meldet {@link #isReady()} {@code false}; die Readiness-Probe ({@code /actuator/health/readiness})
+ *     bleibt so lange unten.
+ * </p>
+ *
+ * <h3>
+ *     Schreiben des Snapshots:
+ * </h3>
+ * <ul>
+ *     <li>Zuerst wird der Datenstand bestimmt, bis zu dem alle Änderungen committet sind
+ *         ({@code events_change_version}); laufen gerade Schreibvorgänge, wird der Durchlauf übersprungen</li>
+ *     <li>Danach werden alle Events blockweise gelesen. Änderungen während des Lesens haben eine
+ *         höhere Nummer und werden beim nächsten Start ohnehin nachgeladen</li>
+ *     <li>Die Datei wird neben dem Ziel geschrieben und dann atomar ersetzt</li>
+ *     <li>Anschliessend werden die im Snapshot berücksichtigten Löschungen aus {@code event_deletions}
+ *         entfernt, sofern sie älter als die Aufbewahrungsdauer sind. Die Tabelle wird von allen Instanzen
+ *         geteilt; deren Snapshots können älter sein als der eigene</li>
+ *     <li>Ein Snapshot, der älter als die Aufbewahrungsdauer ist, wird beim Start verworfen, weil
+ *         seither entfernte Löschungen fehlen könnten</li>
+ * </ul>
+ *
+ * <h3>
+ *     Konfiguration:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.snapshot.enabled} – Snapshot schreiben und beim Start verwenden (Standard: {@code false})</li>
+ *     <li>{@code events.snapshot.file} – Pfad der Snapshot-Datei</li>
+ *     <li>{@code events.snapshot.interval} – Pause zwischen zwei Snapshots (Standard: {@code PT1H})</li>
+ *     <li>{@code events.snapshot.deletion-retention} – Aufbewahrungsdauer der Löschungen und damit
+ *         Höchstalter eines verwendbaren Snapshots (Standard: {@code P7D})</li>
+ * </ul>
+ * <p>
+ *     Nur unter PostgreSQL und mit aktiviertem Spaltenabbild ({@code events.columnar.enabled}) wirksam.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSnapshotFile
+ * @see EventIndexHealthIndicator
+ */
+@Component
+public class EventSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSnapshotService.class);
+
+    /**
+     * Anzahl Events, die beim Schreiben des Snapshots pro Block aus der Datenbank gelesen werden.
+     */
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final ColumnarEventStore columnarStore;
+    private final EventDuplicateDetector duplicateDetector;
+    private final OpenEventCache openEvents;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path file;
+    private final Duration deletionRetention;
+
+    /**
+     * {@code true}, sobald alle Indizes geladen sind.
+     */
+    private volatile boolean ready;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository     Repository für den Datenzugriff
+     * @param columnarStore       Spaltenabbild, das aus dem Snapshot geladen wird
+     * @param duplicateDetector   Duplikat-Index
+     * @param openEvents          Abbild der offenen Events
+     * @param transactionTemplate Transaktionen für Datenstand und Aufräumen
+     * @param enabled             ob Snapshots geschrieben und beim Start verwendet werden
+     * @param file                Pfad der Snapshot-Datei
+     * @param deletionRetention   Aufbewahrungsdauer der Löschungen (Höchstalter eines Snapshots)
+     */
+    public EventSnapshotService(EventRepository eventRepository,
+                                ColumnarEventStore columnarStore,
+                                EventDuplicateDetector duplicateDetector,
+                                OpenEventCache openEvents,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${events.snapshot.enabled:false}") boolean enabled,
+                                @Value("${events.snapshot.file:data/events.snapshot}") Path file,
+                                @Value("${events.snapshot.deletion-retention:P7D}") Duration deletionRetention) {
+        this.eventRepository = eventRepository;
+        this.columnarStore = columnarStore;
+        this.duplicateDetector = duplicateDetector;
+        this.openEvents = openEvents;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.file = file;
+        this.deletionRetention = deletionRetention;
+    }
+
+    /**
+     * Gibt an, ob alle Arbeitsspeicher-Indizes geladen sind.
+     *
+     * @return {@code true} nach Abschluss des Warmstarts
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Lädt die Indizes beim Start der Applikation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        warmStart();
+    }
+
+    /**
+     * Lädt alle Indizes: das Spaltenabbild wenn möglich aus dem Snapshot, die übrigen aus dem
+     * Spaltenabbild. Ist es deaktiviert, lesen alle Indizes aus der Datenbank.
+     */
+    public void warmStart() {
+        ready = false;
+        long started = System.nanoTime();
+        if (columnarStore.isEnabled()) {
+            if (!restoreSnapshot()) {
+                columnarStore.reload();
+            }
+            duplicateDetector.rebuildFrom(columnarStore);
+            openEvents.reloadFrom(columnarStore);
+        } else {
+            duplicateDetector.rebuild();
+            openEvents.reload();
+        }
+        ready = true;
+        log.info("Indizes geladen in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Geplanter Durchlauf. Wird nur ausgeführt, wenn Snapshots aktiviert sind.
+     */
+    @Scheduled(fixedDelayString = "${events.snapshot.interval:PT1H}",
+            initialDelayString = "${events.snapshot.initial-delay:PT5M}")
+    public void scheduledRun() {
+        if (isSnapshotUsable()) {
+            writeSnapshot();
+        }
+    }
+
+    /**
+     * Schreibt einen neuen Snapshot aller Events.
+     *
+     * @return Datenstand des Snapshots oder {@code null}, wenn gerade geschrieben wird
+     * @throws UncheckedIOException Wenn die Datei nicht geschrieben werden kann
+     */
+    public Long writeSnapshot() {
+        Long changeVersion = transactionTemplate.execute(status -> eventRepository.lockChangeVersion());
+        if (changeVersion == null) {
+            log.info("Snapshot übersprungen: Schreibvorgänge auf events laufen");
+            return null;
+        }
+
+        EventSnapshotFile.Builder builder = new EventSnapshotFile.Builder();
+        long lastId = 0;
+        List<Event> batch;
+        do {
+            batch = eventRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(WRITE_BATCH_SIZE));
+            for (Event event : batch) {
+                builder.add(event);
+                lastId = event.getId();
+            }
+        } while (batch.size() == WRITE_BATCH_SIZE);
+
+        long size;
+        try {
+            Path target = file.toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            size = EventSnapshotFile.write(temp, changeVersion, builder);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Snapshot konnte nicht geschrieben werden: " + file, e);
+        }
+
+        Integer pruned = transactionTemplate.execute(status -> eventRepository.pruneDeletions(changeVersion, deletionRetention));
+        log.info("Snapshot geschrieben: {} Events, Datenstand {}, {} Bytes, {} Löschungen aufgeräumt",
+                builder.size(), changeVersion, size, pruned);
+        return changeVersion;
+    }
+
+    /**
+     * Lädt das Spaltenabbild aus dem Snapshot und den seither geänderten Events.
+     *
+     * @return {@code false}, wenn kein brauchbarer Snapshot vorliegt
+     */
+    private boolean restoreSnapshot() {
+        if (!isSnapshotUsable()) {
+            return false;
+        }
+        if (!Files.isRegularFile(file)) {
+            log.info("Kein Snapshot unter {} vorhanden, Indizes werden vollständig geladen", file);
+            return false;
+        }
+        try {
+            EventSnapshotFile.Content snapshot = EventSnapshotFile.read(file);
+            Duration age = Duration.ofMillis(System.currentTimeMillis() - snapshot.createdAt());
+            if (age.compareTo(deletionRetention) >= 0) {
+                log.info("Snapshot {} ist älter als die Aufbewahrungsdauer der Löschungen ({}), "
+                        + "Indizes werden vollständig geladen", file, deletionRetention);
+                return false;
+            }
+            columnarStore.restore(snapshot);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot {} nicht verwendbar, Indizes werden vollständig geladen: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isSnapshotUsable() {
+        return enabled && columnarStore.isEnabled() && eventRepository.isPostgreSql();
+    }
+}
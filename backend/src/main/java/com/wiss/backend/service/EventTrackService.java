@@ -0,0 +1,239 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventTrackDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.EventTrack;
+import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.repository.EventTrackRepository;
+import com.wiss.backend.service.TrackCodec.Point;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <h2>
+ *     Service für Event-Verläufe
+ * </h2>
+ * <p>
+ *     Liest und ergänzt die Verläufe ({@link EventTrack}) von Events. Die Punkte liegen
+ *     kodiert vor (siehe {@link TrackCodec}); gelesen wird daher immer der ganze Eintrag,
+ *     aber nur ausgewählte Punkte werden als Objekte angelegt.
+ * </p>
+ *
+ * <h3>
+ *     Kosten:
+ * </h3>
+ * <ul>
+ *     <li>Letzte Position: eine Zeile, ohne Dekodieren</li>
+ *     <li>Voller oder ausgedünnter Verlauf: proportional zur kodierten Grösse</li>
+ *     <li>Neue, spätere Punkte: werden an die kodierten Daten angehängt</li>
+ *     <li>Frühere oder korrigierte Punkte: Verlauf wird dekodiert, zusammengeführt und neu kodiert</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventTrack
+ * @see TrackCodec
+ * @see com.wiss.backend.controller.EventController#getEventTrack(Long, int)
+ */
+@Service
+public class EventTrackService {
+
+    private final EventTrackRepository trackRepository;
+    private final EventRepository eventRepository;
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param trackRepository Repository für Verläufe
+     * @param eventRepository Repository für Events
+     */
+    public EventTrackService(EventTrackRepository trackRepository, EventRepository eventRepository) {
+        this.trackRepository = trackRepository;
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Gibt die letzte bekannte Position eines Events zurück. Ohne Verlauf ist das die
+     * Position des Events selbst, mit dessen Datum (00:00 UTC) als Zeitpunkt.
+     * Gelesen werden nur die Spalten der letzten Position, nicht die kodierten Punkte
+     * (siehe {@link EventTrackRepository#findLatestPosition(Long)}).
+     *
+     * @param eventId ID des Events
+     * @return letzte Position
+     * @throws EventNotFoundException Wenn das Event nicht existiert
+     */
+    @Transactional(readOnly = true)
+    public TrackPointDTO getLatestPosition(Long eventId) {
+        validateId(eventId);
+        return trackRepository.findLatestPosition(eventId)
+                .orElseGet(() -> {
+                    Event event = eventRepository.findById(eventId)
+                            .orElseThrow(() -> new EventNotFoundException(eventId));
+                    Instant timestamp = event.getDate().atStartOfDay(ZoneOffset.UTC).toInstant();
+                    return new TrackPointDTO(timestamp, event.getLatitude(), event.getLongitude());
+                });
+    }
+
+    /**
+     * Gibt den Verlauf eines Events zurück, auf Wunsch gleichmässig ausgedünnt.
+     * Erster und letzter Punkt sind immer enthalten.
+     *
+     * @param eventId   ID des Events
+     * @param maxPoints Höchstzahl zurückgegebener Punkte; {@code 0} für alle
+     * @return Verlauf (ohne gespeicherte Punkte mit leerer Liste)
+     * @throws InvalidEventDataException Wenn {@code maxPoints} negativ ist
+     * @throws EventNotFoundException    Wenn das Event nicht existiert
+     */
+    @Transactional(readOnly = true)
+    public EventTrackDTO getTrack(Long eventId, int maxPoints) {
+        validateId(eventId);
+        if (maxPoints < 0) {
+            throw new InvalidEventDataException("Die Anzahl Punkte darf nicht negativ sein.");
+        }
+        EventTrack track = trackRepository.findById(eventId).orElse(null);
+        if (track == null) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new EventNotFoundException(eventId);
+            }
+            return new EventTrackDTO(eventId, 0, List.of());
+        }
+        List<TrackPointDTO> points = TrackCodec.decode(track.getData(), track.getPointCount(), maxPoints).stream()
+                .map(Point::toDTO)
+                .toList();
+        return new EventTrackDTO(eventId, track.getPointCount(), points);
+    }
+
+    /**
+     * Ergänzt die Verläufe importierter Events. Die Events werden über ihren natürlichen
+     * Schlüssel mit einer Abfrage gefunden, die bestehenden Verläufe mit einer zweiten.
+     * Punkte mit einem bereits gespeicherten Zeitpunkt ersetzen den gespeicherten Punkt;
+     * unveränderte Verläufe werden nicht geschrieben.
+     *
+     * @param source             Quelle der Events (z. B. {@code EONET})
+     * @param tracksByExternalId neue Punkte pro externer ID
+     * @return Anzahl geänderter Verläufe
+     */
+    @Transactional
+    public int mergeTracks(String source, Map<String, List<TrackPointDTO>> tracksByExternalId) {
+        if (tracksByExternalId.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Point>> pointsByEventId = new HashMap<>();
+        for (Event event : eventRepository.findBySourceAndExternalIdIn(source, tracksByExternalId.keySet())) {
+            List<Point> points = normalize(tracksByExternalId.get(event.getExternalId()));
+            if (!points.isEmpty()) {
+                pointsByEventId.put(event.getId(), points);
+            }
+        }
+
+        Map<Long, EventTrack> existing = new HashMap<>();
+        trackRepository.findAllById(pointsByEventId.keySet())
+                .forEach(track -> existing.put(track.getEventId(), track));
+        List<EventTrack> changed = new ArrayList<>();
+        pointsByEventId.forEach((eventId, points) -> {
+            EventTrack track = existing.getOrDefault(eventId, new EventTrack(eventId));
+            if (merge(track, points)) {
+                changed.add(track);
+            }
+        });
+        trackRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    /**
+     * Rundet Punkte auf die gespeicherte Genauigkeit, sortiert sie nach Zeitpunkt und behält
+     * pro Zeitpunkt den zuletzt übergebenen. Punkte ohne Zeitpunkt oder ausserhalb des
+     * gültigen Wertebereichs werden verworfen.
+     *
+     * @param points übergebene Punkte (darf {@code null} sein)
+     * @return bereinigte Punkte, aufsteigend nach Zeitpunkt
+     */
+    private static List<Point> normalize(List<TrackPointDTO> points) {
+        if (points == null) {
+            return List.of();
+        }
+        TreeMap<Long, Point> byTime = new TreeMap<>();
+        for (TrackPointDTO dto : points) {
+            if (dto.getTimestamp() == null
+                    || Math.abs(dto.getLatitude()) > 90 || Math.abs(dto.getLongitude()) > 180) {
+                continue;
+            }
+            Point point = Point.of(dto);
+            byTime.put(point.epochSecond(), point);
+        }
+        return new ArrayList<>(byTime.values());
+    }
+
+    /**
+     * Führt neue Punkte in einen Verlauf ein.
+     *
+     * @param track  bestehender oder neuer Verlauf
+     * @param points bereinigte neue Punkte, aufsteigend nach Zeitpunkt
+     * @return {@code true}, wenn sich der Verlauf geändert hat
+     */
+    private static boolean merge(EventTrack track, List<Point> points) {
+        if (track.getPointCount() == 0) {
+            store(track, TrackCodec.encode(points), points.size(), points.getFirst().timestamp(), points.getLast());
+            return true;
+        }
+
+        Point last = new Point(track.getLastTimestamp().getEpochSecond(),
+                (int) Math.round(track.getLastLatitude() * TrackCodec.COORDINATE_SCALE),
+                (int) Math.round(track.getLastLongitude() * TrackCodec.COORDINATE_SCALE));
+        if (points.getFirst().epochSecond() > last.epochSecond()) {
+            // Häufigster Fall beim laufenden Import: nur neue Beobachtungen, anhängen genügt
+            store(track, TrackCodec.append(track.getData(), last, points),
+                    track.getPointCount() + points.size(), track.getFirstTimestamp(), points.getLast());
+            return true;
+        }
+
+        TreeMap<Long, Point> merged = new TreeMap<>();
+        for (Point point : TrackCodec.decode(track.getData(), track.getPointCount(), 0)) {
+            merged.put(point.epochSecond(), point);
+        }
+        boolean changed = false;
+        for (Point point : points) {
+            changed |= !point.equals(merged.put(point.epochSecond(), point));
+        }
+        if (!changed) {
+            return false;
+        }
+        List<Point> all = new ArrayList<>(merged.values());
+        store(track, TrackCodec.encode(all), all.size(), all.getFirst().timestamp(), all.getLast());
+        return true;
+    }
+
+    private static void store(EventTrack track, byte[] data, int pointCount, Instant firstTimestamp, Point last) {
+        track.setData(data);
+        track.setPointCount(pointCount);
+        track.setFirstTimestamp(firstTimestamp);
+        track.setLastTimestamp(last.timestamp());
+        track.setLastLatitude(last.latitudeDegrees());
+        track.setLastLongitude(last.longitudeDegrees());
+        track.setUpdatedAt(Instant.now());
+    }
+
+    /**
+     * Validiert eine Event-ID.
+     *
+     * @param id ID des Events
+     * @throws InvalidEventDataException Wenn die ID null ist
+     */
+    private static void validateId(Long id) {
+        if (id == null) {
+            throw new InvalidEventDataException("ID darf nicht null sein.");
+        }
+    }
+}
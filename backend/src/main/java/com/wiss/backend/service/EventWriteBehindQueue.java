@@ -0,0 +1,789 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventTicketDTO;
+import com.wiss.backend.exception.CoordinateOutOfRangeException;
+import com.wiss.backend.exception.DuplicateEventException;
+import com.wiss.backend.exception.FutureDateException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.exception.TicketNotFoundException;
+import com.wiss.backend.model.TicketState;
+import com.wiss.backend.service.EventService.CreateOutcome;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2>
+ *     Asynchrones Erstellen von Events mit gebündelten Commits
+ * </h2>
+ * <p>
+ *     Bei hoher Schreiblast kostet {@code POST /api/events} pro Event eine Transaktion und einen Commit.
+ *     Mit {@code Prefer: respond-async} nimmt der Controller ein Event stattdessen hier an: Es wird sofort
+ *     mit denselben Regeln wie beim synchronen Erstellen validiert
+ *     ({@link EventService#validateEventData(String, java.time.LocalDate, com.wiss.backend.model.EventCategory, Double, Double, com.wiss.backend.model.EventStatus)}),
+ *     in eine begrenzte Warteschlange gelegt und mit einer Quittung (HTTP 202) beantwortet. Ein einzelner
+ *     Schreiber sammelt die wartenden Events zu Blöcken und schreibt jeden Block mit
+ *     {@link EventService#createEventsIndividually(List)} in einer Transaktion. Unter Last werden so
+ *     {@code events.async-create.batch-size} Events mit einem Commit geschrieben statt mit je einem.
+ * </p>
+ *
+ * <h3>
+ *     Ablauf:
+ * </h3>
+ * <ol>
+ *     <li>Ein Block wird geschrieben, sobald {@code batch-size} Events warten oder seit dem ersten
+ *         wartenden Event {@code max-delay} vergangen ist. Einzelne Events warten also höchstens so lange.</li>
+ *     <li>Abgelehnte Events (Duplikat bei Richtlinie {@code REJECT}) verhindern das Speichern der übrigen
+ *         nicht. Scheitert der ganze Block an der Datenbank, werden seine Events einzeln geschrieben.</li>
+ *     <li>Ist die Warteschlange voll, wird das Event an die Auslagerungsdatei ({@code spill-file}, eine
+ *         JSON-Zeile pro Event) angehängt und auf den Datenträger geschrieben, bevor die Quittung
+ *         zurückgeht. Solange die Datei nicht abgearbeitet ist, werden auch neue Events angehängt,
+ *         damit die Reihenfolge erhalten bleibt.</li>
+ *     <li>Ist die Warteschlange leer, benennt der Schreiber die Datei um und schreibt ihren Inhalt
+ *         blockweise. Übrige Dateien werden beim nächsten Start nachgetragen; beim Herunterfahren
+ *         wartende Events werden ebenfalls ausgelagert.</li>
+ * </ol>
+ * <p>
+ *     Der Stand jeder Quittung kann mit {@link #getTicket(String)} abgefragt werden, abgeschlossene
+ *     Quittungen werden nach {@code ticket-retention} verworfen. Quittungen ausgelagerter Events überstehen
+ *     einen Neustart: Ihr Stand {@code spilled} steht in der Auslagerungsdatei, ihr Abschluss wird nach jedem
+ *     Block im Quittungsprotokoll ({@code spill-file} mit Endung {@code .tickets}) auf den Datenträger
+ *     geschrieben. Wird das Schreiben einer ausgelagerten Datei unterbrochen, überspringt das Nachtragen alle
+ *     Quittungen, deren Abschluss dort steht. Nur ein Block, dessen Commit beim Absturz noch nicht
+ *     protokolliert war, wird erneut geschrieben.
+ * </p>
+ *
+ * <h3>
+ *     Konfiguration:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.async-create.enabled} – asynchrones Erstellen anbieten (Standard: {@code false})</li>
+ *     <li>{@code events.async-create.queue-capacity} – Plätze der Warteschlange im Arbeitsspeicher</li>
+ *     <li>{@code events.async-create.batch-size} – höchstens so viele Events pro Commit</li>
+ *     <li>{@code events.async-create.max-delay} – längste Wartezeit auf einen vollen Block (Standard: {@code PT0.05S})</li>
+ *     <li>{@code events.async-create.spill-file} – Pfad der Auslagerungsdatei</li>
+ *     <li>{@code events.async-create.ticket-retention} – Aufbewahrung abgeschlossener Quittungen (Standard: {@code PT1H})</li>
+ * </ul>
+ *
+ * <h3>
+ *     Metriken:
+ * </h3>
+ * <ul>
+ *     <li>{@code events.async.queue.size} und {@code events.async.spill.size} – wartende Events</li>
+ *     <li>{@code events.async.commits} und {@code events.async.events} – Commits und darin gespeicherte Events
+ *         (ohne abgelehnte und fehlgeschlagene)</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see com.wiss.backend.controller.EventController#getTicket(String)
+ */
+@Component
+public class EventWriteBehindQueue implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(EventWriteBehindQueue.class);
+
+    /**
+     * Wartezeit des Schreibers auf ein erstes Event, bevor er Auslagerung und Quittungen prüft.
+     */
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /**
+     * Pause nach einem unerwarteten Fehler des Schreibers, damit er sich nicht im Kreis dreht.
+     */
+    private static final long ERROR_PAUSE_MILLIS = 1000;
+
+    /**
+     * Abstand zwischen zwei Durchgängen zum Verwerfen abgelaufener Quittungen.
+     */
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Längste Wartezeit beim Herunterfahren auf den laufenden Block.
+     */
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final EventService eventService;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Path spillFile;
+    private final Duration ticketRetention;
+    private final BlockingQueue<Pending> queue;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong spilled = new AtomicLong();
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder writtenEvents = new LongAdder();
+
+    /**
+     * Schützt Auslagerungsdatei und {@link #spilling}. Kein {@code synchronized}, da Anfragen auf
+     * virtuellen Threads laufen und während des Schreibens auf den Datenträger warten.
+     */
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    /**
+     * Schützt das Quittungsprotokoll. Getrennt von {@link #spillLock}, damit das Protokollieren eines
+     * Blocks keine Annahme neuer Events aufhält.
+     */
+    private final ReentrantLock journalLock = new ReentrantLock();
+
+    /**
+     * {@code true}, solange ausgelagerte Events nicht geschrieben sind; neue Events werden dann ebenfalls ausgelagert.
+     * Geändert und in {@link #submit(EventDTO)} geprüft wird nur unter {@link #spillLock}, damit kein Event an
+     * einem eben ausgelagerten vorbei in die Warteschlange gelangt; der Schreiber liest ohne Sperre.
+     */
+    private volatile boolean spilling;
+
+    /**
+     * Quittungen ausgelagerter Events, die bereits abgeschlossen sind (auch aus einem früheren Lauf).
+     * Beim Nachtragen werden sie übersprungen; geleert, sobald keine Auslagerungsdatei mehr vorliegt.
+     */
+    private final Set<String> completedSpilled = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private volatile Thread writer;
+    private FileChannel spillChannel;
+    private FileChannel journalChannel;
+    private long lastPrune = System.nanoTime();
+
+    /**
+     * Angenommenes, noch nicht geschriebenes Event; so auch als Zeile der Auslagerungsdatei gespeichert.
+     *
+     * @param ticket     Kennung der Quittung
+     * @param acceptedAt Zeitpunkt der Annahme
+     * @param event      validierte Eventdaten
+     */
+    private record Pending(String ticket, Instant acceptedAt, EventDTO event) {}
+
+    /**
+     * Stand einer Quittung.
+     *
+     * @param state       Stand der Verarbeitung
+     * @param eventId     ID des gespeicherten Events oder {@code null}
+     * @param error       Grund der Ablehnung oder {@code null}
+     * @param acceptedAt  Zeitpunkt der Annahme
+     * @param completedAt Zeitpunkt des Abschlusses oder {@code null}
+     */
+    private record Ticket(TicketState state, Long eventId, String error, Instant acceptedAt, Instant completedAt) {
+
+        EventTicketDTO toDTO(String ticket) {
+            return new EventTicketDTO(ticket, state, eventId, error, acceptedAt, completedAt);
+        }
+    }
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventService    Service, der die Blöcke schreibt
+     * @param objectMapper    Serialisierung der Auslagerungsdatei
+     * @param enabled         ob asynchrones Erstellen angeboten wird
+     * @param queueCapacity   Plätze der Warteschlange
+     * @param batchSize       höchstens so viele Events pro Commit
+     * @param maxDelay        längste Wartezeit auf einen vollen Block
+     * @param spillFile       Pfad der Auslagerungsdatei
+     * @param ticketRetention Aufbewahrung abgeschlossener Quittungen
+     */
+    public EventWriteBehindQueue(EventService eventService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${events.async-create.enabled:false}") boolean enabled,
+                                 @Value("${events.async-create.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${events.async-create.batch-size:500}") int batchSize,
+                                 @Value("${events.async-create.max-delay:PT0.05S}") Duration maxDelay,
+                                 @Value("${events.async-create.spill-file:data/events-create.spill}") Path spillFile,
+                                 @Value("${events.async-create.ticket-retention:PT1H}") Duration ticketRetention) {
+        this.eventService = eventService;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.spillFile = spillFile;
+        this.ticketRetention = ticketRetention;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Gibt an, ob asynchrones Erstellen angeboten wird.
+     *
+     * @return Wert von {@code events.async-create.enabled}
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Startet den Schreiber beim Start der Applikation. Ausgelagerte Events eines früheren Laufs
+     * werden zuerst nachgetragen.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        long leftover = restoreTickets();
+        if (leftover > 0) {
+            log.info("Schreib-Warteschlange: {} ausgelagerte Events werden nachgetragen", leftover);
+            spilled.set(leftover);
+            spilling = true;
+        }
+        running = true;
+        writer = Thread.ofVirtual().name("event-write-behind").start(this::run);
+    }
+
+    /**
+     * Hält den Schreiber nach dem laufenden Block an und lagert alle noch wartenden Events aus.
+     *
+     * @throws InterruptedException Wenn das Warten auf den Schreiber unterbrochen wird
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        stopping = true;
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            current.join(SHUTDOWN_TIMEOUT);
+        }
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(this::spill);
+        spillLock.lock();
+        try {
+            closeSpillChannel();
+        } finally {
+            spillLock.unlock();
+        }
+        journalLock.lock();
+        try {
+            closeJournalChannel();
+        } finally {
+            journalLock.unlock();
+        }
+        if (!rest.isEmpty()) {
+            log.info("Schreib-Warteschlange: {} wartende Events für den nächsten Start ausgelagert", rest.size());
+        }
+    }
+
+    /**
+     * Validiert ein Event und nimmt es zum späteren Schreiben an.
+     *
+     * @param dto Daten des neuen Events
+     * @return Quittung im Stand {@code queued} bzw. {@code spilled}
+     * @throws InvalidEventDataException Wenn die Eingabedaten ungültig sind
+     * @throws UncheckedIOException Wenn die Warteschlange voll ist und die Auslagerungsdatei nicht geschrieben werden kann
+     */
+    public EventTicketDTO submit(EventDTO dto) {
+        EventService.validateEventData(
+                dto.getTitle(),
+                dto.getDate(),
+                dto.getCategory(),
+                dto.getLongitude(),
+                dto.getLatitude(),
+                dto.getStatus()
+        );
+        EventService.validateExternalKey(dto.getSource(), dto.getExternalId());
+        dto.setId(null);
+
+        String ticket = UUID.randomUUID().toString();
+        Pending pending = new Pending(ticket, Instant.now(), dto);
+        TicketState state = TicketState.queued;
+        tickets.put(ticket, new Ticket(state, null, null, pending.acceptedAt(), null));
+        spillLock.lock();
+        try {
+            if (spilling || stopping || !queue.offer(pending)) {
+                state = TicketState.spilled;
+                tickets.put(ticket, new Ticket(state, null, null, pending.acceptedAt(), null));
+                spill(pending);
+            }
+        } catch (UncheckedIOException e) {
+            tickets.remove(ticket);
+            throw e;
+        } finally {
+            spillLock.unlock();
+        }
+        return new EventTicketDTO(ticket, state, null, null, pending.acceptedAt(), null);
+    }
+
+    /**
+     * Gibt den Stand einer Quittung zurück.
+     *
+     * @param ticket Kennung der Quittung
+     * @return Stand der Verarbeitung
+     * @throws TicketNotFoundException Wenn die Quittung unbekannt oder abgelaufen ist
+     */
+    public EventTicketDTO getTicket(String ticket) {
+        Ticket state = tickets.get(ticket);
+        if (state == null) {
+            throw new TicketNotFoundException(ticket);
+        }
+        return state.toDTO(ticket);
+    }
+
+    /**
+     * Gibt die Anzahl Commits zurück, mit denen der Schreiber bisher Events gespeichert hat.
+     *
+     * @return Anzahl Commits
+     */
+    public long getCommitCount() {
+        return commits.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("events.async.queue.size", queue, BlockingQueue::size)
+                .description("Wartende Events in der Schreib-Warteschlange")
+                .register(registry);
+        Gauge.builder("events.async.spill.size", spilled, AtomicLong::get)
+                .description("Wartende Events in der Auslagerungsdatei")
+                .register(registry);
+        FunctionCounter.builder("events.async.commits", commits, LongAdder::sum)
+                .description("Commits des Schreibers")
+                .register(registry);
+        FunctionCounter.builder("events.async.events", writtenEvents, LongAdder::sum)
+                .description("Vom Schreiber gespeicherte Events")
+                .register(registry);
+    }
+
+    /**
+     * Hauptschleife des Schreibers.
+     */
+    private void run() {
+        while (running) {
+            try {
+                if (spilling && queue.isEmpty()) {
+                    drainSpill();
+                } else {
+                    List<Pending> batch = nextBatch();
+                    if (!batch.isEmpty()) {
+                        write(batch);
+                    }
+                }
+                pruneTickets();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("Schreib-Warteschlange: {}", e.getMessage(), e);
+                try {
+                    Thread.sleep(ERROR_PAUSE_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wartet auf das nächste Event und sammelt weitere, bis der Block voll ist oder
+     * {@code max-delay} seit dem ersten vergangen ist.
+     *
+     * @return Block, leer wenn kein Event eingetroffen ist
+     * @throws InterruptedException Wenn der Schreiber beim Warten unterbrochen wird
+     */
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        Pending first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            Pending next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * Schreibt einen Block in einer Transaktion; scheitert sie, werden die Events einzeln geschrieben.
+     *
+     * @param batch wartende Events
+     */
+    private void write(List<Pending> batch) {
+        List<CreateOutcome> outcomes;
+        try {
+            outcomes = eventService.createEventsIndividually(batch.stream().map(Pending::event).toList());
+            commits.increment();
+        } catch (RuntimeException e) {
+            log.warn("Schreib-Warteschlange: Block mit {} Events fehlgeschlagen, sie werden einzeln geschrieben: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach(this::writeSingle);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), outcomes.get(i));
+        }
+    }
+
+    /**
+     * Schreibt ein Event in einer eigenen Transaktion.
+     *
+     * @param pending wartendes Event
+     */
+    private void writeSingle(Pending pending) {
+        try {
+            complete(pending, new CreateOutcome(eventService.createEvent(pending.event()), null));
+            commits.increment();
+        } catch (InvalidEventDataException | FutureDateException | CoordinateOutOfRangeException
+                 | DuplicateEventException e) {
+            complete(pending, new CreateOutcome(null, e));
+        } catch (RuntimeException e) {
+            log.warn("Schreib-Warteschlange: Event {} konnte nicht gespeichert werden: {}", pending.ticket(), e.getMessage());
+            finish(pending, TicketState.failed, null, e.getMessage());
+        }
+    }
+
+    private void complete(Pending pending, CreateOutcome outcome) {
+        if (outcome.error() != null) {
+            finish(pending, TicketState.rejected, null, outcome.error().getMessage());
+        } else {
+            finish(pending, TicketState.written, outcome.event().getId(), null);
+            writtenEvents.increment();
+        }
+    }
+
+    private void finish(Pending pending, TicketState state, Long eventId, String error) {
+        tickets.put(pending.ticket(), new Ticket(state, eventId, error, pending.acceptedAt(), Instant.now()));
+    }
+
+    /**
+     * Hängt ein Event an die Auslagerungsdatei an und wartet, bis es auf dem Datenträger liegt.
+     *
+     * @param pending angenommenes Event
+     * @throws UncheckedIOException Wenn die Datei nicht geschrieben werden kann
+     */
+    private void spill(Pending pending) {
+        byte[] line;
+        try {
+            line = (objectMapper.writeValueAsString(pending) + "\n").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        spillLock.lock();
+        try {
+            spilling = true;
+            if (spillChannel == null) {
+                Path parent = spillFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                spillChannel = FileChannel.open(spillFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                spillChannel.write(buffer);
+            }
+            spillChannel.force(false);
+            spilled.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Auslagerungsdatei " + spillFile + " kann nicht geschrieben werden", e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Schreibt die ausgelagerten Events blockweise. Die Datei wird dazu umbenannt, neue Events
+     * landen währenddessen in einer neuen Datei. Liegt keine Datei mehr vor, werden neue Events
+     * wieder in die Warteschlange gelegt.
+     *
+     * @throws IOException Wenn die Datei nicht gelesen werden kann
+     */
+    private void drainSpill() throws IOException {
+        Path draining = drainingFile();
+        spillLock.lock();
+        try {
+            if (!Files.exists(draining)) {
+                closeSpillChannel();
+                if (!Files.exists(spillFile)) {
+                    spilling = false;
+                    spilled.set(0);
+                    completedSpilled.clear();
+                    compactJournal();
+                    return;
+                }
+                Files.move(spillFile, draining, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } finally {
+            spillLock.unlock();
+        }
+
+        List<Pending> batch = new ArrayList<>(batchSize);
+        try (BufferedReader reader = Files.newBufferedReader(draining, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Pending pending;
+                try {
+                    pending = objectMapper.readValue(line, Pending.class);
+                } catch (JsonProcessingException e) {
+                    log.warn("Schreib-Warteschlange: unlesbare Zeile in {} übersprungen: {}", draining, e.getOriginalMessage());
+                    continue;
+                }
+                if (completedSpilled.contains(pending.ticket())) {
+                    continue;
+                }
+                batch.add(pending);
+                if (batch.size() >= batchSize) {
+                    writeSpilled(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeSpilled(batch);
+        }
+        Files.delete(draining);
+    }
+
+    /**
+     * Schreibt einen Block ausgelagerter Events und protokolliert danach ihre Quittungen.
+     *
+     * @param batch ausgelagerte Events
+     */
+    private void writeSpilled(List<Pending> batch) {
+        write(batch);
+        journal(batch);
+        batch.forEach(pending -> completedSpilled.add(pending.ticket()));
+        spilled.updateAndGet(count -> Math.max(0, count - batch.size()));
+    }
+
+    /**
+     * Hängt den Abschluss der Quittungen eines Blocks an das Quittungsprotokoll an und wartet, bis er
+     * auf dem Datenträger liegt. Schlägt das fehl, bleiben die Events geschrieben; nach einem Neustart
+     * würde der Block aber erneut nachgetragen.
+     *
+     * @param batch abgeschlossene Events
+     */
+    private void journal(List<Pending> batch) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (Pending pending : batch) {
+                Ticket ticket = tickets.get(pending.ticket());
+                if (ticket != null && ticket.completedAt() != null) {
+                    lines.append(objectMapper.writeValueAsString(ticket.toDTO(pending.ticket()))).append('\n');
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Schreib-Warteschlange: Quittungen konnten nicht protokolliert werden: {}", e.getOriginalMessage());
+            return;
+        }
+        journalLock.lock();
+        try {
+            if (journalChannel == null) {
+                journalChannel = FileChannel.open(journalFile(),
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                journalChannel.write(buffer);
+            }
+            journalChannel.force(false);
+        } catch (IOException e) {
+            log.warn("Schreib-Warteschlange: Quittungsprotokoll {} kann nicht geschrieben werden: {}",
+                    journalFile(), e.getMessage());
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Stellt die Quittungen eines früheren Laufs wieder her: ausgelagerte Events im Stand {@code spilled},
+     * darüber die protokollierten Abschlüsse. Abgelaufene Abschlüsse, deren Event nicht mehr ausgelagert
+     * ist, werden dabei aus dem Protokoll entfernt.
+     *
+     * @return Anzahl ausgelagerter Events, die noch geschrieben werden müssen
+     */
+    private long restoreTickets() {
+        Set<String> leftover = new HashSet<>();
+        for (Path file : List.of(drainingFile(), spillFile)) {
+            for (String line : readLines(file)) {
+                try {
+                    Pending pending = objectMapper.readValue(line, Pending.class);
+                    leftover.add(pending.ticket());
+                    tickets.put(pending.ticket(), new Ticket(TicketState.spilled, null, null, pending.acceptedAt(), null));
+                } catch (JsonProcessingException e) {
+                    // wird beim Nachtragen gemeldet und übersprungen
+                }
+            }
+        }
+
+        Instant cutoff = Instant.now().minus(ticketRetention);
+        List<String> kept = new ArrayList<>();
+        for (String line : readLines(journalFile())) {
+            EventTicketDTO dto;
+            try {
+                dto = objectMapper.readValue(line, EventTicketDTO.class);
+            } catch (JsonProcessingException e) {
+                log.warn("Schreib-Warteschlange: unlesbare Zeile in {} übersprungen: {}", journalFile(), e.getOriginalMessage());
+                continue;
+            }
+            if (leftover.remove(dto.getTicket())) {
+                completedSpilled.add(dto.getTicket());
+            } else if (dto.getCompletedAt() == null || dto.getCompletedAt().isBefore(cutoff)) {
+                continue;
+            }
+            tickets.put(dto.getTicket(), new Ticket(dto.getState(), dto.getEventId(), dto.getError(),
+                    dto.getAcceptedAt(), dto.getCompletedAt()));
+            kept.add(line);
+        }
+        rewriteJournal(kept);
+        return leftover.size();
+    }
+
+    /**
+     * Entfernt abgelaufene Abschlüsse aus dem Quittungsprotokoll, sobald alle ausgelagerten Events
+     * geschrieben sind.
+     */
+    private void compactJournal() {
+        Instant cutoff = Instant.now().minus(ticketRetention);
+        List<String> kept = new ArrayList<>();
+        for (String line : readLines(journalFile())) {
+            try {
+                Instant completedAt = objectMapper.readValue(line, EventTicketDTO.class).getCompletedAt();
+                if (completedAt != null && !completedAt.isBefore(cutoff)) {
+                    kept.add(line);
+                }
+            } catch (JsonProcessingException e) {
+                // unlesbare Zeilen werden verworfen
+            }
+        }
+        rewriteJournal(kept);
+    }
+
+    /**
+     * Ersetzt das Quittungsprotokoll atomar; ohne Einträge wird es gelöscht.
+     *
+     * @param lines verbleibende Zeilen
+     */
+    private void rewriteJournal(List<String> lines) {
+        Path journal = journalFile();
+        journalLock.lock();
+        try {
+            closeJournalChannel();
+            if (lines.isEmpty()) {
+                Files.deleteIfExists(journal);
+                return;
+            }
+            Path temp = journal.resolveSibling(journal.getFileName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Schreib-Warteschlange: Quittungsprotokoll {} konnte nicht aufgeräumt werden: {}", journal, e.getMessage());
+        } finally {
+            journalLock.unlock();
+        }
+    }
+
+    /**
+     * Schliesst das offene Quittungsprotokoll. Nur unter {@link #journalLock} aufrufen.
+     */
+    private void closeJournalChannel() {
+        if (journalChannel == null) {
+            return;
+        }
+        try {
+            journalChannel.close();
+        } catch (IOException e) {
+            log.warn("Quittungsprotokoll {} konnte nicht geschlossen werden: {}", journalFile(), e.getMessage());
+        }
+        journalChannel = null;
+    }
+
+    /**
+     * Schliesst die offene Auslagerungsdatei. Nur unter {@link #spillLock} aufrufen.
+     */
+    private void closeSpillChannel() {
+        if (spillChannel == null) {
+            return;
+        }
+        try {
+            spillChannel.close();
+        } catch (IOException e) {
+            log.warn("Auslagerungsdatei {} konnte nicht geschlossen werden: {}", spillFile, e.getMessage());
+        }
+        spillChannel = null;
+    }
+
+    /**
+     * Verwirft abgeschlossene Quittungen, die älter als {@code ticket-retention} sind.
+     */
+    private void pruneTickets() {
+        long now = System.nanoTime();
+        if (now - lastPrune < PRUNE_INTERVAL_NANOS) {
+            return;
+        }
+        lastPrune = now;
+        Instant cutoff = Instant.now().minus(ticketRetention);
+        tickets.values().removeIf(ticket -> ticket.completedAt() != null && ticket.completedAt().isBefore(cutoff));
+    }
+
+    private Path drainingFile() {
+        return spillFile.resolveSibling(spillFile.getFileName() + ".draining");
+    }
+
+    private Path journalFile() {
+        return spillFile.resolveSibling(spillFile.getFileName() + ".tickets");
+    }
+
+    private static List<String> readLines(Path file) {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try (var lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.filter(line -> !line.isBlank()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
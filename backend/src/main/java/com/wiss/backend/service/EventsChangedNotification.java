@@ -0,0 +1,78 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.mapper.EventMapper;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <h2>
+ *     Benachrichtigung über gespeicherte oder gelöschte Events
+ * </h2>
+ * <p>
+ *     Wird von den schreibenden Methoden im {@link EventService} (sowie von Import und
+ *     Duplikat-Job) über den {@code ApplicationEventPublisher} veröffentlicht. Abbilder im
+ *     Arbeitsspeicher wie der {@link OpenEventCache} und der {@link ColumnarEventStore} melden
+ *     sich mit {@code @TransactionalEventListener} an und übernehmen die Änderung erst nach
+ *     erfolgreichem Commit; bei einem Rollback wird sie verworfen.
+ * </p>
+ * <p>
+ *     Die Werte der Events werden beim Erstellen als DTOs festgehalten, da die Entities
+ *     bis zum Commit noch verändert werden können.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventsClosedNotification
+ */
+public class EventsChangedNotification {
+
+    private final List<EventDTO> savedEvents;
+    private final List<Long> deletedIds;
+    private final boolean reloadRequired;
+
+    private EventsChangedNotification(List<EventDTO> savedEvents, List<Long> deletedIds, boolean reloadRequired) {
+        this.savedEvents = savedEvents;
+        this.deletedIds = deletedIds;
+        this.reloadRequired = reloadRequired;
+    }
+
+    /**
+     * Erstellt eine Benachrichtigung über eingefügte oder geänderte Events.
+     *
+     * @param events gespeicherte Events mit gesetzter ID
+     * @return Benachrichtigung
+     */
+    public static EventsChangedNotification saved(Collection<Event> events) {
+        return new EventsChangedNotification(events.stream().map(EventMapper::toDTO).toList(), List.of(), false);
+    }
+
+    /**
+     * Erstellt eine Benachrichtigung über gelöschte Events.
+     *
+     * @param ids IDs der gelöschten Events
+     * @return Benachrichtigung
+     */
+    public static EventsChangedNotification deleted(Collection<Long> ids) {
+        return new EventsChangedNotification(List.of(), List.copyOf(ids), false);
+    }
+
+    /**
+     * Erstellt eine Benachrichtigung, nach der die Abbilder neu geladen werden müssen,
+     * z. B. nach einem Import per {@code COPY}, dessen Events nicht einzeln zurückgemeldet werden.
+     *
+     * @return Benachrichtigung
+     */
+    public static EventsChangedNotification reload() {
+        return new EventsChangedNotification(List.of(), List.of(), true);
+    }
+
+    public List<EventDTO> getSavedEvents() { return savedEvents; }
+
+    public List<Long> getDeletedIds() { return deletedIds; }
+
+    public boolean isReloadRequired() { return reloadRequired; }
+}
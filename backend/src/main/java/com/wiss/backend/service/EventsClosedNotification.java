@@ -0,0 +1,42 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.model.EventCategory;
+
+import java.util.List;
+
+/**
+ * <h2>
+ *     Benachrichtigung über automatisch abgeschlossene Events
+ * </h2>
+ * <p>
+ *     Wird vom {@link EventAutoCloseJob} pro verarbeitetem Block über den
+ *     {@code ApplicationEventPublisher} veröffentlicht. Caches, Zähler oder Push-Kanäle
+ *     können sich mit {@code @TransactionalEventListener} anmelden und erhalten die
+ *     Benachrichtigung erst nach erfolgreichem Commit, ohne die Events neu laden zu müssen.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventAutoCloseJob
+ */
+public class EventsClosedNotification {
+
+    private final EventCategory category;
+    private final List<Long> eventIds;
+
+    /**
+     * Erstellt eine neue Benachrichtigung.
+     *
+     * @param category Kategorie der abgeschlossenen Events
+     * @param eventIds IDs der abgeschlossenen Events
+     */
+    public EventsClosedNotification(EventCategory category, List<Long> eventIds) {
+        this.category = category;
+        this.eventIds = List.copyOf(eventIds);
+    }
+
+    public EventCategory getCategory() { return category; }
+
+    public List<Long> getEventIds() { return eventIds; }
+}
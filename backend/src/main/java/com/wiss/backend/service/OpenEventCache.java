@@ -0,0 +1,339 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.mapper.EventMapper;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2>
+ *     Arbeitsspeicher-Abbild aller offenen Events
+ * </h2>
+ * <p>
+ *     Offene Events ({@link EventStatus#open}) sind eine kleine, aber sehr häufig gelesene
+ *     Teilmenge (Live-Ansicht im Frontend). Dieses Abbild hält sie als unveränderlichen
+ *     Schnappschuss mit vorbereiteten Listen pro Kategorie. Lesende Zugriffe geben die
+ *     vorbereitete Liste zurück – ohne Sperre, ohne Kopie und ohne Datenbankzugriff.
+ * </p>
+ *
+ * <h3>
+ *     Aktualisierung (Copy-on-Write):
+ * </h3>
+ * <ul>
+ *     <li>Schreibende Methoden im {@link EventService} melden geänderte und gelöschte Events
+ *         über {@link EventsChangedNotification}, übernommen nach dem Commit</li>
+ *     <li>Automatisch abgeschlossene Events kommen über {@link EventsClosedNotification}</li>
+ *     <li>Pro Änderung wird ein neuer Schnappschuss gebaut, in dem nur die betroffenen Kategorien
+ *         neu sortiert werden, und per {@code volatile}-Referenz veröffentlicht</li>
+ *     <li>Nach Massenimporten per {@code COPY} wird das Abbild neu aus der Datenbank geladen</li>
+ * </ul>
+ * <p>
+ *     Geladen wird beim Start durch den {@link EventSnapshotService}.
+ *     Solange das Abbild noch nicht geladen ist (Start der Applikation), lesen die Aufrufer
+ *     aus der Datenbank. Abgeschlossene Events und Archivabfragen gehen immer an die Datenbank.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventService#getEventsByCategoryAndStatus(EventCategory, EventStatus)
+ */
+@Component
+public class OpenEventCache {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenEventCache.class);
+
+    private static final Comparator<EventDTO> BY_ID = Comparator.comparing(EventDTO::getId);
+
+    /**
+     * Unveränderlicher Stand des Abbilds.
+     *
+     * @param byId       offene Events nach ID
+     * @param byCategory offene Events pro Kategorie, aufsteigend nach ID (jede Kategorie vorhanden)
+     * @param all        alle offenen Events, aufsteigend nach ID
+     */
+    private record Snapshot(Map<Long, EventDTO> byId, Map<EventCategory, List<EventDTO>> byCategory,
+                            List<EventDTO> all) {
+    }
+
+    /**
+     * Änderung, die eintrifft, bevor das Abbild geladen ist, und danach nachgetragen wird.
+     *
+     * @param changed    gespeicherte Events
+     * @param removedIds gelöschte Events
+     */
+    private record PendingChange(List<EventDTO> changed, Collection<Long> removedIds) {
+    }
+
+    private final EventRepository eventRepository;
+
+    /**
+     * Serialisiert Neuladen und Änderungen. Kein {@code synchronized}: {@link #reload()} wartet auf
+     * die Datenbank und würde sonst den Trägerthread eines virtuellen Threads blockieren.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Aktueller Schnappschuss; {@code null}, solange das Abbild nicht geladen ist.
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * Änderungen, die eintreffen, solange kein Schnappschuss geladen ist. Beim Warmstart liest
+     * {@link #reloadFrom(ColumnarEventStore)} einen Stand, der älter sein kann als solche Änderungen;
+     * sie werden deshalb nach jedem Laden in ihrer Reihenfolge angewendet. Nur unter {@link #lock} verwendet.
+     */
+    private final Queue<PendingChange> pending = new ArrayDeque<>();
+
+    /**
+     * Anzahl aus dem Abbild beantworteter Lesezugriffe (Metrik {@code events.index.reads}).
+     */
+    private final LongAdder reads = new LongAdder();
+
+    /**
+     * Konstruktor für Dependency Injection.
+     *
+     * @param eventRepository Repository zum Laden der offenen Events
+     */
+    public OpenEventCache(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Lädt alle offenen Events neu aus der Datenbank.
+     * <p>
+     *     Die Sperre wird während der Abfrage gehalten: Änderungen, die währenddessen committet
+     *     werden, warten und werden danach auf den neuen Stand angewendet.
+     * </p>
+     */
+    public void reload() {
+        lock.lock();
+        try {
+            Map<Long, EventDTO> byId = new HashMap<>();
+            for (Event event : eventRepository.findByStatus(EventStatus.open)) {
+                byId.put(event.getId(), EventMapper.toDTO(event));
+            }
+            snapshot = build(byId, EnumSet.allOf(EventCategory.class), null);
+            log.info("Abbild offener Events geladen: {} Events", byId.size());
+            applyPending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lädt alle offenen Events aus dem bereits geladenen {@link ColumnarEventStore} statt aus der Datenbank.
+     *
+     * @param store geladenes Spaltenabbild
+     */
+    public void reloadFrom(ColumnarEventStore store) {
+        lock.lock();
+        try {
+            Map<Long, EventDTO> byId = new HashMap<>();
+            for (EventDTO dto : store.find(null, EventStatus.open, null, null)) {
+                byId.put(dto.getId(), dto);
+            }
+            snapshot = build(byId, EnumSet.allOf(EventCategory.class), null);
+            log.info("Abbild offener Events aus dem Spaltenabbild geladen: {} Events", byId.size());
+            applyPending();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gibt an, ob das Abbild geladen ist und Lesezugriffe bedienen kann.
+     *
+     * @return {@code true}, sobald das Abbild geladen ist
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    /**
+     * Gibt alle offenen Events zurück.
+     *
+     * @return unveränderliche Liste, aufsteigend nach ID (darf nicht verändert werden)
+     * @throws IllegalStateException Wenn das Abbild noch nicht geladen ist
+     */
+    public List<EventDTO> getOpenEvents() {
+        reads.increment();
+        return current().all();
+    }
+
+    /**
+     * Gibt die offenen Events einer Kategorie zurück.
+     *
+     * @param category Kategorie
+     * @return unveränderliche Liste, aufsteigend nach ID (darf nicht verändert werden)
+     * @throws IllegalStateException Wenn das Abbild noch nicht geladen ist
+     */
+    public List<EventDTO> getOpenEvents(EventCategory category) {
+        reads.increment();
+        return current().byCategory().get(category);
+    }
+
+    /**
+     * @return Anzahl offener Events im Abbild ({@code 0}, solange es nicht geladen ist)
+     */
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.all().size();
+    }
+
+    /**
+     * @return Anzahl aus dem Abbild beantworteter Lesezugriffe seit dem Start
+     */
+    public long getReadCount() {
+        return reads.sum();
+    }
+
+    /**
+     * Übernimmt gespeicherte und gelöschte Events nach dem Commit (ohne Transaktion sofort).
+     * Offene Events werden eingetragen oder ersetzt, alle anderen entfernt.
+     *
+     * @param notification geänderte Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedNotification notification) {
+        if (notification.isReloadRequired()) {
+            reload();
+        } else {
+            apply(notification.getSavedEvents(), notification.getDeletedIds());
+        }
+    }
+
+    /**
+     * Entfernt automatisch abgeschlossene Events nach dem Commit des Blocks.
+     *
+     * @param notification IDs der abgeschlossenen Events
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsClosed(EventsClosedNotification notification) {
+        apply(List.of(), notification.getEventIds());
+    }
+
+    /**
+     * Baut aus dem aktuellen Schnappschuss einen neuen mit den übergebenen Änderungen.
+     * Ist noch keiner geladen, wird die Änderung vorgemerkt und nach dem Laden angewendet.
+     *
+     * @param changed    gespeicherte Events (offene werden eingetragen, andere entfernt)
+     * @param removedIds gelöschte Events
+     */
+    void apply(List<EventDTO> changed, Collection<Long> removedIds) {
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                pending.add(new PendingChange(changed, removedIds));
+                return;
+            }
+            applyNow(changed, removedIds);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wendet vorgemerkte Änderungen in ihrer Reihenfolge an (nur unter der Sperre nach dem Laden).
+     */
+    private void applyPending() {
+        PendingChange change;
+        while ((change = pending.poll()) != null) {
+            applyNow(change.changed(), change.removedIds());
+        }
+    }
+
+    /**
+     * Baut den neuen Schnappschuss (nur unter der Sperre und mit geladenem Schnappschuss).
+     *
+     * @param changed    gespeicherte Events
+     * @param removedIds gelöschte Events
+     */
+    private void applyNow(List<EventDTO> changed, Collection<Long> removedIds) {
+        Snapshot current = snapshot;
+        Map<Long, EventDTO> byId = new HashMap<>(current.byId());
+        Set<EventCategory> affected = EnumSet.noneOf(EventCategory.class);
+        for (Long id : removedIds) {
+            EventDTO previous = byId.remove(id);
+            if (previous != null) {
+                affected.add(previous.getCategory());
+            }
+        }
+        for (EventDTO dto : changed) {
+            EventDTO previous = dto.getStatus() == EventStatus.open ? byId.put(dto.getId(), dto) : byId.remove(dto.getId());
+            if (previous != null) {
+                affected.add(previous.getCategory());
+            }
+            if (dto.getStatus() == EventStatus.open) {
+                affected.add(dto.getCategory());
+            }
+        }
+        if (!affected.isEmpty()) {
+            snapshot = build(byId, affected, current);
+        }
+    }
+
+    /**
+     * Baut einen Schnappschuss; nicht betroffene Kategorien übernehmen die bisherige Liste.
+     *
+     * @param byId     neue offene Events nach ID
+     * @param affected Kategorien, deren Liste neu gebaut wird
+     * @param previous bisheriger Schnappschuss oder {@code null}
+     * @return neuer Schnappschuss
+     */
+    private static Snapshot build(Map<Long, EventDTO> byId, Set<EventCategory> affected, Snapshot previous) {
+        Map<EventCategory, List<EventDTO>> grouped = new EnumMap<>(EventCategory.class);
+        for (EventCategory category : affected) {
+            grouped.put(category, new ArrayList<>());
+        }
+        for (EventDTO dto : byId.values()) {
+            List<EventDTO> list = grouped.get(dto.getCategory());
+            if (list != null) {
+                list.add(dto);
+            }
+        }
+
+        Map<EventCategory, List<EventDTO>> byCategory = new EnumMap<>(EventCategory.class);
+        for (EventCategory category : EventCategory.values()) {
+            List<EventDTO> list = grouped.get(category);
+            if (list == null) {
+                byCategory.put(category, previous.byCategory().get(category));
+            } else {
+                list.sort(BY_ID);
+                byCategory.put(category, List.copyOf(list));
+            }
+        }
+        List<EventDTO> all = new ArrayList<>(byId.values());
+        all.sort(BY_ID);
+        return new Snapshot(Collections.unmodifiableMap(byId), byCategory, List.copyOf(all));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Abbild offener Events ist noch nicht geladen.");
+        }
+        return current;
+    }
+}
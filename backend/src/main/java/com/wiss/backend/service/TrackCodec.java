@@ -0,0 +1,191 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.TrackPointDTO;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2>
+ *     Kodierung von Event-Verläufen
+ * </h2>
+ * <p>
+ *     Schreibt die Punkte eines Verlaufs kompakt in ein Byte-Array. Zeitpunkte werden auf
+ *     Sekunden, Koordinaten auf 1e-5 Grad (ca. 1 m) gerundet und als ganze Zahlen behandelt.
+ *     Pro Punkt werden die Differenzen zum vorherigen Punkt (beim ersten Punkt zu 0) geschrieben:
+ * </p>
+ * <pre>
+ * zigzag-varint(Δ Sekunden) zigzag-varint(Δ Breitengrad) zigzag-varint(Δ Längengrad)
+ * </pre>
+ * <p>
+ *     Aufeinanderfolgende Beobachtungen liegen zeitlich und räumlich nahe beieinander, daher
+ *     belegt ein Punkt meist 4 bis 8 Bytes statt 24. Weil jeder Punkt nur vom vorherigen abhängt,
+ *     lassen sich neue Punkte an einen bestehenden Verlauf anhängen, ohne ihn zu dekodieren.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventTrackService
+ * @see com.wiss.backend.entity.EventTrack
+ */
+final class TrackCodec {
+
+    /**
+     * Faktor zwischen Grad und gespeicherter ganzer Zahl (fünf Nachkommastellen).
+     */
+    static final double COORDINATE_SCALE = 1e5;
+
+    /**
+     * Ein Punkt in gespeicherter Genauigkeit.
+     *
+     * @param epochSecond Zeitpunkt in Sekunden seit 1970 (UTC)
+     * @param latitude    Breitengrad in 1e-5 Grad
+     * @param longitude   Längengrad in 1e-5 Grad
+     */
+    record Point(long epochSecond, int latitude, int longitude) {
+
+        /**
+         * Rundet einen Punkt auf die gespeicherte Genauigkeit.
+         *
+         * @param dto Punkt
+         * @return gerundeter Punkt
+         */
+        static Point of(TrackPointDTO dto) {
+            return new Point(dto.getTimestamp().getEpochSecond(),
+                    (int) Math.round(dto.getLatitude() * COORDINATE_SCALE),
+                    (int) Math.round(dto.getLongitude() * COORDINATE_SCALE));
+        }
+
+        Instant timestamp() {
+            return Instant.ofEpochSecond(epochSecond);
+        }
+
+        double latitudeDegrees() {
+            return latitude / COORDINATE_SCALE;
+        }
+
+        double longitudeDegrees() {
+            return longitude / COORDINATE_SCALE;
+        }
+
+        TrackPointDTO toDTO() {
+            return new TrackPointDTO(timestamp(), latitudeDegrees(), longitudeDegrees());
+        }
+    }
+
+    private TrackCodec() {
+    }
+
+    /**
+     * Kodiert Punkte als neuen Verlauf.
+     *
+     * @param points Punkte, aufsteigend nach Zeitpunkt
+     * @return kodierte Punkte
+     */
+    static byte[] encode(List<Point> points) {
+        return append(new byte[0], null, points);
+    }
+
+    /**
+     * Hängt Punkte an einen kodierten Verlauf an.
+     *
+     * @param data   bisheriger Verlauf
+     * @param last   letzter Punkt des bisherigen Verlaufs oder {@code null}, wenn er leer ist
+     * @param points neue Punkte, aufsteigend nach Zeitpunkt und nach {@code last}
+     * @return neuer Verlauf (das übergebene Array wird nicht verändert)
+     */
+    static byte[] append(byte[] data, Point last, List<Point> points) {
+        // Höchstens 3 × 10 Bytes pro Punkt, meist deutlich weniger
+        byte[] out = Arrays.copyOf(data, data.length + points.size() * 30);
+        int position = data.length;
+        long time = last == null ? 0 : last.epochSecond();
+        long latitude = last == null ? 0 : last.latitude();
+        long longitude = last == null ? 0 : last.longitude();
+        for (Point point : points) {
+            position = writeVarint(out, position, zigzag(point.epochSecond() - time));
+            position = writeVarint(out, position, zigzag(point.latitude() - latitude));
+            position = writeVarint(out, position, zigzag(point.longitude() - longitude));
+            time = point.epochSecond();
+            latitude = point.latitude();
+            longitude = point.longitude();
+        }
+        return Arrays.copyOf(out, position);
+    }
+
+    /**
+     * Dekodiert einen Verlauf, auf Wunsch gleichmässig ausgedünnt. Erster und letzter Punkt
+     * sind immer enthalten. Nicht ausgewählte Punkte werden nur überlesen, nicht angelegt.
+     *
+     * @param data      kodierter Verlauf
+     * @param count     Anzahl Punkte im Verlauf
+     * @param maxPoints Höchstzahl zurückgegebener Punkte; {@code 0} für alle
+     * @return ausgewählte Punkte, aufsteigend nach Zeitpunkt
+     */
+    static List<Point> decode(byte[] data, int count, int maxPoints) {
+        int selected = maxPoints <= 0 ? count : Math.min(count, maxPoints);
+        List<Point> points = new ArrayList<>(selected);
+        int[] position = {0};
+        long time = 0;
+        long latitude = 0;
+        long longitude = 0;
+        int next = 0;
+        for (int i = 0; i < count && points.size() < selected; i++) {
+            time += unzigzag(readVarint(data, position));
+            latitude += unzigzag(readVarint(data, position));
+            longitude += unzigzag(readVarint(data, position));
+            if (i == sampleIndex(next, selected, count)) {
+                points.add(new Point(time, (int) latitude, (int) longitude));
+                next++;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Index des {@code k}-ten von {@code selected} gleichmässig verteilten Punkten.
+     */
+    private static int sampleIndex(int k, int selected, int count) {
+        if (selected >= count) {
+            return k;
+        }
+        if (selected == 1) {
+            return count - 1;
+        }
+        return (int) Math.round(k * (count - 1) / (double) (selected - 1));
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] out, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (position[0] >= data.length) {
+                throw new IllegalStateException("Verlauf ist unvollständig kodiert.");
+            }
+            b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
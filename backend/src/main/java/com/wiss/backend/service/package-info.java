@@ -19,6 +19,16 @@
  *     <li>Datenvalidierung und Ausnahmebehandlung</li>
  *     <li>Bereitstellung von DTOs für das Frontend</li>
  *     <li>Filterlogik für Kombinationen von Kategorie, Status und Zeiträumen</li>
+ *     <li>Inkrementeller Import aus dem NASA-EONET-Feed ({@link com.wiss.backend.service.EonetIngestService})</li>
+ *     <li>Fortsetzbarer Import grosser EONET-Archivdateien ({@link com.wiss.backend.service.EonetArchiveImportService})</li>
+ *     <li>Kompakt kodierte Verläufe von Events ({@link com.wiss.backend.service.EventTrackService})</li>
+ *     <li>Arbeitsspeicher-Abbild der offenen Events ({@link com.wiss.backend.service.OpenEventCache})</li>
+ *     <li>Spaltenorientiertes Abbild aller Events mit Bitmap-Indizes ({@link com.wiss.backend.service.ColumnarEventStore})</li>
+ *     <li>Snapshot und Warmstart der Arbeitsspeicher-Indizes ({@link com.wiss.backend.service.EventSnapshotService}, {@link com.wiss.backend.service.EventSnapshotFile})</li>
+ *     <li>Readiness der Indizes für Actuator ({@link com.wiss.backend.service.EventIndexHealthIndicator})</li>
+ *     <li>Grösse und Nutzung der Indizes als Metriken ({@link com.wiss.backend.service.EventIndexMetrics})</li>
+ *     <li>Asynchrones Erstellen mit gebündelten Commits und Auslagerung bei voller Warteschlange ({@link com.wiss.backend.service.EventWriteBehindQueue})</li>
+ *     <li>Anlegen der Jahrespartitionen von <code>events</code> ({@link com.wiss.backend.service.EventPartitionMaintenanceJob})</li>
  * </ul>
  *
  * <h3>
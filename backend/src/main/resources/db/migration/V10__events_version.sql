@@ -0,0 +1,5 @@
+-- Versionsnummer für optimistisches Sperren: Jede Änderung erhöht sie um eins. Änderungen und
+-- Löschungen mit If-Match prüfen sie in derselben Anweisung (UPDATE/DELETE ... WHERE id = ? AND
+-- version = ?); trifft die Anweisung keine Zeile, wurde das Event inzwischen geändert.
+-- Bestehende Zeilen und Inserts per COPY beginnen bei 0.
+ALTER TABLE events ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
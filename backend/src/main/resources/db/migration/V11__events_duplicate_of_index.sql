@@ -0,0 +1,5 @@
+-- Teilindex für das Nachrücken eines Duplikats, wenn sein Original gelöscht wird: findet die
+-- Duplikate eines Events, ohne die (weit zahlreicheren) Events ohne Markierung zu durchsuchen.
+CREATE INDEX IF NOT EXISTS idx_events_duplicate_of
+    ON events (duplicate_of)
+    WHERE duplicate_of IS NOT NULL;
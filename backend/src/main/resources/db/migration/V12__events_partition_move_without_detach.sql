@@ -0,0 +1,75 @@
+-- events_create_partition (V8) hängte events_default ab und verschob die Events eines Jahres in
+-- derselben Transaktion. Die ACCESS-EXCLUSIVE-Sperre auf events blockierte dabei alle Lese- und
+-- Schreibzugriffe, solange die Kopie lief.
+--
+-- Neu wird jede Jahrespartition zuerst als eigenständige Tabelle mit passender CHECK-Bedingung
+-- angelegt. Events aus events_default werden unter Zeilensperren hineinverschoben, danach wird die
+-- Tabelle mit ATTACH PARTITION angehängt. ATTACH sperrt events nur mit SHARE UPDATE EXCLUSIVE, Lesen
+-- und Schreiben bleiben möglich. Exklusiv gesperrt wird nur events_default, vom Anhängen bis zum
+-- Commit. Bis zum Commit sehen andere Transaktionen die Events weiterhin in events_default.
+--
+-- Die Lösch-Trigger würden verschobene Events als gelöscht behandeln (Schlüssel, Verlauf,
+-- Änderungsprotokoll). Während des Verschiebens ist deshalb events.moving_rows gesetzt.
+
+CREATE OR REPLACE FUNCTION events_cleanup() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('events.moving_rows', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    DELETE FROM event_keys k
+    WHERE k.event_id = OLD.id
+      AND NOT EXISTS (
+          SELECT 1 FROM events e
+          WHERE e.id = OLD.id AND e.source = k.source AND e.external_id = k.external_id
+      );
+    DELETE FROM event_tracks t
+    WHERE t.event_id = OLD.id
+      AND NOT EXISTS (SELECT 1 FROM events e WHERE e.id = OLD.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION events_log_deletion() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('events.moving_rows', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    PERFORM pg_advisory_xact_lock_shared(7301);
+    INSERT INTO event_deletions (event_id, change_seq)
+    VALUES (OLD.id, nextval('events_change_seq'))
+    ON CONFLICT (event_id) DO UPDATE SET change_seq = EXCLUDED.change_seq;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Legt die Jahrespartition events_y<jahr> an, falls sie fehlt, und gibt ihren Namen zurück.
+-- Liegen Events dieses Jahres in der Default-Partition, werden sie vor dem Anhängen verschoben.
+CREATE OR REPLACE FUNCTION events_create_partition(p_year INTEGER) RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := format('events_y%s', p_year);
+    range_check    TEXT := format('events_y%s_range', p_year);
+    range_start    DATE := make_date(p_year, 1, 1);
+    range_end      DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+    -- Die CHECK-Bedingung erspart ATTACH die Prüfung der neuen Tabelle
+    EXECUTE format('CREATE TABLE %I (LIKE events INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('ALTER TABLE %I ADD CONSTRAINT %I CHECK (date >= %L AND date < %L)',
+                   partition_name, range_check, range_start, range_end);
+
+    PERFORM set_config('events.moving_rows', 'on', true);
+    EXECUTE format('WITH moved AS (DELETE FROM events_default WHERE date >= %L AND date < %L RETURNING *) '
+                   'INSERT INTO %I SELECT * FROM moved',
+                   range_start, range_end, partition_name);
+    PERFORM set_config('events.moving_rows', 'off', true);
+
+    -- Nicht hinter langen Abfragen auf events_default anstehen; der nächste Durchlauf versucht es erneut
+    PERFORM set_config('lock_timeout', '10s', true);
+    EXECUTE format('ALTER TABLE events ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, range_start, range_end);
+    EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', partition_name, range_check);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,24 @@
+-- Nach jedem Snapshot wurden alle darin berücksichtigten Löschungen aus event_deletions entfernt.
+-- Mehrere Instanzen teilen sich die Datenbank, haben aber je eine eigene Snapshot-Datei: Eine Instanz
+-- mit älterem Snapshot fand die Löschungen danach nicht mehr und behielt gelöschte Events im Abbild.
+--
+-- Neu wird jede Löschung mit ihrem Zeitpunkt protokolliert und erst nach Ablauf der Aufbewahrungsdauer
+-- (events.snapshot.deletion-retention) entfernt. Ältere Snapshots werden beim Start verworfen.
+
+-- Bestehende Einträge gelten als eben gelöscht und bleiben damit eine volle Aufbewahrungsdauer erhalten
+ALTER TABLE event_deletions ADD COLUMN deleted_at TIMESTAMPTZ NOT NULL DEFAULT now();
+
+CREATE INDEX ix_event_deletions_deleted_at ON event_deletions (deleted_at);
+
+CREATE OR REPLACE FUNCTION events_log_deletion() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('events.moving_rows', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    PERFORM pg_advisory_xact_lock_shared(7301);
+    INSERT INTO event_deletions (event_id, change_seq, deleted_at)
+    VALUES (OLD.id, nextval('events_change_seq'), now())
+    ON CONFLICT (event_id) DO UPDATE SET change_seq = EXCLUDED.change_seq, deleted_at = EXCLUDED.deleted_at;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,12 @@
+-- Ausgangsschema der Tabelle "events", wie es bisher von Hibernate (ddl-auto=update) erzeugt wurde.
+-- Bestehende Datenbanken werden über spring.flyway.baseline-on-migrate auf Version 1 gesetzt.
+CREATE TABLE IF NOT EXISTS events (
+    id           BIGSERIAL        PRIMARY KEY,
+    title        VARCHAR(255)     NOT NULL,
+    date         DATE             NOT NULL,
+    category     VARCHAR(50)      NOT NULL,
+    longitude    DOUBLE PRECISION NOT NULL,
+    latitude     DOUBLE PRECISION NOT NULL,
+    status       VARCHAR(50)      NOT NULL,
+    duplicate_of BIGINT
+);
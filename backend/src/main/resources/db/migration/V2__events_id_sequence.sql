@@ -0,0 +1,10 @@
+-- IDs werden neu über eine Sequenz mit Schrittweite 50 vergeben (Hibernate "pooled"-Optimizer),
+-- damit Inserts per JDBC-Batching gebündelt werden können. IDENTITY/SERIAL verhindert das.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS duplicate_of BIGINT;
+
+CREATE SEQUENCE IF NOT EXISTS events_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('events_seq', MAX(id)) FROM events HAVING MAX(id) IS NOT NULL;
+
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE events ALTER COLUMN id SET DEFAULT nextval('events_seq');
+DROP SEQUENCE IF EXISTS events_id_seq;
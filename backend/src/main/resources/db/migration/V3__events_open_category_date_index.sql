@@ -0,0 +1,5 @@
+-- Teilindex für das automatische Abschliessen: findet offene Events pro Kategorie und Datum,
+-- ohne die abgeschlossenen Events zu durchsuchen.
+CREATE INDEX IF NOT EXISTS idx_events_open_category_date
+    ON events (category, date, id)
+    WHERE status = 'open';
@@ -0,0 +1,8 @@
+-- Natürlicher Schlüssel für importierte Events: erneute Importe derselben Quelle
+-- aktualisieren das bestehende Event (INSERT ... ON CONFLICT) statt eine neue Zeile anzulegen.
+-- Manuell erfasste Events haben keinen Schlüssel (NULL ist im Unique-Index nie gleich).
+ALTER TABLE events ADD COLUMN IF NOT EXISTS source VARCHAR(50);
+ALTER TABLE events ADD COLUMN IF NOT EXISTS external_id VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_events_source_external_id
+    ON events (source, external_id);
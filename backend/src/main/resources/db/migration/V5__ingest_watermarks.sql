@@ -0,0 +1,6 @@
+-- Fortschrittsmarken für inkrementelle Feed-Importe (z. B. EONET pro Kategorie).
+CREATE TABLE IF NOT EXISTS ingest_watermarks (
+    feed         VARCHAR(100) PRIMARY KEY,
+    polled_until DATE         NOT NULL,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,10 @@
+-- Fortschrittsmarken für fortsetzbare Dateiimporte (z. B. EONET-GeoJSON-Archive).
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    file          VARCHAR(500) PRIMARY KEY,
+    file_size     BIGINT       NOT NULL,
+    last_modified TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    byte_offset   BIGINT       NOT NULL,
+    imported_rows BIGINT       NOT NULL,
+    rejected_rows BIGINT       NOT NULL,
+    updated_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
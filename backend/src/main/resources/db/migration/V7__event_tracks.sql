@@ -0,0 +1,13 @@
+-- Verlauf (Track) pro Event: alle Positionen delta- und varint-kodiert in einer Spalte,
+-- statt einer Zeile pro Punkt. Die letzte Position ist zusätzlich ausgeschrieben,
+-- damit sie ohne Dekodieren gelesen werden kann.
+CREATE TABLE IF NOT EXISTS event_tracks (
+    event_id        BIGINT           PRIMARY KEY REFERENCES events (id) ON DELETE CASCADE,
+    point_count     INTEGER          NOT NULL,
+    first_timestamp TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_timestamp  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    last_latitude   DOUBLE PRECISION NOT NULL,
+    last_longitude  DOUBLE PRECISION NOT NULL,
+    data            BYTEA            NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
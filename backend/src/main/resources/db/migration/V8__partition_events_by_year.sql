@@ -0,0 +1,168 @@
+-- Tabelle "events" wird nach Jahr (Spalte "date") partitioniert. Abfragen mit Datumsbereich
+-- (z. B. Archiv: abgeschlossene Events zwischen zwei Daten) lesen nur die betroffenen Partitionen,
+-- alte Jahrgänge lassen sich mit ALTER TABLE events DETACH PARTITION events_yYYYY abhängen.
+--
+-- Eindeutige Indizes einer partitionierten Tabelle müssen den Partitionsschlüssel enthalten:
+--  * Primärschlüssel wird (id, date); id bleibt über events_seq eindeutig.
+--  * Der natürliche Schlüssel (source, external_id) darf nicht vom Datum abhängen und wird daher
+--    in der Tabelle event_keys geführt, die Trigger synchron halten.
+--  * event_tracks kann keinen Fremdschlüssel auf events(id) mehr haben; das Löschen der Verläufe
+--    übernimmt ebenfalls ein Trigger.
+
+ALTER TABLE event_tracks DROP CONSTRAINT IF EXISTS event_tracks_event_id_fkey;
+
+ALTER TABLE events RENAME TO events_unpartitioned;
+ALTER TABLE events_unpartitioned RENAME CONSTRAINT events_pkey TO events_unpartitioned_pkey;
+DROP INDEX IF EXISTS idx_events_open_category_date;
+DROP INDEX IF EXISTS ux_events_source_external_id;
+
+CREATE TABLE events (
+    id           BIGINT           NOT NULL DEFAULT nextval('events_seq'),
+    title        VARCHAR(255)     NOT NULL,
+    date         DATE             NOT NULL,
+    category     VARCHAR(50)      NOT NULL,
+    longitude    DOUBLE PRECISION NOT NULL,
+    latitude     DOUBLE PRECISION NOT NULL,
+    status       VARCHAR(50)      NOT NULL,
+    duplicate_of BIGINT,
+    source       VARCHAR(50),
+    external_id  VARCHAR(100),
+    CONSTRAINT events_pkey PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+-- Nimmt Events auf, für deren Jahr (noch) keine Partition existiert
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+CREATE INDEX idx_events_open_category_date ON events (category, date, id) WHERE status = 'open';
+CREATE INDEX idx_events_status_date ON events (status, date);
+CREATE INDEX idx_events_category_status_date ON events (category, status, date);
+CREATE INDEX idx_events_source_external_id ON events (source, external_id);
+
+-- Natürlicher Schlüssel, unabhängig von der Partition
+CREATE TABLE event_keys (
+    source      VARCHAR(50)  NOT NULL,
+    external_id VARCHAR(100) NOT NULL,
+    event_id    BIGINT       NOT NULL UNIQUE,
+    CONSTRAINT ux_events_source_external_id PRIMARY KEY (source, external_id)
+);
+
+-- Trägt den Schlüssel eines eingefügten oder geänderten Events ein.
+-- Ist er bereits für ein anderes Event vergeben, schlägt die Anweisung wie bei einem Unique-Index fehl.
+CREATE FUNCTION events_sync_key() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM event_keys
+    WHERE event_id = NEW.id
+      AND (source, external_id) IS DISTINCT FROM (NEW.source, NEW.external_id);
+    IF NEW.source IS NOT NULL AND NEW.external_id IS NOT NULL THEN
+        INSERT INTO event_keys (source, external_id, event_id)
+        VALUES (NEW.source, NEW.external_id, NEW.id)
+        ON CONFLICT DO NOTHING;
+        IF NOT FOUND AND NOT EXISTS (
+            SELECT 1 FROM event_keys
+            WHERE source = NEW.source AND external_id = NEW.external_id AND event_id = NEW.id
+        ) THEN
+            RAISE EXCEPTION 'Schlüssel (source, external_id)=(%, %) ist bereits vergeben', NEW.source, NEW.external_id
+                USING ERRCODE = 'unique_violation', CONSTRAINT = 'ux_events_source_external_id';
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Entfernt Schlüssel und Verlauf eines gelöschten Events. Verschiebt ein UPDATE das Event in eine
+-- andere Partition (Datum geändert), meldet PostgreSQL ein DELETE und ein INSERT; die Zeile
+-- existiert dann weiterhin und nur ein veralteter Schlüssel wird entfernt.
+CREATE FUNCTION events_cleanup() RETURNS trigger AS $$
+BEGIN
+    DELETE FROM event_keys k
+    WHERE k.event_id = OLD.id
+      AND NOT EXISTS (
+          SELECT 1 FROM events e
+          WHERE e.id = OLD.id AND e.source = k.source AND e.external_id = k.external_id
+      );
+    DELETE FROM event_tracks t
+    WHERE t.event_id = OLD.id
+      AND NOT EXISTS (SELECT 1 FROM events e WHERE e.id = OLD.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER events_key_insert
+    AFTER INSERT ON events
+    FOR EACH ROW WHEN (NEW.source IS NOT NULL AND NEW.external_id IS NOT NULL)
+    EXECUTE FUNCTION events_sync_key();
+
+CREATE TRIGGER events_key_update
+    AFTER UPDATE OF source, external_id ON events
+    FOR EACH ROW WHEN (OLD.source IS DISTINCT FROM NEW.source OR OLD.external_id IS DISTINCT FROM NEW.external_id)
+    EXECUTE FUNCTION events_sync_key();
+
+CREATE TRIGGER events_cleanup
+    AFTER DELETE ON events
+    FOR EACH ROW
+    EXECUTE FUNCTION events_cleanup();
+
+-- Legt die Jahrespartition events_y<jahr> an, falls sie fehlt, und gibt ihren Namen zurück.
+-- Liegen Events dieses Jahres bereits in der Default-Partition, werden sie in die neue Partition verschoben.
+CREATE FUNCTION events_create_partition(p_year INTEGER) RETURNS TEXT AS $$
+DECLARE
+    partition_name TEXT := format('events_y%s', p_year);
+    range_start    DATE := make_date(p_year, 1, 1);
+    range_end      DATE := make_date(p_year + 1, 1, 1);
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN NULL;
+    END IF;
+    IF EXISTS (SELECT 1 FROM events_default WHERE date >= range_start AND date < range_end) THEN
+        ALTER TABLE events DETACH PARTITION events_default;
+        EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, range_start, range_end);
+        INSERT INTO events SELECT * FROM events_default WHERE date >= range_start AND date < range_end;
+        DELETE FROM events_default WHERE date >= range_start AND date < range_end;
+        ALTER TABLE events ATTACH PARTITION events_default DEFAULT;
+    ELSE
+        EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                       partition_name, range_start, range_end);
+    END IF;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Stellt Partitionen für die Jahre p_from bis p_to sowie für alle Jahre in der Default-Partition sicher.
+-- Gibt die Namen der neu angelegten Partitionen zurück.
+CREATE FUNCTION events_ensure_partitions(p_from INTEGER, p_to INTEGER) RETURNS SETOF TEXT AS $$
+DECLARE
+    years   INTEGER[];
+    year    INTEGER;
+    created TEXT;
+BEGIN
+    -- Jahre zuerst vollständig lesen: events_create_partition hängt die Default-Partition ggf. ab
+    SELECT array_agg(y ORDER BY y) INTO years
+    FROM (
+        SELECT generate_series(p_from, p_to) AS y
+        UNION
+        SELECT DISTINCT extract(YEAR FROM date)::INTEGER FROM events_default
+    ) candidates;
+    FOREACH year IN ARRAY years LOOP
+        created := events_create_partition(year);
+        IF created IS NOT NULL THEN
+            RETURN NEXT created;
+        END IF;
+    END LOOP;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitionen für alle vorhandenen Jahrgänge bis ins nächste Jahr, danach Daten übernehmen
+SELECT events_ensure_partitions(
+    LEAST(COALESCE((SELECT extract(YEAR FROM MIN(date))::INTEGER FROM events_unpartitioned),
+                   extract(YEAR FROM current_date)::INTEGER),
+          extract(YEAR FROM current_date)::INTEGER),
+    extract(YEAR FROM current_date)::INTEGER + 1);
+
+INSERT INTO events (id, title, date, category, longitude, latitude, status, duplicate_of, source, external_id)
+SELECT id, title, date, category, longitude, latitude, status, duplicate_of, source, external_id
+FROM events_unpartitioned;
+
+DROP TABLE events_unpartitioned;
+
+ANALYZE events;
@@ -0,0 +1,63 @@
+-- Änderungsprotokoll für den Warmstart der Arbeitsspeicher-Indizes aus einem Snapshot.
+-- Jede eingefügte oder geänderte Zeile erhält eine fortlaufende Nummer (change_seq), jede Löschung
+-- einen Eintrag in event_deletions. Ein Snapshot speichert den Datenstand, bis zu dem er vollständig
+-- ist; beim Start werden nur neuere Änderungen nachgeladen.
+
+CREATE SEQUENCE events_change_seq;
+
+-- Bestehende Zeilen erhalten 0 und sind im ersten Snapshot enthalten
+ALTER TABLE events ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX ix_events_change_seq ON events (change_seq);
+
+CREATE TABLE event_deletions (
+    event_id   BIGINT PRIMARY KEY,
+    change_seq BIGINT NOT NULL
+);
+
+CREATE INDEX ix_event_deletions_change_seq ON event_deletions (change_seq);
+
+-- Schreibende Transaktionen halten die geteilte Advisory-Sperre 7301 bis zum Commit. Damit kann
+-- events_change_version() feststellen, dass alle bisher vergebenen Nummern abgeschlossen sind.
+CREATE FUNCTION events_stamp_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(7301);
+    NEW.change_seq := nextval('events_change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Verschiebt ein UPDATE das Event in eine andere Partition, meldet PostgreSQL ein DELETE und ein
+-- INSERT. Die Löschung wird dann ebenfalls protokolliert; beim Nachladen werden Löschungen vor
+-- den geänderten Zeilen angewendet, sodass das weiterhin vorhandene Event erhalten bleibt.
+CREATE FUNCTION events_log_deletion() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_advisory_xact_lock_shared(7301);
+    INSERT INTO event_deletions (event_id, change_seq)
+    VALUES (OLD.id, nextval('events_change_seq'))
+    ON CONFLICT (event_id) DO UPDATE SET change_seq = EXCLUDED.change_seq;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER events_change_seq
+    BEFORE INSERT OR UPDATE ON events
+    FOR EACH ROW
+    EXECUTE FUNCTION events_stamp_change();
+
+CREATE TRIGGER events_log_deletion
+    AFTER DELETE ON events
+    FOR EACH ROW
+    EXECUTE FUNCTION events_log_deletion();
+
+-- Gibt den Datenstand zurück, bis zu dem alle Änderungen committet sind, oder NULL, solange
+-- schreibende Transaktionen laufen. Die exklusive Sperre wird nur versucht, damit wartende
+-- Schreibvorgänge nicht blockiert werden; sie endet mit der aufrufenden Transaktion.
+CREATE FUNCTION events_change_version() RETURNS BIGINT AS $$
+BEGIN
+    IF NOT pg_try_advisory_xact_lock(7301) THEN
+        RETURN NULL;
+    END IF;
+    RETURN (SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM events_change_seq);
+END;
+$$ LANGUAGE plpgsql;
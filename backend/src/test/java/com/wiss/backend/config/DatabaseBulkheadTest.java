@@ -0,0 +1,108 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link DatabaseBulkhead}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft, dass jede Verbindung eine Genehmigung belegt, diese beim Schliessen
+ *     genau einmal zurückgibt und Zugriffe nach Ablauf der Wartezeit abgewiesen und gezählt werden.
+ *     Die ursprüngliche {@link DataSource} und ihre Verbindungen werden als Mock verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link DatabaseBulkhead#postProcessAfterInitialization(Object, String)}</li>
+ *     <li>{@link DatabaseBulkhead#bindTo(io.micrometer.core.instrument.MeterRegistry)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see DatabaseBulkhead
+ */
+@ExtendWith(MockitoExtension.class)
+public class DatabaseBulkheadTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry registry;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DatabaseBulkhead bulkhead = new DatabaseBulkhead(true, 2, Duration.ofMillis(50));
+        dataSource = (DataSource) bulkhead.postProcessAfterInitialization(target, "dataSource");
+        registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+        lenient().when(target.getConnection()).thenReturn(connection);
+    }
+
+    /**
+     * Testet, ob bei belegten Genehmigungen nach der Wartezeit abgewiesen wird und ein
+     * Schliessen die Genehmigung (auch bei doppeltem {@code close()}) genau einmal freigibt.
+     */
+    @Test
+    void whenAllPermitsAreTaken_thenAccessIsRejectedUntilConnectionIsClosed() throws SQLException {
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+        assertEquals(1.0, registry.get("db.bulkhead.rejected").counter().count());
+        assertEquals(0.0, registry.get("db.bulkhead.available").gauge().value());
+
+        first.close();
+        first.close();
+        assertEquals(1.0, registry.get("db.bulkhead.available").gauge().value());
+        verify(connection, times(1)).close();
+
+        dataSource.getConnection().close();
+        second.close();
+        assertEquals(2.0, registry.get("db.bulkhead.available").gauge().value());
+        assertEquals(4, registry.get("db.bulkhead.wait").timer().count());
+    }
+
+    /**
+     * Testet, ob eine fehlgeschlagene Verbindung die Genehmigung sofort zurückgibt und
+     * andere Aufrufe an die ursprüngliche Verbindung weitergereicht werden.
+     */
+    @Test
+    void whenPoolFails_thenPermitIsReleased() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(2.0, registry.get("db.bulkhead.available").gauge().value());
+
+        reset(target);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        Connection guarded = dataSource.getConnection();
+        assertEquals(true, guarded.getAutoCommit());
+        assertSame(guarded, guarded);
+    }
+}
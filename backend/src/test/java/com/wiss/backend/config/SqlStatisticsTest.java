@@ -0,0 +1,180 @@
+package com.wiss.backend.config;
+
+import com.wiss.backend.dto.SqlStatementDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für {@link SqlStatistics} und {@link SqlStatisticsFilter}
+ * </h2>
+ * <p>
+ *     Prüft die Normalisierung der Anweisungen, die Zähler einer Anfrage, die Rangliste mit
+ *     Ausführungsplan und das Melden auffälliger Anfragen. Als Datenbank dient eine
+ *     H2-In-Memory-Datenbank, damit Proxy, ResultSet und {@code EXPLAIN} echt ausgeführt werden.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link SqlStatistics#normalize(String)}</li>
+ *     <li>{@link SqlStatistics#start()}, {@link SqlStatistics#getTopStatements()}, {@link SqlStatistics#explain(String)}</li>
+ *     <li>{@link SqlStatisticsFilter#report}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see SqlStatistics
+ */
+public class SqlStatisticsTest {
+
+    private SqlStatistics sqlStatistics;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DriverManagerDataSource target = new DriverManagerDataSource(
+                "jdbc:h2:mem:sqlstatistics;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = target.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists items");
+            statement.execute("create table items (id bigint primary key, name varchar(50))");
+            statement.execute("insert into items values (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+        sqlStatistics = new SqlStatistics(true, Duration.ofSeconds(1), 10, Duration.ofHours(1));
+        dataSource = (DataSource) sqlStatistics.postProcessAfterInitialization(target, "dataSource");
+    }
+
+    /**
+     * Testet, dass Literale, Parameterlisten und Leerraum die normalisierte Form nicht verändern.
+     */
+    @Test
+    void whenStatementsDifferOnlyInValues_thenNormalizedFormIsEqual() {
+        assertEquals("select * from events e1_0 where e1_0.id in (?...) and e1_0.title=?",
+                SqlStatistics.normalize("select * from events e1_0\n  where e1_0.id in (?, ?, ?) and e1_0.title='x'"));
+        assertEquals(SqlStatistics.normalize("select * from events where id = 42 and lat > -1.5"),
+                SqlStatistics.normalize("select * from events where id = 7 and lat > 3.25"));
+    }
+
+    /**
+     * Testet Anweisungen, Zeilen und Wiederholungen einer Anfrage; Zugriffe ausserhalb einer
+     * Anfrage erscheinen nur in der Rangliste.
+     */
+    @Test
+    void whenRequestRunsRepeatedQueries_thenCountStatementsRowsAndRepeats() throws SQLException {
+        selectAll();
+
+        RequestSqlStatistics request = sqlStatistics.start();
+        try {
+            selectAll();
+            for (long id = 1; id <= 3; id++) {
+                selectById(id);
+            }
+        } finally {
+            sqlStatistics.stop();
+        }
+
+        assertEquals(4, request.getStatements());
+        assertEquals(6, request.getRows());
+        assertEquals(3, request.getMostRepeated().getValue());
+        assertEquals("select name from items where id = ?", request.getMostRepeated().getKey());
+
+        List<SqlStatementDTO> top = sqlStatistics.getTopStatements();
+        SqlStatementDTO selectAll = top.stream()
+                .filter(statement -> statement.getSql().equals("select id, name from items"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, selectAll.getExecutions());
+    }
+
+    /**
+     * Testet den Ausführungsplan mit den Parametern der langsamsten Ausführung.
+     */
+    @Test
+    void whenStatementIsExplained_thenReturnPlanWithSampleParameters() throws SQLException {
+        selectById(2);
+        SqlStatementDTO statement = sqlStatistics.getTopStatements().get(0);
+
+        SqlStatementDTO explained = sqlStatistics.explain(statement.getId()).orElseThrow();
+
+        assertEquals(List.of("2"), explained.getSlowestParameters());
+        assertNotNull(explained.getPlan());
+        assertTrue(explained.getPlan().toUpperCase().contains("ITEMS"));
+        assertFalse(sqlStatistics.explain("unbekannt").isPresent());
+
+        sqlStatistics.reset();
+        assertTrue(sqlStatistics.getTopStatements().isEmpty());
+    }
+
+    /**
+     * Testet, dass eine Anfrage mit N+1-Muster als auffällig gezählt wird.
+     */
+    @Test
+    void whenRequestExceedsRepeats_thenCountExceededRequest() throws SQLException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenReturn(registry);
+        SqlStatisticsFilter filter = new SqlStatisticsFilter(sqlStatistics, provider,
+                25, 10_000, Duration.ofSeconds(1), 2, 0.0);
+
+        RequestSqlStatistics request = sqlStatistics.start();
+        try {
+            for (long id = 1; id <= 3; id++) {
+                selectById(id);
+            }
+        } finally {
+            sqlStatistics.stop();
+        }
+        filter.report(new MockHttpServletRequest("GET", "/api/events"), new MockHttpServletResponse(), request);
+
+        assertEquals(1.0, registry.get("sql.requests.exceeded").tag("reason", "repeats").counter().count());
+        assertTrue(registry.find("sql.requests.exceeded").tag("reason", "statements").counters().isEmpty());
+    }
+
+    private void selectAll() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select id, name from items")) {
+            while (resultSet.next()) {
+                resultSet.getString(2);
+            }
+        }
+    }
+
+    private void selectById(long id) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select name from items where id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    resultSet.getString(1);
+                }
+            }
+        }
+    }
+}
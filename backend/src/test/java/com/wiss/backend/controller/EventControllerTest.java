@@ -1,24 +1,52 @@
 package com.wiss.backend.controller;
 
+import com.wiss.backend.config.SqlStatistics;
+import com.wiss.backend.dto.BatchOperationResultDTO;
+import com.wiss.backend.dto.BatchResultDTO;
 import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventTicketDTO;
+import com.wiss.backend.exception.BatchOperationException;
+import com.wiss.backend.exception.DatabaseBusyException;
+import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.exception.EventVersionConflictException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.exception.TicketNotFoundException;
+import com.wiss.backend.model.BatchOperationType;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.TicketState;
+import com.wiss.backend.service.EventImportService;
 import com.wiss.backend.service.EventService;
+import com.wiss.backend.service.EventTrackService;
+import com.wiss.backend.service.EventWriteBehindQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -47,14 +75,31 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @see EventService
  */
 @WebMvcTest(EventController.class)
+@Import(SimpleMeterRegistry.class)
 public class EventControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
     @MockBean
     private EventService eventService;
 
+    @MockBean
+    private EventImportService eventImportService;
+
+    @MockBean
+    private EventTrackService eventTrackService;
+
+    @MockBean
+    private EventWriteBehindQueue writeBehindQueue;
+
+    // Vom SqlStatisticsFilter benötigt; der Mock liefert keine Statistik, der Filter reicht nur durch
+    @MockBean
+    private SqlStatistics sqlStatistics;
+
     /**
      * Testet den Endpunkt {@code GET /api/events}, der alle Events als JSON zurückgeben soll.
      * <p>
@@ -121,4 +166,173 @@ public class EventControllerTest {
                 .andExpect(jsonPath("$[0].title", is("Überschwemmung Italien")))
                 .andExpect(jsonPath("$[0].status", is("closed")));
     }
+
+    /**
+     * Testet, ob eine Absage des Datenbank-Bulkheads als HTTP 503 mit {@code Retry-After} ankommt.
+     * <p>
+     *     Erwartung: Status 503, Fehlertyp "DATABASE_BUSY", auch wenn die Absage als Ursache
+     *     einer {@link CannotCreateTransactionException} geworfen wird.
+     * </p>
+     */
+    @Test
+    public void whenDatabaseIsBusy_thenReturnServiceUnavailable() throws Exception {
+        when(eventService.getTotalEventsCount()).thenThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction", new DatabaseBusyException(Duration.ofSeconds(5))));
+
+        mockMvc.perform(get("/api/events/count"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error", is("DATABASE_BUSY")));
+    }
+
+    /**
+     * Testet, ob Fehlerantworten im Zähler {@code api.errors} nach Fehlertyp erfasst werden.
+     * <p>
+     *     Erwartung: Status 404 und ein Zählerstand von 1 für den Typ "EVENT_NOT_FOUND".
+     * </p>
+     */
+    @Test
+    public void whenEventNotFound_thenCountErrorByType() throws Exception {
+        when(eventService.getEventByIdAsDTO(99L)).thenThrow(new EventNotFoundException(99L));
+
+        mockMvc.perform(get("/api/events/99"))
+                .andExpect(status().isNotFound());
+
+        assertEquals(1.0, meterRegistry.get("api.errors")
+                .tags("type", "EVENT_NOT_FOUND", "status", "404")
+                .counter().count());
+    }
+
+    /**
+     * Testet den ETag eines einzelnen Events und die Antwort auf eine Änderung mit veraltetem {@code If-Match}.
+     * <p>
+     *     Erwartung: {@code GET} liefert die Version als ETag, ein passender {@code If-None-Match} ergibt 304,
+     *     und die Änderung mit veralteter Version wird mit 412 und Fehlertyp "VERSION_CONFLICT" abgelehnt.
+     * </p>
+     */
+    @Test
+    public void whenIfMatchIsStale_thenReturnPreconditionFailed() throws Exception {
+        EventDTO event = new EventDTO(7L, "Vulkanausbruch Island", LocalDate.of(2024, 3, 16),
+                EventCategory.volcanoes, -22.5, 63.9, EventStatus.open);
+        when(eventService.getEventByIdAsDTO(7L)).thenReturn(new EventService.Versioned<>(event, 3L));
+        when(eventService.updateEvent(eq(7L), any(EventDTO.class), eq(2L)))
+                .thenThrow(new EventVersionConflictException(7L, 2L));
+
+        mockMvc.perform(get("/api/events/7"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+        mockMvc.perform(get("/api/events/7").header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(put("/api/events/7")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Vulkanausbruch Island\",\"date\":\"2024-03-16\",\"category\":\"volcanoes\","
+                                + "\"longitude\":-22.5,\"latitude\":63.9,\"status\":\"closed\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error", is("VERSION_CONFLICT")));
+    }
+
+    /**
+     * Testet {@code If-Match} mit einer Liste von ETags (RFC 9110) und mit einem schwachen ETag.
+     * <p>
+     *     Erwartung: Steht die aktuelle Version in der Liste, wird mit ihr geschrieben und die neue
+     *     Version als ETag geliefert; ein schwacher ETag passt beim starken Vergleich nie.
+     * </p>
+     */
+    @Test
+    public void whenIfMatchListContainsCurrentVersion_thenUpdateSucceeds() throws Exception {
+        String body = "{\"title\":\"Vulkanausbruch Island\",\"date\":\"2024-03-16\",\"category\":\"volcanoes\","
+                + "\"longitude\":-22.5,\"latitude\":63.9,\"status\":\"closed\"}";
+        EventDTO event = new EventDTO(7L, "Vulkanausbruch Island", LocalDate.of(2024, 3, 16),
+                EventCategory.volcanoes, -22.5, 63.9, EventStatus.closed);
+        when(eventService.getVersion(7L)).thenReturn(5L);
+        when(eventService.updateEvent(eq(7L), any(EventDTO.class), eq(5L)))
+                .thenReturn(new EventService.Versioned<>(event, 6L));
+        when(eventService.updateEvent(eq(7L), any(EventDTO.class), eq(-1L)))
+                .thenThrow(new EventVersionConflictException(7L, -1L));
+
+        mockMvc.perform(put("/api/events/7")
+                        .header("If-Match", "\"2\", \"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""));
+        mockMvc.perform(put("/api/events/7")
+                        .header("If-Match", "W/\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    /**
+     * Testet das asynchrone Erstellen mit {@code Prefer: respond-async} und die Abfrage der Quittung.
+     * <p>
+     *     Erwartung: 202 mit Quittung und {@code Location}, ohne dass das Event synchron gespeichert wird;
+     *     eine unbekannte Quittung ergibt 404 mit Fehlertyp "TICKET_NOT_FOUND".
+     * </p>
+     */
+    @Test
+    public void whenPreferRespondAsync_thenReturnAcceptedWithTicket() throws Exception {
+        String ticket = "3f2c8a1e-5b7d-4e0a-9c61-2d4f8b9e7a10";
+        when(writeBehindQueue.isEnabled()).thenReturn(true);
+        when(writeBehindQueue.submit(any(EventDTO.class)))
+                .thenReturn(new EventTicketDTO(ticket, TicketState.queued, null, null, Instant.now(), null));
+        when(writeBehindQueue.getTicket("unbekannt")).thenThrow(new TicketNotFoundException("unbekannt"));
+
+        mockMvc.perform(post("/api/events")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Vulkanausbruch Island\",\"date\":\"2024-03-16\",\"category\":\"volcanoes\","
+                                + "\"longitude\":-22.5,\"latitude\":63.9,\"status\":\"open\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/events/tickets/" + ticket))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.state", is("queued")));
+        verify(eventService, never()).createEvent(any(EventDTO.class));
+
+        mockMvc.perform(get("/api/events/tickets/unbekannt"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", is("TICKET_NOT_FOUND")));
+    }
+
+    /**
+     * Testet den Endpunkt {@code POST /api/events/batch} mit Erfolg und Fehlerabbildung.
+     * <p>
+     *     Erwartung: 200 mit dem Ergebnis pro Operation; eine fehlgeschlagene Operation liefert den
+     *     Status der ersten fehlgeschlagenen Operation (404 bzw. 409) mit allen Ergebnissen und
+     *     {@code committed=false}; zu viele Operationen ergeben 400 mit Fehlertyp "INVALID_EVENT_DATA".
+     * </p>
+     */
+    @Test
+    public void whenBatchIsPosted_thenStatusFollowsFirstFailedOperation() throws Exception {
+        String body = "[{\"op\":\"delete\",\"id\":7}]";
+        BatchOperationResultDTO deleted = new BatchOperationResultDTO(0, BatchOperationType.delete, 7L);
+        deleted.setCode(204);
+        BatchOperationResultDTO missing = new BatchOperationResultDTO(0, BatchOperationType.delete, 7L);
+        missing.setCode(404);
+        missing.setError("EVENT_NOT_FOUND");
+        BatchOperationResultDTO duplicate = new BatchOperationResultDTO(0, BatchOperationType.create, null);
+        duplicate.setCode(409);
+        duplicate.setError("DUPLICATE_EVENT");
+        when(eventService.executeBatch(any()))
+                .thenReturn(new BatchResultDTO(true, List.of(deleted)))
+                .thenThrow(new BatchOperationException(new BatchResultDTO(false, List.of(missing))))
+                .thenThrow(new BatchOperationException(new BatchResultDTO(false, List.of(duplicate))))
+                .thenThrow(new InvalidEventDataException("Zu viele Operationen."));
+
+        mockMvc.perform(post("/api/events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed", is(true)))
+                .andExpect(jsonPath("$.results[0].code", is(204)));
+        mockMvc.perform(post("/api/events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.committed", is(false)))
+                .andExpect(jsonPath("$.results[0].error", is("EVENT_NOT_FOUND")));
+        mockMvc.perform(post("/api/events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.results[0].error", is("DUPLICATE_EVENT")));
+        mockMvc.perform(post("/api/events/batch").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error", is("INVALID_EVENT_DATA")));
+    }
 }
@@ -0,0 +1,381 @@
+package com.wiss.backend.controller;
+
+import com.wiss.backend.config.RequestSqlStatistics;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.service.ColumnarEventStore;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * <h2>
+ *     Performance-Budgets der REST-Endpunkte
+ * </h2>
+ * <p>
+ *     Statt Antwortzeiten, die je nach Maschine schwanken, prüfen diese Tests deterministische
+ *     Stellvertreter: Anzahl SQL-Anweisungen, gelesene Zeilen und geladene Entitäten pro Anfrage
+ *     (aus {@link RequestSqlStatistics}) sowie die im Thread der Anfrage allozierten Bytes. Eine
+ *     Änderung, die z. B. wieder {@code existsById} vor {@code findById} aufruft oder bei einem Filter
+ *     auf {@code findAll} zurückfällt, lässt den Build fehlschlagen.
+ * </p>
+ *
+ * <h3>
+ *     Testkontext:
+ * </h3>
+ * <ul>
+ *     <li>Vollständiger Anwendungskontext mit H2 (Profil {@code test}) und {@link MockMvc}, inklusive
+ *         {@link com.wiss.backend.config.SqlStatisticsFilter}</li>
+ *     <li>Datenbestand von {@value #EVENTS} Events, einmalig über {@code POST /api/events/bulk} angelegt</li>
+ *     <li>Allokationen: Minimum aus mehreren Wiederholungen nach dem Aufwärmen; die Budgets liegen
+ *         beim Zwei- bis Dreifachen des gemessenen Werts</li>
+ *     <li>Nur diese Stufe ausführen: {@code ./mvnw test -Dgroups=performance}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see RequestSqlStatistics
+ */
+@Tag("performance")
+@SpringBootTest(properties = "eonet.ingest.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EventPerformanceBudgetTest {
+
+    private static final int EVENTS = 500;
+    private static final int REPETITIONS = 5;
+
+    private static final String[] CATEGORIES = {"wildfires", "floods", "volcanoes", "severeStorms", "drought"};
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ColumnarEventStore columnarStore;
+
+    private List<Long> ids;
+
+    /**
+     * Ergebnis einer Anfrage: Antwort, SQL-Statistik und allozierte Bytes.
+     */
+    private record Measured(MvcResult result, RequestSqlStatistics sql, long allocatedBytes) {
+
+        int status() {
+            return result.getResponse().getStatus();
+        }
+    }
+
+    @BeforeAll
+    void seed() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        LocalDate day = LocalDate.of(2023, 1, 1);
+        for (int i = 0; i < EVENTS; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append(String.format(Locale.ROOT, "{\"title\":\"Budget-Event %d\",\"date\":\"%s\",\"category\":\"%s\","
+                            + "\"longitude\":%.4f,\"latitude\":%.4f,\"status\":\"%s\"}",
+                    i, day.plusDays(i % 600), CATEGORIES[i % CATEGORIES.length],
+                    -170.0 + (i * 0.67) % 340, -80.0 + (i * 0.31) % 160, i % 4 == 0 ? "open" : "closed"));
+        }
+        mockMvc.perform(post("/api/events/bulk").contentType(MediaType.APPLICATION_JSON).content(body.append(']').toString()));
+        ids = eventRepository.findAll().stream().map(Event::getId).sorted().toList();
+        assertEquals(EVENTS, ids.size());
+        assertTrue(columnarStore.isReady());
+    }
+
+    /**
+     * {@code GET /api/events/{id}}: genau eine Abfrage, eine Zeile, eine Entität.
+     */
+    @Test
+    void getById_issuesExactlyOneQuery() throws Exception {
+        Measured measured = measure(() -> get("/api/events/{id}", ids.get(10)));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 1, 1);
+        assertEquals(1, measured.sql().getEntities());
+        assertAllocatedAtMost(measured, 256 * 1024);
+    }
+
+    /**
+     * {@code GET /api/events/{id}/edit}: eine Abfrage, kein vorgelagertes {@code existsById}.
+     */
+    @Test
+    void getForEdit_issuesExactlyOneQuery() throws Exception {
+        Measured measured = measure(() -> get("/api/events/{id}/edit", ids.get(20)));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 1, 1);
+        assertAllocatedAtMost(measured, 256 * 1024);
+    }
+
+    /**
+     * {@code GET /api/events/{id}} für eine unbekannte ID: eine Abfrage auch im Fehlerfall.
+     */
+    @Test
+    void getUnknownId_issuesExactlyOneQuery() throws Exception {
+        Measured measured = measure(() -> get("/api/events/{id}", Long.MAX_VALUE));
+
+        assertEquals(404, measured.status());
+        assertSql(measured, 1, 0);
+    }
+
+    /**
+     * {@code GET /api/events/filter} mit allen Kombinationen aus Kategorie, Status und Zeitraum:
+     * höchstens eine Abfrage, nie ein Lesen der ganzen Tabelle, nicht mehr gelesene Zeilen als
+     * zurückgegebene Events.
+     */
+    @Test
+    void filter_neverScansTheWholeTable() throws Exception {
+        String[] queries = {
+                "category=wildfires&status=open",
+                "category=floods&start=2023-03-01&end=2023-03-31",
+                "status=closed&start=2023-06-01&end=2023-06-30",
+                "category=volcanoes&status=closed&start=2023-01-01&end=2023-12-31",
+                "start=2024-01-01&end=2024-01-31"
+        };
+        for (String query : queries) {
+            Measured measured = measure(() -> get("/api/events/filter?" + query));
+
+            assertEquals(200, measured.status(), query);
+            int returned = count(measured);
+            assertTrue(returned > 0 && returned < EVENTS, query + ": " + returned + " Events");
+            assertTrue(measured.sql().getStatements() <= 1, query + ": " + measured.sql().getExecutedStatements());
+            assertTrue(measured.sql().getRows() <= returned, query + ": " + measured.sql().getRows() + " Zeilen gelesen");
+            assertNoFullTableScan(measured);
+            assertAllocatedAtMost(measured, 512 * 1024);
+        }
+    }
+
+    /**
+     * {@code GET /api/events/stats/*}: Zählungen ohne Lesen der Events.
+     */
+    @Test
+    void stats_readAtMostOneRow() throws Exception {
+        for (String path : List.of("/api/events/stats/categories/wildfires", "/api/events/stats/status/open",
+                "/api/events/stats/date/2023-01-01/2023-06-30")) {
+            Measured measured = measure(() -> get(path));
+
+            assertEquals(200, measured.status(), path);
+            assertTrue(measured.sql().getStatements() <= 1, path + ": " + measured.sql().getExecutedStatements());
+            assertTrue(measured.sql().getRows() <= 1, path);
+            assertEquals(0, measured.sql().getEntities(), path);
+            assertNoFullTableScan(measured);
+            assertAllocatedAtMost(measured, 256 * 1024);
+        }
+    }
+
+    /**
+     * {@code GET /api/events/all}: eine Abfrage für alle Events (kein N+1), jede Zeile genau einmal gelesen.
+     */
+    @Test
+    void all_readsEachRowOnce() throws Exception {
+        Measured measured = measure(() -> get("/api/events/all"));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 1, count(measured));
+        assertEquals(measured.sql().getRows(), measured.sql().getEntities());
+        assertAllocatedAtMost(measured, 8 * 1024 * 1024);
+    }
+
+    /**
+     * {@code PUT /api/events/{id}/update} mit {@code If-Match}: ein einziges bedingtes UPDATE,
+     * ohne das Event vorher zu lesen; die Antwort trägt die neue Version als ETag.
+     */
+    @Test
+    void update_issuesOneConditionalUpdate() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}/edit", ids.get(30))).andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        Measured measured = once(put("/api/events/{id}/update", ids.get(30))
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(event("Budget-Event geändert", "2023-02-01", 12.5, 45.5)));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 1, 0);
+        long version = Long.parseLong(etag.replace("\"", ""));
+        assertEquals("\"" + (version + 1) + "\"", measured.result().getResponse().getHeader("ETag"));
+    }
+
+    /**
+     * {@code PUT /api/events/{id}/update} ohne {@code If-Match}: das unbedingte UPDATE und eine Abfrage
+     * der gespeicherten Version, damit die Antwort trotzdem einen ETag trägt.
+     */
+    @Test
+    void unconditionalUpdate_returnsStoredVersionAsETag() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}/edit", ids.get(35))).andReturn().getResponse().getHeader("ETag");
+        assertNotNull(etag);
+
+        Measured measured = once(put("/api/events/{id}/update", ids.get(35))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(event("Budget-Event überschrieben", "2023-02-03", 12.5, 45.5)));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 2, 1);
+        long version = Long.parseLong(etag.replace("\"", ""));
+        assertEquals("\"" + (version + 1) + "\"", measured.result().getResponse().getHeader("ETag"));
+    }
+
+    /**
+     * Zwei Clients ändern mit demselben ETag: der zweite erhält 412 statt die erste Änderung zu
+     * überschreiben. Die Abfrage, ob das Event noch existiert, fällt nur in diesem Fehlerfall an.
+     */
+    @Test
+    void staleUpdate_isRejectedWithPreconditionFailed() throws Exception {
+        String etag = mockMvc.perform(get("/api/events/{id}", ids.get(40))).andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(put("/api/events/{id}/update", ids.get(40))
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(event("Budget-Event erster Client", "2023-02-02", 13.5, 46.5)));
+
+        Measured measured = once(put("/api/events/{id}/update", ids.get(40))
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(event("Budget-Event zweiter Client", "2023-02-02", 13.5, 46.5)));
+
+        assertEquals(412, measured.status());
+        assertEquals(2, measured.sql().getStatements(), measured.sql().getExecutedStatements().toString());
+        assertEquals("Budget-Event erster Client", eventRepository.findById(ids.get(40)).orElseThrow().getTitle());
+    }
+
+    /**
+     * {@code PATCH /api/events/{id}} mit nur dem Status: ein einziges UPDATE, das den neuen Stand
+     * zurückliefert; die übrigen Werte bleiben erhalten.
+     */
+    @Test
+    void patchStatus_issuesOneStatement() throws Exception {
+        Event before = eventRepository.findById(ids.get(52)).orElseThrow();
+
+        Measured measured = once(patch("/api/events/{id}", ids.get(52))
+                .header("If-Match", "\"" + before.getVersion() + "\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"status\":\"closed\"}"));
+
+        assertEquals(200, measured.status());
+        assertEquals(1, measured.sql().getStatements(), measured.sql().getExecutedStatements().toString());
+        assertEquals("\"" + (before.getVersion() + 1) + "\"", measured.result().getResponse().getHeader("ETag"));
+        Event after = eventRepository.findById(ids.get(52)).orElseThrow();
+        assertEquals(EventStatus.closed, after.getStatus());
+        assertEquals(before.getTitle(), after.getTitle());
+        assertEquals(before.getLatitude(), after.getLatitude());
+    }
+
+    /**
+     * {@code POST /api/events/create}: höchstens ein INSERT und ein Sequenzaufruf, keine Duplikatsuche in der Datenbank.
+     */
+    @Test
+    void create_issuesAtMostTwoStatements() throws Exception {
+        Measured measured = once(post("/api/events/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(event("Budget-Event neu", "2023-05-05", 100.5, -30.5)));
+
+        assertEquals(201, measured.status());
+        assertTrue(measured.sql().getStatements() <= 2, measured.sql().getExecutedStatements().toString());
+        assertTrue(measured.sql().getRows() <= 1);
+    }
+
+    /**
+     * {@code DELETE /api/events/{id}}: ein DELETE, ohne das Event vorher zu lesen, und eine Abfrage
+     * nach Duplikaten, die auf das gelöschte Event zeigen (ohne Duplikate keine Zeile).
+     */
+    @Test
+    void delete_issuesOneDeleteAndDuplicateLookup() throws Exception {
+        Measured measured = once(delete("/api/events/{id}", ids.get(ids.size() - 1)));
+
+        assertEquals(200, measured.status());
+        assertSql(measured, 2, 0);
+    }
+
+    /**
+     * Führt eine lesende Anfrage mehrfach aus und liefert die Messung mit den wenigsten Allokationen;
+     * die SQL-Zahlen müssen bei jeder Wiederholung gleich sein.
+     */
+    private Measured measure(Supplier<MockHttpServletRequestBuilder> request) throws Exception {
+        once(request.get());
+        Measured best = null;
+        for (int i = 0; i < REPETITIONS; i++) {
+            Measured measured = once(request.get());
+            if (best != null) {
+                assertEquals(best.sql().getStatements(), measured.sql().getStatements());
+            }
+            if (best == null || measured.allocatedBytes() < best.allocatedBytes()) {
+                best = measured;
+            }
+        }
+        return best;
+    }
+
+    private Measured once(MockHttpServletRequestBuilder request) throws Exception {
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+        RequestSqlStatistics sql = (RequestSqlStatistics) result.getRequest().getAttribute(RequestSqlStatistics.ATTRIBUTE);
+        assertNotNull(sql, "SQL-Statistik fehlt (events.sql.statistics.enabled?)");
+        return new Measured(result, sql, allocated);
+    }
+
+    private static void assertSql(Measured measured, int statements, long rows) {
+        assertEquals(statements, measured.sql().getStatements(), measured.sql().getExecutedStatements().toString());
+        assertEquals(rows, measured.sql().getRows());
+    }
+
+    /**
+     * Schlägt fehl, wenn eine Anweisung die Tabelle {@code events} ohne {@code WHERE} liest.
+     */
+    private static void assertNoFullTableScan(Measured measured) {
+        for (String sql : measured.sql().getExecutedStatements()) {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            assertFalse(lower.contains(" from events ") && !lower.contains(" where "), "Ganze Tabelle gelesen: " + sql);
+        }
+    }
+
+    private static void assertAllocatedAtMost(Measured measured, long budget) {
+        assertTrue(measured.allocatedBytes() <= budget, measured.result().getRequest().getRequestURI()
+                + ": " + measured.allocatedBytes() + " Bytes alloziert, Budget " + budget);
+    }
+
+    private static int count(Measured measured) throws Exception {
+        String json = measured.result().getResponse().getContentAsString();
+        return json.split("\"id\":", -1).length - 1;
+    }
+
+    private static String event(String title, String date, double longitude, double latitude) {
+        return String.format(Locale.ROOT, "{\"title\":\"%s\",\"date\":\"%s\",\"category\":\"wildfires\","
+                + "\"longitude\":%.4f,\"latitude\":%.4f,\"status\":\"open\"}", title, date, longitude, latitude);
+    }
+}
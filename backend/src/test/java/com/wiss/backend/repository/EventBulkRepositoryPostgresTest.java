@@ -0,0 +1,184 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventBulkRepository.UpsertOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <h2>
+ *     Integrationstests für {@link EventBulkRepositoryImpl} unter PostgreSQL
+ * </h2>
+ * <p>
+ *     Der Abgleich über {@code event_keys} und die Jahrespartitionen gibt es nur unter PostgreSQL.
+ *     Diese Tests laufen daher nur, wenn {@code EVENTS_TEST_POSTGRES_URL} auf eine (leere)
+ *     Testdatenbank zeigt, z. B. {@code jdbc:postgresql://localhost:5432/eonet_test}; Benutzer und
+ *     Passwort kommen aus {@code DB_USERNAME} und {@code DB_PASSWORD}. Das Schema legt Flyway an.
+ * </p>
+ *
+ * <h3>
+ *     Testkontext:
+ * </h3>
+ * <ul>
+ *     <li>Jeder Schritt läuft in einer eigenen, committeten Transaktion, damit parallele Transaktionen sichtbar sind</li>
+ *     <li>Alle Events der Herkunft {@code TEST} und die Partition {@code events_y1901} werden danach entfernt</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventBulkRepository#upsert(List)
+ * @see EventBulkRepository#ensureYearPartitions(int, int)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${EVENTS_TEST_POSTGRES_URL}",
+        "spring.flyway.enabled=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "EVENTS_TEST_POSTGRES_URL", matches = ".+")
+public class EventBulkRepositoryPostgresTest {
+
+    private static final String SOURCE = "TEST";
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE source = ?", SOURCE);
+        jdbcTemplate.update("DROP TABLE IF EXISTS events_y1901");
+    }
+
+    /**
+     * Testet, ob ein neuer Schlüssel eingefügt, ein unveränderter nicht geschrieben und ein geänderter aktualisiert wird.
+     */
+    @Test
+    public void whenUpsertIsRepeated_thenEventIsInsertedOnceAndUpdatedOnChange() {
+        List<UpsertOutcome> first = upsert(event("EONET_1", "Waldbrand A", LocalDate.of(2024, 8, 1)));
+        List<UpsertOutcome> unchanged = upsert(event("EONET_1", "Waldbrand A", LocalDate.of(2024, 8, 1)));
+        List<UpsertOutcome> changed = upsert(event("EONET_1", "Waldbrand A (gelöscht)", LocalDate.of(2024, 8, 1)));
+
+        assertThat(first).hasSize(1);
+        assertThat(first.getFirst().inserted()).isTrue();
+        assertThat(unchanged).isEmpty();
+        assertThat(changed).hasSize(1);
+        assertThat(changed.getFirst().inserted()).isFalse();
+        assertThat(changed.getFirst().id()).isEqualTo(first.getFirst().id());
+        assertThat(countEvents("EONET_1")).isEqualTo(1);
+    }
+
+    /**
+     * Testet zwei parallele Abgleiche desselben neuen Schlüssels.
+     * <p>
+     *     Erwartung: Die zweite Transaktion wartet auf den Commit der ersten, gleicht die Zeile danach
+     *     erneut ab und aktualisiert das eingefügte Event, statt an der Schlüsseltabelle zu scheitern.
+     * </p>
+     */
+    @Test
+    public void whenSameNewKeyIsUpsertedConcurrently_thenSecondTransactionUpdates() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<List<UpsertOutcome>> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            List<UpsertOutcome> outcomes = eventRepository.upsert(List.of(event("EONET_2", "Sturm A", LocalDate.of(2024, 9, 1))));
+            firstWritten.countDown();
+            await(releaseFirst);
+            return outcomes;
+        }));
+        assertThat(firstWritten.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<List<UpsertOutcome>> second = CompletableFuture.supplyAsync(() -> transaction.execute(status ->
+                eventRepository.upsert(List.of(event("EONET_2", "Sturm B", LocalDate.of(2024, 9, 1))))));
+        Thread.sleep(200);
+        releaseFirst.countDown();
+
+        List<UpsertOutcome> inserted = first.get(10, TimeUnit.SECONDS);
+        List<UpsertOutcome> updated = second.get(10, TimeUnit.SECONDS);
+
+        assertThat(inserted.getFirst().inserted()).isTrue();
+        assertThat(updated).hasSize(1);
+        assertThat(updated.getFirst().inserted()).isFalse();
+        assertThat(updated.getFirst().id()).isEqualTo(inserted.getFirst().id());
+        assertThat(countEvents("EONET_2")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM events WHERE external_id = 'EONET_2'", String.class))
+                .isEqualTo("Sturm B");
+    }
+
+    /**
+     * Testet, ob Events aus {@code events_default} in eine neue Jahrespartition verschoben werden,
+     * ohne dass Schlüssel, Verlauf oder das Änderungsprotokoll sie als gelöscht behandeln.
+     */
+    @Test
+    public void whenPartitionIsCreatedForDefaultRows_thenRowsMoveWithKeysAndTracks() {
+        assumeTrue(jdbcTemplate.queryForObject("SELECT to_regclass('events_y1901') IS NULL", Boolean.class));
+        long id = upsert(event("EONET_3", "Vulkanausbruch 1901", LocalDate.of(1901, 5, 8))).getFirst().id();
+        Instant now = Instant.parse("2026-09-01T00:00:00Z");
+        jdbcTemplate.update("INSERT INTO event_tracks (event_id, point_count, first_timestamp, last_timestamp, "
+                + "last_latitude, last_longitude, data, updated_at) VALUES (?, 1, ?, ?, 14.8, -61.2, ?, ?)",
+                id, java.sql.Timestamp.from(now), java.sql.Timestamp.from(now), new byte[] {0}, java.sql.Timestamp.from(now));
+
+        List<String> created = new TransactionTemplate(transactionManager)
+                .execute(status -> eventRepository.ensureYearPartitions(1901, 1901));
+
+        assertThat(created).containsExactly("events_y1901");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM events_y1901 WHERE id = ?", Long.class, id)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM events_default WHERE id = ?", Long.class, id)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_keys WHERE event_id = ?", Long.class, id)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_tracks WHERE event_id = ?", Long.class, id)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM event_deletions WHERE event_id = ?", Long.class, id)).isZero();
+    }
+
+    private List<UpsertOutcome> upsert(Event event) {
+        return new TransactionTemplate(transactionManager).execute(status -> eventRepository.upsert(List.of(event)));
+    }
+
+    private long countEvents(String externalId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM events WHERE source = ? AND external_id = ?",
+                Long.class, SOURCE, externalId);
+    }
+
+    private static Event event(String externalId, String title, LocalDate date) {
+        Event event = new Event(title, date, EventCategory.volcanoes, -61.2, 14.8, EventStatus.open);
+        event.setSource(SOURCE);
+        event.setExternalId(externalId);
+        return event;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
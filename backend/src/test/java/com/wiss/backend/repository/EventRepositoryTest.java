@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
@@ -119,4 +122,57 @@ public class EventRepositoryTest {
         assertThat(result.get(0).getCategory()).isEqualTo(EventCategory.wildfires);
         assertThat(result.get(1).getCategory()).isEqualTo(EventCategory.wildfires);
     }
-}
\ No newline at end of file
+
+    /**
+     * Testet das Abschliessen offener Events per {@code updateStatusByIdIn()} anhand der IDs
+     * aus {@code findIdsByCategoryAndStatusAndDateBefore()}.
+     * <p>
+     *     Erwartung: Nur das alte, offene Flut-Event wird gefunden und abgeschlossen.
+     * </p>
+     */
+    @Test
+    public void whenUpdateStatusByIdIn_thenOnlyStaleOpenEventsAreClosed() {
+        Event stale = entityManager.persist(new Event("Überschwemmung Po-Ebene", LocalDate.of(2023, 5, 20),
+                EventCategory.floods, 11.0, 45.0, EventStatus.open));
+        entityManager.persist(new Event("Überschwemmung Jakarta", LocalDate.now(),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        entityManager.persist(new Event("Vulkanausbruch Island", LocalDate.of(2023, 5, 12),
+                EventCategory.volcanoes, -19.0208, 64.9631, EventStatus.open));
+        entityManager.flush();
+
+        List<Long> ids = eventRepository.findIdsByCategoryAndStatusAndDateBefore(EventCategory.floods,
+                EventStatus.open, LocalDate.now().minusDays(30), 0L, Limit.of(10));
+        int updated = eventRepository.updateStatusByIdIn(ids, EventStatus.open, EventStatus.closed);
+
+        assertThat(ids).isEqualTo(List.of(stale.getId()));
+        assertThat(updated).isEqualTo(1);
+        assertThat(eventRepository.findById(stale.getId()).get().getStatus()).isEqualTo(EventStatus.closed);
+    }
+
+    /**
+     * Testet {@code patch()}: nur die angegebenen Spalten ändern sich, die Version steigt, und eine
+     * veraltete Version schreibt nichts.
+     * <p>
+     *     Erwartung: Der zurückgegebene Stand enthält den neuen Status und alle übrigen Werte unverändert;
+     *     ein zweiter Patch mit der alten Version liefert kein Ergebnis.
+     * </p>
+     */
+    @Test
+    public void whenPatch_thenOnlyGivenColumnsChangeAndVersionIsChecked() {
+        Event event = entityManager.persistAndFlush(new Event("Sturm Nordsee", LocalDate.of(2024, 1, 8),
+                EventCategory.severeStorms, 4.5, 55.0, EventStatus.open));
+        long version = event.getVersion();
+        entityManager.clear();
+
+        Optional<Event> patched = eventRepository.patch(event.getId(), Map.of("status", EventStatus.closed), version);
+        Optional<Event> stale = eventRepository.patch(event.getId(), Map.of("title", "Sturm Ostsee"), version);
+
+        assertThat(patched).isPresent();
+        assertThat(patched.get().getStatus()).isEqualTo(EventStatus.closed);
+        assertThat(patched.get().getTitle()).isEqualTo("Sturm Nordsee");
+        assertThat(patched.get().getDate()).isEqualTo(LocalDate.of(2024, 1, 8));
+        assertThat(patched.get().getVersion()).isEqualTo(version + 1);
+        assertThat(stale).isEmpty();
+        assertThat(eventRepository.findById(event.getId()).get().getTitle()).isEqualTo("Sturm Nordsee");
+    }
+}
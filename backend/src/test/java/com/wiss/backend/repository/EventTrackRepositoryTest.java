@@ -0,0 +1,71 @@
+package com.wiss.backend.repository;
+
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.entity.EventTrack;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h2>
+ *     Integrationstests für {@link EventTrackRepository}
+ * </h2>
+ * <p>
+ *     Diese Tests prüfen die Abfrage der letzten Position gegen eine H2 In-Memory-DB.
+ * </p>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventTrackRepository
+ * @see EventTrack
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+public class EventTrackRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventTrackRepository trackRepository;
+
+    /**
+     * Testet, ob {@code findLatestPosition()} die letzte Position aus deren Spalten liest,
+     * ohne den Verlauf als Entity in den Persistenzkontext zu laden.
+     * <p>
+     *     Erwartung: Zeitpunkt und Koordinaten der letzten Position; leer für ein Event ohne Verlauf.
+     * </p>
+     */
+    @Test
+    public void whenFindLatestPosition_thenOnlyLastPointColumnsAreRead() {
+        Instant last = Instant.parse("2026-09-01T06:00:00Z");
+        EventTrack track = new EventTrack(7L);
+        track.setPointCount(2);
+        track.setFirstTimestamp(last.minusSeconds(3600));
+        track.setLastTimestamp(last);
+        track.setLastLatitude(12.5);
+        track.setLastLongitude(-45.25);
+        track.setData(new byte[] {1, 2, 3});
+        track.setUpdatedAt(last);
+        entityManager.persistAndFlush(track);
+        entityManager.clear();
+
+        Optional<TrackPointDTO> latest = trackRepository.findLatestPosition(7L);
+
+        assertThat(latest).isPresent();
+        assertThat(latest.get().getTimestamp()).isEqualTo(last);
+        assertThat(latest.get().getLatitude()).isEqualTo(12.5);
+        assertThat(latest.get().getLongitude()).isEqualTo(-45.25);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        assertThat(trackRepository.findLatestPosition(8L)).isEmpty();
+    }
+}
@@ -0,0 +1,216 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link ColumnarEventStore}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft Filter- und Zählabfragen über die Bitmap-Indizes (auch über mehrere
+ *     Segmente und den Datumsindex hinweg) sowie das Nachführen nach Änderungen. Die Ergebnisse
+ *     werden mit einer einfachen Filterung der Ausgangsdaten verglichen. Der {@link EventRepository}
+ *     wird als Mock verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link ColumnarEventStore#reload()}</li>
+ *     <li>{@link ColumnarEventStore#find(EventCategory, EventStatus, LocalDate, LocalDate)}</li>
+ *     <li>{@link ColumnarEventStore#count(EventCategory, EventStatus, LocalDate, LocalDate)}</li>
+ *     <li>{@link ColumnarEventStore#onEventsChanged(EventsChangedNotification)}</li>
+ *     <li>{@link ColumnarEventStore#onEventsClosed(EventsClosedNotification)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see ColumnarEventStore
+ */
+@ExtendWith(MockitoExtension.class)
+public class ColumnarEventStoreTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2020, 1, 1);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private ColumnarEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarEventStore(eventRepository, true);
+    }
+
+    /**
+     * Testet, ob Kombinationen aus Kategorie, Status und Zeitraum über mehrere Segmente
+     * dieselben Events liefern wie eine direkte Filterung.
+     */
+    @Test
+    void whenFiltered_thenResultMatchesPlainFilter() {
+        List<Event> events = load(10_000);
+        EventCategory category = EventCategory.wildfires;
+        LocalDate start = FIRST_DAY.plusDays(100);
+        LocalDate end = FIRST_DAY.plusDays(180);
+
+        assertFilter(events, null, null, null, null);
+        assertFilter(events, category, null, null, null);
+        assertFilter(events, null, EventStatus.closed, null, null);
+        assertFilter(events, category, EventStatus.open, null, null);
+        assertFilter(events, null, null, start, end);
+        assertFilter(events, category, EventStatus.closed, start, end);
+        assertFilter(events, null, null, start, start);
+        assertFilter(events, category, null, FIRST_DAY.minusDays(10), FIRST_DAY);
+        assertFilter(events, null, EventStatus.open, end, start);
+    }
+
+    /**
+     * Testet, ob geänderte, gelöschte und abgeschlossene Events nach der Benachrichtigung
+     * gefunden werden und alle Spalten (inkl. Herkunft und Duplikat-Verweis) erhalten bleiben.
+     */
+    @Test
+    void whenEventsChange_thenQueriesSeeNewState() {
+        load(3);
+        List<EventDTO> before = store.find(null, null, null, null);
+
+        Event moved = event(1L, EventCategory.floods, EventStatus.open, FIRST_DAY.plusDays(500));
+        moved.setSource("EONET");
+        moved.setExternalId("EONET_1");
+        moved.setDuplicateOf(3L);
+        store.onEventsChanged(EventsChangedNotification.saved(List.of(
+                moved, event(4L, EventCategory.floods, EventStatus.open, FIRST_DAY))));
+        store.onEventsChanged(EventsChangedNotification.deleted(List.of(2L)));
+        store.onEventsClosed(new EventsClosedNotification(EventCategory.floods, List.of(4L)));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(before));
+        assertEquals(List.of(1L, 3L, 4L), ids(store.find(null, null, null, null)));
+        assertEquals(List.of(1L), ids(store.find(EventCategory.floods, EventStatus.open, null, null)));
+        assertEquals(List.of(4L), ids(store.find(null, EventStatus.closed, FIRST_DAY, FIRST_DAY)));
+        assertEquals(2, store.count(EventCategory.floods, null, null, null));
+        assertEquals(3, store.count(null, null, null, null));
+
+        EventDTO dto = store.find(null, null, FIRST_DAY.plusDays(500), FIRST_DAY.plusDays(500)).get(0);
+        assertEquals("Event 1", dto.getTitle());
+        assertEquals(45.123456789, dto.getLatitude());
+        assertEquals(10.987654321, dto.getLongitude());
+        assertEquals("EONET", dto.getSource());
+        assertEquals("EONET_1", dto.getExternalId());
+        assertEquals(3L, dto.getDuplicateOf());
+        assertNull(store.find(null, null, FIRST_DAY, FIRST_DAY).get(0).getSource());
+    }
+
+    /**
+     * Testet, ob viele Änderungen desselben Events (Kompaktierung und Datumsindex)
+     * den Stand korrekt wiedergeben.
+     */
+    @Test
+    void whenSameEventChangesOften_thenStoreStaysConsistent() {
+        load(10);
+        for (int i = 0; i < 20_000; i++) {
+            EventStatus status = i % 2 == 0 ? EventStatus.closed : EventStatus.open;
+            store.onEventsChanged(EventsChangedNotification.saved(List.of(
+                    event(5L, EventCategory.volcanoes, status, FIRST_DAY.plusDays(i)))));
+        }
+
+        assertEquals(10, store.count(null, null, null, null));
+        assertEquals(List.of(5L), ids(store.find(EventCategory.volcanoes, EventStatus.open,
+                FIRST_DAY.plusDays(19_999), null)));
+        assertTrue(store.find(null, null, FIRST_DAY.plusDays(19_998), FIRST_DAY.plusDays(19_998)).isEmpty());
+    }
+
+    /**
+     * Testet, ob Änderungen, die während des Warmstarts (vor der ersten Version) eintreffen,
+     * nach dem Laden nachgetragen werden.
+     */
+    @Test
+    void whenEventsChangeBeforeLoad_thenChangesAreAppliedAfterLoad() {
+        store.onEventsChanged(EventsChangedNotification.saved(List.of(
+                event(4L, EventCategory.floods, EventStatus.open, FIRST_DAY))));
+        store.onEventsChanged(EventsChangedNotification.deleted(List.of(2L)));
+        store.onEventsClosed(new EventsClosedNotification(EventCategory.floods, List.of(4L)));
+        assertFalse(store.isReady());
+
+        load(3);
+
+        assertEquals(List.of(1L, 3L, 4L), ids(store.find(null, null, null, null)));
+        assertEquals(List.of(4L), ids(store.find(EventCategory.floods, EventStatus.closed, null, null)));
+    }
+
+    /**
+     * Testet, ob ein nicht geladenes Abbild Änderungen ignoriert und Abfragen ablehnt.
+     */
+    @Test
+    void whenDisabled_thenNotLoaded() {
+        store = new ColumnarEventStore(eventRepository, false);
+
+        store.onEventsChanged(EventsChangedNotification.deleted(List.of(1L)));
+
+        assertFalse(store.isReady());
+        assertThrows(IllegalStateException.class, () -> store.count(null, null, null, null));
+        verifyNoInteractions(eventRepository);
+    }
+
+    private List<Event> load(int count) {
+        List<Event> events = new ArrayList<>();
+        LongStream.rangeClosed(1, count).forEach(id -> events.add(event(id,
+                EventCategory.values()[(int) (id % EventCategory.values().length)],
+                id % 3 == 0 ? EventStatus.open : EventStatus.closed,
+                FIRST_DAY.plusDays((id * 37) % 365))));
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            int limit = invocation.<Limit>getArgument(1).max();
+            return events.stream().filter(e -> e.getId() > lastId).limit(limit).toList();
+        });
+        store.reload();
+        return events;
+    }
+
+    private void assertFilter(List<Event> events, EventCategory category, EventStatus status,
+                              LocalDate start, LocalDate end) {
+        Predicate<Event> filter = e -> (category == null || e.getCategory() == category)
+                && (status == null || e.getStatus() == status)
+                && (start == null || !e.getDate().isBefore(start))
+                && (end == null || !e.getDate().isAfter(end));
+        List<Long> expected = events.stream().filter(filter).map(Event::getId).toList();
+
+        assertEquals(expected, ids(store.find(category, status, start, end)));
+        assertEquals(expected.size(), store.count(category, status, start, end));
+    }
+
+    private static Event event(long id, EventCategory category, EventStatus status, LocalDate date) {
+        return new Event(id, "Event " + id, date, category, 10.987654321, 45.123456789, status);
+    }
+
+    private static List<Long> ids(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getId).toList();
+    }
+}
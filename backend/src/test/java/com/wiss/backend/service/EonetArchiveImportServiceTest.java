@@ -0,0 +1,171 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.ImportCheckpoint;
+import com.wiss.backend.repository.ImportCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EonetArchiveImportService}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft das blockweise Einlesen einer GeoJSON-FeatureCollection, die
+ *     Fortschrittsmarken pro Block und das Fortsetzen nach einem Abbruch. {@link EventService}
+ *     und {@link ImportCheckpointRepository} werden als Mocks verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EonetArchiveImportService#importArchive(Path)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetArchiveImportService
+ */
+@ExtendWith(MockitoExtension.class)
+public class EonetArchiveImportServiceTest {
+
+    private static final String ARCHIVE = """
+            {"type":"FeatureCollection","title":"EONET Events","features":[
+            {"type":"Feature","properties":{"id":"A","title":"Fire A","closed":null,"date":"2026-08-01T00:00:00Z","categories":[{"id":"wildfires"}]},"geometry":{"type":"Point","coordinates":[10.0,45.0]}},
+            {"type":"Feature","properties":{"id":"A","title":"Fire A","closed":null,"date":"2026-08-03T00:00:00Z","categories":[{"id":"wildfires"}]},"geometry":{"type":"Point","coordinates":[11.0,46.0]}},
+            {"type":"Feature","properties":{"id":"B","title":"Storm B","closed":null,"date":"2026-08-02T00:00:00Z","categories":[{"id":"severeStorms"}]},"geometry":{"type":"Point","coordinates":[20.0,95.0]}},
+            {"type":"Feature","properties":{"id":"C","title":"Flood C","closed":"2026-09-01T00:00:00Z","date":"2026-08-04T00:00:00Z","categories":[{"id":"floods"}]},"geometry":{"type":"Polygon","coordinates":[[[30.0,10.0],[31.0,11.0],[30.0,10.0]]]}},
+            {"type":"Feature","properties":{"id":"D","title":"Volcano D","closed":null,"date":"2026-08-05T00:00:00Z","categories":[{"id":"volcanoes"}]},"geometry":{"type":"Point","coordinates":[15.0,37.7]}}
+            ]}
+            """;
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventTrackService trackService;
+
+    @Mock
+    private ImportCheckpointRepository checkpointRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EonetArchiveImportService importService;
+    private Path archive;
+    private final List<Long> savedOffsets = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        importService = new EonetArchiveImportService(eventService, trackService, checkpointRepository,
+                new TransactionTemplate(transactionManager), new ObjectMapper(), 2);
+        archive = tempDir.resolve("eonet.geojson");
+        Files.writeString(archive, ARCHIVE, StandardCharsets.UTF_8);
+        when(checkpointRepository.save(any(ImportCheckpoint.class))).thenAnswer(invocation -> {
+            ImportCheckpoint checkpoint = invocation.getArgument(0);
+            savedOffsets.add(checkpoint.getByteOffset());
+            return checkpoint;
+        });
+    }
+
+    /**
+     * Testet, ob gültige Features blockweise gespeichert, Features desselben Events zusammengefasst,
+     * deren Positionen als Verlauf übernommen, ungültige Koordinaten abgelehnt und nach jedem Block
+     * Fortschrittsmarken geschrieben werden. Gemäss Duplikat-Richtlinie zusammengeführte Events werden gezählt.
+     */
+    @Test
+    void whenImportArchive_thenFeaturesAreWrittenInBatchesWithCheckpoints() throws IOException {
+        when(checkpointRepository.findById(any())).thenReturn(Optional.empty());
+        when(eventService.upsertEvents(any())).thenReturn(new UpsertResultDTO(2, 0, 0),
+                new UpsertResultDTO(0, 0, 0, 1, List.of()));
+
+        EonetArchiveImportService.ArchiveImportSummary summary = importService.importArchive(archive);
+
+        assertEquals(5, summary.features());
+        assertEquals(4, summary.imported());
+        assertEquals(1, summary.rejected());
+        assertEquals(1, summary.duplicates());
+        assertEquals(List.of((long) featureOffset(4), Files.size(archive)), savedOffsets);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventDTO>> batches = ArgumentCaptor.forClass(List.class);
+        verify(eventService, times(2)).upsertEvents(batches.capture());
+        List<EventDTO> first = batches.getAllValues().getFirst();
+        assertEquals(List.of("A", "C"), first.stream().map(EventDTO::getExternalId).toList());
+        assertEquals(LocalDate.of(2026, 8, 1), first.getFirst().getDate());
+        assertEquals(11.0, first.getFirst().getLongitude());
+        assertEquals(30.0, first.get(1).getLongitude());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, List<TrackPointDTO>>> tracks = ArgumentCaptor.forClass(Map.class);
+        verify(trackService, times(2)).mergeTracks(eq("EONET"), tracks.capture());
+        List<TrackPointDTO> trackA = tracks.getAllValues().getFirst().get("A");
+        assertEquals(List.of(10.0, 11.0), trackA.stream().map(TrackPointDTO::getLongitude).toList());
+    }
+
+    /**
+     * Testet, ob ein abgebrochener Import an der gespeicherten Byte-Position fortgesetzt wird.
+     */
+    @Test
+    void whenCheckpointExists_thenImportResumesAtOffset() throws IOException {
+        ImportCheckpoint checkpoint = new ImportCheckpoint(archive.toAbsolutePath().normalize().toString(),
+                Files.size(archive), Files.getLastModifiedTime(archive).toInstant().truncatedTo(ChronoUnit.MILLIS));
+        checkpoint.setByteOffset(featureOffset(3));
+        checkpoint.setImportedRows(2);
+        when(checkpointRepository.findById(any())).thenReturn(Optional.of(checkpoint));
+        when(eventService.upsertEvents(any())).thenReturn(new UpsertResultDTO(2, 0, 0));
+
+        EonetArchiveImportService.ArchiveImportSummary summary = importService.importArchive(archive);
+
+        assertEquals(2, summary.features());
+        assertEquals(4, checkpoint.getImportedRows());
+        assertEquals(List.of(Files.size(archive)), savedOffsets);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventDTO>> batch = ArgumentCaptor.forClass(List.class);
+        verify(eventService).upsertEvents(batch.capture());
+        assertEquals(List.of("C", "D"), batch.getValue().stream().map(EventDTO::getExternalId).toList());
+    }
+
+    /**
+     * Gibt die Byte-Position des n-ten Features (ab 0) in {@link #ARCHIVE} zurück.
+     */
+    private static int featureOffset(int index) {
+        int offset = -1;
+        for (int i = 0; i <= index; i++) {
+            offset = ARCHIVE.indexOf("{\"type\":\"Feature\",", offset + 1);
+        }
+        return offset;
+    }
+}
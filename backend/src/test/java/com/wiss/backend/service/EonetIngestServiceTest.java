@@ -0,0 +1,167 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import com.wiss.backend.config.EonetIngestProperties;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.IngestWatermark;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.IngestWatermarkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EonetIngestService}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft den Abruf, das Streaming-Parsing und das Speichern von EONET-Events.
+ *     Statt der NASA-API antwortet ein lokaler {@link HttpServer}; {@link EventService} und
+ *     {@link IngestWatermarkRepository} werden als Mocks verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EonetIngestService#ingest()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EonetIngestService
+ * @see EonetFeedParser
+ */
+@ExtendWith(MockitoExtension.class)
+public class EonetIngestServiceTest {
+
+    private static final String WILDFIRES_FEED = """
+            {"title":"EONET Events","events":[
+              {"id":"EONET_1","title":"Wildfire A","description":null,"closed":"2026-09-20T00:00:00Z",
+               "categories":[{"id":"wildfires","title":"Wildfires"}],"sources":[{"id":"InciWeb","url":"x"}],
+               "geometry":[
+                 {"magnitudeValue":null,"date":"2026-09-10T12:00:00Z","type":"Point","coordinates":[-120.5,38.25]},
+                 {"magnitudeValue":null,"date":"2026-09-12T12:00:00Z","type":"Polygon","coordinates":[[[-121.0,39.0],[-121.5,39.5],[-121.0,39.0]]]}
+               ]},
+              {"id":"EONET_2","title":"Heatwave","closed":null,
+               "categories":[{"id":"tempExtremes","title":"Temperature Extremes"}],
+               "geometry":[{"date":"2026-09-15T00:00:00Z","type":"Point","coordinates":[10.0,45.0]}]}
+            ]}
+            """;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventTrackService trackService;
+
+    @Mock
+    private IngestWatermarkRepository watermarkRepository;
+
+    private HttpServer server;
+    private final List<String> queries = Collections.synchronizedList(new ArrayList<>());
+    private EonetIngestService ingestService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v3/events", exchange -> {
+            String query = exchange.getRequestURI().getQuery();
+            queries.add(query);
+            byte[] body = WILDFIRES_FEED.getBytes(StandardCharsets.UTF_8);
+            int status = query.contains("category=wildfires") ? 200 : 503;
+            exchange.sendResponseHeaders(status, status == 200 ? body.length : -1);
+            if (status == 200) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+
+        EonetIngestProperties properties = new EonetIngestProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort() + "/api/v3");
+        properties.setCategories(List.of("wildfires", "volcanoes"));
+        properties.setQueueCapacity(1);
+        properties.setBatchSize(1);
+        ingestService = new EonetIngestService(eventService, trackService, watermarkRepository, properties, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Testet, ob gültige Events abgebildet und mit ihrem Verlauf gespeichert, nicht abbildbare
+     * Kategorien übersprungen und nur für erfolgreich abgerufene Kategorien Fortschrittsmarken gespeichert werden.
+     */
+    @Test
+    void whenIngest_thenEventsAreMappedAndWatermarkAdvancedForSuccessfulCategories() {
+        when(watermarkRepository.findAllById(any())).thenReturn(List.of(
+                new IngestWatermark("eonet:wildfires", LocalDate.of(2026, 10, 1), Instant.now())));
+        when(eventService.upsertEvents(any())).thenReturn(new UpsertResultDTO(1, 0, 0));
+
+        EonetIngestService.IngestSummary summary = ingestService.ingest();
+
+        assertEquals(2, summary.fetched());
+        assertEquals(1, summary.rejected());
+        assertEquals(1, summary.inserted());
+        assertEquals(Set.of("volcanoes"), summary.failedCategories());
+        assertTrue(queries.stream().anyMatch(q -> q.contains("category=wildfires") && q.contains("start=2026-09-30")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EventDTO>> batch = ArgumentCaptor.forClass(List.class);
+        verify(eventService).upsertEvents(batch.capture());
+        EventDTO event = batch.getValue().getFirst();
+        assertEquals("EONET", event.getSource());
+        assertEquals("EONET_1", event.getExternalId());
+        assertEquals(EventCategory.wildfires, event.getCategory());
+        assertEquals(EventStatus.closed, event.getStatus());
+        assertEquals(LocalDate.of(2026, 9, 10), event.getDate());
+        assertEquals(-121.0, event.getLongitude());
+        assertEquals(39.0, event.getLatitude());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, List<TrackPointDTO>>> tracks = ArgumentCaptor.forClass(Map.class);
+        verify(trackService).mergeTracks(eq("EONET"), tracks.capture());
+        List<TrackPointDTO> track = tracks.getValue().get("EONET_1");
+        assertEquals(2, track.size());
+        assertEquals(Instant.parse("2026-09-10T12:00:00Z"), track.getFirst().getTimestamp());
+        assertEquals(38.25, track.getFirst().getLatitude());
+        assertEquals(-121.0, track.get(1).getLongitude());
+
+        ArgumentCaptor<IngestWatermark> watermark = ArgumentCaptor.forClass(IngestWatermark.class);
+        verify(watermarkRepository, times(1)).save(watermark.capture());
+        assertEquals("eonet:wildfires", watermark.getValue().getFeed());
+    }
+}
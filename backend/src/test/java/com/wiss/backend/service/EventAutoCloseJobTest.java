@@ -0,0 +1,116 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.config.AutoCloseProperties;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventAutoCloseJob}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft, dass der Job ohne ausdrückliche Aktivierung nichts tut und veraltete
+ *     offene Events blockweise mit einem {@code UPDATE} pro Block abschliesst.
+ *     Die {@link TransactionTemplate} führt jeden Block direkt aus.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventAutoCloseJob#scheduledRun()}</li>
+ *     <li>{@link EventAutoCloseJob#closeStaleEvents()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventAutoCloseJob
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventAutoCloseJobTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AutoCloseProperties properties;
+    private EventAutoCloseJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AutoCloseProperties();
+        properties.setBatchSize(2);
+        properties.getMaxAgeDays().put(EventCategory.floods, 30);
+        job = new EventAutoCloseJob(eventRepository, transactionTemplate, eventPublisher, properties);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    /**
+     * Testet, ob der geplante Durchlauf ohne {@code events.auto-close.enabled=true} nichts liest oder schreibt.
+     */
+    @Test
+    void whenJobIsNotEnabled_thenScheduledRunDoesNothing() {
+        job.scheduledRun();
+
+        verifyNoInteractions(eventRepository, transactionTemplate, eventPublisher);
+    }
+
+    /**
+     * Testet, ob veraltete offene Events blockweise abgeschlossen und gemeldet werden.
+     * <p>
+     *     Erwartung: Bei Blockgrösse 2 und drei veralteten Events werden zwei Blöcke mit je einem
+     *     {@code UPDATE} abgeschlossen; der zweite Block liest nach der letzten ID des ersten weiter.
+     * </p>
+     */
+    @Test
+    void whenJobIsEnabled_thenStaleEventsAreClosedInBatches() {
+        properties.setEnabled(true);
+        LocalDate before = LocalDate.now().minusDays(30);
+        when(eventRepository.findIdsByCategoryAndStatusAndDateBefore(
+                eq(EventCategory.floods), eq(EventStatus.open), eq(before), eq(0L), any(Limit.class)))
+                .thenReturn(List.of(3L, 7L));
+        when(eventRepository.findIdsByCategoryAndStatusAndDateBefore(
+                eq(EventCategory.floods), eq(EventStatus.open), eq(before), eq(7L), any(Limit.class)))
+                .thenReturn(List.of(9L));
+        when(eventRepository.updateStatusByIdIn(any(), eq(EventStatus.open), eq(EventStatus.closed)))
+                .thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        job.scheduledRun();
+
+        verify(eventRepository).updateStatusByIdIn(List.of(3L, 7L), EventStatus.open, EventStatus.closed);
+        verify(eventRepository).updateStatusByIdIn(List.of(9L), EventStatus.open, EventStatus.closed);
+        verify(eventRepository, times(2)).findIdsByCategoryAndStatusAndDateBefore(
+                any(), any(), any(), anyLong(), any(Limit.class));
+        ArgumentCaptor<EventsClosedNotification> captor = ArgumentCaptor.forClass(EventsClosedNotification.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertEquals(List.of(9L), captor.getValue().getEventIds());
+    }
+}
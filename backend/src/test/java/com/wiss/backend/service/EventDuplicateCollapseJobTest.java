@@ -0,0 +1,117 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventDuplicateCollapseJob}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft, dass Duplikate nur mit ihrer gelesenen Version gelöscht werden und
+ *     Verweise auf gelöschte Duplikate in derselben Transaktion auf das verbleibende Original zeigen.
+ *     Der {@link EventDuplicateDetector} arbeitet echt, die {@link TransactionTemplate} führt jeden
+ *     Block direkt aus.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventDuplicateCollapseJob#collapseDuplicates()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventDuplicateCollapseJob
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventDuplicateCollapseJobTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventDuplicateDetector duplicateDetector;
+    private EventDuplicateCollapseJob job;
+
+    @BeforeEach
+    void setUp() {
+        duplicateDetector = new EventDuplicateDetector(eventRepository, EventDuplicateDetector.Policy.FLAG, 0.1, 3);
+        job = new EventDuplicateCollapseJob(eventRepository, duplicateDetector, eventPublisher, transactionTemplate,
+                true, 500);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    /**
+     * Testet das Zusammenführen einer Kette von Duplikaten innerhalb eines Blocks.
+     * <p>
+     *     Erwartung: Event 2 ist Duplikat von 1, Event 3 nur von 2 (zu weit von 1 entfernt), Event 4
+     *     wurde seither geändert. Gelöscht werden 2 und 3; Event 50, das auf 3 verweist, zeigt danach
+     *     auf das verbleibende Original 1, und nur dieses wird abgeschlossen. Event 4 bleibt im Index.
+     * </p>
+     */
+    @Test
+    void whenDuplicatesAreCollapsed_thenReferencesPointToSurvivingOriginal() {
+        Event original = event(1L, 45.00, EventStatus.open);
+        Event near = event(2L, 45.08, EventStatus.open);
+        Event chained = event(3L, 45.16, EventStatus.closed);
+        Event changed = event(4L, 45.00, EventStatus.open);
+        List.of(original, near, chained, changed).forEach(duplicateDetector::register);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class)))
+                .thenReturn(List.of(original, near, chained, changed));
+        when(eventRepository.deleteByIdAndVersion(2L, 0L)).thenReturn(1);
+        when(eventRepository.deleteByIdAndVersion(3L, 0L)).thenReturn(1);
+        when(eventRepository.deleteByIdAndVersion(4L, 0L)).thenReturn(0);
+        Event marked = new Event(50L, "Sturm", LocalDate.of(2024, 1, 1), EventCategory.severeStorms, 0.0, 0.0, EventStatus.open);
+        marked.setDuplicateOf(3L);
+        when(eventRepository.findByDuplicateOfInOrderByIdAsc(List.of(2L, 3L))).thenReturn(List.of(marked));
+        when(eventRepository.findAllById(any())).thenReturn(List.of(original));
+        when(eventRepository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.<Collection<Event>>getArgument(0)));
+
+        int removed = job.collapseDuplicates();
+
+        assertEquals(2, removed);
+        assertEquals(1L, marked.getDuplicateOf());
+        assertEquals(EventStatus.closed, original.getStatus());
+        verify(eventRepository).findAllById(argThat(ids -> ids.iterator().next() == 1L));
+        verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(notification -> notification instanceof EventsChangedNotification changes
+                && changes.getDeletedIds().equals(List.of(2L, 3L))));
+        assertEquals(2, duplicateDetector.size());
+        assertEquals(Optional.of(1L), duplicateDetector.findDuplicate(event(9L, 45.00, EventStatus.open)));
+    }
+
+    private static Event event(long id, double latitude, EventStatus status) {
+        return new Event(id, "Waldbrand Tessin", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 8.9, latitude, status);
+    }
+}
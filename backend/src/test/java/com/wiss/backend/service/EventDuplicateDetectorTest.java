@@ -0,0 +1,181 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventDuplicateDetector}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft die Erkennung nahezu identischer Events über den In-Memory-Index.
+ *     Der {@link EventRepository} wird als Mock verwendet, da der Index direkt befüllt wird.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventDuplicateDetector#findDuplicate(Event)}</li>
+ *     <li>{@link EventDuplicateDetector#register(Event)}</li>
+ *     <li>{@link EventDuplicateDetector#unregister(Long)}</li>
+ *     <li>{@link EventDuplicateDetector#rebuild()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventDuplicateDetector
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventDuplicateDetectorTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventDuplicateDetector duplicateDetector;
+
+    @BeforeEach
+    void setUp() {
+        duplicateDetector = new EventDuplicateDetector(eventRepository, EventDuplicateDetector.Policy.MERGE, 0.1, 3);
+        duplicateDetector.register(new Event(1L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+    }
+
+    /**
+     * Testet, ob ein Event mit leicht abweichendem Titel, Standort und Datum als Duplikat erkannt wird.
+     */
+    @Test
+    void whenNearDuplicate_thenOriginalIsFound() {
+        Event candidate = new Event("FLOODS in  Jakarta!", LocalDate.of(2025, 7, 18),
+                EventCategory.floods, 106.86, -6.2, EventStatus.open);
+
+        Optional<Long> result = duplicateDetector.findDuplicate(candidate);
+
+        assertEquals(Optional.of(1L), result);
+    }
+
+    /**
+     * Testet, ob Events mit anderer Kategorie, anderem Ort oder ausserhalb des Zeitfensters nicht als Duplikat gelten.
+     */
+    @Test
+    void whenDifferentKeyAttributes_thenNoDuplicate() {
+        Event otherCategory = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.landslides, 106.85, -6.21, EventStatus.open);
+        Event otherLocation = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 107.5, -6.21, EventStatus.open);
+        Event otherDate = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 25),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+
+        assertTrue(duplicateDetector.findDuplicate(otherCategory).isEmpty());
+        assertTrue(duplicateDetector.findDuplicate(otherLocation).isEmpty());
+        assertTrue(duplicateDetector.findDuplicate(otherDate).isEmpty());
+    }
+
+    /**
+     * Testet, ob ein Event nach dem Entfernen aus dem Index nicht mehr als Original gefunden wird
+     * und ein Event nicht als Duplikat von sich selbst gilt.
+     */
+    @Test
+    void whenUnregisteredOrSameId_thenNoDuplicate() {
+        Event self = new Event(1L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+        assertTrue(duplicateDetector.findDuplicate(self).isEmpty());
+
+        duplicateDetector.unregister(1L);
+        Event candidate = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+
+        assertTrue(duplicateDetector.findDuplicate(candidate).isEmpty());
+        assertEquals(0, duplicateDetector.size());
+    }
+
+    /**
+     * Testet, ob nach dem Entfernen des Originals das nächstältere Event mit gleichem Schlüssel nachrückt.
+     */
+    @Test
+    void whenOriginalIsUnregistered_thenNextEventBecomesOriginal() {
+        duplicateDetector.register(new Event(5L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        duplicateDetector.register(new Event(3L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        Event candidate = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+        assertEquals(Optional.of(1L), duplicateDetector.findDuplicate(candidate));
+
+        duplicateDetector.unregister(1L);
+
+        assertEquals(Optional.of(3L), duplicateDetector.findDuplicate(candidate));
+        assertEquals(2, duplicateDetector.size());
+    }
+
+    /**
+     * Testet, ob nur ältere Events als Original gelten und von mehreren Treffern in benachbarten
+     * Buckets das älteste gewählt wird.
+     * <p>
+     *     Erwartung: Das Original (ID 1) gilt nicht als Duplikat seiner Kopie (ID 2); ein neues Event
+     *     zeigt auf ID 4, obwohl ID 9 in einem zuerst durchsuchten Nachbar-Bucket liegt.
+     * </p>
+     */
+    @Test
+    void whenSeveralEventsMatch_thenOldestOlderEventIsOriginal() {
+        duplicateDetector.register(new Event(2L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        Event original = new Event(1L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+        Event copy = new Event(2L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+        assertTrue(duplicateDetector.findDuplicate(original).isEmpty());
+        assertEquals(Optional.of(1L), duplicateDetector.findDuplicate(copy));
+
+        duplicateDetector.unregister(1L);
+        duplicateDetector.unregister(2L);
+        duplicateDetector.register(new Event(9L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        duplicateDetector.register(new Event(4L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.19, EventStatus.open));
+        Event candidate = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.2, EventStatus.open);
+
+        assertEquals(Optional.of(4L), duplicateDetector.findDuplicate(candidate));
+    }
+
+    /**
+     * Testet, ob der bisherige Index während eines Neuaufbaus weiter Treffer liefert und erst
+     * danach durch den neuen ersetzt wird.
+     */
+    @Test
+    void whenIndexIsRebuilt_thenPreviousIndexAnswersUntilRebuildCompletes() {
+        Event candidate = new Event("Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                EventCategory.floods, 106.85, -6.21, EventStatus.open);
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            assertEquals(Optional.of(1L), duplicateDetector.findDuplicate(candidate));
+            return List.of(new Event(5L, "Floods in Jakarta", LocalDate.of(2025, 7, 17),
+                    EventCategory.floods, 106.85, -6.21, EventStatus.open));
+        });
+
+        duplicateDetector.rebuild();
+
+        assertEquals(Optional.of(5L), duplicateDetector.findDuplicate(candidate));
+        assertEquals(1, duplicateDetector.size());
+    }
+}
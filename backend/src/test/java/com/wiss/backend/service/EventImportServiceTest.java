@@ -0,0 +1,272 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.ImportResultDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventImportService}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft das Einlesen von CSV- und NDJSON-Dateien sowie den Fehlerbericht pro Zeile.
+ *     Der {@link EventRepository} wird als Mock ohne {@code COPY}-Unterstützung verwendet,
+ *     sodass der JPA-Fallback ({@code persist}) aufgerufen wird. Der {@link EventDuplicateDetector}
+ *     arbeitet echt, damit die Duplikat-Richtlinie pro Zeile geprüft werden kann.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventImportService#importEvents(InputStream, EventImportService.Format)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventImportService
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventImportServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = newImportService(new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.FLAG, 0.1, 3), 1);
+        lenient().when(eventRepository.isPostgreSql()).thenReturn(false);
+    }
+
+    /**
+     * Testet, ob gültige CSV-Zeilen (auch mit Anführungszeichen und Kommas im Titel) importiert
+     * und ungültige Zeilen mit Zeilennummer gemeldet werden.
+     */
+    @Test
+    void whenCsvWithInvalidRows_thenValidRowsImportedAndErrorsReported() {
+        String csv = """
+                status,title,date,category,longitude,latitude
+                open,"Floods in Jakarta, Indonesia",2025-07-17,floods,106.85,-6.21
+
+                open,Unknown,2025-07-17,meteor,1.0,1.0
+                closed,Fire,2025-06-15,wildfires,-118.25,95.0
+                """;
+
+        ImportResultDTO result = importService.importEvents(stream(csv), EventImportService.Format.CSV);
+
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(eventRepository).persist(captor.capture());
+        assertEquals("Floods in Jakarta, Indonesia", captor.getValue().getTitle());
+        assertEquals(EventCategory.floods, captor.getValue().getCategory());
+
+        assertEquals(3, result.getTotalRows());
+        assertEquals(1, result.getImportedRows());
+        assertEquals(2, result.getRejectedRows());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(4, result.getErrors().getFirst().getLine());
+        assertTrue(result.isErrorsTruncated());
+    }
+
+    /**
+     * Testet, ob NDJSON-Zeilen eingelesen und fehlerhafte JSON-Zeilen gemeldet werden.
+     */
+    @Test
+    void whenNdjson_thenEachLineIsImported() {
+        String ndjson = """
+                {"title":"Volcano Etna","date":"2024-03-01","category":"volcanoes","longitude":15.0,"latitude":37.7,"status":"open"}
+                {"title":
+                """;
+
+        ImportResultDTO result = importService.importEvents(stream(ndjson), EventImportService.Format.NDJSON);
+
+        verify(eventRepository, times(1)).persist(any(Event.class));
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1, result.getRejectedRows());
+        assertEquals(2, result.getErrors().getFirst().getLine());
+    }
+
+    /**
+     * Testet, ob ein nicht geschlossenes Anführungszeichen nur den betroffenen Datensatz ablehnt.
+     * <p>
+     *     Erwartung: Zeile 2 wird mit ihrer Zeilennummer gemeldet; die folgenden Zeilen werden
+     *     wieder als eigene Datensätze gelesen und importiert.
+     * </p>
+     */
+    @Test
+    void whenCsvQuoteIsNotClosed_thenOnlyThatRecordIsRejected() {
+        String csv = """
+                title,date,category,longitude,latitude,status
+                "Floods in Jakarta,2025-07-17,floods,106.85,-6.21,open
+                Volcano Etna,2024-03-01,volcanoes,15.0,37.7,open
+                Fire,2025-06-15,wildfires,-118.25,34.05,closed
+                """;
+
+        ImportResultDTO result = importService.importEvents(stream(csv), EventImportService.Format.CSV);
+
+        verify(eventRepository, times(2)).persist(any(Event.class));
+        assertEquals(3, result.getTotalRows());
+        assertEquals(2, result.getImportedRows());
+        assertEquals(1, result.getRejectedRows());
+        assertEquals(2, result.getErrors().getFirst().getLine());
+    }
+
+    /**
+     * Testet, ob Events mit natürlichem Schlüssel über den Abgleich statt über {@code COPY} geschrieben werden.
+     * <p>
+     *     Erwartung: Die Zeile mit {@code source}/{@code external_id} geht an
+     *     {@link EventService#upsertEvents(List)}, nur die Zeile ohne Schlüssel wird direkt gespeichert;
+     *     eine Zeile mit nur einem der beiden Werte wird abgelehnt.
+     * </p>
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void whenCsvRowHasNaturalKey_thenItIsUpserted() {
+        String csv = """
+                title,date,category,longitude,latitude,status,source,external_id
+                Volcano Etna,2024-03-01,volcanoes,15.0,37.7,open,EONET,EONET_6543
+                Fire,2025-06-15,wildfires,-118.25,34.05,closed,,
+                Flood,2025-06-15,floods,-118.25,34.05,open,EONET,
+                """;
+        when(eventService.upsertEvents(anyList())).thenReturn(new UpsertResultDTO(0, 1, 0));
+
+        ImportResultDTO result = importService.importEvents(stream(csv), EventImportService.Format.CSV);
+
+        ArgumentCaptor<List<EventDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventService).upsertEvents(captor.capture());
+        assertEquals("EONET_6543", captor.getValue().getFirst().getExternalId());
+        verify(eventRepository, times(1)).persist(any(Event.class));
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1, result.getUpdatedRows());
+        assertEquals(1, result.getRejectedRows());
+        assertEquals(4, result.getErrors().getFirst().getLine());
+    }
+
+    /**
+     * Testet, ob eine CSV-Datei ohne benötigte Spalte vollständig abgelehnt wird.
+     */
+    @Test
+    void whenCsvHeaderIncomplete_thenThrowsException() {
+        InputStream csv = stream("title,date\nFire,2024-01-01\n");
+
+        assertThrows(InvalidEventDataException.class,
+                () -> importService.importEvents(csv, EventImportService.Format.CSV));
+        verify(eventRepository, never()).persist(any(Event.class));
+    }
+
+    /**
+     * Testet, ob eine Zeile, die einem bestehenden Event entspricht, unter {@code REJECT} nicht
+     * gespeichert und mit Zeilennummer und Original gemeldet wird.
+     */
+    @Test
+    void whenRowDuplicatesStoredEventUnderReject_thenItIsReportedAndNotWritten() {
+        EventDuplicateDetector duplicateDetector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.REJECT, 0.1, 3);
+        duplicateDetector.register(new Event(7L, "Volcano Etna", LocalDate.of(2024, 3, 1), EventCategory.volcanoes,
+                15.0, 37.7, EventStatus.open));
+        importService = newImportService(duplicateDetector, 10);
+        String csv = """
+                title,date,category,longitude,latitude,status
+                Fire,2025-06-15,wildfires,-118.25,34.05,closed
+                Volcano Etna,2024-03-02,volcanoes,15.01,37.7,open
+                """;
+
+        ImportResultDTO result = importService.importEvents(stream(csv), EventImportService.Format.CSV);
+
+        verify(eventRepository, times(1)).persist(argThat(event -> "Fire".equals(event.getTitle())));
+        assertEquals(1, result.getImportedRows());
+        assertEquals(1, result.getRejectedRows());
+        assertEquals(1, result.getDuplicateRows());
+        assertEquals(3, result.getDuplicates().getFirst().getLine());
+        assertEquals(7L, result.getDuplicates().getFirst().getDuplicateOf());
+        assertEquals("REJECT", result.getDuplicates().getFirst().getPolicy());
+    }
+
+    /**
+     * Testet, ob eine Zeile, die einer früheren Zeile derselben Datei entspricht, unter {@code FLAG}
+     * nach den übrigen Zeilen mit der ID dieses Originals gespeichert wird.
+     * <p>
+     *     Erwartung: Nach dem Import sind nur die eingefügten Events im Duplikat-Index eingetragen
+     *     und werden ohne vollständiges Neuladen gemeldet.
+     * </p>
+     */
+    @Test
+    void whenRowDuplicatesEarlierRowUnderFlag_thenItIsWrittenLastWithDuplicateOf() {
+        EventDuplicateDetector duplicateDetector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.FLAG, 0.1, 3);
+        importService = newImportService(duplicateDetector, 10);
+        AtomicLong ids = new AtomicLong(100);
+        List<Event> persisted = new ArrayList<>();
+        doAnswer(invocation -> {
+            Event event = invocation.getArgument(0);
+            event.setId(ids.incrementAndGet());
+            persisted.add(event);
+            return null;
+        }).when(eventRepository).persist(any(Event.class));
+        String csv = """
+                title,date,category,longitude,latitude,status
+                Volcano Etna,2024-03-01,volcanoes,15.0,37.7,open
+                Volcano Etna,2024-03-02,volcanoes,15.01,37.7,open
+                Fire,2025-06-15,wildfires,-118.25,34.05,closed
+                """;
+
+        ImportResultDTO result = importService.importEvents(stream(csv), EventImportService.Format.CSV);
+
+        assertEquals(List.of("Volcano Etna", "Fire", "Volcano Etna"), persisted.stream().map(Event::getTitle).toList());
+        assertEquals(101L, persisted.get(2).getDuplicateOf());
+        assertEquals(3, result.getImportedRows());
+        assertEquals(1, result.getDuplicateRows());
+        assertEquals(3, result.getDuplicates().getFirst().getLine());
+        assertEquals(3, duplicateDetector.size());
+        verify(eventPublisher).publishEvent(ArgumentMatchers.<Object>argThat(notification ->
+                notification instanceof EventsChangedNotification changes
+                        && !changes.isReloadRequired() && changes.getSavedEvents().size() == 3));
+    }
+
+    private EventImportService newImportService(EventDuplicateDetector duplicateDetector, int maxReportedErrors) {
+        return new EventImportService(eventRepository, eventService, duplicateDetector, eventPublisher,
+                new ObjectMapper().findAndRegisterModules(), 1000, maxReportedErrors);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
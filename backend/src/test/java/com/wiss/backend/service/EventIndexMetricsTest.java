@@ -0,0 +1,63 @@
+package com.wiss.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für {@link EventIndexMetrics}
+ * </h2>
+ * <p>
+ *     Prüft, dass Grösse und Lesezugriffe beider Arbeitsspeicher-Indizes mit dem Tag {@code index}
+ *     registriert werden und ein noch nicht geladener Index als {@code NaN} erscheint.
+ *     {@link OpenEventCache} und {@link ColumnarEventStore} werden als Mock verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventIndexMetrics#bindTo(io.micrometer.core.instrument.MeterRegistry)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventIndexMetrics
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventIndexMetricsTest {
+
+    @Mock
+    private OpenEventCache openEvents;
+
+    @Mock
+    private ColumnarEventStore columnarStore;
+
+    /**
+     * Testet die Werte der Gauges und Zähler beim Abruf der Metriken.
+     */
+    @Test
+    void whenMetricsAreRead_thenReportSizeAndReadsPerIndex() {
+        when(openEvents.isLoaded()).thenReturn(true);
+        when(openEvents.size()).thenReturn(12);
+        when(openEvents.getReadCount()).thenReturn(40L);
+        when(columnarStore.isReady()).thenReturn(false);
+        when(columnarStore.getReadCount()).thenReturn(0L);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new EventIndexMetrics(openEvents, columnarStore).bindTo(registry);
+
+        assertEquals(12.0, registry.get("events.index.size").tag("index", "open").gauge().value());
+        assertTrue(Double.isNaN(registry.get("events.index.size").tag("index", "columnar").gauge().value()));
+        assertEquals(40.0, registry.get("events.index.reads").tag("index", "open").functionCounter().count());
+        assertEquals(0.0, registry.get("events.index.reads").tag("index", "columnar").functionCounter().count());
+    }
+}
@@ -0,0 +1,102 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventPartitionMaintenanceJob}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft, für welche Jahre der Job Partitionen anlegen lässt, dass er ohne
+ *     PostgreSQL nichts tut und dass ein ausgeschalteter Job keine Transaktion öffnet.
+ *     Die {@link TransactionTemplate} führt den Durchlauf direkt aus.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventPartitionMaintenanceJob#scheduledRun()}</li>
+ *     <li>{@link EventPartitionMaintenanceJob#ensurePartitions()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventPartitionMaintenanceJob
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventPartitionMaintenanceJobTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final int currentYear = LocalDate.now(ZoneOffset.UTC).getYear();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    /**
+     * Testet, ob unter PostgreSQL Partitionen vom laufenden Jahr bis {@code years-ahead} Jahre voraus angelegt werden.
+     */
+    @Test
+    void whenPostgreSql_thenPartitionsAreEnsuredAhead() {
+        EventPartitionMaintenanceJob job = new EventPartitionMaintenanceJob(eventRepository, transactionTemplate, true, 2);
+        when(eventRepository.isPostgreSql()).thenReturn(true);
+        String next = "events_y" + (currentYear + 2);
+        when(eventRepository.ensureYearPartitions(currentYear, currentYear + 2)).thenReturn(List.of(next));
+
+        job.scheduledRun();
+
+        verify(eventRepository).ensureYearPartitions(currentYear, currentYear + 2);
+        assertEquals(List.of(next), job.ensurePartitions());
+    }
+
+    /**
+     * Testet, ob der Job ohne PostgreSQL (nicht partitionierte Tabelle) nichts anlegt.
+     */
+    @Test
+    void whenNotPostgreSql_thenNothingIsCreated() {
+        EventPartitionMaintenanceJob job = new EventPartitionMaintenanceJob(eventRepository, transactionTemplate, true, 1);
+        when(eventRepository.isPostgreSql()).thenReturn(false);
+
+        assertTrue(job.ensurePartitions().isEmpty());
+        verify(eventRepository, never()).ensureYearPartitions(anyInt(), anyInt());
+    }
+
+    /**
+     * Testet, ob der geplante Durchlauf mit {@code events.partitions.enabled=false} nichts tut.
+     */
+    @Test
+    void whenJobIsDisabled_thenScheduledRunDoesNothing() {
+        EventPartitionMaintenanceJob job = new EventPartitionMaintenanceJob(eventRepository, transactionTemplate, false, 1);
+
+        job.scheduledRun();
+
+        verifyNoInteractions(eventRepository, transactionTemplate);
+    }
+}
@@ -1,20 +1,38 @@
 package com.wiss.backend.service;
 
+import com.wiss.backend.dto.BatchOperationDTO;
+import com.wiss.backend.dto.BatchResultDTO;
 import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.UpsertResultDTO;
 import com.wiss.backend.entity.Event;
+import com.wiss.backend.exception.BatchOperationException;
+import com.wiss.backend.exception.DuplicateEventException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.model.BatchOperationType;
 import com.wiss.backend.model.EventCategory;
 import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventBulkRepository.UpsertOutcome;
 import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -33,6 +51,13 @@ import static org.mockito.Mockito.*;
  * <ul>
  *     <li>{@link EventService#getAllEvents()}</li>
  *     <li>{@link EventService#getAllEventsAsDTO()}</li>
+ *     <li>{@link EventService#createEvents(List)}</li>
+ *     <li>{@link EventService#createEventsIndividually(List)}</li>
+ *     <li>{@link EventService#executeBatch(List)}</li>
+ *     <li>{@link EventService#upsertEvents(List)}</li>
+ *     <li>{@link EventService#patchEvent(Long, Map, Long)}</li>
+ *     <li>{@link EventService#deleteEvent(Long, Long)}</li>
+ *     <li>{@link EventService#getEventsByCategoryAndStatus(EventCategory, EventStatus)}</li>
  * </ul>
  *
  * <h3>
@@ -40,7 +65,7 @@ import static org.mockito.Mockito.*;
  * </h3>
  * <ul>
  *     <li>{@code @ExtendWith(MockitoExtension.class)} für Mockito-Integration</li>
- *     <li>{@code @Mock} und {@code @InjectMocks} zur Simulation abhängiger Komponenten</li>
+ *     <li>{@code @Mock} zur Simulation abhängiger Komponenten, die im {@code @BeforeEach} in den Service übergeben werden</li>
  * </ul>
  *
  * @author Natascha Blumer
@@ -55,9 +80,25 @@ public class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
-    @InjectMocks
+    @Mock
+    private EventDuplicateDetector duplicateDetector;
+
+    private OpenEventCache openEvents;
+    private ApplicationEventPublisher eventPublisher;
     private EventService eventService;
 
+    @BeforeEach
+    void setUp() {
+        openEvents = new OpenEventCache(eventRepository);
+        // Ohne Transaktion werden die Benachrichtigungen direkt zugestellt
+        eventPublisher = event -> {
+            if (event instanceof EventsChangedNotification notification) {
+                openEvents.onEventsChanged(notification);
+            }
+        };
+        eventService = newEventService(1000);
+    }
+
     /**
      * Testet, ob {@link EventService#getAllEvents()} eine korrekte Liste von {@link Event}-Objekten zurückgibt.
      * Die Rückgabegrösse wird überprüft und sichergestellt, dass {@link EventRepository#findAll()} aufgerufen wurde.
@@ -100,4 +141,403 @@ public class EventServiceTest {
         assertEquals(-19.0208, dto.getLongitude());
         assertEquals(EventStatus.open, dto.getStatus());
     }
-}
\ No newline at end of file
+
+    /**
+     * Testet, ob {@link EventService#createEvents(List)} alle Events einzeln vormerkt
+     * und den Persistenzkontext nach jedem vollen Block sowie am Ende leert.
+     */
+    @Test
+    void whenCreateEvents_thenPersistedInChunks() {
+        eventService = newEventService(2);
+        when(duplicateDetector.findDuplicate(any(Event.class))).thenReturn(Optional.empty());
+        List<EventDTO> dtos = List.of(
+                new EventDTO(null, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open),
+                new EventDTO(null, "Waldbrand B", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open),
+                new EventDTO(null, "Waldbrand C", LocalDate.of(2024, 8, 3), EventCategory.wildfires, 12.0, 47.0, EventStatus.open)
+        );
+
+        List<EventDTO> result = eventService.createEvents(dtos);
+
+        assertEquals(3, result.size());
+        assertEquals("Waldbrand C", result.get(2).getTitle());
+        verify(eventRepository, times(3)).persist(any(Event.class));
+        verify(duplicateDetector, times(3)).register(any(Event.class));
+        verify(eventRepository, times(2)).flushAndClear();
+    }
+
+    /**
+     * Testet, ob {@link EventService#createEvents(List)} und {@link EventService#executeBatch(List)} ein
+     * Event mit bekannter externer ID wie {@link EventService#createEvent(EventDTO)} in das bestehende
+     * Event übernehmen statt ein neues einzufügen.
+     */
+    @Test
+    void whenCreatedEventHasKnownExternalId_thenExistingEventIsUpdated() {
+        Event known = new Event(5L, "Waldbrand K", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        known.setSource("EONET");
+        known.setExternalId("EONET_5");
+        when(eventRepository.findBySourceAndExternalId("EONET", "EONET_5")).thenReturn(Optional.of(known));
+        when(duplicateDetector.getPolicy()).thenReturn(EventDuplicateDetector.Policy.MERGE);
+
+        List<EventDTO> created = eventService.createEvents(List.of(eonetEvent("EONET_5", "Waldbrand K", EventStatus.closed)));
+
+        assertEquals(5L, created.getFirst().getId());
+        assertEquals(EventStatus.closed, known.getStatus());
+
+        EventDTO renamed = eonetEvent("EONET_5", "Waldbrand Kalabrien", EventStatus.closed);
+        BatchResultDTO result = eventService.executeBatch(List.of(
+                new BatchOperationDTO(BatchOperationType.create, null, renamed)));
+
+        assertEquals(200, result.getResults().getFirst().getCode());
+        assertEquals(5L, result.getResults().getFirst().getId());
+        assertEquals("Waldbrand Kalabrien", known.getTitle());
+        verify(eventRepository, never()).persist(any(Event.class));
+        verify(duplicateDetector, never()).findDuplicate(argThat(event -> event.getId() == null));
+    }
+
+    /**
+     * Testet, ob {@link EventService#createEventsIndividually(List)} ein abgelehntes Duplikat nur im
+     * Ergebnis vermerkt, die übrigen Events speichert und ein bekanntes Event über den natürlichen
+     * Schlüssel aktualisiert statt es erneut einzufügen.
+     */
+    @Test
+    void whenCreateEventsIndividually_thenRejectedEventsDoNotStopTheOthers() {
+        Event known = new Event(5L, "Waldbrand K", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        known.setSource("EONET");
+        known.setExternalId("EONET_5");
+        EventDTO duplicate = new EventDTO(null, "Waldbrand B", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        when(duplicateDetector.findDuplicate(any(Event.class)))
+                .thenAnswer(invocation -> "Waldbrand B".equals(invocation.<Event>getArgument(0).getTitle())
+                        ? Optional.of(1L) : Optional.empty());
+        when(duplicateDetector.getPolicy()).thenReturn(EventDuplicateDetector.Policy.REJECT);
+        when(eventRepository.findBySourceAndExternalId("EONET", "EONET_5")).thenReturn(Optional.of(known));
+        List<EventDTO> dtos = List.of(
+                new EventDTO(null, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open),
+                duplicate,
+                eonetEvent("EONET_5", "Waldbrand K", EventStatus.closed)
+        );
+
+        List<EventService.CreateOutcome> result = eventService.createEventsIndividually(dtos);
+
+        assertEquals("Waldbrand A", result.get(0).event().getTitle());
+        assertNull(result.get(1).event());
+        assertInstanceOf(DuplicateEventException.class, result.get(1).error());
+        assertEquals(5L, result.get(2).event().getId());
+        assertEquals(EventStatus.closed, known.getStatus());
+        verify(eventRepository, times(1)).persist(any(Event.class));
+        verify(eventRepository).flush();
+    }
+
+    /**
+     * Testet, ob {@link EventService#executeBatch(List)} bei ungültigen Daten und unbekannten IDs
+     * alle Fehler pro Operation meldet und nichts schreibt.
+     */
+    @Test
+    void whenBatchHasInvalidOperations_thenNothingIsWritten() {
+        Event existing = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        when(eventRepository.findAllById(any())).thenReturn(List.of(existing));
+        List<BatchOperationDTO> operations = List.of(
+                new BatchOperationDTO(BatchOperationType.create, null,
+                        new EventDTO(null, " ", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open)),
+                new BatchOperationDTO(BatchOperationType.update, 99L,
+                        new EventDTO(null, "Waldbrand B", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open)),
+                new BatchOperationDTO(BatchOperationType.delete, 1L, null)
+        );
+
+        BatchOperationException exception = assertThrows(BatchOperationException.class,
+                () -> eventService.executeBatch(operations));
+
+        BatchResultDTO result = exception.getResult();
+        assertEquals(400, exception.getStatusCode());
+        assertEquals("INVALID_EVENT_DATA", result.getResults().get(0).getError());
+        assertEquals("EVENT_NOT_FOUND", result.getResults().get(1).getError());
+        assertEquals(0, result.getResults().get(2).getCode());
+        verify(eventRepository, never()).persist(any(Event.class));
+        verify(eventRepository, never()).delete(any(Event.class));
+    }
+
+    /**
+     * Testet, ob {@link EventService#executeBatch(List)} gemischte Operationen ausführt und
+     * die betroffenen Events mit einer einzigen Abfrage lädt.
+     */
+    @Test
+    void whenBatchIsValid_thenAllOperationsAreExecuted() {
+        Event toUpdate = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        Event toDelete = new Event(2L, "Waldbrand B", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        when(eventRepository.findAllById(any())).thenReturn(List.of(toUpdate, toDelete));
+        when(duplicateDetector.findDuplicate(any(Event.class))).thenReturn(Optional.empty());
+        when(duplicateDetector.getPolicy()).thenReturn(EventDuplicateDetector.Policy.MERGE);
+        List<BatchOperationDTO> operations = List.of(
+                new BatchOperationDTO(BatchOperationType.create, null,
+                        new EventDTO(null, "Waldbrand C", LocalDate.of(2024, 8, 3), EventCategory.wildfires, 12.0, 47.0, EventStatus.open)),
+                new BatchOperationDTO(BatchOperationType.update, 1L,
+                        new EventDTO(null, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.closed)),
+                new BatchOperationDTO(BatchOperationType.delete, 2L, null)
+        );
+
+        BatchResultDTO result = eventService.executeBatch(operations);
+
+        assertTrue(result.isCommitted());
+        assertEquals(List.of(201, 200, 204), result.getResults().stream().map(r -> r.getCode()).toList());
+        assertEquals(EventStatus.closed, toUpdate.getStatus());
+        verify(eventRepository).findAllById(any());
+        verify(eventRepository, never()).existsById(any());
+        verify(eventRepository).persist(any(Event.class));
+        verify(eventRepository).delete(toDelete);
+        verify(eventRepository).flush();
+    }
+
+    /**
+     * Testet, ob {@link EventService#upsertEvents(List)} ohne PostgreSQL bekannte Events über den
+     * natürlichen Schlüssel findet, nur geänderte Events schreibt und doppelte Schlüssel zusammenfasst.
+     */
+    @Test
+    void whenUpsertEvents_thenOnlyNewAndChangedEventsAreWritten() {
+        Event unchanged = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        unchanged.setSource("EONET");
+        unchanged.setExternalId("EONET_1");
+        Event changed = new Event(2L, "Waldbrand B", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        changed.setSource("EONET");
+        changed.setExternalId("EONET_2");
+        when(eventRepository.isPostgreSql()).thenReturn(false);
+        when(eventRepository.findBySourceAndExternalIdIn(eq("EONET"), any())).thenReturn(List.of(unchanged, changed));
+        when(duplicateDetector.emptyCopy()).thenReturn(new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.FLAG, 0.1, 3));
+        List<EventDTO> dtos = List.of(
+                eonetEvent("EONET_1", "Waldbrand A", EventStatus.open),
+                eonetEvent("EONET_2", "Waldbrand B", EventStatus.open),
+                eonetEvent("EONET_2", "Waldbrand B", EventStatus.closed),
+                eonetEvent("EONET_3", "Waldbrand C", EventStatus.open)
+        );
+
+        UpsertResultDTO result = eventService.upsertEvents(dtos);
+
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(EventStatus.closed, changed.getStatus());
+        verify(eventRepository, times(1)).persist(any(Event.class));
+        verify(eventRepository, never()).upsert(any());
+        verify(duplicateDetector, times(1)).findDuplicate(argThat(event -> "EONET_3".equals(event.getExternalId())));
+        verify(duplicateDetector, times(2)).register(any(Event.class));
+    }
+
+    /**
+     * Testet, ob {@link EventService#upsertEvents(List)} unter PostgreSQL für neue Schlüssel die
+     * Duplikat-Richtlinie {@code REJECT} anwendet.
+     * <p>
+     *     Erwartung: EONET_1 entspricht einem Event einer anderen Quelle, EONET_3 dem neuen EONET_2 aus
+     *     derselben Liste. Beide werden mit ihrem Original gemeldet, nur EONET_2 wird geschrieben.
+     * </p>
+     */
+    @Test
+    void whenUpsertEventsUnderReject_thenDuplicatesOfOtherSourcesAndWithinListAreRejected() {
+        EventDuplicateDetector detector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.REJECT, 0.1, 3);
+        Event gdacs = new Event(7L, "Waldbrand A", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, EventStatus.open);
+        gdacs.setSource("GDACS");
+        gdacs.setExternalId("GDACS_7");
+        detector.register(gdacs);
+        EventService service = new EventService(eventRepository, detector, openEvents,
+                new ColumnarEventStore(eventRepository, false), eventPublisher, 1000, 1000);
+        when(eventRepository.isPostgreSql()).thenReturn(true);
+        when(eventRepository.upsert(any())).thenAnswer(invocation -> invocation.<List<Event>>getArgument(0).stream()
+                .map(event -> new UpsertOutcome(101L, event.getSource(), event.getExternalId(), true))
+                .toList());
+
+        UpsertResultDTO result = service.upsertEvents(List.of(
+                eonetEvent("EONET_1", "Waldbrand A", EventStatus.open),
+                eonetEvent("EONET_2", "Waldbrand B", EventStatus.open),
+                eonetEvent("EONET_3", "Waldbrand B", EventStatus.closed)
+        ));
+
+        assertEquals(1, result.getInserted());
+        assertEquals(0, result.getUnchanged());
+        assertEquals(2, result.getRejected());
+        assertEquals("EONET_1", result.getRejections().get(0).getExternalId());
+        assertEquals(7L, result.getRejections().get(0).getDuplicateOf());
+        assertEquals("EONET_3", result.getRejections().get(1).getExternalId());
+        assertEquals(101L, result.getRejections().get(1).getDuplicateOf());
+        verify(eventRepository).upsert(argThat(chunk -> chunk.size() == 1 && "EONET_2".equals(chunk.getFirst().getExternalId())));
+    }
+
+    /**
+     * Testet, ob offene Events nach dem Laden des {@link OpenEventCache} ohne Datenbankzugriff gelesen
+     * und geschriebene bzw. gelöschte Events im Abbild nachgeführt werden.
+     */
+    @Test
+    void whenOpenEventsAreRead_thenTheyComeFromTheCache() {
+        Event fire = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        Event volcano = new Event(2L, "Ätna", LocalDate.of(2024, 8, 1), EventCategory.volcanoes, 15.0, 37.7, EventStatus.open);
+        when(eventRepository.findByStatus(EventStatus.open)).thenReturn(List.of(fire, volcano));
+        openEvents.reload();
+        clearInvocations(eventRepository);
+
+        List<EventDTO> wildfires = eventService.getEventsByCategoryAndStatus(EventCategory.wildfires, EventStatus.open);
+
+        assertEquals(List.of(1L), wildfires.stream().map(EventDTO::getId).toList());
+        assertEquals(2, eventService.getTotalEventsByStatus(EventStatus.open));
+        verifyNoInteractions(eventRepository);
+
+        when(eventRepository.deleteByIdAndVersion(1L, null)).thenReturn(1);
+        eventService.deleteEvent(1L, null);
+
+        assertTrue(eventService.getEventsByCategoryAndStatus(EventCategory.wildfires, EventStatus.open).isEmpty());
+        assertEquals(1, eventService.getEventsByStatusAsDTO(EventStatus.open).size());
+        verify(eventRepository, never()).findByCategoryAndStatus(any(), any());
+    }
+
+    /**
+     * Testet, ob nach dem Löschen eines Originals das älteste Duplikat nachrückt.
+     * <p>
+     *     Erwartung: Das Duplikat mit der kleinsten ID verliert seine Markierung, das übrige zeigt
+     *     auf dieses statt auf die gelöschte ID; beide werden gespeichert.
+     * </p>
+     */
+    @Test
+    void whenOriginalIsDeleted_thenOldestDuplicateIsPromoted() {
+        Event first = new Event(4L, "Waldbrand A", LocalDate.of(2024, 8, 2), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        first.setDuplicateOf(1L);
+        Event second = new Event(7L, "Waldbrand A", LocalDate.of(2024, 8, 3), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        second.setDuplicateOf(1L);
+        when(eventRepository.deleteByIdAndVersion(1L, null)).thenReturn(1);
+        when(eventRepository.findByDuplicateOfOrderByIdAsc(1L)).thenReturn(List.of(first, second));
+
+        eventService.deleteEvent(1L, null);
+
+        assertNull(first.getDuplicateOf());
+        assertEquals(4L, second.getDuplicateOf());
+        verify(duplicateDetector).unregister(1L);
+        verify(eventRepository).saveAll(List.of(first, second));
+    }
+
+    /**
+     * Testet, ob ein Merge Patch nur die enthaltenen Felder validiert und schreibt und ungültige
+     * Patches ohne Datenbankzugriff abgelehnt werden.
+     * <p>
+     *     Erwartung: {@code {"status": "closed"}} wird als einzelne Spalte geschrieben und entfernt das Event
+     *     aus dem Abbild der offenen Events; ein leerer Titel, ein nicht änderbares Feld und
+     *     {@code source} ohne {@code externalId} führen zu {@link InvalidEventDataException}.
+     * </p>
+     */
+    @Test
+    void whenEventIsPatched_thenOnlyTouchedFieldsAreValidatedAndWritten() {
+        Event fire = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        when(eventRepository.findByStatus(EventStatus.open)).thenReturn(List.of(fire));
+        openEvents.reload();
+        Event closed = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.closed);
+        closed.setVersion(4);
+        when(eventRepository.patch(1L, Map.of("status", EventStatus.closed), 3L)).thenReturn(Optional.of(closed));
+
+        EventService.Versioned<EventDTO> result = eventService.patchEvent(1L, Map.of("status", "closed"), 3L);
+
+        assertEquals(EventStatus.closed, result.value().getStatus());
+        assertEquals(4L, result.version());
+        assertTrue(openEvents.getOpenEvents().isEmpty());
+        assertThrows(InvalidEventDataException.class, () -> eventService.patchEvent(1L, Map.of("title", " "), null));
+        assertThrows(InvalidEventDataException.class, () -> eventService.patchEvent(1L, Map.of("id", 2), null));
+        assertThrows(InvalidEventDataException.class, () -> eventService.patchEvent(1L, Map.of("source", "EONET"), null));
+        verify(eventRepository, times(1)).patch(anyLong(), any(), any());
+    }
+
+    /**
+     * Testet, ob das Original beim Ändern unter der Richtlinie {@code FLAG} nicht als Duplikat
+     * seiner eigenen Kopie markiert wird.
+     * <p>
+     *     Erwartung: Event 1 ist das Original, Event 2 eine Kopie davon; nach einem PUT auf Event 1
+     *     bleibt dessen {@code duplicateOf} leer, sodass kein Zyklus entsteht.
+     * </p>
+     */
+    @Test
+    void whenOriginalIsUpdatedUnderFlag_thenItIsNotFlaggedAsDuplicateOfItsCopy() {
+        EventDuplicateDetector detector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.FLAG, 0.1, 3);
+        Event original = new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        Event copy = new Event(2L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+        copy.setDuplicateOf(1L);
+        detector.register(original);
+        detector.register(copy);
+        EventService service = new EventService(eventRepository, detector, openEvents,
+                new ColumnarEventStore(eventRepository, false), eventPublisher, 1000, 1000);
+        when(eventRepository.updateValues(any(Event.class), eq(3L))).thenReturn(1);
+
+        service.updateEvent(1L, new EventDTO(null, "Waldbrand A", LocalDate.of(2024, 8, 1),
+                EventCategory.wildfires, 10.0, 45.0, EventStatus.closed), 3L);
+
+        verify(eventRepository).updateValues(argThat(values -> values.getId() == 1L && values.getDuplicateOf() == null), eq(3L));
+        assertEquals(Optional.of(1L), detector.findDuplicate(copy));
+    }
+
+    /**
+     * Testet, ob {@link EventService#updateEvent(Long, EventDTO, Long)} unter {@code MERGE} die
+     * gespeicherte Markierung {@code duplicateOf} nicht überschreibt.
+     */
+    @Test
+    void whenEventIsUpdatedUnderMerge_thenStoredDuplicateOfIsKept() {
+        EventDuplicateDetector detector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.MERGE, 0.1, 3);
+        EventService service = new EventService(eventRepository, detector, openEvents,
+                new ColumnarEventStore(eventRepository, false), eventPublisher, 1000, 1000);
+        when(eventRepository.updateValuesKeepingDuplicateOf(any(Event.class), eq(3L))).thenReturn(1);
+        when(eventRepository.findDuplicateOfById(2L)).thenReturn(Optional.of(1L));
+
+        EventService.Versioned<EventDTO> updated = service.updateEvent(2L, new EventDTO(null, "Waldbrand A",
+                LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.closed), 3L);
+
+        assertEquals(1L, updated.value().getDuplicateOf());
+        verify(eventRepository, never()).updateValues(any(Event.class), any());
+    }
+
+    /**
+     * Testet, ob {@link EventService#updateEvent(Long, EventDTO, Long)} und
+     * {@link EventService#deleteEvent(Long, Long)} den Duplikat-Index erst nach dem Commit ändern.
+     * <p>
+     *     Erwartung: Solange die Transaktion läuft und nach einem Rollback enthält der Index den
+     *     bisherigen Stand; erst der Commit übernimmt die Änderung bzw. Löschung.
+     * </p>
+     */
+    @Test
+    void whenTransactionRollsBack_thenDuplicateIndexIsUnchanged() {
+        EventDuplicateDetector detector = new EventDuplicateDetector(eventRepository,
+                EventDuplicateDetector.Policy.FLAG, 0.1, 3);
+        detector.register(new Event(1L, "Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open));
+        EventService service = new EventService(eventRepository, detector, openEvents,
+                new ColumnarEventStore(eventRepository, false), eventPublisher, 1000, 1000);
+        when(eventRepository.updateValues(any(Event.class), eq(3L))).thenReturn(1);
+        when(eventRepository.deleteByIdAndVersion(1L, 4L)).thenReturn(1);
+        Event copy = new Event("Waldbrand A", LocalDate.of(2024, 8, 1), EventCategory.wildfires, 10.0, 45.0, EventStatus.open);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.updateEvent(1L, new EventDTO(null, "Sturm B", LocalDate.of(2024, 8, 1),
+                    EventCategory.severeStorms, 10.0, 45.0, EventStatus.open), 3L);
+            assertEquals(Optional.of(1L), detector.findDuplicate(copy));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertEquals(Optional.of(1L), detector.findDuplicate(copy));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.deleteEvent(1L, 4L);
+            assertEquals(Optional.of(1L), detector.findDuplicate(copy));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertTrue(detector.findDuplicate(copy).isEmpty());
+    }
+
+    private EventService newEventService(int bulkChunkSize) {
+        return new EventService(eventRepository, duplicateDetector, openEvents,
+                new ColumnarEventStore(eventRepository, false), eventPublisher, bulkChunkSize, 1000);
+    }
+
+    private static EventDTO eonetEvent(String externalId, String title, EventStatus status) {
+        EventDTO dto = new EventDTO(null, title, LocalDate.of(2024, 8, 2), EventCategory.wildfires, 11.0, 46.0, status);
+        dto.setSource("EONET");
+        dto.setExternalId(externalId);
+        return dto;
+    }
+}
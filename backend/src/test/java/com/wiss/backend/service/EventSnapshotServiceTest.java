@@ -0,0 +1,199 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventSnapshotService}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft das Schreiben eines Snapshots und den Warmstart daraus: Nach einem
+ *     simulierten Neustart werden nur geänderte und gelöschte Events aus der Datenbank gelesen.
+ *     Der {@link EventRepository} wird als Mock verwendet, die Indizes sind echte Instanzen.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventSnapshotService#writeSnapshot()}</li>
+ *     <li>{@link EventSnapshotService#warmStart()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventSnapshotService
+ * @see EventSnapshotFile
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventSnapshotServiceTest {
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private Path file;
+    private ColumnarEventStore store;
+    private EventDuplicateDetector duplicateDetector;
+    private OpenEventCache openEvents;
+    private EventSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        file = tempDir.resolve("snapshots/events.snapshot");
+        lenient().when(eventRepository.isPostgreSql()).thenReturn(true);
+        snapshotService = newService();
+    }
+
+    /**
+     * Testet, ob ein geschriebener Snapshot beim nächsten Start gelesen und nur um die
+     * seither geänderten und gelöschten Events ergänzt wird.
+     */
+    @Test
+    void whenRestartedFromSnapshot_thenOnlyChangesAreReplayed() {
+        Event fire = event(1L, EventCategory.wildfires, EventStatus.open);
+        fire.setSource("EONET");
+        fire.setExternalId("EONET_1");
+        Event flood = event(2L, EventCategory.floods, EventStatus.open);
+        Event volcano = event(3L, EventCategory.volcanoes, EventStatus.closed);
+        volcano.setDuplicateOf(1L);
+        stubFullScan(List.of(fire, flood, volcano));
+        when(eventRepository.lockChangeVersion()).thenReturn(42L);
+        when(eventRepository.pruneDeletions(42L, RETENTION)).thenReturn(0);
+
+        assertEquals(42L, snapshotService.writeSnapshot());
+        assertTrue(Files.isRegularFile(file));
+
+        // Neustart: Event 1 wurde abgeschlossen, Event 2 gelöscht, Event 4 neu erfasst
+        clearInvocations(eventRepository);
+        snapshotService = newService();
+        Event closedFire = event(1L, EventCategory.wildfires, EventStatus.closed);
+        closedFire.setSource("EONET");
+        closedFire.setExternalId("EONET_1");
+        when(eventRepository.findDeletedIdsSince(42L)).thenReturn(List.of(2L));
+        when(eventRepository.findChangedSince(42L, 0L, 1000))
+                .thenReturn(List.of(closedFire, event(4L, EventCategory.drought, EventStatus.open)));
+
+        assertFalse(snapshotService.isReady());
+        snapshotService.warmStart();
+
+        assertTrue(snapshotService.isReady());
+        List<EventDTO> all = store.find(null, null, null, null);
+        assertEquals(List.of(1L, 3L, 4L), all.stream().map(EventDTO::getId).toList());
+        assertEquals(EventStatus.closed, all.get(0).getStatus());
+        assertEquals("EONET_1", all.get(0).getExternalId());
+        assertEquals(1L, all.get(1).getDuplicateOf());
+        assertEquals(List.of(4L), openEvents.getOpenEvents().stream().map(EventDTO::getId).toList());
+        assertEquals(3, duplicateDetector.size());
+        verify(eventRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+        verify(eventRepository, never()).findByStatus(any());
+    }
+
+    /**
+     * Testet, ob ein beschädigter Snapshot verworfen und vollständig aus der Datenbank geladen wird.
+     */
+    @Test
+    void whenSnapshotIsCorrupt_thenEverythingIsLoadedFromDatabase() throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        stubFullScan(List.of(event(1L, EventCategory.wildfires, EventStatus.open)));
+
+        snapshotService.warmStart();
+
+        assertTrue(snapshotService.isReady());
+        assertEquals(1, store.count(null, null, null, null));
+        assertEquals(1, openEvents.getOpenEvents().size());
+        verify(eventRepository, never()).findChangedSince(anyLong(), anyLong(), anyInt());
+    }
+
+    /**
+     * Testet, ob kein Snapshot geschrieben wird, solange Schreibvorgänge laufen.
+     */
+    @Test
+    void whenWritesAreRunning_thenSnapshotIsSkipped() {
+        when(eventRepository.lockChangeVersion()).thenReturn(null);
+
+        assertNull(snapshotService.writeSnapshot());
+        assertFalse(Files.exists(file));
+        verify(eventRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class));
+    }
+
+    /**
+     * Testet, ob ein Snapshot, der älter als die Aufbewahrungsdauer der Löschungen ist, verworfen wird:
+     * Seither gelöschte Events könnten im Änderungsprotokoll bereits fehlen.
+     */
+    @Test
+    void whenSnapshotIsOlderThanRetention_thenEverythingIsLoadedFromDatabase() {
+        stubFullScan(List.of(event(1L, EventCategory.wildfires, EventStatus.open)));
+        when(eventRepository.lockChangeVersion()).thenReturn(42L);
+        assertEquals(42L, snapshotService.writeSnapshot());
+
+        snapshotService = newService(Duration.ZERO);
+        snapshotService.warmStart();
+
+        assertTrue(snapshotService.isReady());
+        assertEquals(1, store.count(null, null, null, null));
+        verify(eventRepository, never()).findDeletedIdsSince(anyLong());
+        verify(eventRepository, never()).findChangedSince(anyLong(), anyLong(), anyInt());
+    }
+
+    private EventSnapshotService newService() {
+        return newService(RETENTION);
+    }
+
+    private EventSnapshotService newService(Duration retention) {
+        store = new ColumnarEventStore(eventRepository, true);
+        duplicateDetector = new EventDuplicateDetector(eventRepository, EventDuplicateDetector.Policy.MERGE, 0.1, 3);
+        openEvents = new OpenEventCache(eventRepository);
+        return new EventSnapshotService(eventRepository, store, duplicateDetector, openEvents,
+                new TransactionTemplate(transactionManager), true, file, retention);
+    }
+
+    private void stubFullScan(List<Event> events) {
+        when(eventRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            return events.stream().filter(e -> e.getId() > lastId).toList();
+        });
+    }
+
+    private static Event event(long id, EventCategory category, EventStatus status) {
+        return new Event(id, "Event " + id, LocalDate.of(2026, 9, (int) id), category, 10.0 + id, 45.0 + id, status);
+    }
+}
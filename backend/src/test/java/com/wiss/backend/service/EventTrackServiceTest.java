@@ -0,0 +1,173 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventTrackDTO;
+import com.wiss.backend.dto.TrackPointDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.entity.EventTrack;
+import com.wiss.backend.exception.EventNotFoundException;
+import com.wiss.backend.repository.EventRepository;
+import com.wiss.backend.repository.EventTrackRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link EventTrackService}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft das Kodieren, Anhängen, Zusammenführen und Ausdünnen von
+ *     Event-Verläufen. Die Repositories werden als Mocks verwendet; der zuletzt
+ *     gespeicherte Verlauf wird im Test festgehalten.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventTrackService#mergeTracks(String, Map)}</li>
+ *     <li>{@link EventTrackService#getTrack(Long, int)}</li>
+ *     <li>{@link EventTrackService#getLatestPosition(Long)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventTrackService
+ * @see TrackCodec
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventTrackServiceTest {
+
+    private static final Instant START = Instant.parse("2026-09-01T00:00:00Z");
+
+    @Mock
+    private EventTrackRepository trackRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventTrackService trackService;
+    private EventTrack stored;
+
+    @BeforeEach
+    void setUp() {
+        trackService = new EventTrackService(trackRepository, eventRepository);
+        Event event = new Event();
+        event.setId(7L);
+        event.setSource("EONET");
+        event.setExternalId("EONET_7");
+        lenient().when(eventRepository.findBySourceAndExternalIdIn(eq("EONET"), anyCollection())).thenReturn(List.of(event));
+        lenient().when(trackRepository.findAllById(any())).thenAnswer(invocation -> stored == null ? List.of() : List.of(stored));
+        lenient().when(trackRepository.findById(7L)).thenAnswer(invocation -> Optional.ofNullable(stored));
+        lenient().when(trackRepository.findLatestPosition(7L)).thenAnswer(invocation -> Optional.ofNullable(stored)
+                .map(track -> new TrackPointDTO(track.getLastTimestamp(), track.getLastLatitude(), track.getLastLongitude())));
+        lenient().when(trackRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<EventTrack> tracks = invocation.getArgument(0);
+            tracks.forEach(track -> stored = track);
+            return tracks;
+        });
+    }
+
+    /**
+     * Testet, ob ein neuer Verlauf gerundet gespeichert und spätere Punkte angehängt werden,
+     * und ob die letzte Position ohne Dekodieren aus den Spalten gelesen wird.
+     */
+    @Test
+    void whenLaterPointsAreMerged_thenTheyAreAppended() {
+        trackService.mergeTracks("EONET", Map.of("EONET_7", List.of(
+                point(3600, 12.3456789, -45.0), point(0, 12.0, -44.5))));
+        byte[] firstData = stored.getData();
+
+        int changed = trackService.mergeTracks("EONET", Map.of("EONET_7", List.of(point(7200, 12.5, -45.25))));
+
+        assertEquals(1, changed);
+        assertEquals(3, stored.getPointCount());
+        assertEquals(START, stored.getFirstTimestamp());
+        assertArrayEquals(firstData, Arrays.copyOf(stored.getData(), firstData.length));
+
+        EventTrackDTO track = trackService.getTrack(7L, 0);
+        assertEquals(List.of(START, START.plusSeconds(3600), START.plusSeconds(7200)),
+                track.getPoints().stream().map(TrackPointDTO::getTimestamp).toList());
+        assertEquals(12.34568, track.getPoints().get(1).getLatitude());
+        assertEquals(-45.25, track.getPoints().get(2).getLongitude());
+
+        clearInvocations(trackRepository);
+        TrackPointDTO latest = trackService.getLatestPosition(7L);
+        assertEquals(START.plusSeconds(7200), latest.getTimestamp());
+        assertEquals(12.5, latest.getLatitude());
+        verify(trackRepository, never()).findById(any());
+    }
+
+    /**
+     * Testet, ob frühere Punkte einsortiert und bereits bekannte Punkte nicht erneut geschrieben werden.
+     */
+    @Test
+    void whenEarlierOrKnownPointsAreMerged_thenTrackIsRewrittenOnlyIfChanged() {
+        trackService.mergeTracks("EONET", Map.of("EONET_7", List.of(point(3600, 1.0, 1.0), point(7200, 2.0, 2.0))));
+
+        assertEquals(0, trackService.mergeTracks("EONET", Map.of("EONET_7", List.of(point(3600, 1.0, 1.0)))));
+        assertEquals(1, trackService.mergeTracks("EONET", Map.of("EONET_7", List.of(point(0, 0.5, 0.5)))));
+
+        assertEquals(3, stored.getPointCount());
+        assertEquals(START, stored.getFirstTimestamp());
+        assertEquals(2.0, stored.getLastLatitude());
+        assertEquals(List.of(0.5, 1.0, 2.0),
+                trackService.getTrack(7L, 0).getPoints().stream().map(TrackPointDTO::getLatitude).toList());
+    }
+
+    /**
+     * Testet, ob ein langer Verlauf kompakt gespeichert und gleichmässig ausgedünnt wird,
+     * wobei erster und letzter Punkt erhalten bleiben.
+     */
+    @Test
+    void whenTrackIsDownsampled_thenPointsAreEvenlySpacedIncludingEnds() {
+        List<TrackPointDTO> points = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            points.add(point(i * 3600L, 10 + i * 0.01, 20 - i * 0.02));
+        }
+        trackService.mergeTracks("EONET", Map.of("EONET_7", points));
+
+        assertTrue(stored.getData().length < 1000 * 8,
+                "Erwartet weniger als 8 Bytes pro Punkt, waren " + stored.getData().length);
+        EventTrackDTO track = trackService.getTrack(7L, 5);
+        assertEquals(1000, track.getPointCount());
+        assertEquals(List.of(0L, 250L, 500L, 749L, 999L), track.getPoints().stream()
+                .map(point -> (point.getTimestamp().getEpochSecond() - START.getEpochSecond()) / 3600)
+                .toList());
+    }
+
+    /**
+     * Testet, ob für ein unbekanntes Event ohne Verlauf eine {@link EventNotFoundException} geworfen wird.
+     */
+    @Test
+    void whenEventDoesNotExist_thenGetTrackThrows() {
+        when(trackRepository.findById(99L)).thenReturn(Optional.empty());
+        when(eventRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EventNotFoundException.class, () -> trackService.getTrack(99L, 0));
+    }
+
+    private static TrackPointDTO point(long secondsAfterStart, double latitude, double longitude) {
+        return new TrackPointDTO(START.plusSeconds(secondsAfterStart), latitude, longitude);
+    }
+}
@@ -0,0 +1,280 @@
+package com.wiss.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.dto.EventTicketDTO;
+import com.wiss.backend.exception.DuplicateEventException;
+import com.wiss.backend.exception.InvalidEventDataException;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.model.TicketState;
+import com.wiss.backend.service.EventService.CreateOutcome;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * <h2>
+ *     Unit-Tests für die {@link EventWriteBehindQueue}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft, dass viele asynchron angenommene Events mit wenigen Commits geschrieben
+ *     werden, dass Events bei voller Warteschlange ausgelagert und nach einem Neustart genau einmal
+ *     nachgetragen werden und dass ungültige Events schon beim Annehmen abgelehnt werden.
+ *     Der {@link EventService} wird als Mock verwendet; jeder Aufruf von
+ *     {@link EventService#createEventsIndividually(List)} entspricht einem Commit.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link EventWriteBehindQueue#submit(EventDTO)}</li>
+ *     <li>{@link EventWriteBehindQueue#getTicket(String)}</li>
+ *     <li>{@link EventWriteBehindQueue#start()} und {@link EventWriteBehindQueue#stop()}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see EventWriteBehindQueue
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventWriteBehindQueueTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private EventService eventService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final List<EventWriteBehindQueue> queues = new ArrayList<>();
+    private Path spillFile;
+
+    @BeforeEach
+    void setUp() {
+        spillFile = tempDir.resolve("spill/events-create.spill");
+        lenient().when(eventService.createEventsIndividually(anyList())).thenAnswer(invocation -> {
+            List<EventDTO> events = invocation.getArgument(0);
+            List<CreateOutcome> outcomes = new ArrayList<>();
+            for (EventDTO event : events) {
+                if (event.getTitle().startsWith("Duplikat")) {
+                    outcomes.add(new CreateOutcome(null, new DuplicateEventException(1L)));
+                    continue;
+                }
+                EventDTO saved = new EventDTO(nextId.getAndIncrement(), event.getTitle(), event.getDate(),
+                        event.getCategory(), event.getLongitude(), event.getLatitude(), event.getStatus());
+                outcomes.add(new CreateOutcome(saved, null));
+            }
+            return outcomes;
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (EventWriteBehindQueue queue : queues) {
+            queue.stop();
+        }
+    }
+
+    /**
+     * Testet, dass ein Ansturm von Events blockweise mit je einem Commit geschrieben wird.
+     * <p>
+     *     Erwartung: 2000 Events bei Blockgrösse 500 ergeben 4 Commits statt 2000; abgelehnte
+     *     Events erhalten den Stand {@code rejected}, ohne die übrigen zu verhindern, und zählen
+     *     nicht zu den gespeicherten Events der Metrik {@code events.async.events}.
+     * </p>
+     */
+    @Test
+    void whenBurstIsSubmitted_thenEventsAreWrittenWithFewCommits() {
+        EventWriteBehindQueue queue = newQueue(10_000, 500);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        queue.bindTo(registry);
+        List<String> tickets = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            EventTicketDTO ticket = queue.submit(event(i % 100 == 0 ? "Duplikat " + i : "Waldbrand " + i));
+            assertEquals(TicketState.queued, ticket.getState());
+            tickets.add(ticket.getTicket());
+        }
+
+        queue.start();
+        awaitCompleted(queue, tickets);
+
+        assertEquals(4, queue.getCommitCount());
+        verify(eventService, times(4)).createEventsIndividually(anyList());
+        verify(eventService, never()).createEvent(any());
+        assertEquals(TicketState.rejected, queue.getTicket(tickets.get(0)).getState());
+        EventTicketDTO written = queue.getTicket(tickets.get(1));
+        assertEquals(TicketState.written, written.getState());
+        assertNotNull(written.getEventId());
+        assertNotNull(written.getCompletedAt());
+        assertEquals(1980, registry.get("events.async.events").functionCounter().count());
+    }
+
+    /**
+     * Testet die Auslagerung bei voller Warteschlange und das Nachtragen nach einem Neustart.
+     * <p>
+     *     Erwartung: Bei zwei Plätzen werden drei von fünf Events ausgelagert; beim Herunterfahren
+     *     folgen die zwei wartenden. Nach dem Neustart werden alle fünf mit einem Commit geschrieben,
+     *     ihre Quittungen sind weiterhin abfragbar und nach dem Anhalten ist die Datei entfernt.
+     * </p>
+     */
+    @Test
+    void whenQueueIsFull_thenEventsAreSpilledAndWrittenAfterRestart() throws Exception {
+        EventWriteBehindQueue queue = newQueue(2, 10);
+        List<String> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            EventTicketDTO ticket = queue.submit(event("Überschwemmung " + i));
+            assertEquals(i < 2 ? TicketState.queued : TicketState.spilled, ticket.getState());
+            tickets.add(ticket.getTicket());
+        }
+        assertEquals(3, lines(spillFile));
+
+        queue.stop();
+        assertEquals(5, lines(spillFile));
+        verifyNoInteractions(eventService);
+
+        EventWriteBehindQueue restarted = newQueue(2, 10);
+        restarted.start();
+        awaitCompleted(restarted, tickets);
+        restarted.stop();
+
+        assertEquals(1, restarted.getCommitCount());
+        assertEquals(TicketState.written, restarted.getTicket(tickets.get(4)).getState());
+        assertFalse(Files.exists(spillFile));
+        assertFalse(Files.exists(spillFile.resolveSibling("events-create.spill.draining")));
+
+        // Die Quittungen ausgelagerter Events bleiben auch nach einem weiteren Neustart abfragbar
+        EventWriteBehindQueue again = newQueue(2, 10);
+        again.start();
+        EventTicketDTO written = again.getTicket(tickets.get(4));
+        assertEquals(TicketState.written, written.getState());
+        assertNotNull(written.getEventId());
+    }
+
+    /**
+     * Testet, dass das Nachtragen nach einem Absturz Events mit protokolliertem Abschluss überspringt.
+     * <p>
+     *     Erwartung: Von fünf ausgelagerten Events sind zwei laut Quittungsprotokoll bereits geschrieben;
+     *     nach dem Neustart werden nur die drei übrigen mit einem Commit geschrieben, und die zwei
+     *     behalten ihre Event-IDs.
+     * </p>
+     */
+    @Test
+    void whenSpillIsReplayedAfterCrash_thenCompletedTicketsAreSkipped() throws Exception {
+        EventWriteBehindQueue queue = newQueue(2, 10);
+        List<EventTicketDTO> tickets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tickets.add(queue.submit(event("Dürre " + i)));
+        }
+        queue.stop();
+        List<String> journal = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            EventTicketDTO ticket = tickets.get(i);
+            journal.add(objectMapper.writeValueAsString(new EventTicketDTO(ticket.getTicket(), TicketState.written,
+                    100L + i, null, ticket.getAcceptedAt(), Instant.now())));
+        }
+        Files.write(spillFile.resolveSibling("events-create.spill.tickets"), journal);
+
+        EventWriteBehindQueue restarted = newQueue(2, 10);
+        restarted.start();
+        awaitCompleted(restarted, tickets.stream().map(EventTicketDTO::getTicket).toList());
+
+        ArgumentCaptor<List<EventDTO>> written = ArgumentCaptor.forClass(List.class);
+        verify(eventService).createEventsIndividually(written.capture());
+        assertEquals(List.of("Dürre 2", "Dürre 3", "Dürre 4"), written.getValue().stream().map(EventDTO::getTitle).toList());
+        assertEquals(100L, restarted.getTicket(tickets.get(0).getTicket()).getEventId());
+        assertEquals(TicketState.written, restarted.getTicket(tickets.get(4).getTicket()).getState());
+    }
+
+    /**
+     * Testet, dass ungültige Events wie beim synchronen Erstellen sofort abgelehnt werden.
+     * <p>
+     *     Erwartung: {@link InvalidEventDataException} beim Annehmen; es wird nichts in die
+     *     Warteschlange gelegt und nichts geschrieben.
+     * </p>
+     */
+    @Test
+    void whenEventIsInvalid_thenSubmitThrowsAndNothingIsQueued() {
+        EventWriteBehindQueue queue = newQueue(10, 10);
+        EventDTO invalid = event(" ");
+
+        assertThrows(InvalidEventDataException.class, () -> queue.submit(invalid));
+
+        queue.start();
+        verify(eventService, after(200).never()).createEventsIndividually(anyList());
+        assertFalse(Files.exists(spillFile));
+    }
+
+    private EventWriteBehindQueue newQueue(int capacity, int batchSize) {
+        EventWriteBehindQueue queue = new EventWriteBehindQueue(eventService, objectMapper, true, capacity, batchSize,
+                Duration.ofMillis(20), spillFile, Duration.ofHours(1));
+        queues.add(queue);
+        return queue;
+    }
+
+    private static EventDTO event(String title) {
+        return new EventDTO(null, title, LocalDate.of(2024, 8, 1), EventCategory.wildfires, 8.5, 47.3, EventStatus.open);
+    }
+
+    private static long lines(Path file) throws IOException {
+        try (var lines = Files.lines(file)) {
+            return lines.count();
+        }
+    }
+
+    /**
+     * Wartet, bis alle Quittungen abgeschlossen sind (höchstens 10 Sekunden).
+     */
+    private static void awaitCompleted(EventWriteBehindQueue queue, List<String> tickets) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (tickets.stream().allMatch(ticket -> isCompleted(queue, ticket))) {
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Unterbrochen");
+            }
+        }
+        fail("Nicht alle Events wurden geschrieben");
+    }
+
+    private static boolean isCompleted(EventWriteBehindQueue queue, String ticket) {
+        try {
+            return queue.getTicket(ticket).getCompletedAt() != null;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.wiss.backend.service;
+
+import com.wiss.backend.dto.EventDTO;
+import com.wiss.backend.entity.Event;
+import com.wiss.backend.model.EventCategory;
+import com.wiss.backend.model.EventStatus;
+import com.wiss.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+/**
+ * <h2>
+ *     Unit-Tests für den {@link OpenEventCache}
+ * </h2>
+ *
+ * <p>
+ *     Diese Testklasse prüft das Laden des Abbilds und das Nachführen per Copy-on-Write:
+ *     Bereits ausgegebene Listen bleiben unverändert, nicht betroffene Kategorien behalten
+ *     ihre Liste. Der {@link EventRepository} wird als Mock verwendet.
+ * </p>
+ *
+ * <h3>
+ *     Getestete Methoden:
+ * </h3>
+ * <ul>
+ *     <li>{@link OpenEventCache#reload()}</li>
+ *     <li>{@link OpenEventCache#onEventsChanged(EventsChangedNotification)}</li>
+ *     <li>{@link OpenEventCache#onEventsClosed(EventsClosedNotification)}</li>
+ * </ul>
+ *
+ * @author Natascha Blumer
+ * @version 1.0
+ * @since 2026-10-19
+ * @see OpenEventCache
+ */
+@ExtendWith(MockitoExtension.class)
+public class OpenEventCacheTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private OpenEventCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OpenEventCache(eventRepository);
+    }
+
+    /**
+     * Testet, ob gespeicherte Events einen neuen Schnappschuss erzeugen, ohne bereits
+     * ausgegebene Listen oder nicht betroffene Kategorien zu verändern.
+     */
+    @Test
+    void whenEventsArePut_thenNewSnapshotIsPublishedCopyOnWrite() {
+        when(eventRepository.findByStatus(EventStatus.open)).thenReturn(List.of(
+                event(3L, EventCategory.wildfires, EventStatus.open),
+                event(1L, EventCategory.wildfires, EventStatus.open),
+                event(2L, EventCategory.volcanoes, EventStatus.open)));
+        cache.reload();
+        List<EventDTO> wildfiresBefore = cache.getOpenEvents(EventCategory.wildfires);
+        List<EventDTO> volcanoesBefore = cache.getOpenEvents(EventCategory.volcanoes);
+
+        cache.onEventsChanged(EventsChangedNotification.saved(List.of(
+                event(2L, EventCategory.wildfires, EventStatus.open),
+                event(3L, EventCategory.wildfires, EventStatus.closed),
+                event(4L, EventCategory.floods, EventStatus.open))));
+
+        assertEquals(List.of(1L, 3L), ids(wildfiresBefore));
+        assertEquals(List.of(1L, 2L), ids(cache.getOpenEvents(EventCategory.wildfires)));
+        assertTrue(cache.getOpenEvents(EventCategory.volcanoes).isEmpty());
+        assertEquals(List.of(2L), ids(volcanoesBefore));
+        assertEquals(List.of(1L, 2L, 4L), ids(cache.getOpenEvents()));
+        assertSame(cache.getOpenEvents(EventCategory.drought), cache.getOpenEvents(EventCategory.drought));
+    }
+
+    /**
+     * Testet, ob automatisch abgeschlossene Events entfernt werden und nicht betroffene
+     * Kategorien dieselbe Liste behalten.
+     */
+    @Test
+    void whenEventsAreClosed_thenTheyAreRemoved() {
+        when(eventRepository.findByStatus(EventStatus.open)).thenReturn(List.of(
+                event(1L, EventCategory.floods, EventStatus.open),
+                event(2L, EventCategory.volcanoes, EventStatus.open)));
+        cache.reload();
+        List<EventDTO> volcanoes = cache.getOpenEvents(EventCategory.volcanoes);
+
+        cache.onEventsClosed(new EventsClosedNotification(EventCategory.floods, List.of(1L)));
+
+        assertTrue(cache.getOpenEvents(EventCategory.floods).isEmpty());
+        assertSame(volcanoes, cache.getOpenEvents(EventCategory.volcanoes));
+        assertEquals(List.of(2L), ids(cache.getOpenEvents()));
+    }
+
+    /**
+     * Testet, ob ein nicht geladenes Abbild Lesezugriffe ablehnt und Änderungen, die vor oder
+     * während des Ladens eintreffen, danach anwendet.
+     */
+    @Test
+    void whenNotLoaded_thenReadsAreRejectedAndChangesAreAppliedAfterLoad() {
+        cache.onEventsChanged(EventsChangedNotification.saved(List.of(event(1L, EventCategory.floods, EventStatus.open))));
+        cache.onEventsChanged(EventsChangedNotification.deleted(List.of(2L)));
+
+        assertFalse(cache.isLoaded());
+        assertThrows(IllegalStateException.class, () -> cache.getOpenEvents());
+
+        // Der geladene Stand ist älter als die Änderungen
+        when(eventRepository.findByStatus(EventStatus.open)).thenReturn(List.of(
+                event(2L, EventCategory.floods, EventStatus.open),
+                event(3L, EventCategory.floods, EventStatus.open)));
+        cache.reload();
+
+        assertEquals(List.of(1L, 3L), ids(cache.getOpenEvents(EventCategory.floods)));
+    }
+
+    private static Event event(long id, EventCategory category, EventStatus status) {
+        return new Event(id, "Event " + id, LocalDate.of(2026, 9, 1), category, 10.0, 45.0, status);
+    }
+
+    private static List<Long> ids(List<EventDTO> events) {
+        return events.stream().map(EventDTO::getId).toList();
+    }
+}